@@ -0,0 +1,154 @@
+package com.kds.config.server.app.actuator;
+
+import com.kds.config.server.app.jfr.ConfigBatchWriteEvent;
+import com.kds.config.server.app.jfr.ConfigFetchEvent;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Actuator endpoint controlling Java Flight Recorder recordings at {@code /actuator/jfr}.
+ * <ul>
+ *     <li>{@code GET /actuator/jfr} lists all recordings in the JVM, including ones started
+ *     with {@code -XX:StartFlightRecording}</li>
+ *     <li>{@code POST /actuator/jfr} starts a recording; the body may set {@code name},
+ *     {@code settings} ({@code default} or {@code profile}), {@code maxAgeSeconds} and {@code maxSizeMb}</li>
+ *     <li>{@code GET /actuator/jfr/{id}} dumps a recording and returns the {@code .jfr} file</li>
+ *     <li>{@code POST /actuator/jfr/{id}} stops a recording; it can still be dumped</li>
+ *     <li>{@code DELETE /actuator/jfr/{id}} closes a recording and discards its data</li>
+ * </ul>
+ * Recordings started here always include the {@link ConfigFetchEvent} and {@link ConfigBatchWriteEvent} events.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+    private final Path dumpDirectory;
+
+    public FlightRecordingEndpoint(
+            @Value("${config.jfr.dump-directory:${java.io.tmpdir}/config-server-jfr}") Path dumpDirectory) {
+        this.dumpDirectory = dumpDirectory;
+    }
+
+    /**
+     * Summary of a recording.
+     *
+     * @param id Recording id, used in the endpoint path
+     * @param name Recording name
+     * @param state {@code NEW}, {@code RUNNING}, {@code STOPPED} or {@code CLOSED}
+     * @param startTime When the recording started, if it has
+     * @param maxAge Maximum age of data kept, if limited
+     * @param maxSize Maximum bytes kept on disk, or 0 if unlimited
+     * @param size Bytes recorded so far
+     */
+    public record RecordingInfo(long id, String name, String state, Instant startTime, Duration maxAge,
+                                long maxSize, long size) {
+
+        static RecordingInfo of(Recording recording) {
+            return new RecordingInfo(recording.getId(), recording.getName(), recording.getState().name(),
+                    recording.getStartTime(), recording.getMaxAge(), recording.getMaxSize(), recording.getSize());
+        }
+    }
+
+    @ReadOperation
+    public List<RecordingInfo> recordings() {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .map(RecordingInfo::of)
+                .toList();
+    }
+
+    @WriteOperation
+    public RecordingInfo start(@Nullable String name, @Nullable String settings, @Nullable Long maxAgeSeconds,
+                               @Nullable Long maxSizeMb) {
+        Recording recording = new Recording(configuration(settings == null ? "default" : settings));
+        recording.setName(name == null ? "config-server" : name);
+        recording.setToDisk(true);
+        if (maxAgeSeconds != null) {
+            recording.setMaxAge(Duration.ofSeconds(maxAgeSeconds));
+        }
+        if (maxSizeMb != null) {
+            recording.setMaxSize(maxSizeMb * 1024 * 1024);
+        }
+        recording.enable(ConfigFetchEvent.class);
+        recording.enable(ConfigBatchWriteEvent.class);
+        recording.start();
+        return RecordingInfo.of(recording);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump(@Selector long id) {
+        Recording recording = find(id);
+        if (recording == null) {
+            return null;
+        }
+        try {
+            Files.createDirectories(dumpDirectory);
+            Path file = dumpDirectory.resolve("recording-" + id + ".jfr");
+            recording.dump(file);
+            return new FileSystemResource(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to dump recording " + id, e);
+        }
+    }
+
+    @WriteOperation
+    public RecordingInfo stop(@Selector long id) {
+        Recording recording = require(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return RecordingInfo.of(recording);
+    }
+
+    @DeleteOperation
+    public void close(@Selector long id) {
+        require(id).close();
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings: " + settings, "Unknown JFR settings");
+        }
+    }
+
+    private static Recording require(long id) {
+        Recording recording = find(id);
+        if (recording == null) {
+            throw new InvalidEndpointRequestException("No recording with id " + id, "No such recording");
+        }
+        return recording;
+    }
+
+    private static Recording find(long id) {
+        return FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> recording.getId() == id)
+                .findFirst()
+                .orElse(null);
+    }
+}
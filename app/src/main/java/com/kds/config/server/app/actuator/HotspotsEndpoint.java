@@ -0,0 +1,36 @@
+package com.kds.config.server.app.actuator;
+
+import com.kds.config.server.app.hotspot.ReadHotspots;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the snapshots and keys read most at {@code /actuator/hotspots}.
+ * <p>
+ * {@code GET} returns, for each configured window, the number of snapshot reads and key lookups and the
+ * most frequent of each with their estimated counts, which may overcount slightly but never undercount.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "hotspots")
+@ConditionalOnProperty(name = "config.hotspots.enabled", havingValue = "true", matchIfMissing = true)
+public class HotspotsEndpoint {
+
+    private final ReadHotspots readHotspots;
+
+    public HotspotsEndpoint(ReadHotspots readHotspots) {
+        this.readHotspots = readHotspots;
+    }
+
+    @ReadOperation
+    public Map<String, ReadHotspots.Window> hotspots() {
+        return readHotspots.report();
+    }
+}
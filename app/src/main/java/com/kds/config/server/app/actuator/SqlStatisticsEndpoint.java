@@ -0,0 +1,40 @@
+package com.kds.config.server.app.actuator;
+
+import com.kds.config.server.core.jdbc.StatementTracker;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint exposing SQL statement statistics at {@code /actuator/sqlstats}.
+ * <p>
+ * {@code GET} returns statement, row and time totals per repository method and per request
+ * mapping, plus the most recent slow statements with their bind shapes. {@code DELETE} resets them.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@ConditionalOnProperty(name = "config.jdbc.statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsEndpoint {
+
+    private final StatementTracker statementTracker;
+
+    public SqlStatisticsEndpoint(StatementTracker statementTracker) {
+        this.statementTracker = statementTracker;
+    }
+
+    @ReadOperation
+    public StatementTracker.Statistics statistics() {
+        return statementTracker.statistics();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statementTracker.reset();
+    }
+}
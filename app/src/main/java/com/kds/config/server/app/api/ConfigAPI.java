@@ -1,17 +1,38 @@
 package com.kds.config.server.app.api;
 
+import com.kds.config.server.app.dto.request.ConfigCloneRequest;
 import com.kds.config.server.app.dto.request.ConfigListRequest;
+import com.kds.config.server.app.dto.request.ConfigRenameRequest;
 import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.app.dto.request.ConfigScopeRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotBatchRequest;
+import com.kds.config.server.app.dto.response.ConfigBulkResponse;
+import com.kds.config.server.app.dto.response.ConfigFileResponse;
+import com.kds.config.server.app.dto.response.ConfigHistoryResponse;
+import com.kds.config.server.app.dto.response.ConfigKeysResponse;
 import com.kds.config.server.app.dto.response.ConfigListResponse;
 import com.kds.config.server.app.dto.response.ConfigResponse;
+import com.kds.config.server.app.dto.response.ConfigSnapshotResponse;
+import com.kds.config.server.app.dto.response.ConfigUpsertResponse;
+import com.kds.config.server.app.render.SnapshotFormat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface ConfigAPI {
     ConfigResponse getConfig(String application, String profile, String label, String key);
     
+    ConfigKeysResponse getConfigs(String application, String profile, String label, List<String> keys);
+    
     ConfigListResponse getConfigs(String application, String profile, String label);
     
     ConfigListResponse getConfigs(String application, String profile);
     
+    ConfigFileResponse getConfigFile(String application, String profile, String label, SnapshotFormat format);
+    
+    void getSnapshots(ConfigSnapshotBatchRequest request, Consumer<ConfigSnapshotResponse> consumer);
+    
     ConfigResponse saveConfig(ConfigRequest request);
     
     ConfigListResponse saveConfigs(ConfigListRequest request);
@@ -20,5 +41,18 @@ public interface ConfigAPI {
     
     ConfigListResponse updateConfigs(ConfigListRequest request);
     
+    ConfigUpsertResponse upsertConfig(ConfigRequest request);
+    
+    ConfigUpsertResponse upsertConfigs(ConfigListRequest request);
+    
     void deleteConfig(String application, String profile, String label, String key);
+    
+    ConfigBulkResponse deleteConfigs(ConfigScopeRequest request);
+    
+    ConfigBulkResponse renameKeys(ConfigRenameRequest request);
+    
+    ConfigBulkResponse cloneLabel(ConfigCloneRequest request);
+    
+    ConfigHistoryResponse getHistory(String application, String profile, String label, String key,
+                                     Instant from, Instant to, int limit);
 }
\ No newline at end of file
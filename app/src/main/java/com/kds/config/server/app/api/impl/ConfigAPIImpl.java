@@ -1,26 +1,60 @@
 package com.kds.config.server.app.api.impl;
 
 import com.kds.config.server.app.api.ConfigAPI;
+import com.kds.config.server.app.dto.request.ConfigCloneRequest;
 import com.kds.config.server.app.dto.request.ConfigListRequest;
+import com.kds.config.server.app.dto.request.ConfigRenameRequest;
 import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.app.dto.request.ConfigScopeRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotBatchRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotRequest;
+import com.kds.config.server.app.dto.response.ConfigBulkResponse;
+import com.kds.config.server.app.dto.response.ConfigFileResponse;
+import com.kds.config.server.app.dto.response.ConfigHistoryResponse;
+import com.kds.config.server.app.dto.response.ConfigKeysResponse;
 import com.kds.config.server.app.dto.response.ConfigListResponse;
 import com.kds.config.server.app.dto.response.ConfigResponse;
+import com.kds.config.server.app.dto.response.ConfigSnapshotResponse;
+import com.kds.config.server.app.dto.response.ConfigUpsertResponse;
 import com.kds.config.server.app.exception.ConfigAPIException;
+import com.kds.config.server.app.render.RenderedSnapshotCache;
+import com.kds.config.server.app.render.SnapshotFormat;
 import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigScope;
+import com.kds.config.server.core.repository.UpsertOutcome;
 import com.kds.config.server.service.ConfigService;
 import com.kds.config.server.service.exception.ConfigServiceException;
+import com.kds.config.server.service.history.ConfigHistoryService;
+import com.kds.config.server.service.snapshot.Snapshot;
+import com.kds.config.server.service.snapshot.SnapshotFanOut;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class ConfigAPIImpl implements ConfigAPI {
     private final ConfigService configService;
+    private final RenderedSnapshotCache renderedSnapshotCache;
+    private final SnapshotFanOut snapshotFanOut;
+    private final ConfigHistoryService configHistoryService;
 
-    public ConfigAPIImpl(ConfigService configService) {
+    public ConfigAPIImpl(ConfigService configService, RenderedSnapshotCache renderedSnapshotCache,
+                         SnapshotFanOut snapshotFanOut, ConfigHistoryService configHistoryService) {
         this.configService = configService;
+        this.renderedSnapshotCache = renderedSnapshotCache;
+        this.snapshotFanOut = snapshotFanOut;
+        this.configHistoryService = configHistoryService;
     }
 
     @Override
@@ -39,15 +73,45 @@ public class ConfigAPIImpl implements ConfigAPI {
         }
     }
 
+    @Override
+    public ConfigKeysResponse getConfigs(String application, String profile, String label, List<String> keys) {
+        try {
+            Map<String, Config> found = configService.getConfigsByKeys(application, profile, label, keys).stream()
+                    .collect(Collectors.toMap(Config::getPropKey, config -> config));
+
+            List<Config> configs = new ArrayList<>(found.size());
+            List<String> missing = new ArrayList<>();
+            for (String key : new LinkedHashSet<>(keys)) {
+                Config config = found.get(key);
+                if (config != null) {
+                    configs.add(config);
+                } else {
+                    missing.add(key);
+                }
+            }
+
+            return ConfigKeysResponse.builder()
+                    .status("SUCCESS")
+                    .message("Configs Retrieved")
+                    .configs(configs)
+                    .missing(missing)
+                    .build();
+        } catch (ConfigServiceException e) {
+            throw new ConfigAPIException(e.getStatus(), e.getMessage());
+        }
+    }
+
     @Override
     public ConfigListResponse getConfigs(String application, String profile, String label) {
         try {
-            List<Config> configs = configService.getConfigsByApplicationAndProfileAndLabel(application, profile, label);
+            Snapshot snapshot = configService.getSnapshot(application, profile, label);
 
             return ConfigListResponse.builder()
                     .status("SUCCESS")
                     .message("Retrieved Results")
-                    .configs(configs)
+                    .configs(snapshot.configs())
+                    .stale(snapshot.stale())
+                    .loadedAt(snapshot.loadedAt())
                     .build();
         } catch (ConfigServiceException e) {
             throw new ConfigAPIException(e.getStatus(), e.getMessage());
@@ -57,18 +121,67 @@ public class ConfigAPIImpl implements ConfigAPI {
     @Override
     public ConfigListResponse getConfigs(String application, String profile) {
         try {
-            List<Config> configs = configService.getConfigsByApplicationAndProfile(application, profile);
+            Snapshot snapshot = configService.getSnapshot(application, profile, null);
 
             return ConfigListResponse.builder()
                     .status("SUCCESS")
                     .message("Retrieved Results")
-                    .configs(configs)
+                    .configs(snapshot.configs())
+                    .stale(snapshot.stale())
+                    .loadedAt(snapshot.loadedAt())
                     .build();
         } catch (ConfigServiceException e) {
             throw new ConfigAPIException(e.getStatus(), e.getMessage());
         }
     }
 
+    @Override
+    public ConfigFileResponse getConfigFile(String application, String profile, String label, SnapshotFormat format) {
+        try {
+            Snapshot snapshot = configService.getSnapshot(application, profile, label);
+            RenderedSnapshotCache.RenderedSnapshot rendered = renderedSnapshotCache.render(
+                    new SnapshotKey(application, profile, label), format, snapshot);
+
+            return ConfigFileResponse.builder()
+                    .content(rendered.body())
+                    .etag(rendered.etag())
+                    .cacheHit(rendered.cacheHit())
+                    .configs(snapshot.configs())
+                    .stale(snapshot.stale())
+                    .loadedAt(snapshot.loadedAt())
+                    .build();
+        } catch (ConfigServiceException e) {
+            throw new ConfigAPIException(e.getStatus(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void getSnapshots(ConfigSnapshotBatchRequest request, Consumer<ConfigSnapshotResponse> consumer) {
+        snapshotFanOut.forEach(request.getSnapshots(), this::getSnapshot, consumer);
+    }
+
+    private ConfigSnapshotResponse getSnapshot(ConfigSnapshotRequest request) {
+        ConfigSnapshotResponse.ConfigSnapshotResponseBuilder response = ConfigSnapshotResponse.builder()
+                .application(request.getApplication())
+                .profile(request.getProfile())
+                .label(request.getLabel());
+        try {
+            Snapshot snapshot = configService.getSnapshot(request.getApplication(), request.getProfile(),
+                    emptyToNull(request.getLabel()));
+
+            return response
+                    .status("SUCCESS")
+                    .configs(snapshot.configs())
+                    .stale(snapshot.stale())
+                    .loadedAt(snapshot.loadedAt())
+                    .build();
+        } catch (ConfigServiceException e) {
+            return response.status(e.getStatus()).message(e.getMessage()).build();
+        } catch (DataAccessException e) {
+            return response.status("UNAVAILABLE").message("Configuration store unavailable").build();
+        }
+    }
+
     @Override
     public ConfigResponse saveConfig(ConfigRequest request) {
         try {
@@ -80,7 +193,9 @@ public class ConfigAPIImpl implements ConfigAPI {
                     .propValue(request.getValue())
                     .build();
             
-            Config dbConfig = configService.createConfig(config);
+            Config dbConfig = configService.isGroupCommitEnabled()
+                    ? join(configService.submitCreate(config))
+                    : configService.createConfig(config);
 
             return ConfigResponse.builder()
                     .status("SUCCESS")
@@ -123,7 +238,64 @@ public class ConfigAPIImpl implements ConfigAPI {
     @Override
     public void deleteConfig(String application, String profile, String label, String key) {
         try {
-            configService.deleteConfig(application, profile, label, key);
+            if (configService.isGroupCommitEnabled()) {
+                join(configService.submitDelete(application, profile, label, key));
+            } else {
+                configService.deleteConfig(application, profile, label, key);
+            }
+        } catch (ConfigServiceException e) {
+            throw new ConfigAPIException(e.getStatus(), e.getMessage());
+        }
+    }
+
+    @Override
+    public ConfigBulkResponse deleteConfigs(ConfigScopeRequest request) {
+        try {
+            ConfigScope scope = new ConfigScope(request.getApplication(), emptyToNull(request.getProfile()),
+                    emptyToNull(request.getLabel()), emptyToNull(request.getKeyPrefix()));
+
+            long deleted = configService.deleteConfigs(scope);
+
+            return ConfigBulkResponse.builder()
+                    .status("SUCCESS")
+                    .message("Configs Deleted")
+                    .affected(deleted)
+                    .build();
+        } catch (ConfigServiceException e) {
+            throw new ConfigAPIException(e.getStatus(), e.getMessage());
+        }
+    }
+
+    @Override
+    public ConfigBulkResponse renameKeys(ConfigRenameRequest request) {
+        try {
+            ConfigScope scope = new ConfigScope(request.getApplication(), emptyToNull(request.getProfile()),
+                    emptyToNull(request.getLabel()), request.getKeyPrefix());
+
+            long renamed = configService.renameKeys(scope, request.getNewKeyPrefix());
+
+            return ConfigBulkResponse.builder()
+                    .status("SUCCESS")
+                    .message("Config Keys Renamed")
+                    .affected(renamed)
+                    .build();
+        } catch (ConfigServiceException e) {
+            throw new ConfigAPIException(e.getStatus(), e.getMessage());
+        }
+    }
+
+    @Override
+    public ConfigBulkResponse cloneLabel(ConfigCloneRequest request) {
+        try {
+            long cloned = configService.cloneLabel(request.getApplication(), request.getProfile(),
+                    request.getSourceLabel(), request.getTargetLabel(),
+                    request.getOverrides() == null ? Map.of() : request.getOverrides(), request.isReplace());
+
+            return ConfigBulkResponse.builder()
+                    .status("SUCCESS")
+                    .message("Label Cloned")
+                    .affected(cloned)
+                    .build();
         } catch (ConfigServiceException e) {
             throw new ConfigAPIException(e.getStatus(), e.getMessage());
         }
@@ -140,7 +312,9 @@ public class ConfigAPIImpl implements ConfigAPI {
                     .propValue(request.getValue())
                     .build();
             
-            Config updatedConfig = configService.updateConfig(config);
+            Config updatedConfig = configService.isGroupCommitEnabled()
+                    ? join(configService.submitUpdate(config))
+                    : configService.updateConfig(config);
 
             return ConfigResponse.builder()
                     .status("SUCCESS")
@@ -179,4 +353,89 @@ public class ConfigAPIImpl implements ConfigAPI {
             throw new ConfigAPIException(e.getStatus(), e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public ConfigUpsertResponse upsertConfig(ConfigRequest request) {
+        return upsert(List.of(request));
+    }
+
+    @Override
+    public ConfigUpsertResponse upsertConfigs(ConfigListRequest request) {
+        return upsert(request.getConfigs());
+    }
+
+    private ConfigUpsertResponse upsert(List<ConfigRequest> requests) {
+        try {
+            List<Config> configs = requests.stream()
+                    .map(req -> Config.builder()
+                            .application(req.getApplication())
+                            .profile(req.getProfile())
+                            .label(req.getLabel())
+                            .propKey(req.getKey())
+                            .propValue(req.getValue())
+                            .build())
+                    .collect(Collectors.toList());
+
+            List<UpsertOutcome> outcomes = configService.upsertConfigs(configs);
+
+            List<ConfigUpsertResponse.Result> results = new ArrayList<>(requests.size());
+            int[] counts = new int[UpsertOutcome.values().length];
+            for (int i = 0; i < requests.size(); i++) {
+                ConfigRequest req = requests.get(i);
+                UpsertOutcome outcome = outcomes.get(i);
+                counts[outcome.ordinal()]++;
+                results.add(ConfigUpsertResponse.Result.builder()
+                        .application(req.getApplication())
+                        .profile(req.getProfile())
+                        .label(req.getLabel())
+                        .key(req.getKey())
+                        .outcome(outcome)
+                        .build());
+            }
+
+            return ConfigUpsertResponse.builder()
+                    .status("SUCCESS")
+                    .message("Configs Upserted")
+                    .inserted(counts[UpsertOutcome.INSERTED.ordinal()])
+                    .updated(counts[UpsertOutcome.UPDATED.ordinal()])
+                    .unchanged(counts[UpsertOutcome.UNCHANGED.ordinal()])
+                    .results(results)
+                    .build();
+        } catch (ConfigServiceException e) {
+            throw new ConfigAPIException(e.getStatus(), e.getMessage());
+        }
+    }
+
+    @Override
+    public ConfigHistoryResponse getHistory(String application, String profile, String label, String key,
+                                            Instant from, Instant to, int limit) {
+        try {
+            return ConfigHistoryResponse.builder()
+                    .status("SUCCESS")
+                    .message("History Retrieved")
+                    .changes(configHistoryService.getHistory(application, emptyToNull(profile), emptyToNull(label),
+                            emptyToNull(key), from, to, limit))
+                    .build();
+        } catch (ConfigServiceException e) {
+            throw new ConfigAPIException(e.getStatus(), e.getMessage());
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Waits for a group-committed write, rethrowing its failure as the synchronous write would have.
+     */
+    private static <T> T join(CompletableFuture<T> write) {
+        try {
+            return write.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
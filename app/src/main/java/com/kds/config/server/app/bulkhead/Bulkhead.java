@@ -0,0 +1,107 @@
+package com.kds.config.server.app.bulkhead;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the requests of one lane: at most {@code maxConcurrent} run, at most {@code maxQueued} more wait up
+ * to {@code maxWait} for a slot, and the rest are turned away at once, so a lane never holds more than
+ * {@code maxConcurrent + maxQueued} worker threads.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Bulkhead {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final Semaphore slots;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public Bulkhead(int maxConcurrent, int maxQueued, Duration maxWait) {
+        if (maxConcurrent < 1 || maxQueued < 0) {
+            throw new IllegalArgumentException("A bulkhead needs at least one slot and a non-negative queue");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.slots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Takes a slot, waiting in the queue if there is room in it. A slot taken must be given back with
+     * {@link #exit()}.
+     *
+     * @return Whether a slot was taken
+     */
+    public boolean tryEnter() throws InterruptedException {
+        if (slots.tryAcquire()) {
+            admitted.increment();
+            return true;
+        }
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        try {
+            if (slots.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                return true;
+            }
+            rejected.increment();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Gives back a slot taken by {@link #tryEnter()}.
+     */
+    public void exit() {
+        slots.release();
+    }
+
+    /**
+     * @return The number of requests running
+     */
+    public int active() {
+        return maxConcurrent - slots.availablePermits();
+    }
+
+    /**
+     * @return The number of requests waiting for a slot
+     */
+    public int queued() {
+        return queued.get();
+    }
+
+    /**
+     * @return The share of slots in use, from 0 to 1
+     */
+    public double saturation() {
+        return (double) active() / maxConcurrent;
+    }
+
+    /**
+     * @return The number of requests let through
+     */
+    public long admitted() {
+        return admitted.sum();
+    }
+
+    /**
+     * @return The number of requests turned away because the queue was full or the wait ran out
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,124 @@
+package com.kds.config.server.app.bulkhead;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kds.config.server.app.controller.ConfigController;
+import com.kds.config.server.app.controller.ConfigFileController;
+import com.kds.config.server.core.bulkhead.Lane;
+import com.kds.config.server.core.bulkhead.LaneContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Runs every request to {@link ConfigController} and {@link ConfigFileController} in its {@link Lane}:
+ * the request takes a slot of the lane's {@link Bulkhead} or is answered with
+ * {@code 503 Service Unavailable}, and its statements go to the lane's connection pool.
+ * <p>
+ * Reads, including the batch snapshot read, run in {@link Lane#READ}; the batch, bulk, batch upsert and
+ * clone endpoints in {@link Lane#BATCH}; other writes in {@link Lane#WRITE}. A streamed response keeps its
+ * slot until the stream is written.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.bulkhead.enabled", havingValue = "true")
+@Slf4j
+public class BulkheadInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String BATCH_READ_PATTERN = "/api/v1/configs/snapshots";
+    private static final Set<String> BATCH_PATTERNS = Set.of(
+            "/api/v1/configs/batch",
+            "/api/v1/configs/bulk/delete",
+            "/api/v1/configs/bulk/rename",
+            "/api/v1/configs/labels/clone",
+            "/api/v1/configs/upsert/batch");
+
+    /**
+     * Request attribute holding the lane whose slot the request took.
+     */
+    private static final String LANE_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".lane";
+
+    private final Bulkheads bulkheads;
+    private final ObjectMapper objectMapper;
+
+    public BulkheadInterceptor(Bulkheads bulkheads, ObjectMapper objectMapper) {
+        this.bulkheads = bulkheads;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                || !(handler instanceof HandlerMethod method) || !isIsolated(method.getBeanType())) {
+            return true;
+        }
+        Lane lane = lane(request);
+        boolean entered;
+        try {
+            entered = bulkheads.of(lane).tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            log.debug("{} lane saturated; rejected {} {}", lane, request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), new ConfigController.ErrorResponse(
+                    "UNAVAILABLE", "Too many " + lane.name().toLowerCase(Locale.ROOT) + " requests in progress"));
+            return false;
+        }
+        request.setAttribute(LANE_ATTRIBUTE, lane);
+        LaneContext.bind(lane);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        LaneContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Lane lane = (Lane) request.getAttribute(LANE_ATTRIBUTE);
+        if (lane != null) {
+            request.removeAttribute(LANE_ATTRIBUTE);
+            bulkheads.of(lane).exit();
+        }
+        LaneContext.clear();
+    }
+
+    private static boolean isIsolated(Class<?> beanType) {
+        return beanType == ConfigController.class || beanType == ConfigFileController.class;
+    }
+
+    private static Lane lane(HttpServletRequest request) {
+        if ("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())) {
+            return Lane.READ;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (BATCH_READ_PATTERN.equals(pattern)) {
+            return Lane.READ;
+        }
+        return BATCH_PATTERNS.contains(pattern) ? Lane.BATCH : Lane.WRITE;
+    }
+}
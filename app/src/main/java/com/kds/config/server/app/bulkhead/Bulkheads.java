@@ -0,0 +1,37 @@
+package com.kds.config.server.app.bulkhead;
+
+import com.kds.config.server.core.bulkhead.BulkheadProperties;
+import com.kds.config.server.core.bulkhead.Lane;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The {@link Bulkhead} of each {@link Lane}, sized from {@code config.bulkhead.<lane>}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.bulkhead.enabled", havingValue = "true")
+public class Bulkheads {
+
+    private final Map<Lane, Bulkhead> bulkheads = new EnumMap<>(Lane.class);
+
+    public Bulkheads(BulkheadProperties properties) {
+        for (Lane lane : Lane.values()) {
+            BulkheadProperties.Limits limits = properties.of(lane);
+            bulkheads.put(lane, new Bulkhead(limits.getMaxConcurrent(), limits.getMaxQueued(), limits.getMaxWait()));
+        }
+    }
+
+    /**
+     * @return The bulkhead of a lane
+     */
+    public Bulkhead of(Lane lane) {
+        return bulkheads.get(lane);
+    }
+}
@@ -0,0 +1,129 @@
+package com.kds.config.server.app.bulkhead;
+
+import com.kds.config.server.core.bulkhead.Lane;
+import com.kds.config.server.core.bulkhead.LaneContext;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs gRPC calls in {@link Lane#READ}, like REST reads: every callback of a call runs with the lane bound,
+ * so its statements go to the read pool, and unary calls take a slot of the read {@link Bulkhead} or are
+ * closed with {@code UNAVAILABLE}. {@code Watch} streams live as long as their clients and hold no slot;
+ * their pushes are read on the watch threads, which run in the read lane too.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.bulkhead.enabled", havingValue = "true")
+@Slf4j
+public class GrpcBulkheadInterceptor implements ServerInterceptor {
+
+    private final Bulkhead bulkhead;
+
+    public GrpcBulkheadInterceptor(Bulkheads bulkheads) {
+        this.bulkhead = bulkheads.of(Lane.READ);
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q> interceptCall(ServerCall<Q, R> call, Metadata headers,
+                                                      ServerCallHandler<Q, R> next) {
+        boolean holdsSlot = call.getMethodDescriptor().getType() == MethodDescriptor.MethodType.UNARY;
+        if (holdsSlot && !tryEnter()) {
+            log.debug("Read lane saturated; rejected {}", call.getMethodDescriptor().getFullMethodName());
+            call.close(Status.UNAVAILABLE.withDescription("Too many read requests in progress"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        AtomicBoolean released = new AtomicBoolean(!holdsSlot);
+        ServerCall.Listener<Q> listener;
+        try {
+            listener = readLane(() -> next.startCall(call, headers));
+        } catch (RuntimeException | Error e) {
+            release(released);
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(Q message) {
+                inLane(() -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                inLane(super::onHalfClose);
+            }
+
+            @Override
+            public void onReady() {
+                inLane(super::onReady);
+            }
+
+            @Override
+            public void onCancel() {
+                try {
+                    inLane(super::onCancel);
+                } finally {
+                    release(released);
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                try {
+                    inLane(super::onComplete);
+                } finally {
+                    release(released);
+                }
+            }
+        };
+    }
+
+    private boolean tryEnter() {
+        try {
+            return bulkhead.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void release(AtomicBoolean released) {
+        if (released.compareAndSet(false, true)) {
+            bulkhead.exit();
+        }
+    }
+
+    private static void inLane(Runnable callback) {
+        readLane(() -> {
+            callback.run();
+            return null;
+        });
+    }
+
+    private static <T> T readLane(Supplier<T> callback) {
+        Lane previous = LaneContext.current();
+        LaneContext.bind(Lane.READ);
+        try {
+            return callback.get();
+        } finally {
+            if (previous == null) {
+                LaneContext.clear();
+            } else {
+                LaneContext.bind(previous);
+            }
+        }
+    }
+}
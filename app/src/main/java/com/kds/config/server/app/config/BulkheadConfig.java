@@ -0,0 +1,41 @@
+package com.kds.config.server.app.config;
+
+import com.kds.config.server.app.bulkhead.BulkheadInterceptor;
+import com.kds.config.server.core.bulkhead.BulkheadProperties;
+import com.kds.config.server.core.bulkhead.LaneContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "config.bulkhead.enabled", havingValue = "true")
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private final BulkheadInterceptor bulkheadInterceptor;
+
+    public BulkheadConfig(BulkheadInterceptor bulkheadInterceptor) {
+        this.bulkheadInterceptor = bulkheadInterceptor;
+    }
+
+    /**
+     * Registers the bulkheads after the rate limit, so that requests over their rate limit never take a slot.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(bulkheadInterceptor).order(1);
+    }
+
+    /**
+     * Carries the request's lane to the task executor that writes streamed responses, so that their
+     * statements use the lane's pool as well.
+     */
+    @Bean
+    public TaskDecorator laneTaskDecorator() {
+        return LaneContext::propagate;
+    }
+}
@@ -0,0 +1,21 @@
+package com.kds.config.server.app.config;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Writes finished spans to the application log. Useful when no OTLP collector is available;
+     * enable with {@code config.tracing.log-exporter.enabled=true}. The OTLP exporter is configured
+     * separately through {@code management.otlp.tracing.endpoint}.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "config.tracing.log-exporter.enabled", havingValue = "true")
+    public LoggingSpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
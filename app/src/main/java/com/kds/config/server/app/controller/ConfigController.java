@@ -1,14 +1,32 @@
 package com.kds.config.server.app.controller;
 
 import com.kds.config.server.app.api.ConfigAPI;
+import com.kds.config.server.app.dto.request.ConfigCloneRequest;
 import com.kds.config.server.app.dto.request.ConfigListRequest;
+import com.kds.config.server.app.dto.request.ConfigRenameRequest;
 import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.app.dto.request.ConfigScopeRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotBatchRequest;
+import com.kds.config.server.app.dto.response.ConfigBulkResponse;
+import com.kds.config.server.app.dto.response.ConfigFileResponse;
+import com.kds.config.server.app.dto.response.ConfigHistoryResponse;
+import com.kds.config.server.app.dto.response.ConfigKeysResponse;
 import com.kds.config.server.app.dto.response.ConfigListResponse;
 import com.kds.config.server.app.dto.response.ConfigResponse;
+import com.kds.config.server.app.dto.response.ConfigSnapshotResponse;
+import com.kds.config.server.app.dto.response.ConfigUpsertResponse;
 import com.kds.config.server.app.exception.ConfigAPIException;
+import com.kds.config.server.app.hotspot.ReadHotspots;
+import com.kds.config.server.app.jfr.ConfigEvents;
+import com.kds.config.server.app.metrics.ConfigMetrics;
+import com.kds.config.server.app.render.SnapshotFormat;
 import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.usage.ConfigUsageRecorder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -21,11 +39,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.core.env.PropertySource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 
 /**
@@ -47,7 +73,23 @@ import java.util.*;
      description = "Comprehensive APIs for managing application configurations with support for Spring Cloud Config format")
 public class ConfigController {
 
+    /**
+     * Set to {@code true} on snapshot reads served from the last known good snapshot while the database
+     * is unavailable; {@code Age} then holds the seconds since the snapshot was read from the database.
+     */
+    static final String STALE_HEADER = "X-Config-Stale";
+
+    /**
+     * When a stale snapshot was read from the database, as an ISO-8601 instant.
+     */
+    static final String LOADED_AT_HEADER = "X-Config-Loaded-At";
+
     private final ConfigAPI configAPI;
+    private final ConfigMetrics configMetrics;
+    private final ConfigEvents configEvents;
+    private final ObjectMapper objectMapper;
+    private final ReadHotspots readHotspots;
+    private final ConfigUsageRecorder configUsageRecorder;
 
     /**
      * Retrieves a specific configuration property by application, profile, label, and key.
@@ -143,8 +185,10 @@ public class ConfigController {
         log.info("Getting config for application: {}, profile: {}, label: {}, key: {}", 
                 application, profile, label, key);
         
+        readHotspots.recordKeys(application, profile, label, List.of(key));
         try {
             ConfigResponse response = configAPI.getConfig(application, profile, label, key);
+            configUsageRecorder.recordKeys(application, profile, label, List.of(key));
             log.info("Successfully retrieved config for key: {}", key);
             return ResponseEntity.ok(response);
         } catch (ConfigAPIException e) {
@@ -161,42 +205,81 @@ public class ConfigController {
      * @param application The application name
      * @param profile The environment profile
      * @param label The version label
-     * @return All configurations in Spring Cloud Config format
+     * @param keys Keys to look up instead of the whole snapshot, if any
+     * @return All configurations in Spring Cloud Config format, or the requested keys found and missing
      */
     @Operation(
         summary = "Get all configurations for application, profile, and label",
         description = "Retrieves all configuration properties for the specified application, profile, and label. " +
-                     "Returns data in Spring Cloud Config compatible format with property sources.",
+                     "Returns data in Spring Cloud Config compatible format with property sources. " +
+                     "The same document is served as CBOR, Smile or Protobuf when preferred in Accept. " +
+                     "With keys, only those keys are looked up, with one query per 500 keys, and the keys " +
+                     "found are returned separately from the keys missing.",
         tags = {"Configuration Retrieval"}
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200", 
             description = "Configurations retrieved successfully",
-            content = @Content(
-                mediaType = "application/json",
-                examples = @ExampleObject(
-                    name = "Spring Cloud Config Format",
-                    value = """
-                        {
-                          "name": "user-service",
-                          "profiles": ["prod"],
-                          "label": "v1.0.0",
-                          "propertySources": [
-                            {
-                              "name": "user-service-prod-v1.0.0",
-                              "source": {
-                                "database.url": "jdbc:postgresql://prod-db:5432/userdb",
-                                "database.username": "produser",
-                                "cache.ttl": "3600",
-                                "logging.level": "INFO"
-                              }
-                            }
-                          ]
-                        }
-                        """
-                )
-            )
+            headers = {
+                @Header(name = STALE_HEADER, description = "true when the database is unavailable and the last " +
+                        "known good snapshot is served", schema = @Schema(type = "boolean")),
+                @Header(name = LOADED_AT_HEADER, description = "When a stale snapshot was read from the database",
+                        schema = @Schema(type = "string", format = "date-time")),
+                @Header(name = HttpHeaders.AGE, description = "Seconds since a stale snapshot was read from the database",
+                        schema = @Schema(type = "integer"))
+            },
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    examples = {
+                        @ExampleObject(
+                            name = "Spring Cloud Config Format",
+                            value = """
+                                {
+                                  "name": "user-service",
+                                  "profiles": ["prod"],
+                                  "label": "v1.0.0",
+                                  "propertySources": [
+                                    {
+                                      "name": "user-service-prod-v1.0.0",
+                                      "source": {
+                                        "database.url": "jdbc:postgresql://prod-db:5432/userdb",
+                                        "database.username": "produser",
+                                        "cache.ttl": "3600",
+                                        "logging.level": "INFO"
+                                      }
+                                    }
+                                  ]
+                                }
+                                """
+                        ),
+                        @ExampleObject(
+                            name = "Multi-key Lookup",
+                            value = """
+                                {
+                                  "status": "SUCCESS",
+                                  "message": "Configs Retrieved",
+                                  "configs": [
+                                    {
+                                      "id": 1,
+                                      "application": "user-service",
+                                      "profile": "prod",
+                                      "label": "v1.0.0",
+                                      "propKey": "database.url",
+                                      "propValue": "jdbc:postgresql://prod-db:5432/userdb"
+                                    }
+                                  ],
+                                  "missing": ["feature.beta"]
+                                }
+                                """
+                        )
+                    }
+                ),
+                @Content(mediaType = "application/cbor"),
+                @Content(mediaType = "application/x-jackson-smile"),
+                @Content(mediaType = "application/x-protobuf")
+            }
         ),
         @ApiResponse(
             responseCode = "404", 
@@ -216,18 +299,49 @@ public class ConfigController {
             @PathVariable @NotBlank(message = "Profile cannot be blank") String profile,
             
             @Parameter(description = "Version label or branch", example = "v1.0.0", required = true)
-            @PathVariable @NotBlank(message = "Label cannot be blank") String label) {
+            @PathVariable @NotBlank(message = "Label cannot be blank") String label,
+
+            @Parameter(description = "Keys to look up, comma separated or repeated; the whole snapshot when omitted",
+                       example = "database.url,feature.beta")
+            @RequestParam(required = false) List<String> keys,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         
         log.info("Getting configs for application: {}, profile: {}, label: {}", 
                 application, profile, label);
         
-        try {
+        try (ConfigEvents.Fetch fetch = configEvents.beginFetch(application, profile, label)) {
+            if (keys != null && !keys.isEmpty()) {
+                keys = splitKeys(keys);
+                readHotspots.recordKeys(application, profile, label, keys);
+                ConfigKeysResponse keysResponse = configAPI.getConfigs(application, profile, label, keys);
+                configUsageRecorder.recordKeys(application, profile, label,
+                        keysResponse.getConfigs().stream().map(Config::getPropKey).toList());
+                log.info("Successfully retrieved {} of {} keys", keysResponse.getConfigs().size(), keys.size());
+                configMetrics.recordBatch("keys", keys.size());
+                fetch.served(keysResponse.getConfigs());
+                return ResponseEntity.ok(keysResponse);
+            }
+            readHotspots.recordSnapshot(application, profile, label);
+            Optional<SnapshotFormat> encoding = SnapshotFormat.fromAccept(accept);
+            if (encoding.isPresent()) {
+                ConfigFileResponse encoded = configAPI.getConfigFile(application, profile, label, encoding.get());
+                configUsageRecorder.recordSnapshot(application, profile, label, encoded.getConfigs());
+                configMetrics.recordSnapshot(application, encoded.getConfigs());
+                fetch.served(encoded.getConfigs());
+                return getEncodedResponseEntity(application, profile, label, encoding.get(), encoded);
+            }
             ConfigListResponse listResponse = configAPI.getConfigs(application, profile, label);
+            configUsageRecorder.recordSnapshot(application, profile, label, listResponse.getConfigs());
             log.info("Successfully retrieved {} configs", listResponse.getConfigs().size());
+            configMetrics.recordSnapshot(application, listResponse.getConfigs());
+            fetch.served(listResponse.getConfigs());
             return getResponseEntity(application, profile, label, listResponse);
         } catch (ConfigAPIException e) {
             log.error("Error retrieving configs: {}", e.getMessage());
             return ResponseEntity.status(getHttpStatus(e.getStatus()))
+                    .contentType(MediaType.APPLICATION_JSON)
                     .body(new ErrorResponse(e.getStatus(), e.getMessage()));
         }
     }
@@ -243,14 +357,28 @@ public class ConfigController {
     @Operation(
         summary = "Get all configurations for application and profile",
         description = "Retrieves all configuration properties for the specified application and profile using the default label. " +
-                     "This is a convenience endpoint when you don't need to specify a specific label/version.",
+                     "This is a convenience endpoint when you don't need to specify a specific label/version. " +
+                     "The same document is served as CBOR, Smile or Protobuf when preferred in Accept.",
         tags = {"Configuration Retrieval"}
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200", 
             description = "Configurations retrieved successfully",
-            content = @Content(mediaType = "application/json")
+            headers = {
+                @Header(name = STALE_HEADER, description = "true when the database is unavailable and the last " +
+                        "known good snapshot is served", schema = @Schema(type = "boolean")),
+                @Header(name = LOADED_AT_HEADER, description = "When a stale snapshot was read from the database",
+                        schema = @Schema(type = "string", format = "date-time")),
+                @Header(name = HttpHeaders.AGE, description = "Seconds since a stale snapshot was read from the database",
+                        schema = @Schema(type = "integer"))
+            },
+            content = {
+                @Content(mediaType = "application/json"),
+                @Content(mediaType = "application/cbor"),
+                @Content(mediaType = "application/x-jackson-smile"),
+                @Content(mediaType = "application/x-protobuf")
+            }
         ),
         @ApiResponse(
             responseCode = "404", 
@@ -267,21 +395,129 @@ public class ConfigController {
             @PathVariable @NotBlank(message = "Application name cannot be blank") String application,
             
             @Parameter(description = "Environment profile", example = "prod", required = true)
-            @PathVariable @NotBlank(message = "Profile cannot be blank") String profile) {
+            @PathVariable @NotBlank(message = "Profile cannot be blank") String profile,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         
         log.info("Getting configs for application: {}, profile: {}", application, profile);
         
-        try {
+        readHotspots.recordSnapshot(application, profile, null);
+        try (ConfigEvents.Fetch fetch = configEvents.beginFetch(application, profile, null)) {
+            Optional<SnapshotFormat> encoding = SnapshotFormat.fromAccept(accept);
+            if (encoding.isPresent()) {
+                ConfigFileResponse encoded = configAPI.getConfigFile(application, profile, null, encoding.get());
+                configUsageRecorder.recordSnapshot(application, profile, null, encoded.getConfigs());
+                configMetrics.recordSnapshot(application, encoded.getConfigs());
+                fetch.served(encoded.getConfigs());
+                return getEncodedResponseEntity(application, profile, null, encoding.get(), encoded);
+            }
             ConfigListResponse listResponse = configAPI.getConfigs(application, profile);
+            configUsageRecorder.recordSnapshot(application, profile, null, listResponse.getConfigs());
             log.info("Successfully retrieved {} configs", listResponse.getConfigs().size());
+            configMetrics.recordSnapshot(application, listResponse.getConfigs());
+            fetch.served(listResponse.getConfigs());
             return getResponseEntity(application, profile, null, listResponse);
         } catch (ConfigAPIException e) {
             log.error("Error retrieving configs: {}", e.getMessage());
             return ResponseEntity.status(getHttpStatus(e.getStatus()))
+                    .contentType(MediaType.APPLICATION_JSON)
                     .body(new ErrorResponse(e.getStatus(), e.getMessage()));
         }
     }
 
+    /**
+     * Retrieves the snapshots of several applications in one call, streamed in request order.
+     *
+     * @param request The snapshots to retrieve
+     * @return The snapshots in Spring Cloud Config format, each with its own status
+     */
+    @Operation(
+        summary = "Get the snapshots of several applications",
+        description = "Retrieves up to 100 snapshots in one call, e.g. everything a sidecar serves at boot. Snapshots " +
+                     "are read concurrently and written to the response in request order as they become available. " +
+                     "A snapshot that cannot be read carries its own status and message and does not fail the others; " +
+                     "stale snapshots are flagged per entry instead of with headers.",
+        tags = {"Configuration Retrieval", "Batch Operations"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Snapshots retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                examples = @ExampleObject(
+                    name = "Batch Snapshot Response",
+                    value = """
+                        {
+                          "status": "SUCCESS",
+                          "message": "Retrieved Snapshots",
+                          "snapshots": [
+                            {
+                              "application": "user-service",
+                              "profile": "prod",
+                              "label": "v1.0.0",
+                              "status": "SUCCESS",
+                              "stale": false,
+                              "environment": {
+                                "name": "user-service",
+                                "profiles": ["prod"],
+                                "label": "v1.0.0",
+                                "propertySources": [
+                                  {
+                                    "name": "user-service-prod-v1.0.0",
+                                    "source": {
+                                      "database.url": "jdbc:postgresql://prod-db:5432/userdb"
+                                    }
+                                  }
+                                ]
+                              }
+                            },
+                            {
+                              "application": "order-service",
+                              "profile": "prod",
+                              "status": "UNAVAILABLE",
+                              "message": "Configuration store unavailable"
+                            }
+                          ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request data or validation errors",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PostMapping("/snapshots")
+    public ResponseEntity<StreamingResponseBody> getSnapshots(
+            @Parameter(description = "Snapshots to retrieve", required = true)
+            @Valid @RequestBody ConfigSnapshotBatchRequest request) {
+
+        log.info("Getting {} snapshots in batch", request.getSnapshots().size());
+        configMetrics.recordBatch("snapshots", request.getSnapshots().size());
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.createGenerator(out)) {
+                json.writeStartObject();
+                json.writeStringField("status", "SUCCESS");
+                json.writeStringField("message", "Retrieved Snapshots");
+                json.writeArrayFieldStart("snapshots");
+                configAPI.getSnapshots(request, snapshot -> writeSnapshot(json, snapshot));
+                json.writeEndArray();
+                json.writeEndObject();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     /**
      * Creates a new configuration property.
      * 
@@ -439,9 +675,11 @@ public class ConfigController {
             @Valid @RequestBody ConfigListRequest request) {
         
         log.info("Creating {} configs in batch", request.getConfigs().size());
+        configMetrics.recordBatch("create", request.getConfigs().size());
         
-        try {
+        try (ConfigEvents.BatchWrite batchWrite = configEvents.beginBatchWrite("create", request.getConfigs().size())) {
             ConfigListResponse response = configAPI.saveConfigs(request);
+            batchWrite.committed();
             log.info("Successfully created {} configs in batch", response.getConfigs().size());
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
         } catch (ConfigAPIException e) {
@@ -581,6 +819,14 @@ public class ConfigController {
                 mediaType = "application/json",
                 schema = @Schema(implementation = ErrorResponse.class)
             )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Group commit is enabled and the write queue is full",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
         )
     })
     @PutMapping
@@ -674,9 +920,11 @@ public class ConfigController {
             @Valid @RequestBody ConfigListRequest request) {
         
         log.info("Updating {} configs in batch", request.getConfigs().size());
+        configMetrics.recordBatch("update", request.getConfigs().size());
         
-        try {
+        try (ConfigEvents.BatchWrite batchWrite = configEvents.beginBatchWrite("update", request.getConfigs().size())) {
             ConfigListResponse response = configAPI.updateConfigs(request);
+            batchWrite.committed();
             log.info("Successfully updated {} configs in batch", response.getConfigs().size());
             return ResponseEntity.ok(response);
         } catch (ConfigAPIException e) {
@@ -686,6 +934,406 @@ public class ConfigController {
         }
     }
 
+    /**
+     * Deletes every configuration property in a scope.
+     *
+     * @param request The scope to delete: application and optionally profile, label and key prefix
+     * @return ResponseEntity containing the number of deleted properties or error response
+     */
+    @Operation(
+        summary = "Delete all configuration properties in a scope",
+        description = "Deletes every property of an application, optionally narrowed by profile, label and key " +
+                     "prefix. Rows are deleted in chunks of 1000 that commit independently, so locks are short " +
+                     "but a failure part-way leaves earlier chunks deleted.",
+        tags = {"Configuration Management", "Batch Operations"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Configurations deleted",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ConfigBulkResponse.class),
+                examples = @ExampleObject(
+                    name = "Bulk Delete Success",
+                    value = """
+                        {
+                          "status": "SUCCESS",
+                          "message": "Configs Deleted",
+                          "affected": 42
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid scope",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<?> deleteConfigs(
+            @Parameter(description = "Scope of the configurations to delete", required = true)
+            @Valid @RequestBody ConfigScopeRequest request) {
+
+        log.info("Deleting configs for application: {}, profile: {}, label: {}, key prefix: {}",
+                request.getApplication(), request.getProfile(), request.getLabel(), request.getKeyPrefix());
+
+        try {
+            ConfigBulkResponse response = configAPI.deleteConfigs(request);
+            log.info("Successfully deleted {} configs", response.getAffected());
+            return ResponseEntity.ok(response);
+        } catch (ConfigAPIException e) {
+            log.error("Error deleting configs: {}", e.getMessage());
+            return ResponseEntity.status(getHttpStatus(e.getStatus()))
+                    .body(new ErrorResponse(e.getStatus(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Renames the keys of every configuration property in a scope by replacing their prefix.
+     *
+     * @param request The scope, the key prefix to replace and its replacement
+     * @return ResponseEntity containing the number of renamed properties or error response
+     */
+    @Operation(
+        summary = "Rename configuration keys by prefix",
+        description = "Replaces keyPrefix with newKeyPrefix on every matching key of an application, optionally " +
+                     "narrowed by profile and label. Fails with 409 before changing anything if a renamed key " +
+                     "already exists. Rows are renamed in chunks of 1000 that commit independently.",
+        tags = {"Configuration Management", "Batch Operations"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Keys renamed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ConfigBulkResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "A renamed key already exists",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request data",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PostMapping("/bulk/rename")
+    public ResponseEntity<?> renameKeys(
+            @Parameter(description = "Key rename request", required = true)
+            @Valid @RequestBody ConfigRenameRequest request) {
+
+        log.info("Renaming keys {} -> {} for application: {}, profile: {}, label: {}",
+                request.getKeyPrefix(), request.getNewKeyPrefix(), request.getApplication(),
+                request.getProfile(), request.getLabel());
+
+        try {
+            ConfigBulkResponse response = configAPI.renameKeys(request);
+            log.info("Successfully renamed {} keys", response.getAffected());
+            return ResponseEntity.ok(response);
+        } catch (ConfigAPIException e) {
+            log.error("Error renaming keys: {}", e.getMessage());
+            return ResponseEntity.status(getHttpStatus(e.getStatus()))
+                    .body(new ErrorResponse(e.getStatus(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Creates a label as a copy of another label of the same application and profile.
+     *
+     * @param request The source and target labels, overrides and whether to replace an existing target
+     * @return ResponseEntity containing the number of properties in the new label or error response
+     */
+    @Operation(
+        summary = "Clone or promote a label",
+        description = "Copies every configuration property of sourceLabel to targetLabel with a single " +
+                     "INSERT ... SELECT in the database, then applies the overrides to the new label. An existing " +
+                     "targetLabel fails with 409 unless replace is set, in which case it is replaced by the copy. " +
+                     "The whole operation is one transaction.",
+        tags = {"Configuration Management", "Batch Operations"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Label cloned",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ConfigBulkResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Source label not found",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Target label already exists",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request data",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PostMapping("/labels/clone")
+    public ResponseEntity<?> cloneLabel(
+            @Parameter(description = "Label clone request", required = true)
+            @Valid @RequestBody ConfigCloneRequest request) {
+
+        log.info("Cloning label {} -> {} for application: {}, profile: {}", request.getSourceLabel(),
+                request.getTargetLabel(), request.getApplication(), request.getProfile());
+
+        try {
+            ConfigBulkResponse response = configAPI.cloneLabel(request);
+            log.info("Successfully cloned {} configs to label {}", response.getAffected(), request.getTargetLabel());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (ConfigAPIException e) {
+            log.error("Error cloning label: {}", e.getMessage());
+            return ResponseEntity.status(getHttpStatus(e.getStatus()))
+                    .body(new ErrorResponse(e.getStatus(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Lists the recorded changes of an application's configuration properties, newest first.
+     *
+     * @param application The application name
+     * @param profile Optional profile to narrow the changes to
+     * @param label Optional label to narrow the changes to
+     * @param key Optional property key to narrow the changes to
+     * @param from Optional earliest change time, inclusive
+     * @param to Optional latest change time, exclusive
+     * @param limit Maximum number of changes returned
+     * @return ResponseEntity containing the changes or error response
+     */
+    @Operation(
+        summary = "Get the change history of configuration properties",
+        description = "Returns the old and new value of every recorded create, update and delete of the " +
+                     "application's properties, newest first. History is written asynchronously, so a change " +
+                     "can take up to config.history.flush-interval to appear. {cipher} values stay encrypted.",
+        tags = {"Configuration Management"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ConfigHistoryResponse.class),
+                examples = @ExampleObject(
+                    name = "History",
+                    value = """
+                        {
+                          "status": "SUCCESS",
+                          "message": "History Retrieved",
+                          "changes": [
+                            {
+                              "id": 42,
+                              "application": "user-service",
+                              "profile": "prod",
+                              "label": "v1.0.0",
+                              "propKey": "database.url",
+                              "changeType": "UPDATED",
+                              "oldValue": "jdbc:mysql://old-db:3306/users",
+                              "newValue": "jdbc:mysql://new-db:3306/users",
+                              "changedAt": "2024-01-15T14:45:00Z",
+                              "changedBy": "SYSTEM"
+                            }
+                          ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing application, invalid time range or limit",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @GetMapping("/history")
+    public ResponseEntity<?> getHistory(
+            @Parameter(description = "Application name", required = true, example = "user-service")
+            @RequestParam @NotBlank String application,
+            @Parameter(description = "Profile name", example = "prod")
+            @RequestParam(required = false) String profile,
+            @Parameter(description = "Label name", example = "v1.0.0")
+            @RequestParam(required = false) String label,
+            @Parameter(description = "Property key", example = "database.url")
+            @RequestParam(required = false) String key,
+            @Parameter(description = "Earliest change time, inclusive (ISO-8601)", example = "2024-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "Latest change time, exclusive (ISO-8601)", example = "2024-02-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @Parameter(description = "Maximum number of changes, at most 1000", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+
+        log.info("Retrieving history for application: {}, profile: {}, label: {}, key: {}",
+                application, profile, label, key);
+
+        try {
+            ConfigHistoryResponse response = configAPI.getHistory(application, profile, label, key, from, to, limit);
+            log.info("Successfully retrieved {} changes", response.getChanges().size());
+            return ResponseEntity.ok(response);
+        } catch (ConfigAPIException e) {
+            log.error("Error retrieving history: {}", e.getMessage());
+            return ResponseEntity.status(getHttpStatus(e.getStatus()))
+                    .body(new ErrorResponse(e.getStatus(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Inserts or updates a single configuration property in one database write.
+     *
+     * @param request The configuration to insert or update
+     * @return ResponseEntity containing the upsert outcome or error response
+     */
+    @Operation(
+        summary = "Insert or update a configuration property",
+        description = "Inserts the property if it does not exist and replaces its value otherwise, using a single " +
+                     "native upsert instead of a lookup followed by a save. Concurrent upserts of the same key do " +
+                     "not conflict. The response reports whether the property was INSERTED, UPDATED or UNCHANGED.",
+        tags = {"Configuration Management"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Configuration upserted successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ConfigUpsertResponse.class),
+                examples = @ExampleObject(
+                    name = "Upsert Success",
+                    value = """
+                        {
+                          "status": "SUCCESS",
+                          "message": "Configs Upserted",
+                          "inserted": 1,
+                          "updated": 0,
+                          "unchanged": 0,
+                          "results": [
+                            {
+                              "application": "user-service",
+                              "profile": "prod",
+                              "label": "v1.0.0",
+                              "key": "database.url",
+                              "outcome": "INSERTED"
+                            }
+                          ]
+                        }
+                        """
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request data or missing label",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PutMapping("/upsert")
+    public ResponseEntity<?> upsertConfig(
+            @Parameter(description = "Configuration upsert request", required = true)
+            @Valid @RequestBody ConfigRequest request) {
+
+        log.info("Upserting config for application: {}, profile: {}, key: {}",
+                request.getApplication(), request.getProfile(), request.getKey());
+
+        try {
+            ConfigUpsertResponse response = configAPI.upsertConfig(request);
+            log.info("Successfully upserted config with key: {}", request.getKey());
+            return ResponseEntity.ok(response);
+        } catch (ConfigAPIException e) {
+            log.error("Error upserting config: {}", e.getMessage());
+            return ResponseEntity.status(getHttpStatus(e.getStatus()))
+                    .body(new ErrorResponse(e.getStatus(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Inserts or updates multiple configuration properties in a batch.
+     *
+     * @param request The batch of configurations to insert or update
+     * @return ResponseEntity containing the outcome per configuration or error response
+     */
+    @Operation(
+        summary = "Insert or update multiple configuration properties in batch",
+        description = "Upserts all properties in a single transaction. Existing values are read with one query per " +
+                     "application, profile and label, and all new or changed properties are written in one JDBC " +
+                     "batch. Properties that already have the requested value are not written.",
+        tags = {"Configuration Management", "Batch Operations"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "All configurations upserted successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ConfigUpsertResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid request data or missing label",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PutMapping("/upsert/batch")
+    public ResponseEntity<?> upsertConfigs(
+            @Parameter(description = "Batch configuration upsert request", required = true)
+            @Valid @RequestBody ConfigListRequest request) {
+
+        log.info("Upserting {} configs in batch", request.getConfigs().size());
+        configMetrics.recordBatch("upsert", request.getConfigs().size());
+
+        try (ConfigEvents.BatchWrite batchWrite = configEvents.beginBatchWrite("upsert", request.getConfigs().size())) {
+            ConfigUpsertResponse response = configAPI.upsertConfigs(request);
+            batchWrite.committed();
+            log.info("Successfully upserted configs in batch: {} inserted, {} updated, {} unchanged",
+                    response.getInserted(), response.getUpdated(), response.getUnchanged());
+            return ResponseEntity.ok(response);
+        } catch (ConfigAPIException e) {
+            log.error("Error upserting configs in batch: {}", e.getMessage());
+            return ResponseEntity.status(getHttpStatus(e.getStatus()))
+                    .body(new ErrorResponse(e.getStatus(), e.getMessage()));
+        }
+    }
+
     /**
      * Converts the internal configuration list response to Spring Cloud Config compatible format.
      * 
@@ -697,6 +1345,20 @@ public class ConfigController {
      */
     private ResponseEntity<?> getResponseEntity(String applicationName, String profile, String label,
                                                 ConfigListResponse listResponse) {
+        Map<String, Object> response = environment(applicationName, profile, label, listResponse.getConfigs());
+
+        if (listResponse.isStale()) {
+            log.warn("Serving stale snapshot of {}/{}/{} loaded at {}", applicationName, profile, label,
+                    listResponse.getLoadedAt());
+        }
+        return snapshotHeaders(ResponseEntity.ok(), listResponse.isStale(), listResponse.getLoadedAt()).body(response);
+    }
+
+    /**
+     * Builds the Spring Cloud Config environment document of a snapshot.
+     */
+    private static Map<String, Object> environment(String applicationName, String profile, String label,
+                                                   List<Config> configs) {
         Map<String, Object> response = new LinkedHashMap<>();
         
         // Add basic metadata
@@ -712,7 +1374,7 @@ public class ConfigController {
 
         // Create property source
         Map<String, Object> source = new HashMap<>();
-        for (Config config : listResponse.getConfigs()) {
+        for (Config config : configs) {
             source.put(config.getPropKey(), config.getPropValue());
         }
 
@@ -744,8 +1406,87 @@ public class ConfigController {
 
         propertySources.add(propertySource);
         response.put("propertySources", propertySources);
+        return response;
+    }
+
+    /**
+     * Serves a snapshot encoded as CBOR, Smile or Protobuf, with the ETag of the encoding.
+     */
+    private ResponseEntity<?> getEncodedResponseEntity(String applicationName, String profile, String label,
+                                                       SnapshotFormat format, ConfigFileResponse encoded) {
+        if (encoded.isStale()) {
+            log.warn("Serving stale snapshot of {}/{}/{} loaded at {}", applicationName, profile, label,
+                    encoded.getLoadedAt());
+        }
+        return snapshotHeaders(ResponseEntity.ok(), encoded.isStale(), encoded.getLoadedAt())
+                .contentType(format.getMediaType())
+                .eTag(encoded.getEtag())
+                .body(encoded.getContent());
+    }
 
-        return ResponseEntity.ok(response);
+    /**
+     * Writes one entry of a batch snapshot response and flushes it to the client.
+     */
+    private void writeSnapshot(JsonGenerator json, ConfigSnapshotResponse snapshot) {
+        String label = Strings.isEmpty(snapshot.getLabel()) ? null : snapshot.getLabel();
+        readHotspots.recordSnapshot(snapshot.getApplication(), snapshot.getProfile(), label);
+        try {
+            json.writeStartObject();
+            json.writeStringField("application", snapshot.getApplication());
+            json.writeStringField("profile", snapshot.getProfile());
+            if (!Strings.isEmpty(snapshot.getLabel())) {
+                json.writeStringField("label", snapshot.getLabel());
+            }
+            json.writeStringField("status", snapshot.getStatus());
+            if (!"SUCCESS".equals(snapshot.getStatus())) {
+                log.error("Error retrieving snapshot {}/{}/{}: {}", snapshot.getApplication(), snapshot.getProfile(),
+                        snapshot.getLabel(), snapshot.getMessage());
+                json.writeStringField("message", snapshot.getMessage());
+            } else {
+                configUsageRecorder.recordSnapshot(snapshot.getApplication(), snapshot.getProfile(), label,
+                        snapshot.getConfigs());
+                configMetrics.recordSnapshot(snapshot.getApplication(), snapshot.getConfigs());
+                json.writeBooleanField("stale", snapshot.isStale());
+                if (snapshot.isStale()) {
+                    json.writeObjectField("loadedAt", snapshot.getLoadedAt());
+                }
+                json.writeObjectField("environment", environment(snapshot.getApplication(), snapshot.getProfile(),
+                        snapshot.getLabel(), snapshot.getConfigs()));
+            }
+            json.writeEndObject();
+            json.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits comma separated keys; Spring only splits a request parameter given once.
+     */
+    private static List<String> splitKeys(List<String> keys) {
+        List<String> split = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            for (String part : key.split(",")) {
+                if (!part.isBlank()) {
+                    split.add(part.trim());
+                }
+            }
+        }
+        return split;
+    }
+
+    /**
+     * Adds the staleness headers to a snapshot response served from the last known good snapshot.
+     */
+    static ResponseEntity.BodyBuilder snapshotHeaders(ResponseEntity.BodyBuilder builder, boolean stale,
+                                                      Instant loadedAt) {
+        if (!stale) {
+            return builder;
+        }
+        return builder
+                .header(STALE_HEADER, "true")
+                .header(LOADED_AT_HEADER, loadedAt.toString())
+                .header(HttpHeaders.AGE, String.valueOf(Math.max(0, Duration.between(loadedAt, Instant.now()).toSeconds())));
     }
 
     /**
@@ -754,12 +1495,13 @@ public class ConfigController {
      * @param status The internal status code
      * @return The corresponding HTTP status
      */
-    private HttpStatus getHttpStatus(String status) {
+    static HttpStatus getHttpStatus(String status) {
         return switch (status) {
             case "NOT_FOUND" -> HttpStatus.NOT_FOUND;
             case "CONFLICT" -> HttpStatus.CONFLICT;
             case "BAD_REQUEST" -> HttpStatus.BAD_REQUEST;
             case "VALIDATION_ERROR" -> HttpStatus.BAD_REQUEST;
+            case "UNAVAILABLE" -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
@@ -0,0 +1,166 @@
+package com.kds.config.server.app.controller;
+
+import com.kds.config.server.app.api.ConfigAPI;
+import com.kds.config.server.app.dto.response.ConfigFileResponse;
+import com.kds.config.server.app.exception.ConfigAPIException;
+import com.kds.config.server.app.hotspot.ReadHotspots;
+import com.kds.config.server.app.jfr.ConfigEvents;
+import com.kds.config.server.app.metrics.ConfigMetrics;
+import com.kds.config.server.app.render.SnapshotFormat;
+import com.kds.config.server.service.usage.ConfigUsageRecorder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller serving snapshots as plain files
+ *
+ * Non-Spring consumers can download a snapshot as {@code .properties}, nested {@code .yml} or flat
+ * {@code .json}, on the paths stock Spring Cloud Config uses. The application name is split from the profile
+ * at the last hyphen. Renderings are cached and carry a strong ETag, so clients can poll with
+ * {@code If-None-Match} and get {@code 304 Not Modified} while the snapshot is unchanged.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Configuration Files",
+     description = "Snapshots rendered as .properties, .yml or flat .json files, as in Spring Cloud Config")
+public class ConfigFileController {
+
+    private static final String EXTENSIONS = "properties|yml|yaml|json";
+
+    private final ConfigAPI configAPI;
+    private final ConfigMetrics configMetrics;
+    private final ConfigEvents configEvents;
+    private final ReadHotspots readHotspots;
+    private final ConfigUsageRecorder configUsageRecorder;
+
+    /**
+     * Renders all labels of an application and profile as a file.
+     *
+     * @param application The application name
+     * @param profile The environment profile
+     * @param extension {@code properties}, {@code yml}, {@code yaml} or {@code json}
+     * @return The rendered file
+     */
+    @Operation(
+        summary = "Get all configurations for application and profile as a file",
+        description = "Renders the snapshot as .properties, nested .yml or flat .json. " +
+                     "Keys defined in several labels take the value of the last label.",
+        tags = {"Configuration Files"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Snapshot rendered",
+            headers = @Header(name = HttpHeaders.ETAG, description = "Strong ETag of the rendered file",
+                    schema = @Schema(type = "string")),
+            content = {
+                @Content(mediaType = "text/plain"),
+                @Content(mediaType = "application/yaml"),
+                @Content(mediaType = "application/json")
+            }
+        ),
+        @ApiResponse(responseCode = "304", description = "Snapshot unchanged since the ETag in If-None-Match")
+    })
+    @GetMapping("/{application}-{profile}.{extension:" + EXTENSIONS + "}")
+    public ResponseEntity<?> getConfigFile(
+            @Parameter(description = "Application name", example = "user-service", required = true)
+            @PathVariable String application,
+
+            @Parameter(description = "Environment profile", example = "prod", required = true)
+            @PathVariable String profile,
+
+            @Parameter(description = "File format", example = "yml", required = true)
+            @PathVariable String extension) {
+
+        return render(application, profile, null, extension);
+    }
+
+    /**
+     * Renders one label of an application and profile as a file.
+     *
+     * @param label The version label or branch name
+     * @param application The application name
+     * @param profile The environment profile
+     * @param extension {@code properties}, {@code yml}, {@code yaml} or {@code json}
+     * @return The rendered file
+     */
+    @Operation(
+        summary = "Get configurations for application, profile and label as a file",
+        description = "Renders the snapshot of one label as .properties, nested .yml or flat .json.",
+        tags = {"Configuration Files"}
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Snapshot rendered",
+            headers = @Header(name = HttpHeaders.ETAG, description = "Strong ETag of the rendered file",
+                    schema = @Schema(type = "string")),
+            content = {
+                @Content(mediaType = "text/plain"),
+                @Content(mediaType = "application/yaml"),
+                @Content(mediaType = "application/json")
+            }
+        ),
+        @ApiResponse(responseCode = "304", description = "Snapshot unchanged since the ETag in If-None-Match")
+    })
+    @GetMapping("/{label}/{application}-{profile}.{extension:" + EXTENSIONS + "}")
+    public ResponseEntity<?> getConfigFileByLabel(
+            @Parameter(description = "Version label or branch", example = "v1.0.0", required = true)
+            @PathVariable String label,
+
+            @Parameter(description = "Application name", example = "user-service", required = true)
+            @PathVariable String application,
+
+            @Parameter(description = "Environment profile", example = "prod", required = true)
+            @PathVariable String profile,
+
+            @Parameter(description = "File format", example = "yml", required = true)
+            @PathVariable String extension) {
+
+        return render(application, profile, label, extension);
+    }
+
+    private ResponseEntity<?> render(String application, String profile, String label, String extension) {
+        SnapshotFormat format = SnapshotFormat.fromExtension(extension).orElseThrow();
+        log.info("Rendering configs for application: {}, profile: {}, label: {} as {}",
+                application, profile, label, format);
+
+        readHotspots.recordSnapshot(application, profile, label);
+        try (ConfigEvents.Fetch fetch = configEvents.beginFetch(application, profile, label)) {
+            ConfigFileResponse file = configAPI.getConfigFile(application, profile, label, format);
+            configUsageRecorder.recordSnapshot(application, profile, label, file.getConfigs());
+            configMetrics.recordSnapshot(application, file.getConfigs());
+            fetch.served(file.getConfigs(), file.isCacheHit());
+            if (file.isStale()) {
+                log.warn("Serving stale snapshot of {}/{}/{} loaded at {}", application, profile, label,
+                        file.getLoadedAt());
+            }
+            return ConfigController.snapshotHeaders(ResponseEntity.ok(), file.isStale(), file.getLoadedAt())
+                    .contentType(format.getMediaType())
+                    .eTag(file.getEtag())
+                    .body(file.getContent());
+        } catch (ConfigAPIException e) {
+            log.error("Error rendering configs: {}", e.getMessage());
+            return ResponseEntity.status(ConfigController.getHttpStatus(e.getStatus()))
+                    .body(new ConfigController.ErrorResponse(e.getStatus(), e.getMessage()));
+        }
+    }
+}
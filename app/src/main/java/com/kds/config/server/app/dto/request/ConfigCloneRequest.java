@@ -0,0 +1,66 @@
+package com.kds.config.server.app.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Label clone request DTO copying one label of an application and profile to another label.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Copies every configuration property of sourceLabel to targetLabel, then applies the overrides")
+public class ConfigCloneRequest {
+
+    @NotBlank(message = "Application name cannot be blank")
+    @Size(min = 1, max = 50, message = "Application name must be between 1 and 50 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9-_]+$", message = "Application name can only contain alphanumeric characters, hyphens, and underscores")
+    @Schema(description = "Application name", example = "user-service", required = true, maxLength = 50)
+    private String application;
+
+    @NotBlank(message = "Profile cannot be blank")
+    @Size(min = 1, max = 20, message = "Profile must be between 1 and 20 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9-_]+$", message = "Profile can only contain alphanumeric characters, hyphens, and underscores")
+    @Schema(description = "Environment profile", example = "prod", required = true, maxLength = 20)
+    private String profile;
+
+    @NotBlank(message = "Source label cannot be blank")
+    @Size(max = 100, message = "Source label cannot exceed 100 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9._-]+$", message = "Source label can only contain alphanumeric characters, dots, hyphens, and underscores")
+    @Schema(description = "Label to copy", example = "v1.2.0", required = true, maxLength = 100)
+    private String sourceLabel;
+
+    @NotBlank(message = "Target label cannot be blank")
+    @Size(max = 100, message = "Target label cannot exceed 100 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9._-]+$", message = "Target label can only contain alphanumeric characters, dots, hyphens, and underscores")
+    @Schema(description = "Label to create", example = "v1.3.0", required = true, maxLength = 100)
+    private String targetLabel;
+
+    @Size(max = 100, message = "Cannot override more than 100 configurations")
+    @Schema(description = "Values to set in the target label by key; keys missing from the source label are added",
+            example = "{\"feature.checkout.enabled\": \"true\"}")
+    private Map<
+            @NotBlank(message = "Configuration key cannot be blank")
+            @Size(max = 100, message = "Configuration key cannot exceed 100 characters")
+            @Pattern(regexp = "^[a-zA-Z0-9._-]+$", message = "Configuration key can only contain alphanumeric characters, dots, underscores, and hyphens")
+                    String,
+            @NotBlank(message = "Configuration value cannot be blank")
+            @Size(max = 500, message = "Configuration value cannot exceed 500 characters")
+                    String> overrides;
+
+    @Schema(description = "Replace targetLabel if it already exists instead of failing with 409", example = "false")
+    private boolean replace;
+}
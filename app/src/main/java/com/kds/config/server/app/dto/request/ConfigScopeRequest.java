@@ -0,0 +1,46 @@
+package com.kds.config.server.app.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Scope request DTO selecting the configuration properties affected by a bulk operation.
+ * 
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Selects configuration properties by application and optionally profile, label and key prefix")
+public class ConfigScopeRequest {
+
+    @NotBlank(message = "Application name cannot be blank")
+    @Size(min = 1, max = 50, message = "Application name must be between 1 and 50 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9-_]+$", message = "Application name can only contain alphanumeric characters, hyphens, and underscores")
+    @Schema(description = "Application name", example = "user-service", required = true, maxLength = 50)
+    private String application;
+
+    @Size(max = 20, message = "Profile cannot exceed 20 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9-_]*$", message = "Profile can only contain alphanumeric characters, hyphens, and underscores")
+    @Schema(description = "Environment profile; all profiles when omitted", example = "prod", maxLength = 20)
+    private String profile;
+
+    @Size(max = 100, message = "Label cannot exceed 100 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9._-]*$", message = "Label can only contain alphanumeric characters, dots, hyphens, and underscores")
+    @Schema(description = "Version label or branch; all labels when omitted", example = "v1.0.0", maxLength = 100)
+    private String label;
+
+    @Size(max = 100, message = "Key prefix cannot exceed 100 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9._-]*$", message = "Key prefix can only contain alphanumeric characters, dots, underscores, and hyphens")
+    @Schema(description = "Leading part of the property key; all keys when omitted", example = "database.", maxLength = 100)
+    private String keyPrefix;
+}
@@ -0,0 +1,37 @@
+package com.kds.config.server.app.dto.request;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Batch read request DTO listing the snapshots to retrieve in one call.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch read request for the snapshots of several applications")
+public class ConfigSnapshotBatchRequest {
+
+    @NotEmpty(message = "Snapshot list cannot be empty")
+    @Size(min = 1, max = 100, message = "Snapshot list must contain between 1 and 100 items")
+    @Valid
+    @ArraySchema(
+        arraySchema = @Schema(description = "Snapshots to retrieve, returned in this order"),
+        schema = @Schema(implementation = ConfigSnapshotRequest.class)
+    )
+    private List<ConfigSnapshotRequest> snapshots;
+}
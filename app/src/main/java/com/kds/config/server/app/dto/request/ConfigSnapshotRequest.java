@@ -0,0 +1,42 @@
+package com.kds.config.server.app.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Coordinates of one snapshot in a batch read.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Selects the snapshot of an application, profile and optionally label")
+public class ConfigSnapshotRequest {
+
+    @NotBlank(message = "Application name cannot be blank")
+    @Size(min = 1, max = 50, message = "Application name must be between 1 and 50 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9-_]+$", message = "Application name can only contain alphanumeric characters, hyphens, and underscores")
+    @Schema(description = "Application name", example = "user-service", required = true, maxLength = 50)
+    private String application;
+
+    @NotBlank(message = "Profile cannot be blank")
+    @Size(min = 1, max = 20, message = "Profile must be between 1 and 20 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9-_]+$", message = "Profile can only contain alphanumeric characters, hyphens, and underscores")
+    @Schema(description = "Environment profile", example = "prod", required = true, maxLength = 20)
+    private String profile;
+
+    @Size(max = 100, message = "Label cannot exceed 100 characters")
+    @Pattern(regexp = "^[a-zA-Z0-9._-]*$", message = "Label can only contain alphanumeric characters, dots, hyphens, and underscores")
+    @Schema(description = "Version label or branch; all labels when omitted", example = "v1.0.0", maxLength = 100)
+    private String label;
+}
@@ -0,0 +1,31 @@
+package com.kds.config.server.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bulk operation response DTO reporting how many configuration properties were affected.
+ * 
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response containing the number of configuration properties affected by a bulk operation")
+public class ConfigBulkResponse {
+
+    @Schema(description = "Operation status", example = "SUCCESS")
+    private String status;
+
+    @Schema(description = "Operation message", example = "Configs Deleted")
+    private String message;
+
+    @Schema(description = "Number of configuration properties affected", example = "42")
+    private long affected;
+}
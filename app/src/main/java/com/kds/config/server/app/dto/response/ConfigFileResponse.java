@@ -0,0 +1,54 @@
+package com.kds.config.server.app.dto.response;
+
+import com.kds.config.server.core.entity.Config;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A snapshot rendered to a file, as served by the {@code .properties}, {@code .yml} and {@code .json} endpoints.
+ * 
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigFileResponse {
+
+    /**
+     * The rendered file.
+     */
+    private byte[] content;
+
+    /**
+     * Strong ETag of the content, quoted.
+     */
+    private String etag;
+
+    /**
+     * Whether the rendering was served from cache.
+     */
+    private boolean cacheHit;
+
+    /**
+     * The configurations rendered.
+     */
+    private List<Config> configs;
+
+    /**
+     * Whether the snapshot was served from the last known good snapshot.
+     */
+    private boolean stale;
+
+    /**
+     * When the snapshot was read from the database.
+     */
+    private Instant loadedAt;
+}
@@ -0,0 +1,38 @@
+package com.kds.config.server.app.dto.response;
+
+import com.kds.config.server.core.entity.ConfigHistory;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Change history response DTO listing configuration changes, newest first.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response containing the changes of configuration properties, newest first")
+public class ConfigHistoryResponse {
+
+    @Schema(description = "Operation status", example = "SUCCESS")
+    private String status;
+
+    @Schema(description = "Operation message", example = "History Retrieved")
+    private String message;
+
+    @ArraySchema(
+        arraySchema = @Schema(description = "Changes, newest first"),
+        schema = @Schema(implementation = ConfigHistory.class)
+    )
+    private List<ConfigHistory> changes;
+}
@@ -0,0 +1,44 @@
+package com.kds.config.server.app.dto.response;
+
+import com.kds.config.server.core.entity.Config;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Multi-key lookup response DTO separating the requested keys that exist from those that do not.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response containing the requested configuration properties that exist and the keys that do not")
+public class ConfigKeysResponse {
+
+    @Schema(description = "Operation status", example = "SUCCESS")
+    private String status;
+
+    @Schema(description = "Operation message", example = "Configs Retrieved")
+    private String message;
+
+    @ArraySchema(
+        arraySchema = @Schema(description = "Configuration properties found, in request order"),
+        schema = @Schema(implementation = Config.class)
+    )
+    private List<Config> configs;
+
+    @ArraySchema(
+        arraySchema = @Schema(description = "Requested keys that do not exist, in request order"),
+        schema = @Schema(type = "string", example = "feature.beta")
+    )
+    private List<String> missing;
+}
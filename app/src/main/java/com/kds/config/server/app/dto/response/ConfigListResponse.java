@@ -1,5 +1,6 @@
 package com.kds.config.server.app.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.kds.config.server.core.entity.Config;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -8,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -35,4 +37,19 @@ public class ConfigListResponse {
         schema = @Schema(implementation = Config.class)
     )
     private List<Config> configs;
+
+    /**
+     * Whether the configurations were served from the last known good snapshot because the database
+     * could not be read. Reported in response headers rather than the body.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private boolean stale;
+
+    /**
+     * When the configurations were read from the database; set for snapshot reads.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Instant loadedAt;
 }
\ No newline at end of file
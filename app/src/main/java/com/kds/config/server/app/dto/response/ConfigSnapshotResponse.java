@@ -0,0 +1,55 @@
+package com.kds.config.server.app.dto.response;
+
+import com.kds.config.server.core.entity.Config;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One snapshot of a batch read, or the reason it could not be read.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConfigSnapshotResponse {
+
+    private String application;
+
+    private String profile;
+
+    private String label;
+
+    /**
+     * {@code SUCCESS}, or the status of the failure, e.g. {@code BAD_REQUEST} or {@code UNAVAILABLE}.
+     */
+    private String status;
+
+    /**
+     * Why the snapshot could not be read; {@code null} on success.
+     */
+    private String message;
+
+    /**
+     * The configurations of the snapshot; {@code null} on failure.
+     */
+    private List<Config> configs;
+
+    /**
+     * Whether the snapshot was served from the last known good snapshot.
+     */
+    private boolean stale;
+
+    /**
+     * When the snapshot was read from the database.
+     */
+    private Instant loadedAt;
+}
@@ -0,0 +1,73 @@
+package com.kds.config.server.app.dto.response;
+
+import com.kds.config.server.core.repository.UpsertOutcome;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Upsert response DTO reporting what happened to each configuration property.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Response containing the outcome of an upsert for each configuration property")
+public class ConfigUpsertResponse {
+
+    @Schema(description = "Operation status", example = "SUCCESS")
+    private String status;
+
+    @Schema(description = "Operation message", example = "Configs Upserted")
+    private String message;
+
+    @Schema(description = "Number of properties inserted", example = "1")
+    private int inserted;
+
+    @Schema(description = "Number of properties whose value was replaced", example = "1")
+    private int updated;
+
+    @Schema(description = "Number of properties that already had the requested value", example = "0")
+    private int unchanged;
+
+    @ArraySchema(
+        arraySchema = @Schema(description = "Outcome per property, in request order"),
+        schema = @Schema(implementation = Result.class)
+    )
+    private List<Result> results;
+
+    /**
+     * Outcome of the upsert of a single property.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Outcome of the upsert of a single configuration property")
+    public static class Result {
+
+        @Schema(description = "Application name", example = "user-service")
+        private String application;
+
+        @Schema(description = "Environment profile", example = "prod")
+        private String profile;
+
+        @Schema(description = "Version label or branch", example = "v1.0.0")
+        private String label;
+
+        @Schema(description = "Configuration property key", example = "database.url")
+        private String key;
+
+        @Schema(description = "What the upsert did", example = "INSERTED")
+        private UpsertOutcome outcome;
+    }
+}
@@ -0,0 +1,146 @@
+package com.kds.config.server.app.grpc;
+
+import com.kds.config.server.app.bulkhead.GrpcBulkheadInterceptor;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.grpc.MetricCollectingServerInterceptor;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcServerInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server next to the REST API, on {@code config.grpc.port} (default 9090).
+ * <p>
+ * The server speaks HTTP/2 through Netty: each client keeps one connection and multiplexes its calls over
+ * it, bounded by {@code config.grpc.max-concurrent-calls-per-connection}; keepalive pings detect dead
+ * connections every {@code config.grpc.keep-alive-time}. Calls are timed in the {@code grpc.server.*}
+ * metrics and traced like REST requests. With bulkheads enabled, calls run in the read lane; see
+ * {@link GrpcBulkheadInterceptor}.
+ * <p>
+ * When {@code config.grpc.in-process-name} is set, the server is started in-process under that name
+ * instead of on a port, for tests. Disable the server with {@code config.grpc.enabled=false}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.grpc.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class GrpcServer implements SmartLifecycle {
+
+    private final SnapshotGrpcService snapshotGrpcService;
+    private final SnapshotWatches snapshotWatches;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final GrpcBulkheadInterceptor bulkheadInterceptor;
+    private final int port;
+    private final String inProcessName;
+    private final Duration keepAliveTime;
+    private final int maxConcurrentCallsPerConnection;
+    private final Duration shutdownGracePeriod;
+    private volatile Server server;
+
+    public GrpcServer(SnapshotGrpcService snapshotGrpcService, SnapshotWatches snapshotWatches,
+                      MeterRegistry meterRegistry, ObjectProvider<ObservationRegistry> observationRegistry,
+                      ObjectProvider<GrpcBulkheadInterceptor> bulkheadInterceptor,
+                      @Value("${config.grpc.port:9090}") int port,
+                      @Value("${config.grpc.in-process-name:}") String inProcessName,
+                      @Value("${config.grpc.keep-alive-time:60s}") Duration keepAliveTime,
+                      @Value("${config.grpc.max-concurrent-calls-per-connection:1000}") int maxConcurrentCallsPerConnection,
+                      @Value("${config.grpc.shutdown-grace-period:10s}") Duration shutdownGracePeriod) {
+        this.snapshotGrpcService = snapshotGrpcService;
+        this.snapshotWatches = snapshotWatches;
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+        this.bulkheadInterceptor = bulkheadInterceptor.getIfAvailable();
+        this.port = port;
+        this.inProcessName = inProcessName;
+        this.keepAliveTime = keepAliveTime;
+        this.maxConcurrentCallsPerConnection = maxConcurrentCallsPerConnection;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+
+    @Override
+    public void start() {
+        MetricCollectingServerInterceptor metrics = new MetricCollectingServerInterceptor(meterRegistry);
+        metrics.preregisterService(snapshotGrpcService);
+        // The last interceptor sees a call first, so rejected calls are still timed and traced
+        List<ServerInterceptor> interceptors = new ArrayList<>();
+        if (bulkheadInterceptor != null) {
+            interceptors.add(bulkheadInterceptor);
+        }
+        interceptors.add(metrics);
+        interceptors.add(new ObservationGrpcServerInterceptor(observationRegistry));
+        ServerServiceDefinition service = ServerInterceptors.intercept(snapshotGrpcService, interceptors);
+
+        ServerBuilder<?> builder = inProcessName.isEmpty()
+                ? NettyServerBuilder.forPort(port)
+                        .keepAliveTime(keepAliveTime.toMillis(), TimeUnit.MILLISECONDS)
+                        .permitKeepAliveTime(keepAliveTime.toMillis() / 2, TimeUnit.MILLISECONDS)
+                        .permitKeepAliveWithoutCalls(true)
+                        .maxConcurrentCallsPerConnection(maxConcurrentCallsPerConnection)
+                : InProcessServerBuilder.forName(inProcessName);
+        try {
+            server = builder.addService(service).build().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not start gRPC server on port " + port, e);
+        }
+        log.info("gRPC server started on {}", inProcessName.isEmpty() ? "port " + server.getPort()
+                : "in-process channel " + inProcessName);
+    }
+
+    /**
+     * Stops accepting calls, completes watch streams so clients reconnect elsewhere, and waits up to
+     * {@code config.grpc.shutdown-grace-period} for running calls before cancelling them.
+     */
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        snapshotWatches.close();
+        try {
+            if (!running.awaitTermination(shutdownGracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+        log.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return The port the server listens on, or -1 when it runs in-process or is stopped
+     */
+    public int getPort() {
+        Server running = server;
+        return running == null ? -1 : running.getPort();
+    }
+}
@@ -0,0 +1,115 @@
+package com.kds.config.server.app.grpc;
+
+import com.kds.config.server.app.proto.BatchGetSnapshotsRequest;
+import com.kds.config.server.app.proto.BatchGetSnapshotsResponse;
+import com.kds.config.server.app.proto.GetSnapshotRequest;
+import com.kds.config.server.app.proto.SnapshotError;
+import com.kds.config.server.app.proto.SnapshotResponse;
+import com.kds.config.server.app.proto.SnapshotResult;
+import com.kds.config.server.app.proto.SnapshotServiceGrpc;
+import com.kds.config.server.app.proto.WatchRequest;
+import com.kds.config.server.service.snapshot.SnapshotFanOut;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * gRPC implementation of {@code kds.config.v1.SnapshotService}, serving the snapshots the REST read
+ * endpoints serve.
+ * <p>
+ * A client keeps one HTTP/2 connection and multiplexes its calls over it; {@code Watch} replaces polling
+ * with a stream that receives a snapshot whenever it changes. Batch and watch calls accept at most
+ * {@code config.grpc.max-snapshots-per-call} snapshots; the snapshots of a batch are read concurrently.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.grpc.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SnapshotGrpcService extends SnapshotServiceGrpc.SnapshotServiceImplBase {
+
+    private final SnapshotReader snapshotReader;
+    private final SnapshotWatches snapshotWatches;
+    private final SnapshotFanOut snapshotFanOut;
+    private final int maxSnapshotsPerCall;
+
+    SnapshotGrpcService(SnapshotReader snapshotReader, SnapshotWatches snapshotWatches, SnapshotFanOut snapshotFanOut,
+                        @Value("${config.grpc.max-snapshots-per-call:100}") int maxSnapshotsPerCall) {
+        this.snapshotReader = snapshotReader;
+        this.snapshotWatches = snapshotWatches;
+        this.snapshotFanOut = snapshotFanOut;
+        this.maxSnapshotsPerCall = maxSnapshotsPerCall;
+    }
+
+    @Override
+    public void getSnapshot(GetSnapshotRequest request, StreamObserver<SnapshotResponse> responseObserver) {
+        SnapshotResponse response;
+        try {
+            response = snapshotReader.read(request);
+        } catch (StatusRuntimeException e) {
+            log.error("Error retrieving snapshot {}: {}", request.getId(), e.getStatus());
+            responseObserver.onError(e);
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchGetSnapshots(BatchGetSnapshotsRequest request,
+                                  StreamObserver<BatchGetSnapshotsResponse> responseObserver) {
+        if (!checkSize(request.getRequestsList(), responseObserver)) {
+            return;
+        }
+        BatchGetSnapshotsResponse.Builder response = BatchGetSnapshotsResponse.newBuilder();
+        snapshotFanOut.forEach(request.getRequestsList(), this::result, response::addResults);
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    private SnapshotResult result(GetSnapshotRequest snapshot) {
+        try {
+            return SnapshotResult.newBuilder().setSnapshot(snapshotReader.read(snapshot)).build();
+        } catch (StatusRuntimeException e) {
+            return SnapshotResult.newBuilder().setError(SnapshotError.newBuilder()
+                    .setId(snapshot.getId())
+                    .setCode(e.getStatus().getCode().name())
+                    .setMessage(Objects.requireNonNullElse(e.getStatus().getDescription(), "")))
+                    .build();
+        }
+    }
+
+    @Override
+    public void watch(WatchRequest request, StreamObserver<SnapshotResponse> responseObserver) {
+        if (!checkSize(request.getSnapshotsList(), responseObserver)) {
+            return;
+        }
+        try {
+            request.getSnapshotsList().forEach(snapshot -> SnapshotReader.key(snapshot.getId()));
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+            return;
+        }
+        snapshotWatches.watch(request.getSnapshotsList(), (ServerCallStreamObserver<SnapshotResponse>) responseObserver);
+    }
+
+    private boolean checkSize(List<GetSnapshotRequest> snapshots, StreamObserver<?> responseObserver) {
+        if (snapshots.isEmpty() || snapshots.size() > maxSnapshotsPerCall) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Between 1 and " + maxSnapshotsPerCall + " snapshots are allowed per call")
+                    .asRuntimeException());
+            return false;
+        }
+        return true;
+    }
+}
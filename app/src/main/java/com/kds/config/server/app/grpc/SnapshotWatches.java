@@ -0,0 +1,229 @@
+package com.kds.config.server.app.grpc;
+
+import com.kds.config.server.app.proto.GetSnapshotRequest;
+import com.kds.config.server.app.proto.SnapshotResponse;
+import com.kds.config.server.core.bulkhead.Lane;
+import com.kds.config.server.core.bulkhead.LaneContext;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import com.kds.config.server.service.snapshot.SnapshotLoader;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the open {@code Watch} streams and pushes snapshots to them when they change.
+ * <p>
+ * A snapshot is re-read as soon as a write on this node invalidates it, and every watched snapshot is
+ * re-read every {@code config.grpc.watch.poll-interval} to pick up writes made through other nodes. A read
+ * is shared by every stream watching the snapshot and sent only to streams whose last sent ETag differs.
+ * <p>
+ * Streams honour gRPC flow control: while a client is not ready, only the latest unsent version of each
+ * snapshot is kept and it is sent once the client catches up, so a slow client costs at most one pending
+ * message per snapshot.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.grpc.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SnapshotWatches {
+
+    private final SnapshotReader snapshotReader;
+    private final ScheduledExecutorService executor;
+    private final Map<SnapshotKey, Set<Watch>> watches = new ConcurrentHashMap<>();
+    private final Set<Watch> streams = ConcurrentHashMap.newKeySet();
+    private final LongAdder updates = new LongAdder();
+
+    SnapshotWatches(SnapshotReader snapshotReader, SnapshotLoader snapshotLoader,
+                    @Value("${config.grpc.watch.poll-interval:30s}") Duration pollInterval,
+                    @Value("${config.grpc.watch.threads:2}") int threads) {
+        this.snapshotReader = snapshotReader;
+        ThreadFactory factory = Thread.ofPlatform().name("config-grpc-watch-", 0).daemon().factory();
+        this.executor = Executors.newScheduledThreadPool(threads, task -> factory.newThread(() -> {
+            // Pushes are reads: with bulkheads enabled they use the read pool
+            LaneContext.bind(Lane.READ);
+            task.run();
+        }));
+        snapshotLoader.addInvalidationListener(this::changed);
+        executor.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream: sends the requested snapshots whose ETag differs from the client's, then every change.
+     * Must be called from the gRPC handler, before it returns.
+     *
+     * @param requests The snapshots to watch; their ids must be valid
+     * @param observer The stream
+     */
+    void watch(List<GetSnapshotRequest> requests, ServerCallStreamObserver<SnapshotResponse> observer) {
+        Watch watch = new Watch(observer);
+        for (GetSnapshotRequest request : requests) {
+            watch.subscribe(SnapshotReader.key(request.getId()), request.getIfNoneMatch());
+        }
+        observer.setOnReadyHandler(watch::drain);
+        observer.setOnCancelHandler(() -> unregister(watch));
+        streams.add(watch);
+        for (SnapshotKey key : watch.keys) {
+            watches.compute(key, (k, watching) -> {
+                Set<Watch> set = watching == null ? ConcurrentHashMap.newKeySet() : watching;
+                set.add(watch);
+                return set;
+            });
+        }
+        executor.execute(() -> watch.keys.forEach(key -> refresh(key, Set.of(watch))));
+    }
+
+    /**
+     * @return The number of open streams
+     */
+    public int streams() {
+        return streams.size();
+    }
+
+    /**
+     * @return The number of snapshots sent on streams
+     */
+    public long updates() {
+        return updates.sum();
+    }
+
+    /**
+     * Completes every stream, so clients reconnect, and stops refreshing.
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+        streams.forEach(Watch::complete);
+        streams.clear();
+        watches.clear();
+    }
+
+    private void changed(SnapshotKey key) {
+        if (!watches.containsKey(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> refresh(key));
+        } catch (RejectedExecutionException e) {
+            log.debug("Not refreshing {} after shutdown", key);
+        }
+    }
+
+    private void poll() {
+        watches.keySet().forEach(this::refresh);
+    }
+
+    private void refresh(SnapshotKey key) {
+        Set<Watch> watching = watches.get(key);
+        if (watching != null) {
+            refresh(key, watching);
+        }
+    }
+
+    private void refresh(SnapshotKey key, Set<Watch> targets) {
+        SnapshotResponse response;
+        try {
+            response = snapshotReader.read(GetSnapshotRequest.newBuilder().setId(SnapshotReader.id(key)).build());
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh watched snapshot {}: {}", key, e.getMessage());
+            return;
+        }
+        targets.forEach(watch -> watch.offer(key, response));
+    }
+
+    private void unregister(Watch watch) {
+        watch.cancel();
+        streams.remove(watch);
+        for (SnapshotKey key : watch.keys) {
+            watches.computeIfPresent(key, (k, watching) -> {
+                watching.remove(watch);
+                return watching.isEmpty() ? null : watching;
+            });
+        }
+    }
+
+    private final class Watch {
+
+        private final ServerCallStreamObserver<SnapshotResponse> observer;
+        private final Set<SnapshotKey> keys = new LinkedHashSet<>();
+        private final Map<SnapshotKey, String> sentEtags = new HashMap<>();
+        private final Map<SnapshotKey, SnapshotResponse> pending = new LinkedHashMap<>();
+        private boolean closed;
+
+        private Watch(ServerCallStreamObserver<SnapshotResponse> observer) {
+            this.observer = observer;
+        }
+
+        private synchronized void subscribe(SnapshotKey key, String etag) {
+            keys.add(key);
+            sentEtags.put(key, etag);
+        }
+
+        private synchronized void offer(SnapshotKey key, SnapshotResponse response) {
+            if (closed) {
+                return;
+            }
+            if (response.getEtag().equals(sentEtags.get(key))) {
+                pending.remove(key);
+                return;
+            }
+            pending.put(key, response);
+            drain();
+        }
+
+        private synchronized void drain() {
+            Iterator<Map.Entry<SnapshotKey, SnapshotResponse>> next = pending.entrySet().iterator();
+            while (!closed && next.hasNext() && observer.isReady()) {
+                Map.Entry<SnapshotKey, SnapshotResponse> entry = next.next();
+                next.remove();
+                try {
+                    observer.onNext(entry.getValue());
+                } catch (StatusRuntimeException | IllegalStateException e) {
+                    closed = true;
+                    return;
+                }
+                sentEtags.put(entry.getKey(), entry.getValue().getEtag());
+                updates.increment();
+            }
+        }
+
+        private synchronized void complete() {
+            if (!closed) {
+                closed = true;
+                try {
+                    observer.onCompleted();
+                } catch (StatusRuntimeException | IllegalStateException e) {
+                    log.debug("Watch stream already closed: {}", e.getMessage());
+                }
+            }
+        }
+
+        private synchronized void cancel() {
+            closed = true;
+            pending.clear();
+        }
+    }
+}
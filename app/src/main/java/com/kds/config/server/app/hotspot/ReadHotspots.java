@@ -0,0 +1,97 @@
+package com.kds.config.server.app.hotspot;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tracks which snapshots and keys are read most, to find what to keep cached and which clients poll hardest.
+ * <p>
+ * Every snapshot read (REST, configuration files and gRPC) counts its {@code application/profile[/label]},
+ * and every key lookup its {@code application/profile/label/key}, in a {@link SlidingTopK} of
+ * {@code config.hotspots.buckets} buckets of {@code config.hotspots.bucket}. Lookups of keys that do not
+ * exist count too. The {@code hotspots} actuator endpoint reports the top {@code config.hotspots.top-k} of
+ * each over {@code config.hotspots.windows}.
+ * <p>
+ * Enabled unless {@code config.hotspots.enabled} is {@code false}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class ReadHotspots {
+
+    private final boolean enabled;
+    private final List<Duration> windows;
+    private final int topK;
+    private final SlidingTopK snapshots;
+    private final SlidingTopK keys;
+
+    public ReadHotspots(@Value("${config.hotspots.enabled:true}") boolean enabled,
+                        @Value("${config.hotspots.windows:1m,5m,15m}") List<Duration> windows,
+                        @Value("${config.hotspots.top-k:10}") int topK,
+                        @Value("${config.hotspots.bucket:15s}") Duration bucket,
+                        @Value("${config.hotspots.buckets:60}") int buckets,
+                        @Value("${config.hotspots.width:1024}") int width,
+                        @Value("${config.hotspots.depth:4}") int depth,
+                        @Value("${config.hotspots.candidates:64}") int candidates) {
+        this.enabled = enabled;
+        this.windows = List.copyOf(windows);
+        this.topK = topK;
+        this.snapshots = new SlidingTopK(bucket, buckets, width, depth, candidates, System::currentTimeMillis);
+        this.keys = new SlidingTopK(bucket, buckets, width, depth, candidates, System::currentTimeMillis);
+    }
+
+    /**
+     * Counts a snapshot read.
+     *
+     * @param label Label name, or {@code null} for all labels of the profile
+     */
+    public void recordSnapshot(String application, String profile, String label) {
+        if (enabled) {
+            snapshots.add(label == null
+                    ? application + "/" + profile
+                    : application + "/" + profile + "/" + label);
+        }
+    }
+
+    /**
+     * Counts key lookups.
+     */
+    public void recordKeys(String application, String profile, String label, List<String> propKeys) {
+        if (enabled) {
+            String snapshot = application + "/" + profile + "/" + label + "/";
+            propKeys.forEach(propKey -> keys.add(snapshot + propKey));
+        }
+    }
+
+    /**
+     * @return The snapshots and keys read most over each configured window, by window
+     */
+    public Map<String, Window> report() {
+        Map<String, Window> report = new LinkedHashMap<>();
+        for (Duration window : windows) {
+            report.put(format(window), new Window(snapshots.top(window, topK), keys.top(window, topK)));
+        }
+        return report;
+    }
+
+    private static String format(Duration window) {
+        return window.toString().substring(2).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The reads of one window.
+     *
+     * @param snapshots Snapshot reads, and the snapshots read most
+     * @param keys Key lookups, and the keys looked up most
+     */
+    public record Window(SlidingTopK.Top snapshots, SlidingTopK.Top keys) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.kds.config.server.app.hotspot;
+
+import com.kds.config.server.core.hash.KeyHash;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * The items seen most over sliding time windows.
+ * <p>
+ * Time is cut into buckets of {@code bucket}, each counted by its own {@link TopKSketch} in a ring of
+ * {@code buckets} slots; a slot is replaced by a fresh sketch, with one compare-and-set, when its bucket has
+ * passed. A window is answered by merging the sketches of the buckets it spans, the current one included,
+ * so windows are exact to within one bucket. Memory is fixed by the ring size, the sketch width and depth
+ * and the candidates per bucket, however many distinct items are seen.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlidingTopK {
+
+    private final long bucketMillis;
+    private final int width;
+    private final int depth;
+    private final int capacity;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<TopKSketch> ring;
+
+    /**
+     * @param bucket Time covered by one sketch
+     * @param buckets Sketches kept, which bounds the longest window to {@code bucket * buckets}
+     * @param width Counters per sketch row
+     * @param depth Sketch rows
+     * @param capacity Candidates kept per bucket
+     * @param clock Current time in milliseconds
+     */
+    public SlidingTopK(Duration bucket, int buckets, int width, int depth, int capacity, LongSupplier clock) {
+        if (bucket.toMillis() < 1 || buckets < 1 || width < 1 || depth < 1 || capacity < 1) {
+            throw new IllegalArgumentException("Sketch dimensions must be positive");
+        }
+        this.bucketMillis = bucket.toMillis();
+        this.width = width;
+        this.depth = depth;
+        this.capacity = capacity;
+        this.clock = clock;
+        this.ring = new AtomicReferenceArray<>(buckets);
+    }
+
+    /**
+     * Counts one occurrence of an item in the current bucket.
+     */
+    public void add(String item) {
+        bucket(clock.getAsLong() / bucketMillis).add(item, KeyHash.of(item));
+    }
+
+    /**
+     * @param window How far back to count, at most {@code bucket * buckets}
+     * @param limit The number of items to return
+     * @return The items seen most during the window, most seen first
+     */
+    public Top top(Duration window, int limit) {
+        long epoch = clock.getAsLong() / bucketMillis;
+        long spanned = Math.min(ring.length(), Math.max(1, (window.toMillis() + bucketMillis - 1) / bucketMillis));
+        List<TopKSketch> sketches = new ArrayList<>();
+        for (int i = 0; i < ring.length(); i++) {
+            TopKSketch sketch = ring.get(i);
+            if (sketch != null && sketch.epoch() <= epoch && sketch.epoch() > epoch - spanned) {
+                sketches.add(sketch);
+            }
+        }
+        long total = 0;
+        Set<String> candidates = new HashSet<>();
+        for (TopKSketch sketch : sketches) {
+            total += sketch.total();
+            candidates.addAll(sketch.candidates());
+        }
+        List<Count> counts = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            long hash = KeyHash.of(candidate);
+            long count = 0;
+            for (TopKSketch sketch : sketches) {
+                count += sketch.estimate(hash);
+            }
+            counts.add(new Count(candidate, count));
+        }
+        counts.sort(Comparator.comparingLong(Count::count).reversed().thenComparing(Count::item));
+        return new Top(total, List.copyOf(counts.subList(0, Math.min(limit, counts.size()))));
+    }
+
+    private TopKSketch bucket(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) ring.length());
+        while (true) {
+            TopKSketch current = ring.get(slot);
+            if (current != null && current.epoch() >= epoch) {
+                return current;
+            }
+            TopKSketch fresh = new TopKSketch(epoch, width, depth, capacity);
+            if (ring.compareAndSet(slot, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    /**
+     * The items seen most during a window.
+     *
+     * @param total Occurrences of all items during the window
+     * @param items The items seen most, most seen first
+     */
+    public record Top(long total, List<Count> items) {
+    }
+
+    /**
+     * @param item The item
+     * @param count Its estimated occurrences; never less than the true number
+     */
+    public record Count(String item, long count) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.kds.config.server.app.hotspot;
+
+import com.kds.config.server.core.hash.KeyHash;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts items seen during one time bucket in fixed memory: a Count-Min sketch estimates how often any item
+ * was seen, and a set of at most {@code capacity} candidates remembers which items were seen most.
+ * <p>
+ * Counting is lock-free: one atomic increment per sketch row, plus a read of the candidate set. Only an item
+ * that is not yet a candidate and whose estimate beats the smallest candidate's takes a lock, to swap it in;
+ * once the heavy items are candidates that rarely happens. Estimates never undercount, and overcount by at
+ * most a few thousandths of the bucket's total with the default width.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class TopKSketch {
+
+    private final long epoch;
+    private final int width;
+    private final int depth;
+    private final int capacity;
+    private final AtomicLongArray counts;
+    private final LongAdder total = new LongAdder();
+    private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+    private volatile long admission;
+
+    TopKSketch(long epoch, int width, int depth, int capacity) {
+        this.epoch = epoch;
+        this.width = width;
+        this.depth = depth;
+        this.capacity = capacity;
+        this.counts = new AtomicLongArray(width * depth);
+    }
+
+    long epoch() {
+        return epoch;
+    }
+
+    /**
+     * Counts one occurrence of an item.
+     *
+     * @param item The item
+     * @param hash The item's {@link KeyHash}
+     */
+    void add(String item, long hash) {
+        total.increment();
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts.incrementAndGet(index(row, hash)));
+        }
+        if (!candidates.contains(item) && (candidates.size() < capacity || estimate > admission)) {
+            admit(item);
+        }
+    }
+
+    /**
+     * @return The estimated number of occurrences of an item, never less than the true number
+     */
+    long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts.get(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    /**
+     * @return The items seen most, at most {@code capacity} of them
+     */
+    Set<String> candidates() {
+        return candidates;
+    }
+
+    /**
+     * @return The number of occurrences of all items
+     */
+    long total() {
+        return total.sum();
+    }
+
+    /**
+     * Adds a candidate, and if there are too many drops the one with the smallest estimate. Items must then
+     * beat the smallest remaining estimate to be admitted.
+     */
+    private synchronized void admit(String item) {
+        if (!candidates.add(item) || candidates.size() <= capacity) {
+            return;
+        }
+        String smallest = null;
+        long smallestEstimate = Long.MAX_VALUE;
+        long secondEstimate = Long.MAX_VALUE;
+        for (String candidate : candidates) {
+            long estimate = estimate(KeyHash.of(candidate));
+            if (estimate < smallestEstimate) {
+                secondEstimate = smallestEstimate;
+                smallestEstimate = estimate;
+                smallest = candidate;
+            } else if (estimate < secondEstimate) {
+                secondEstimate = estimate;
+            }
+        }
+        candidates.remove(smallest);
+        admission = secondEstimate;
+    }
+
+    private int index(int row, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+}
@@ -0,0 +1,41 @@
+package com.kds.config.server.app.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a batch create or update request, including its transaction commit.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name(ConfigBatchWriteEvent.NAME)
+@Label("Config Batch Write")
+@Category("Config Server")
+@Description("Batch create or update of configurations")
+@StackTrace(false)
+public class ConfigBatchWriteEvent extends Event {
+
+    public static final String NAME = "com.kds.config.ConfigBatchWrite";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("SQL Statements")
+    long statements;
+
+    @Label("Rows")
+    @Description("Rows read or updated by the batch")
+    long rows;
+
+    @Label("Success")
+    boolean success;
+}
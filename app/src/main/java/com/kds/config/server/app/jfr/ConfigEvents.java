@@ -0,0 +1,146 @@
+package com.kds.config.server.app.jfr;
+
+import com.kds.config.server.app.metrics.ConfigMetrics;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.jdbc.StatementScope;
+import com.kds.config.server.core.jdbc.StatementTracker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Emits {@link ConfigFetchEvent} and {@link ConfigBatchWriteEvent} from the request handlers.
+ * <p>
+ * Both are used with try-with-resources around the handler body. The event is committed on close,
+ * marked unsuccessful unless the handler reported a result. When no recording has the event enabled,
+ * nothing is measured and no statement scope is opened, so the cost is a few field writes.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class ConfigEvents {
+
+    private final ObjectProvider<StatementTracker> statementTracker;
+
+    public ConfigEvents(ObjectProvider<StatementTracker> statementTracker) {
+        this.statementTracker = statementTracker;
+    }
+
+    public Fetch beginFetch(String application, String profile, String label) {
+        ConfigFetchEvent event = new ConfigFetchEvent();
+        if (!event.isEnabled()) {
+            return new Fetch(null, null);
+        }
+        event.application = application;
+        event.profile = profile;
+        event.label = label;
+        event.begin();
+        return new Fetch(event, openScope());
+    }
+
+    public BatchWrite beginBatchWrite(String operation, int itemCount) {
+        ConfigBatchWriteEvent event = new ConfigBatchWriteEvent();
+        if (!event.isEnabled()) {
+            return new BatchWrite(null, null);
+        }
+        event.operation = operation;
+        event.itemCount = itemCount;
+        event.begin();
+        return new BatchWrite(event, openScope());
+    }
+
+    private StatementScope openScope() {
+        StatementTracker tracker = statementTracker.getIfAvailable();
+        return tracker == null ? null : tracker.openScope();
+    }
+
+    /**
+     * An in-flight {@link ConfigFetchEvent}.
+     */
+    public static final class Fetch implements AutoCloseable {
+
+        private final ConfigFetchEvent event;
+        private final StatementScope scope;
+
+        private Fetch(ConfigFetchEvent event, StatementScope scope) {
+            this.event = event;
+            this.scope = scope;
+        }
+
+        /**
+         * Records the snapshot that was served and marks the fetch successful.
+         */
+        public void served(List<Config> configs) {
+            served(configs, false);
+        }
+
+        /**
+         * Records the snapshot that was served, and whether it came from cache, and marks the fetch successful.
+         */
+        public void served(List<Config> configs, boolean cacheHit) {
+            if (event != null) {
+                event.keyCount = configs.size();
+                event.bytes = ConfigMetrics.payloadBytes(configs);
+                event.cacheHit = cacheHit;
+                event.success = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (event == null) {
+                return;
+            }
+            event.end();
+            if (scope != null) {
+                scope.close();
+                event.statements = scope.getStatements();
+            }
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * An in-flight {@link ConfigBatchWriteEvent}.
+     */
+    public static final class BatchWrite implements AutoCloseable {
+
+        private final ConfigBatchWriteEvent event;
+        private final StatementScope scope;
+
+        private BatchWrite(ConfigBatchWriteEvent event, StatementScope scope) {
+            this.event = event;
+            this.scope = scope;
+        }
+
+        /**
+         * Marks the batch as committed successfully.
+         */
+        public void committed() {
+            if (event != null) {
+                event.success = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (event == null) {
+                return;
+            }
+            event.end();
+            if (scope != null) {
+                scope.close();
+                event.statements = scope.getStatements();
+                event.rows = scope.getRows();
+            }
+            if (event.shouldCommit()) {
+                event.commit();
+            }
+        }
+    }
+}
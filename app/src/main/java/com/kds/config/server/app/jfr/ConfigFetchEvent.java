@@ -0,0 +1,53 @@
+package com.kds.config.server.app.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a configuration snapshot served to a client.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Name(ConfigFetchEvent.NAME)
+@Label("Config Fetch")
+@Category("Config Server")
+@Description("Configuration snapshot served to a client")
+@StackTrace(false)
+public class ConfigFetchEvent extends Event {
+
+    public static final String NAME = "com.kds.config.ConfigFetch";
+
+    @Label("Application")
+    String application;
+
+    @Label("Profile")
+    String profile;
+
+    @Label("Label")
+    String label;
+
+    @Label("Key Count")
+    int keyCount;
+
+    @Label("Payload")
+    @Description("Approximate size of the keys and values served")
+    @DataAmount
+    long bytes;
+
+    @Label("Cache Hit")
+    @Description("Whether the rendered file was served from cache; snapshot reads in JSON are not cached")
+    boolean cacheHit;
+
+    @Label("SQL Statements")
+    long statements;
+
+    @Label("Success")
+    boolean success;
+}
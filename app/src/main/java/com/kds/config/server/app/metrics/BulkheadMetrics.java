@@ -0,0 +1,102 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.app.bulkhead.Bulkhead;
+import com.kds.config.server.app.bulkhead.Bulkheads;
+import com.kds.config.server.core.bulkhead.Lane;
+import com.kds.config.server.core.bulkhead.LaneDataSources;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.ToIntFunction;
+
+/**
+ * Publishes the saturation of each lane, tagged with {@code lane} ({@code read}, {@code write} or
+ * {@code batch}).
+ * <ul>
+ *     <li>{@code config.bulkhead.active}: requests running</li>
+ *     <li>{@code config.bulkhead.queued}: requests waiting for a slot</li>
+ *     <li>{@code config.bulkhead.saturation}: share of slots in use</li>
+ *     <li>{@code config.bulkhead.admitted} / {@code config.bulkhead.rejected}: requests let through / answered
+ *     with {@code 503}</li>
+ *     <li>{@code config.bulkhead.pool.active} / {@code config.bulkhead.pool.pending}: connections of the lane's
+ *     pool in use / threads waiting for one, when each lane has its own pool</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.bulkhead.enabled", havingValue = "true")
+public class BulkheadMetrics implements MeterBinder {
+
+    private final Bulkheads bulkheads;
+    private final LaneDataSources laneDataSources;
+
+    public BulkheadMetrics(Bulkheads bulkheads, ObjectProvider<LaneDataSources> laneDataSources) {
+        this.bulkheads = bulkheads;
+        this.laneDataSources = laneDataSources.getIfAvailable();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Lane lane : Lane.values()) {
+            String tag = lane.name().toLowerCase(Locale.ROOT);
+            Bulkhead bulkhead = bulkheads.of(lane);
+            Gauge.builder("config.bulkhead.active", bulkhead, Bulkhead::active)
+                    .description("Requests running in the lane")
+                    .baseUnit("requests")
+                    .tag("lane", tag)
+                    .register(registry);
+            Gauge.builder("config.bulkhead.queued", bulkhead, Bulkhead::queued)
+                    .description("Requests waiting for a slot in the lane")
+                    .baseUnit("requests")
+                    .tag("lane", tag)
+                    .register(registry);
+            Gauge.builder("config.bulkhead.saturation", bulkhead, Bulkhead::saturation)
+                    .description("Share of the lane's slots in use")
+                    .tag("lane", tag)
+                    .register(registry);
+            FunctionCounter.builder("config.bulkhead.admitted", bulkhead, Bulkhead::admitted)
+                    .description("Requests let into the lane")
+                    .baseUnit("requests")
+                    .tag("lane", tag)
+                    .register(registry);
+            FunctionCounter.builder("config.bulkhead.rejected", bulkhead, Bulkhead::rejected)
+                    .description("Requests rejected because the lane was saturated")
+                    .baseUnit("requests")
+                    .tag("lane", tag)
+                    .register(registry);
+            if (laneDataSources != null) {
+                HikariDataSource pool = laneDataSources.get(lane);
+                poolGauge(registry, "config.bulkhead.pool.active", "Connections of the lane's pool in use",
+                        tag, pool, HikariPoolMXBean::getActiveConnections);
+                poolGauge(registry, "config.bulkhead.pool.pending", "Threads waiting for a connection of the lane's pool",
+                        tag, pool, HikariPoolMXBean::getThreadsAwaitingConnection);
+            }
+        }
+    }
+
+    /**
+     * Reads a pool statistic, which is {@code 0} until the pool connects on first use.
+     */
+    private static void poolGauge(MeterRegistry registry, String name, String description, String lane,
+                                  HikariDataSource pool, ToIntFunction<HikariPoolMXBean> statistic) {
+        Gauge.builder(name, pool, dataSource -> {
+                    HikariPoolMXBean bean = dataSource.getHikariPoolMXBean();
+                    return bean == null ? 0 : statistic.applyAsInt(bean);
+                })
+                .description(description)
+                .baseUnit("connections")
+                .tag("lane", lane)
+                .register(registry);
+    }
+}
@@ -0,0 +1,124 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.core.entity.Config;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Application-level metrics for the configuration read and write paths.
+ * <p>
+ * Endpoint timers ({@code http.server.requests}), repository timers
+ * ({@code spring.data.repository.invocations}) and service timers ({@code config.service})
+ * are recorded by Spring Boot and {@code ConfigObservationAspect}; this component records what those cannot
+ * see: snapshot sizes per application and batch sizes per operation.
+ * <p>
+ * The {@code application} tag is bounded: the first {@code config.metrics.max-application-tags}
+ * distinct applications are tagged by name and every later one is reported as {@code other},
+ * so a client iterating over random application names cannot blow up the registry.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class ConfigMetrics {
+
+    static final String OTHER_APPLICATION = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxApplicationTags;
+    private final Set<String> taggedApplications = ConcurrentHashMap.newKeySet();
+
+    public ConfigMetrics(MeterRegistry meterRegistry,
+                         @Value("${config.metrics.max-application-tags:100}") int maxApplicationTags) {
+        this.meterRegistry = meterRegistry;
+        this.maxApplicationTags = maxApplicationTags;
+    }
+
+    /**
+     * Records the number of keys and the approximate payload size of a snapshot served to a client.
+     *
+     * @param application The application name
+     * @param configs The configurations in the snapshot
+     */
+    public void recordSnapshot(String application, List<Config> configs) {
+        long payloadBytes = payloadBytes(configs);
+        Tags tags = Tags.of("application", applicationTag(application));
+
+        DistributionSummary.builder("config.snapshot.keys")
+                .description("Number of keys in snapshots served to clients")
+                .baseUnit("keys")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(configs.size());
+
+        DistributionSummary.builder("config.snapshot.payload")
+                .description("Approximate size of keys and values in snapshots served to clients")
+                .baseUnit("bytes")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(payloadBytes);
+    }
+
+    /**
+     * Records the number of items in a batch request.
+     *
+     * @param operation The batch operation, e.g. {@code create} or {@code update}
+     * @param size The number of items in the batch
+     */
+    public void recordBatch(String operation, int size) {
+        DistributionSummary.builder("config.batch.size")
+                .description("Number of configurations per batch request")
+                .baseUnit("items")
+                .tag("operation", operation)
+                .serviceLevelObjectives(1, 10, 25, 50, 100)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    /**
+     * Maps an application name to a tag value, keeping the number of distinct values bounded.
+     */
+    String applicationTag(String application) {
+        if (application == null || application.isEmpty()) {
+            return OTHER_APPLICATION;
+        }
+        if (taggedApplications.contains(application)) {
+            return application;
+        }
+        if (taggedApplications.size() >= maxApplicationTags) {
+            return OTHER_APPLICATION;
+        }
+        synchronized (taggedApplications) {
+            if (taggedApplications.size() < maxApplicationTags) {
+                taggedApplications.add(application);
+                return application;
+            }
+        }
+        return taggedApplications.contains(application) ? application : OTHER_APPLICATION;
+    }
+
+    /**
+     * Approximate payload size of a snapshot: the characters in its keys and values.
+     */
+    public static long payloadBytes(List<Config> configs) {
+        long payloadBytes = 0;
+        for (Config config : configs) {
+            payloadBytes += length(config.getPropKey()) + length(config.getPropValue());
+        }
+        return payloadBytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
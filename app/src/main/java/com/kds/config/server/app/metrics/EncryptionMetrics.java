@@ -0,0 +1,59 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.service.crypto.SnapshotDecryptor;
+import com.kds.config.server.service.crypto.ValueCipher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes how much cryptography {@code {cipher}} values cost.
+ * <ul>
+ *     <li>{@code config.encryption.decryptions}: values decrypted</li>
+ *     <li>{@code config.encryption.encryptions}: values encrypted on write</li>
+ *     <li>{@code config.encryption.cache.hits}: encrypted snapshot reads served without decrypting</li>
+ *     <li>{@code config.encryption.cache.misses}: encrypted snapshot reads that decrypted values</li>
+ *     <li>{@code config.encryption.cache.size}: estimated size of the cached plaintexts</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class EncryptionMetrics implements MeterBinder {
+
+    private final ValueCipher valueCipher;
+    private final SnapshotDecryptor snapshotDecryptor;
+
+    public EncryptionMetrics(ValueCipher valueCipher, SnapshotDecryptor snapshotDecryptor) {
+        this.valueCipher = valueCipher;
+        this.snapshotDecryptor = snapshotDecryptor;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("config.encryption.decryptions", valueCipher, ValueCipher::decryptions)
+                .description("Configuration values decrypted")
+                .baseUnit("values")
+                .register(registry);
+        FunctionCounter.builder("config.encryption.encryptions", valueCipher, ValueCipher::encryptions)
+                .description("Configuration values encrypted on write")
+                .baseUnit("values")
+                .register(registry);
+        FunctionCounter.builder("config.encryption.cache.hits", snapshotDecryptor, SnapshotDecryptor::hits)
+                .description("Encrypted snapshot reads served from the decryption cache")
+                .baseUnit("reads")
+                .register(registry);
+        FunctionCounter.builder("config.encryption.cache.misses", snapshotDecryptor, SnapshotDecryptor::misses)
+                .description("Encrypted snapshot reads that decrypted values")
+                .baseUnit("reads")
+                .register(registry);
+        Gauge.builder("config.encryption.cache.size", snapshotDecryptor, SnapshotDecryptor::bytes)
+                .description("Estimated size of the decryption cache")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.service.write.GroupCommitWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of the group-commit write queue. Writes per group is
+ * {@code config.write.group-commit.writes} over {@code config.write.group-commit.groups}.
+ * <ul>
+ *     <li>{@code config.write.group-commit.queued}: writes waiting to be committed</li>
+ *     <li>{@code config.write.group-commit.writes}: writes committed or refused</li>
+ *     <li>{@code config.write.group-commit.groups}: transactions they were committed in</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.write.group-commit.enabled", havingValue = "true")
+public class GroupCommitMetrics implements MeterBinder {
+
+    private final GroupCommitWriter groupCommitWriter;
+
+    public GroupCommitMetrics(GroupCommitWriter groupCommitWriter) {
+        this.groupCommitWriter = groupCommitWriter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("config.write.group-commit.queued", groupCommitWriter, GroupCommitWriter::queued)
+                .description("Writes waiting for a group commit")
+                .baseUnit("writes")
+                .register(registry);
+        FunctionCounter.builder("config.write.group-commit.writes", groupCommitWriter, GroupCommitWriter::writes)
+                .description("Writes committed or refused by group commits")
+                .baseUnit("writes")
+                .register(registry);
+        FunctionCounter.builder("config.write.group-commit.groups", groupCommitWriter, GroupCommitWriter::groups)
+                .description("Transactions of group commits")
+                .baseUnit("transactions")
+                .register(registry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of the change history writer.
+ * <ul>
+ *     <li>{@code config.history.queued}: changes waiting to be written</li>
+ *     <li>{@code config.history.recorded}: changes written to {@code config_history}</li>
+ *     <li>{@code config.history.dropped}: changes lost to a full queue or a failed batch</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.history.enabled", havingValue = "true", matchIfMissing = true)
+public class HistoryMetrics implements MeterBinder {
+
+    private final ConfigHistoryRecorder configHistoryRecorder;
+
+    public HistoryMetrics(ConfigHistoryRecorder configHistoryRecorder) {
+        this.configHistoryRecorder = configHistoryRecorder;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("config.history.queued", configHistoryRecorder, ConfigHistoryRecorder::queued)
+                .description("Configuration changes waiting to be written to the history")
+                .baseUnit("changes")
+                .register(registry);
+        FunctionCounter.builder("config.history.recorded", configHistoryRecorder, ConfigHistoryRecorder::recorded)
+                .description("Configuration changes written to the history")
+                .baseUnit("changes")
+                .register(registry);
+        FunctionCounter.builder("config.history.dropped", configHistoryRecorder, ConfigHistoryRecorder::dropped)
+                .description("Configuration changes not written to the history")
+                .baseUnit("changes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.service.snapshot.MissingKeyFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes how many key lookups the missing key filters answer without the database.
+ * <ul>
+ *     <li>{@code config.missing-keys.absent}: lookups answered absent without a query</li>
+ *     <li>{@code config.missing-keys.builds}: filters built</li>
+ *     <li>{@code config.missing-keys.filters}: filters kept</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.missing-keys.enabled", havingValue = "true", matchIfMissing = true)
+public class MissingKeyMetrics implements MeterBinder {
+
+    private final MissingKeyFilter missingKeyFilter;
+
+    public MissingKeyMetrics(MissingKeyFilter missingKeyFilter) {
+        this.missingKeyFilter = missingKeyFilter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("config.missing-keys.absent", missingKeyFilter, MissingKeyFilter::absent)
+                .description("Key lookups answered absent without querying the database")
+                .baseUnit("lookups")
+                .register(registry);
+        FunctionCounter.builder("config.missing-keys.builds", missingKeyFilter, MissingKeyFilter::builds)
+                .description("Missing key filters built")
+                .baseUnit("filters")
+                .register(registry);
+        Gauge.builder("config.missing-keys.filters", missingKeyFilter, MissingKeyFilter::filters)
+                .description("Missing key filters kept")
+                .baseUnit("filters")
+                .register(registry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.service.placeholder.PlaceholderResolver;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes how much placeholder resolution snapshot reads do.
+ * <ul>
+ *     <li>{@code config.placeholders.resolutions}: values resolved</li>
+ *     <li>{@code config.placeholders.hits}: snapshot reads with placeholders served without resolving</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class PlaceholderMetrics implements MeterBinder {
+
+    private final PlaceholderResolver placeholderResolver;
+
+    public PlaceholderMetrics(PlaceholderResolver placeholderResolver) {
+        this.placeholderResolver = placeholderResolver;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("config.placeholders.resolutions", placeholderResolver, PlaceholderResolver::resolutions)
+                .description("Configuration values with placeholders resolved")
+                .baseUnit("values")
+                .register(registry);
+        FunctionCounter.builder("config.placeholders.hits", placeholderResolver, PlaceholderResolver::hits)
+                .description("Snapshot reads with placeholders served from resolved values")
+                .baseUnit("reads")
+                .register(registry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.app.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Publishes the decisions of the per-application rate limit, tagged with {@code lane} ({@code read} or
+ * {@code write}).
+ * <ul>
+ *     <li>{@code config.rate-limit.allowed}: requests within their application's budget</li>
+ *     <li>{@code config.rate-limit.rejected}: requests answered with {@code 429}</li>
+ *     <li>{@code config.rate-limit.buckets}: token buckets in use</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.rate-limit.enabled", havingValue = "true")
+public class RateLimitMetrics implements MeterBinder {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitMetrics(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RateLimiter.Lane lane : RateLimiter.Lane.values()) {
+            String tag = lane.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("config.rate-limit.allowed", rateLimiter, limiter -> limiter.allowed(lane))
+                    .description("Requests within their application's rate limit")
+                    .baseUnit("requests")
+                    .tag("lane", tag)
+                    .register(registry);
+            FunctionCounter.builder("config.rate-limit.rejected", rateLimiter, limiter -> limiter.rejected(lane))
+                    .description("Requests rejected by the rate limit")
+                    .baseUnit("requests")
+                    .tag("lane", tag)
+                    .register(registry);
+        }
+        Gauge.builder("config.rate-limit.buckets", rateLimiter, RateLimiter::buckets)
+                .description("Rate limit token buckets in use")
+                .baseUnit("buckets")
+                .register(registry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.app.render.RenderedSnapshotCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes how often configuration files are rendered.
+ * <ul>
+ *     <li>{@code config.render.renders}: snapshots rendered to a file</li>
+ *     <li>{@code config.render.hits}: file reads served from a cached rendering</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class RenderMetrics implements MeterBinder {
+
+    private final RenderedSnapshotCache renderedSnapshotCache;
+
+    public RenderMetrics(RenderedSnapshotCache renderedSnapshotCache) {
+        this.renderedSnapshotCache = renderedSnapshotCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("config.render.renders", renderedSnapshotCache, RenderedSnapshotCache::renders)
+                .description("Snapshots rendered as configuration files")
+                .baseUnit("renders")
+                .register(registry);
+        FunctionCounter.builder("config.render.hits", renderedSnapshotCache, RenderedSnapshotCache::hits)
+                .description("Configuration file reads served from a cached rendering")
+                .baseUnit("reads")
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.service.snapshot.LastKnownGoodStore;
+import com.kds.config.server.service.snapshot.SnapshotLoader;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes how snapshot reads reach the database.
+ * <ul>
+ *     <li>{@code config.snapshot.loads}: snapshot reads that queried the database</li>
+ *     <li>{@code config.snapshot.coalesced}: snapshot reads served by a concurrent load, i.e. queries saved</li>
+ *     <li>{@code config.snapshot.stale}: snapshot reads served from the last known good snapshot because the
+ *     database failed</li>
+ *     <li>{@code config.snapshot.revisions}: snapshots whose revision is kept</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class SnapshotLoaderMetrics implements MeterBinder {
+
+    private final SnapshotLoader snapshotLoader;
+    private final LastKnownGoodStore lastKnownGoodStore;
+
+    public SnapshotLoaderMetrics(SnapshotLoader snapshotLoader, LastKnownGoodStore lastKnownGoodStore) {
+        this.snapshotLoader = snapshotLoader;
+        this.lastKnownGoodStore = lastKnownGoodStore;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("config.snapshot.loads", snapshotLoader, SnapshotLoader::loads)
+                .description("Snapshot reads that queried the database")
+                .baseUnit("queries")
+                .register(registry);
+        FunctionCounter.builder("config.snapshot.coalesced", snapshotLoader, SnapshotLoader::coalesced)
+                .description("Snapshot reads served by a concurrent load of the same snapshot")
+                .baseUnit("queries")
+                .register(registry);
+        FunctionCounter.builder("config.snapshot.stale", lastKnownGoodStore, LastKnownGoodStore::staleServed)
+                .description("Snapshot reads served from the last known good snapshot because the database failed")
+                .baseUnit("reads")
+                .register(registry);
+        FunctionCounter.builder("config.snapshot.last-known-good.skipped", lastKnownGoodStore,
+                        LastKnownGoodStore::skipped)
+                .description("Snapshot reads not kept as last known good because the store was full")
+                .baseUnit("reads")
+                .register(registry);
+        Gauge.builder("config.snapshot.revisions", snapshotLoader, SnapshotLoader::tracked)
+                .description("Snapshots whose revision is kept")
+                .register(registry);
+    }
+}
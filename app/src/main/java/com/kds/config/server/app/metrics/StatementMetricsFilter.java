@@ -0,0 +1,75 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.core.jdbc.StatementScope;
+import com.kds.config.server.core.jdbc.StatementTracker;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements and rows each HTTP request causes.
+ * <p>
+ * Per-request counts are published as the {@code config.db.statements} and {@code config.db.rows}
+ * distributions, tagged with the matched URI pattern, and added to the per-request totals of the
+ * {@code sqlstats} actuator endpoint.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.jdbc.statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final StatementTracker statementTracker;
+    private final MeterRegistry meterRegistry;
+
+    public StatementMetricsFilter(StatementTracker statementTracker, MeterRegistry meterRegistry) {
+        this.statementTracker = statementTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementScope scope = statementTracker.openScope();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            record(request, scope);
+        }
+    }
+
+    private void record(HttpServletRequest request, StatementScope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNMAPPED : pattern.toString();
+        statementTracker.recordRequest(request.getMethod() + " " + uri, scope);
+
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+        DistributionSummary.builder("config.db.statements")
+                .description("SQL statements executed per HTTP request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(scope.getStatements());
+        DistributionSummary.builder("config.db.rows")
+                .description("Rows read or updated per HTTP request")
+                .baseUnit("rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(scope.getRows());
+    }
+}
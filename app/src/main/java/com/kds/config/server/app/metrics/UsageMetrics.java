@@ -0,0 +1,48 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.service.usage.ConfigUsageRecorder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of the read usage counters.
+ * <ul>
+ *     <li>{@code config.usage.pending}: snapshots and keys read since the last flush</li>
+ *     <li>{@code config.usage.flushed}: rows added to {@code config_usage}</li>
+ *     <li>{@code config.usage.dropped}: reads lost to the key limit or a failed batch</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.usage.enabled", havingValue = "true", matchIfMissing = true)
+public class UsageMetrics implements MeterBinder {
+
+    private final ConfigUsageRecorder configUsageRecorder;
+
+    public UsageMetrics(ConfigUsageRecorder configUsageRecorder) {
+        this.configUsageRecorder = configUsageRecorder;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("config.usage.pending", configUsageRecorder, ConfigUsageRecorder::pending)
+                .description("Snapshots and keys read since read counts were last written")
+                .baseUnit("keys")
+                .register(registry);
+        FunctionCounter.builder("config.usage.flushed", configUsageRecorder, ConfigUsageRecorder::flushed)
+                .description("Read counts written to the usage table")
+                .baseUnit("rows")
+                .register(registry);
+        FunctionCounter.builder("config.usage.dropped", configUsageRecorder, ConfigUsageRecorder::dropped)
+                .description("Reads not counted in the usage table")
+                .baseUnit("reads")
+                .register(registry);
+    }
+}
@@ -0,0 +1,43 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.app.grpc.SnapshotWatches;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes the state of gRPC {@code Watch} streams. Call counts and latencies are in {@code grpc.server.*}.
+ * <ul>
+ *     <li>{@code config.grpc.watch.streams}: open streams</li>
+ *     <li>{@code config.grpc.watch.updates}: snapshots sent on streams</li>
+ * </ul>
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class WatchMetrics implements MeterBinder {
+
+    private final SnapshotWatches snapshotWatches;
+
+    public WatchMetrics(SnapshotWatches snapshotWatches) {
+        this.snapshotWatches = snapshotWatches;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("config.grpc.watch.streams", snapshotWatches, SnapshotWatches::streams)
+                .description("Open gRPC Watch streams")
+                .baseUnit("streams")
+                .register(registry);
+        FunctionCounter.builder("config.grpc.watch.updates", snapshotWatches, SnapshotWatches::updates)
+                .description("Snapshots sent on gRPC Watch streams")
+                .baseUnit("snapshots")
+                .register(registry);
+    }
+}
@@ -0,0 +1,104 @@
+package com.kds.config.server.app.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kds.config.server.app.controller.ConfigController;
+import com.kds.config.server.app.controller.ConfigFileController;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Charges every request to {@link ConfigController} and {@link ConfigFileController} to its application's
+ * budget, and answers {@code 429 Too Many Requests} with a {@code Retry-After} once it is spent.
+ * <p>
+ * Reads, including the batch snapshot read, are charged to the {@link RateLimiter.Lane#READ} budget and
+ * everything else to {@link RateLimiter.Lane#WRITE}. The application is taken from the path or the
+ * {@code application} parameter; requests that name none in either, such as the batch endpoints, are
+ * charged to the client id in {@code config.rate-limit.client-id-header}, or failing that to the remote
+ * address. The async dispatch that completes a streamed response is not charged again.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.rate-limit.enabled", havingValue = "true")
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String APPLICATION = "application";
+    private static final String BATCH_READ_PATTERN = "/api/v1/configs/snapshots";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final String clientIdHeader;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, ObjectMapper objectMapper,
+                                @Value("${config.rate-limit.client-id-header:X-Client-Id}") String clientIdHeader) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.clientIdHeader = clientIdHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (request.getDispatcherType() == DispatcherType.ASYNC
+                || !(handler instanceof HandlerMethod method) || !isLimited(method.getBeanType())) {
+            return true;
+        }
+        String clientId = request.getHeader(clientIdHeader);
+        String application = application(request);
+        if (application == null) {
+            application = clientId != null ? clientId : request.getRemoteAddr();
+        }
+        long waitNanos = rateLimiter.tryAcquire(lane(request), application, clientId);
+        if (waitNanos == 0) {
+            return true;
+        }
+        log.debug("Rate limited {} {} for {}", request.getMethod(), request.getRequestURI(), application);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(
+                Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ConfigController.ErrorResponse(
+                "TOO_MANY_REQUESTS", "Rate limit exceeded for " + application));
+        return false;
+    }
+
+    private static boolean isLimited(Class<?> beanType) {
+        return beanType == ConfigController.class || beanType == ConfigFileController.class;
+    }
+
+    private static RateLimiter.Lane lane(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())
+                || BATCH_READ_PATTERN.equals(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+                ? RateLimiter.Lane.READ
+                : RateLimiter.Lane.WRITE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String application(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String application = variables == null ? null : variables.get(APPLICATION);
+        if (application == null) {
+            application = request.getParameter(APPLICATION);
+        }
+        return application == null || application.isBlank() ? null : application;
+    }
+}
@@ -0,0 +1,158 @@
+package com.kds.config.server.app.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-application request budgets.
+ * <p>
+ * Each application gets a {@link TokenBucket} per {@link Lane}, refilled at
+ * {@code config.rate-limit.<lane>.requests-per-second} and holding {@code config.rate-limit.<lane>.burst}
+ * requests, so one application polling in a hot loop spends its own budget rather than everyone's database
+ * connections. With {@code config.rate-limit.per-client} the buckets are kept per application and client
+ * instead. Buckets are created on first use, up to {@code config.rate-limit.max-buckets}. Past that, buckets
+ * that have refilled completely are dropped, at most once a second, since a new bucket starts full anyway;
+ * if none have, a new client shares its application's bucket and a new application one overflow bucket
+ * per lane. Made up application names or client ids therefore cannot grow the number of buckets beyond
+ * {@code max-buckets}, though they can spend the overflow budget.
+ * <p>
+ * Disabled unless {@code config.rate-limit.enabled} is set.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.rate-limit.enabled", havingValue = "true")
+public class RateLimiter {
+
+    /**
+     * The budgets a request can be charged to.
+     */
+    public enum Lane {
+        READ, WRITE
+    }
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Budget read;
+    private final Budget write;
+    private final boolean perClient;
+    private final int maxBuckets;
+    private final LongSupplier nanoClock;
+    private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep;
+
+    @Autowired
+    public RateLimiter(@Value("${config.rate-limit.read.requests-per-second:100}") double readRate,
+                       @Value("${config.rate-limit.read.burst:200}") int readBurst,
+                       @Value("${config.rate-limit.write.requests-per-second:10}") double writeRate,
+                       @Value("${config.rate-limit.write.burst:20}") int writeBurst,
+                       @Value("${config.rate-limit.per-client:false}") boolean perClient,
+                       @Value("${config.rate-limit.max-buckets:10000}") int maxBuckets) {
+        this(readRate, readBurst, writeRate, writeBurst, perClient, maxBuckets, System::nanoTime);
+    }
+
+    RateLimiter(double readRate, int readBurst, double writeRate, int writeBurst, boolean perClient, int maxBuckets,
+                LongSupplier nanoClock) {
+        this.read = new Budget(readRate, readBurst);
+        this.write = new Budget(writeRate, writeBurst);
+        this.perClient = perClient;
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+        this.lastSweep = new AtomicLong(nanoClock.getAsLong() - SWEEP_INTERVAL_NANOS);
+    }
+
+    /**
+     * Charges a request to its application's budget.
+     *
+     * @param lane The budget to charge
+     * @param application The application the request is for
+     * @param clientId The calling client, or {@code null}; ignored unless limiting per client
+     * @return {@code 0} if the request may proceed, otherwise the nanoseconds until it would be allowed
+     */
+    public long tryAcquire(Lane lane, String application, String clientId) {
+        Budget budget = lane == Lane.READ ? read : write;
+        long now = nanoClock.getAsLong();
+        long wait = bucket(lane, application, perClient ? clientId : null, budget, now).tryAcquire(now);
+        (wait == 0 ? budget.allowed : budget.rejected).increment();
+        return wait;
+    }
+
+    /**
+     * @return The number of requests allowed in the lane
+     */
+    public long allowed(Lane lane) {
+        return (lane == Lane.READ ? read : write).allowed.sum();
+    }
+
+    /**
+     * @return The number of requests rejected in the lane
+     */
+    public long rejected(Lane lane) {
+        return (lane == Lane.READ ? read : write).rejected.sum();
+    }
+
+    /**
+     * @return The number of buckets in use, overflow buckets included
+     */
+    public int buckets() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucket(Lane lane, String application, String clientId, Budget budget, long now) {
+        BucketKey key = new BucketKey(lane, application, clientId);
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets && !sweep(now)) {
+            if (clientId != null) {
+                return bucket(lane, application, null, budget, now);
+            }
+            return buckets.computeIfAbsent(new BucketKey(lane, null, null),
+                    k -> new TokenBucket(budget.rate, budget.burst, now));
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(budget.rate, budget.burst, now));
+    }
+
+    /**
+     * Drops the buckets that have refilled completely, unless that was tried less than a second ago.
+     *
+     * @return Whether there is room for a new bucket
+     */
+    private boolean sweep(long now) {
+        long last = lastSweep.get();
+        if (now - last >= SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(last, now)) {
+            buckets.entrySet().removeIf(entry -> entry.getKey().application() != null && entry.getValue().isFull(now));
+        }
+        return buckets.size() < maxBuckets;
+    }
+
+    /**
+     * @param application The application, or {@code null} for the lane's overflow bucket
+     */
+    private record BucketKey(Lane lane, String application, String clientId) {
+    }
+
+    private static final class Budget {
+        private final double rate;
+        private final int burst;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        Budget(double rate, int burst) {
+            this.rate = rate;
+            this.burst = burst;
+        }
+    }
+}
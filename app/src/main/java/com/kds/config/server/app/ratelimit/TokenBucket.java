@@ -0,0 +1,64 @@
+package com.kds.config.server.app.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket.
+ * <p>
+ * Rather than a token count and a refill time, the bucket keeps the single instant at which it would be
+ * full again, so taking a token is one compare-and-set: the bucket holds {@code burst} tokens, refills at
+ * {@code permitsPerSecond}, and a token can be taken while that instant lies at most {@code burst} tokens'
+ * worth of refill time in the future.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    /**
+     * @param permitsPerSecond Refill rate
+     * @param burst Capacity, the number of tokens that can be taken at once
+     * @param nowNanos The current {@link System#nanoTime()}; the bucket starts full
+     */
+    public TokenBucket(double permitsPerSecond, int burst, long nowNanos) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.nanosPerToken = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.capacityNanos = nanosPerToken * burst;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @param nowNanos The current {@link System#nanoTime()}
+     * @return Whether the bucket has refilled completely, so dropping it and starting a new one changes nothing
+     */
+    public boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param nowNanos The current {@link System#nanoTime()}
+     * @return {@code 0} if a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current - nowNanos, 0) + nowNanos + nanosPerToken;
+            long wait = next - nowNanos - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
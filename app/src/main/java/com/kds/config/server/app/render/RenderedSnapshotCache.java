@@ -0,0 +1,178 @@
+package com.kds.config.server.app.render;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.snapshot.Snapshot;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Renders snapshots to files and binary encodings and keeps the rendered bytes, so a snapshot is rendered
+ * once per format until its content changes.
+ * <p>
+ * Every read still fetches the snapshot through {@code ConfigService}, which coalesces concurrent loads; the
+ * cached bytes are served when the SHA-256 digest of the rows read, over label, key and value, matches the
+ * digest of the rows they were rendered from. Hashing is cheaper than rendering and also catches writes made
+ * through other nodes, and entries keep no rows. Snapshots holding decrypted values are rendered on every read
+ * and never cached, so no plaintext secret outlives the request. Entries are evicted least recently used
+ * first once their size exceeds {@code config.render.cache.max-bytes}.
+ * <p>
+ * The ETag of a rendering is derived from its bytes, so every node serves the same ETag for the same content.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class RenderedSnapshotCache {
+
+    /**
+     * Rough overhead of an entry, its digest and its key.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final long maxBytes;
+    private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+    private long bytes;
+
+    public RenderedSnapshotCache(@Value("${config.render.cache.max-bytes:33554432}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the snapshot rendered in the format, from cache when its rows are unchanged.
+     *
+     * @param key The snapshot key
+     * @param format The format to render
+     * @param snapshot The snapshot as served
+     * @return The rendering
+     */
+    public RenderedSnapshot render(SnapshotKey key, SnapshotFormat format, Snapshot snapshot) {
+        if (snapshot.decrypted()) {
+            return render(key, format, snapshot.configs());
+        }
+        CacheKey cacheKey = new CacheKey(key, format);
+        byte[] digest = digest(snapshot.configs());
+        synchronized (this) {
+            Entry entry = entries.get(cacheKey);
+            if (entry != null && MessageDigest.isEqual(entry.digest, digest)) {
+                hits.increment();
+                return entry.cached;
+            }
+        }
+
+        RenderedSnapshot rendered = render(key, format, snapshot.configs());
+        Entry entry = new Entry(digest, rendered);
+        synchronized (this) {
+            Entry previous = entries.put(cacheKey, entry);
+            if (previous != null) {
+                bytes -= previous.bytes;
+            }
+            bytes += entry.bytes;
+            var eldest = entries.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().bytes;
+                eldest.remove();
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * @return The number of renderings served from cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of renderings produced
+     */
+    public long renders() {
+        return renders.sum();
+    }
+
+    private RenderedSnapshot render(SnapshotKey key, SnapshotFormat format, List<Config> configs) {
+        SortedMap<String, String> values = new TreeMap<>();
+        for (Config config : configs) {
+            values.put(config.getPropKey(), config.getPropValue());
+        }
+        byte[] body = SnapshotRenderer.render(key, format, values);
+        renders.increment();
+        return new RenderedSnapshot(body, etag(body), false);
+    }
+
+    /**
+     * Digests the label, key and value of every row in order; each field is followed by a separator byte
+     * that cannot occur in UTF-8, so different rows never digest the same bytes.
+     */
+    private static byte[] digest(List<Config> configs) {
+        MessageDigest sha256 = sha256();
+        for (Config config : configs) {
+            update(sha256, config.getLabel());
+            update(sha256, config.getPropKey());
+            update(sha256, config.getPropValue());
+        }
+        return sha256.digest();
+    }
+
+    private static void update(MessageDigest sha256, String field) {
+        if (field != null) {
+            sha256.update(field.getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0xFF);
+        } else {
+            sha256.update((byte) 0xFE);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        byte[] digest = sha256().digest(body);
+        return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * A snapshot rendered to a file.
+     *
+     * @param body The file content
+     * @param etag The strong ETag of the content, quoted
+     * @param cacheHit Whether the rendering was served from cache
+     */
+    public record RenderedSnapshot(byte[] body, String etag, boolean cacheHit) {
+    }
+
+    private record CacheKey(SnapshotKey key, SnapshotFormat format) {
+    }
+
+    private static final class Entry {
+
+        private final byte[] digest;
+        private final RenderedSnapshot cached;
+        private final long bytes;
+
+        private Entry(byte[] digest, RenderedSnapshot rendered) {
+            this.digest = digest;
+            this.cached = new RenderedSnapshot(rendered.body(), rendered.etag(), true);
+            this.bytes = ENTRY_OVERHEAD_BYTES + digest.length + rendered.body().length;
+        }
+    }
+}
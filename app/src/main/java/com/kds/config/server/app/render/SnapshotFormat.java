@@ -0,0 +1,96 @@
+package com.kds.config.server.app.render;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Formats a snapshot can be rendered to: files by extension, and binary encodings of the Spring Cloud Config
+ * environment served to clients that ask for them in {@code Accept}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum SnapshotFormat {
+
+    PROPERTIES(new MediaType("text", "plain", StandardCharsets.UTF_8), "properties"),
+    YAML(new MediaType("application", "yaml", StandardCharsets.UTF_8), "yml", "yaml"),
+    JSON(MediaType.APPLICATION_JSON, "json"),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile")),
+    PROTOBUF(new MediaType("application", "x-protobuf"));
+
+    private final MediaType mediaType;
+    private final String[] extensions;
+
+    SnapshotFormat(MediaType mediaType, String... extensions) {
+        this.mediaType = mediaType;
+        this.extensions = extensions;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return Whether the format encodes the environment, with its name, profiles, label and property
+     * sources, rather than a flat file of values
+     */
+    public boolean isEnvironment() {
+        return extensions.length == 0;
+    }
+
+    /**
+     * @param extension A file extension without the dot
+     * @return The format rendered for the extension, if any
+     */
+    public static Optional<SnapshotFormat> fromExtension(String extension) {
+        return Arrays.stream(values())
+                .filter(format -> Arrays.asList(format.extensions).contains(extension))
+                .findFirst();
+    }
+
+    /**
+     * Picks the binary environment encoding an {@code Accept} header prefers over JSON. Media types are
+     * ranked by quality, then by their order in the header; wildcards count as JSON.
+     *
+     * @param accept The {@code Accept} header, may be null
+     * @return The binary format to serve, or empty to serve JSON
+     */
+    public static Optional<SnapshotFormat> fromAccept(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Optional.empty();
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return Optional.empty();
+        }
+        SnapshotFormat preferred = null;
+        double preferredQuality = 0;
+        for (MediaType mediaType : mediaTypes) {
+            double quality = mediaType.getQualityValue();
+            if (quality <= preferredQuality) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                preferred = JSON;
+                preferredQuality = quality;
+                continue;
+            }
+            for (SnapshotFormat format : values()) {
+                if (format.isEnvironment() && format.mediaType.equalsTypeAndSubtype(mediaType)) {
+                    preferred = format;
+                    preferredQuality = quality;
+                }
+            }
+        }
+        return preferred == null || preferred == JSON ? Optional.empty() : Optional.of(preferred);
+    }
+}
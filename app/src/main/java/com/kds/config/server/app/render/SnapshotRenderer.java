@@ -0,0 +1,209 @@
+package com.kds.config.server.app.render;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.kds.config.server.app.proto.Environment;
+import com.kds.config.server.app.proto.PropertySource;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the flattened values of a snapshot, sorted by key, as {@code .properties}, YAML or flat JSON, or
+ * encodes them as a Spring Cloud Config environment in CBOR, Smile or Protobuf. Output is deterministic, so
+ * equal snapshots render to equal bytes.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class SnapshotRenderer {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper();
+    private static final ObjectMapper SMILE_MAPPER = new SmileMapper();
+
+    /**
+     * YAML scalars that are read back as the same string without quotes.
+     */
+    private static final Pattern PLAIN_YAML = Pattern.compile("[A-Za-z_/][A-Za-z0-9_./-]*");
+    private static final Set<String> YAML_KEYWORDS = Set.of(
+            "true", "false", "yes", "no", "on", "off", "y", "n", "null");
+
+    private SnapshotRenderer() {
+    }
+
+    static byte[] render(SnapshotKey key, SnapshotFormat format, SortedMap<String, String> values) {
+        return switch (format) {
+            case PROPERTIES -> properties(values);
+            case YAML -> yaml(values);
+            case JSON -> json(values);
+            case CBOR -> write(CBOR_MAPPER, environment(key, values));
+            case SMILE -> write(SMILE_MAPPER, environment(key, values));
+            case PROTOBUF -> protobuf(key, values);
+        };
+    }
+
+    /**
+     * Writes {@code key=value} lines escaped as {@link java.util.Properties#store} does, with every
+     * non-ASCII character as a {@code \}{@code uXXXX} escape so the file reads the same as ISO-8859-1 or UTF-8.
+     */
+    static byte[] properties(SortedMap<String, String> values) {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            escapeProperty(out, entry.getKey(), true);
+            out.append('=');
+            escapeProperty(out, entry.getValue(), false);
+            out.append('\n');
+        }
+        return out.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes nested YAML in one pass over the sorted keys. Keys sharing a dotted prefix are contiguous once
+     * sorted, so a mapping is opened when the first key below it is reached and closed when the first key
+     * outside it is. A key that is both a value and a prefix of other keys, such as {@code a} next to
+     * {@code a.b}, cannot be a mapping too; keys below it are written with their dotted remainder instead.
+     */
+    static byte[] yaml(SortedMap<String, String> values) {
+        StringBuilder out = new StringBuilder();
+        List<String> open = new ArrayList<>();
+        List<Set<String>> leaves = new ArrayList<>();
+        leaves.add(new HashSet<>());
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String key = entry.getKey();
+            while (!open.isEmpty() && !key.startsWith(open.get(open.size() - 1) + ".")) {
+                open.remove(open.size() - 1);
+                leaves.remove(leaves.size() - 1);
+            }
+            String rest = open.isEmpty() ? key : key.substring(open.get(open.size() - 1).length() + 1);
+            while (true) {
+                int dot = rest.indexOf('.');
+                if (dot <= 0 || dot == rest.length() - 1 || rest.contains("..")) {
+                    break;
+                }
+                String segment = rest.substring(0, dot);
+                if (leaves.get(open.size()).contains(segment)) {
+                    break;
+                }
+                indent(out, open.size()).append(yamlScalar(segment)).append(":\n");
+                open.add(open.isEmpty() ? segment : open.get(open.size() - 1) + "." + segment);
+                leaves.add(new HashSet<>());
+                rest = rest.substring(dot + 1);
+            }
+            indent(out, open.size()).append(yamlScalar(rest)).append(": ").append(yamlScalar(entry.getValue()))
+                    .append('\n');
+            leaves.get(open.size()).add(rest);
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] json(SortedMap<String, String> values) {
+        return write(OBJECT_MAPPER, values);
+    }
+
+    /**
+     * Builds the environment document the JSON read endpoints return, with one property source holding
+     * every value.
+     */
+    static Map<String, Object> environment(SnapshotKey key, SortedMap<String, String> values) {
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("name", sourceName(key));
+        source.put("source", values);
+
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("name", key.application());
+        environment.put("profiles", List.of(key.profile()));
+        if (key.label() != null) {
+            environment.put("label", key.label());
+        }
+        environment.put("propertySources", List.of(source));
+        return environment;
+    }
+
+    static byte[] protobuf(SnapshotKey key, SortedMap<String, String> values) {
+        Environment.Builder environment = Environment.newBuilder()
+                .setName(key.application())
+                .addProfiles(key.profile())
+                .addPropertySources(PropertySource.newBuilder()
+                        .setName(sourceName(key))
+                        .putAllSource(values));
+        if (key.label() != null) {
+            environment.setLabel(key.label());
+        }
+        return environment.build().toByteArray();
+    }
+
+    private static String sourceName(SnapshotKey key) {
+        String name = key.application() + "-" + key.profile();
+        return key.label() == null ? name : name + "-" + key.label();
+    }
+
+    private static byte[] write(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render snapshot as " + mapper.getFactory().getFormatName(), e);
+        }
+    }
+
+    private static StringBuilder indent(StringBuilder out, int depth) {
+        return out.repeat("  ", depth);
+    }
+
+    private static String yamlScalar(String value) {
+        if (PLAIN_YAML.matcher(value).matches() && !YAML_KEYWORDS.contains(value.toLowerCase())) {
+            return value;
+        }
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20 || c == 0x7f) {
+                        quoted.append(String.format("\\x%02x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static void escapeProperty(StringBuilder out, String value, boolean key) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case ' ' -> out.append(i == 0 || key ? "\\ " : " ");
+                case '\t' -> out.append("\\t");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\f' -> out.append("\\f");
+                case '\\', '=', ':', '#', '!' -> out.append('\\').append(c);
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        out.append(String.format("\\u%04X", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.kds.config.server.app.tracing;
+
+import com.kds.config.server.app.dto.request.ConfigListRequest;
+import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.app.dto.response.ConfigListResponse;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.snapshot.Snapshot;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Wraps the controller, API and service layers in Micrometer observations.
+ * <p>
+ * Each observation becomes a span when a tracer is present and a timer
+ * ({@code config.controller}, {@code config.api}, {@code config.service}) tagged with
+ * {@code class} and {@code method}. Spans carry the configuration coordinates taken from the
+ * method arguments and the number of rows returned, so a slow request can be attributed to the
+ * layer it spent its time in: the gap between the HTTP server span and the controller span is
+ * response serialization, and JDBC statement spans sit under the service span.
+ * <p>
+ * The aspect runs outside the transaction interceptor, so service spans include commit time.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConfigObservationAspect {
+
+    static final String APPLICATION = "config.application";
+    static final String PROFILE = "config.profile";
+    static final String LABEL = "config.label";
+    static final String KEY = "config.key";
+    static final String BATCH_SIZE = "config.batch.size";
+    static final String ROWS = "config.rows";
+
+    private static final Map<String, String> COORDINATE_PARAMETERS = Map.of(
+            "application", APPLICATION,
+            "profile", PROFILE,
+            "label", LABEL,
+            "key", KEY);
+
+    private final ObservationRegistry observationRegistry;
+
+    public ConfigObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * com.kds.config.server.app.controller.ConfigController.*(..))")
+    public Object observeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("config.controller", joinPoint);
+    }
+
+    @Around("execution(public * com.kds.config.server.app.api.impl.ConfigAPIImpl.*(..))")
+    public Object observeApi(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("config.api", joinPoint);
+    }
+
+    @Around("execution(public * com.kds.config.server.service.ConfigService.*(..))")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe("config.service", joinPoint);
+    }
+
+    private Object observe(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String className = signature.getDeclaringType().getSimpleName();
+        Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .contextualName(className + "#" + signature.getName())
+                .lowCardinalityKeyValue("class", className)
+                .lowCardinalityKeyValue("method", signature.getName());
+        addArguments(observation, signature.getParameterNames(), joinPoint.getArgs());
+
+        observation.start();
+        try (Observation.Scope ignored = observation.openScope()) {
+            Object result = joinPoint.proceed();
+            long rows = rows(result);
+            if (rows >= 0) {
+                observation.highCardinalityKeyValue(ROWS, String.valueOf(rows));
+            }
+            return result;
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    static void addArguments(Observation observation, String[] parameterNames, Object[] args) {
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            if (arg instanceof String value && parameterNames != null) {
+                String key = COORDINATE_PARAMETERS.get(parameterNames[i]);
+                if (key != null) {
+                    observation.highCardinalityKeyValue(key, value);
+                }
+            } else if (arg instanceof ConfigRequest request) {
+                addCoordinates(observation, request.getApplication(), request.getProfile(), request.getLabel(),
+                        request.getKey());
+            } else if (arg instanceof Config config) {
+                addCoordinates(observation, config.getApplication(), config.getProfile(), config.getLabel(),
+                        config.getPropKey());
+            } else if (arg instanceof ConfigListRequest request && request.getConfigs() != null) {
+                observation.highCardinalityKeyValue(BATCH_SIZE, String.valueOf(request.getConfigs().size()));
+            }
+        }
+    }
+
+    private static void addCoordinates(Observation observation, String application, String profile, String label,
+                                       String key) {
+        putIfPresent(observation, APPLICATION, application);
+        putIfPresent(observation, PROFILE, profile);
+        putIfPresent(observation, LABEL, label);
+        putIfPresent(observation, KEY, key);
+    }
+
+    private static void putIfPresent(Observation observation, String key, String value) {
+        if (value != null) {
+            observation.highCardinalityKeyValue(key, value);
+        }
+    }
+
+    /**
+     * Number of rows in a result, or {@code -1} when the result is not a row container.
+     */
+    static long rows(Object result) {
+        if (result instanceof ResponseEntity<?> response) {
+            return rows(response.getBody());
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof ConfigListResponse response) {
+            return response.getConfigs() == null ? 0 : response.getConfigs().size();
+        }
+        if (result instanceof Snapshot snapshot) {
+            return snapshot.configs().size();
+        }
+        if (result instanceof Config) {
+            return 1;
+        }
+        return -1;
+    }
+}
@@ -3,12 +3,14 @@ package com.kds.config.server.app;
 import com.kds.config.server.app.api.impl.ConfigAPIImpl;
 import com.kds.config.server.app.dto.request.ConfigListRequest;
 import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.app.dto.response.ConfigKeysResponse;
 import com.kds.config.server.app.dto.response.ConfigListResponse;
 import com.kds.config.server.app.dto.response.ConfigResponse;
 import com.kds.config.server.app.exception.ConfigAPIException;
 import com.kds.config.server.core.entity.Config;
 import com.kds.config.server.service.ConfigService;
 import com.kds.config.server.service.exception.ConfigServiceException;
+import com.kds.config.server.service.snapshot.Snapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,9 +19,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -63,6 +67,20 @@ public class ConfigAPITests {
         testListRequest.setConfigs(List.of(testRequest));
     }
 
+    @Test
+    void whenGetConfigsByKeys_thenSeparateFoundAndMissingKeysInRequestOrder() {
+        Config other = Config.builder().application("test-app").profile("dev").label("main")
+                .propKey("other.key").propValue("other-value").build();
+        List<String> keys = List.of("missing.key", "test.key", "other.key", "test.key");
+        when(configService.getConfigsByKeys("test-app", "dev", "main", keys)).thenReturn(List.of(other, testConfig));
+
+        ConfigKeysResponse response = configAPI.getConfigs("test-app", "dev", "main", keys);
+
+        assertThat(response.getStatus()).isEqualTo("SUCCESS");
+        assertThat(response.getConfigs()).extracting(Config::getPropKey).containsExactly("test.key", "other.key");
+        assertThat(response.getMissing()).containsExactly("missing.key");
+    }
+
     @Test
     void whenGetConfig_thenReturnConfig() {
         when(configService.getConfigByKey(
@@ -104,10 +122,11 @@ public class ConfigAPITests {
 
     @Test
     void whenGetConfigsByApplicationAndProfile_thenReturnConfigs() {
-        when(configService.getConfigsByApplicationAndProfile(
+        when(configService.getSnapshot(
                 testConfig.getApplication(),
-                testConfig.getProfile()))
-                .thenReturn(List.of(testConfig));
+                testConfig.getProfile(),
+                null))
+                .thenReturn(new Snapshot(List.of(testConfig), Instant.now(), false));
 
         ConfigListResponse response = configAPI.getConfigs(
                 testConfig.getApplication(),
@@ -122,10 +141,11 @@ public class ConfigAPITests {
 
     @Test
     void whenGetConfigsByApplicationAndProfileEmpty_thenReturnEmptyList() {
-        when(configService.getConfigsByApplicationAndProfile(
+        when(configService.getSnapshot(
                 testConfig.getApplication(),
-                testConfig.getProfile()))
-                .thenReturn(Collections.emptyList());
+                testConfig.getProfile(),
+                null))
+                .thenReturn(new Snapshot(Collections.emptyList(), Instant.now(), false));
 
         ConfigListResponse response = configAPI.getConfigs(
                 testConfig.getApplication(),
@@ -159,6 +179,21 @@ public class ConfigAPITests {
                 .hasMessage("Configuration already exists");
     }
 
+    @Test
+    void whenGroupCommitEnabled_thenWaitForGroupAndMapRefusals() {
+        when(configService.isGroupCommitEnabled()).thenReturn(true);
+        when(configService.submitUpdate(any(Config.class))).thenReturn(CompletableFuture.completedFuture(testConfig));
+        when(configService.submitCreate(any(Config.class))).thenReturn(CompletableFuture.failedFuture(
+                new ConfigServiceException("CONFLICT", "Configuration already exists")));
+
+        assertThat(configAPI.updateConfig(testRequest).getConfig()).isSameAs(testConfig);
+        assertThatThrownBy(() -> configAPI.saveConfig(testRequest))
+                .isInstanceOf(ConfigAPIException.class)
+                .hasMessage("Configuration already exists");
+        verify(configService, never()).updateConfig(any(Config.class));
+        verify(configService, never()).createConfig(any(Config.class));
+    }
+
     @Test
     void whenSaveConfigs_thenReturnSavedConfigs() {
         when(configService.createConfig(any(Config.class))).thenReturn(testConfig);
@@ -0,0 +1,65 @@
+package com.kds.config.server.app.actuator;
+
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FlightRecordingEndpoint Tests")
+class FlightRecordingEndpointTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecordingEndpoint endpoint;
+    private Long recordingId;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new FlightRecordingEndpoint(dumpDirectory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (recordingId != null && endpoint.recordings().stream().anyMatch(r -> r.id() == recordingId)) {
+            endpoint.close(recordingId);
+        }
+    }
+
+    @Test
+    @DisplayName("Should start, dump, stop and close a recording")
+    void shouldManageRecordingLifecycle() throws Exception {
+        FlightRecordingEndpoint.RecordingInfo started = endpoint.start("test-recording", "default", 60L, null);
+        recordingId = started.id();
+        assertThat(started.state()).isEqualTo("RUNNING");
+        assertThat(endpoint.recordings()).anyMatch(r -> r.id() == started.id() && r.name().equals("test-recording"));
+
+        Resource dump = endpoint.dump(started.id());
+        assertThat(dump.getFile().toPath().getParent()).isEqualTo(dumpDirectory);
+        assertThat(RecordingFile.readAllEvents(dump.getFile().toPath())).isNotEmpty();
+
+        assertThat(endpoint.stop(started.id()).state()).isEqualTo("STOPPED");
+
+        endpoint.close(started.id());
+        assertThat(endpoint.recordings()).noneMatch(r -> r.id() == started.id());
+        assertThat(endpoint.dump(started.id())).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject unknown settings and recording ids")
+    void shouldRejectInvalidRequests() {
+        assertThatThrownBy(() -> endpoint.start(null, "no-such-settings", null, null))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+        assertThatThrownBy(() -> endpoint.stop(Long.MAX_VALUE))
+                .isInstanceOf(InvalidEndpointRequestException.class);
+    }
+}
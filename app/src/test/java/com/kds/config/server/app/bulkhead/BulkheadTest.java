@@ -0,0 +1,52 @@
+package com.kds.config.server.app.bulkhead;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+    @Test
+    @DisplayName("Should queue up to the bound and reject the rest")
+    void shouldQueueUpToBoundThenReject() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofSeconds(5));
+        assertThat(bulkhead.tryEnter()).isTrue();
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return bulkhead.tryEnter();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.queued() == 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(bulkhead.tryEnter()).isFalse();
+        assertThat(bulkhead.saturation()).isEqualTo(1.0);
+        bulkhead.exit();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.admitted()).isEqualTo(2);
+        assertThat(bulkhead.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a queued request once its wait runs out")
+    void shouldRejectAfterMaxWait() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofMillis(20));
+        assertThat(bulkhead.tryEnter()).isTrue();
+
+        assertThat(bulkhead.tryEnter()).isFalse();
+        assertThat(bulkhead.queued()).isZero();
+        bulkhead.exit();
+        assertThat(bulkhead.active()).isZero();
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Collections;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -29,7 +30,11 @@ import com.kds.config.server.app.dto.request.ConfigRequest;
 import com.kds.config.server.app.dto.response.ConfigListResponse;
 import com.kds.config.server.app.dto.response.ConfigResponse;
 import com.kds.config.server.app.exception.ConfigAPIException;
+import com.kds.config.server.app.hotspot.ReadHotspots;
+import com.kds.config.server.app.jfr.ConfigEvents;
+import com.kds.config.server.app.metrics.ConfigMetrics;
 import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.usage.ConfigUsageRecorder;
 
 /**
  * Comprehensive unit tests for ConfigController.
@@ -37,6 +42,7 @@ import com.kds.config.server.core.entity.Config;
  */
 @Tag("skip")
 @WebMvcTest(ConfigController.class)
+@Import(ConfigEvents.class)
 @ActiveProfiles("test")
 @DisplayName("ConfigController Tests")
 class ConfigControllerTest{
@@ -50,6 +56,15 @@ class ConfigControllerTest{
     @MockitoBean
     private ConfigAPI configAPI;
 
+    @MockitoBean
+    private ConfigMetrics configMetrics;
+
+    @MockitoBean
+    private ReadHotspots readHotspots;
+
+    @MockitoBean
+    private ConfigUsageRecorder configUsageRecorder;
+
     private ConfigRequest validConfigRequest;
     private Config validConfig;
     private ConfigResponse validResponse;
@@ -0,0 +1,64 @@
+package com.kds.config.server.app.hotspot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Sliding Top-K Tests")
+class SlidingTopKTest {
+
+    @Test
+    @DisplayName("Should find the heavy hitters among many distinct items")
+    void shouldFindHeavyHitters() {
+        AtomicLong now = new AtomicLong();
+        SlidingTopK topK = new SlidingTopK(Duration.ofSeconds(1), 10, 512, 4, 16, now::get);
+
+        for (int i = 0; i < 20_000; i++) {
+            topK.add("cold-" + i);
+            if (i % 10 == 0) {
+                topK.add("hot-a");
+            }
+            if (i % 20 == 0) {
+                topK.add("hot-b");
+            }
+            if (i % 1000 == 0) {
+                now.addAndGet(50);
+            }
+        }
+
+        SlidingTopK.Top top = topK.top(Duration.ofSeconds(10), 2);
+        assertThat(top.total()).isEqualTo(20_000 + 2_000 + 1_000);
+        assertThat(top.items()).extracting(SlidingTopK.Count::item).containsExactly("hot-a", "hot-b");
+        assertThat(top.items().get(0).count()).isGreaterThanOrEqualTo(2_000);
+        assertThat(topK.top(Duration.ofSeconds(10), 100).items()).hasSizeLessThanOrEqualTo(16 * 2);
+    }
+
+    @Test
+    @DisplayName("Should forget items once their buckets leave the window")
+    void shouldSlideWindow() {
+        AtomicLong now = new AtomicLong();
+        SlidingTopK topK = new SlidingTopK(Duration.ofSeconds(1), 5, 256, 4, 8, now::get);
+
+        for (int i = 0; i < 100; i++) {
+            topK.add("early");
+        }
+        now.set(3_000);
+        for (int i = 0; i < 10; i++) {
+            topK.add("late");
+        }
+
+        assertThat(topK.top(Duration.ofSeconds(1), 10).items())
+                .containsExactly(new SlidingTopK.Count("late", 10));
+        assertThat(topK.top(Duration.ofSeconds(5), 10).items()).extracting(SlidingTopK.Count::item)
+                .containsExactly("early", "late");
+
+        now.set(9_000);
+        topK.add("later");
+        assertThat(topK.top(Duration.ofSeconds(5), 10).items()).extracting(SlidingTopK.Count::item)
+                .containsExactly("later");
+    }
+}
@@ -0,0 +1,185 @@
+package com.kds.config.server.app.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kds.config.server.app.bulkhead.Bulkhead;
+import com.kds.config.server.app.bulkhead.Bulkheads;
+import com.kds.config.server.app.dto.request.ConfigListRequest;
+import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotBatchRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotRequest;
+import com.kds.config.server.app.proto.GetSnapshotRequest;
+import com.kds.config.server.app.proto.SnapshotId;
+import com.kds.config.server.app.proto.SnapshotResponse;
+import com.kds.config.server.app.proto.SnapshotServiceGrpc;
+import com.kds.config.server.core.bulkhead.Lane;
+import com.kds.config.server.core.bulkhead.LaneDataSources;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that a saturated batch lane leaves reads their own slots and connections, and that batch snapshot
+ * reads and gRPC calls run in the read lane.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkheaddb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "config.bulkhead.enabled=true",
+        "config.bulkhead.batch.max-concurrent=1",
+        "config.bulkhead.batch.max-queued=0",
+        "config.bulkhead.read.max-queued=0",
+        "config.bulkhead.write.pool-size=1",
+        "spring.datasource.hikari.connection-timeout=250",
+        "config.grpc.enabled=true",
+        "config.grpc.in-process-name=bulkhead-grpc-test"
+})
+@DisplayName("Bulkhead Integration Tests")
+class BulkheadIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Bulkheads bulkheads;
+
+    @Autowired
+    private LaneDataSources laneDataSources;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should reject batches over the lane's limit while reads use their own pool")
+    void shouldIsolateReadsFromSaturatedBatchLane() throws Exception {
+        String batch = objectMapper.writeValueAsString(new ConfigListRequest(List.of(ConfigRequest.builder()
+                .application("bulk-app").profile("dev").label("v1").key("db.url").value("x")
+                .build())));
+        Bulkhead batchLane = bulkheads.of(Lane.BATCH);
+        assertThat(batchLane.tryEnter()).isTrue();
+        try {
+            mockMvc.perform(post("/api/v1/configs/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(batch))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(jsonPath("$.status").value("UNAVAILABLE"));
+
+            mockMvc.perform(get("/api/v1/configs/bulk-app/dev/v1"))
+                    .andExpect(status().isOk());
+        } finally {
+            batchLane.exit();
+        }
+
+        mockMvc.perform(post("/api/v1/configs/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isCreated());
+
+        assertThat(laneDataSources.get(Lane.READ).getHikariPoolMXBean()).isNotNull();
+        assertThat(laneDataSources.get(Lane.BATCH).getHikariPoolMXBean()).isNotNull();
+        assertThat(bulkheads.of(Lane.BATCH).rejected()).isEqualTo(1);
+        assertThat(bulkheads.of(Lane.READ).active()).isZero();
+        assertThat(bulkheads.of(Lane.BATCH).active()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should read batch snapshots and gRPC snapshots from the read pool")
+    void shouldReadBatchAndGrpcSnapshotsFromReadPool() throws Exception {
+        configRepository.saveAll(List.of(
+                Config.builder().application("fan-app").profile("dev").label("v1")
+                        .propKey("db.url").propValue("x").build(),
+                Config.builder().application("fan-app").profile("prod").label("v1")
+                        .propKey("db.url").propValue("y").build(),
+                Config.builder().application("grpc-lane-app").profile("dev").label("v1")
+                        .propKey("db.url").propValue("z").build()));
+        String batch = objectMapper.writeValueAsString(ConfigSnapshotBatchRequest.builder()
+                .snapshots(List.of(
+                        ConfigSnapshotRequest.builder().application("fan-app").profile("dev").label("v1").build(),
+                        ConfigSnapshotRequest.builder().application("fan-app").profile("prod").label("v1").build()))
+                .build());
+        ManagedChannel channel = InProcessChannelBuilder.forName("bulkhead-grpc-test").build();
+
+        // With the only write connection taken, reads that fell back to the write pool would time out
+        try (Connection ignored = laneDataSources.get(Lane.WRITE).getConnection()) {
+            MvcResult result = mockMvc.perform(post("/api/v1/configs/snapshots")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(batch))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.snapshots[0].status").value("SUCCESS"))
+                    .andExpect(jsonPath("$.snapshots[1].status").value("SUCCESS"));
+
+            SnapshotResponse snapshot = SnapshotServiceGrpc.newBlockingStub(channel)
+                    .getSnapshot(GetSnapshotRequest.newBuilder().setId(SnapshotId.newBuilder()
+                            .setApplication("grpc-lane-app").setProfile("dev").setLabel("v1")).build());
+            assertThat(snapshot.getEnvironment().getPropertySources(0).getSourceMap())
+                    .containsEntry("db.url", "z");
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+        // The server completes a call after the client has its response
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkheads.of(Lane.READ).active() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(bulkheads.of(Lane.READ).active()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject gRPC calls with UNAVAILABLE while the read lane is saturated")
+    void shouldRejectGrpcCallsWhenReadLaneIsSaturated() throws Exception {
+        Bulkhead readLane = bulkheads.of(Lane.READ);
+        int held = 0;
+        while (readLane.tryEnter()) {
+            held++;
+        }
+        ManagedChannel channel = InProcessChannelBuilder.forName("bulkhead-grpc-test").build();
+        try {
+            StatusRuntimeException rejected = catchThrowableOfType(StatusRuntimeException.class,
+                    () -> SnapshotServiceGrpc.newBlockingStub(channel).getSnapshot(GetSnapshotRequest.newBuilder()
+                            .setId(SnapshotId.newBuilder().setApplication("grpc-lane-app").setProfile("dev"))
+                            .build()));
+
+            assertThat(rejected.getStatus().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+        } finally {
+            for (int i = 0; i < held; i++) {
+                readLane.exit();
+            }
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+        assertThat(readLane.active()).isZero();
+    }
+}
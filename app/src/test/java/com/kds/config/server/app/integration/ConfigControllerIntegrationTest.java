@@ -1,10 +1,21 @@
 package com.kds.config.server.app.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.kds.config.server.app.dto.request.ConfigCloneRequest;
 import com.kds.config.server.app.dto.request.ConfigListRequest;
+import com.kds.config.server.app.dto.request.ConfigRenameRequest;
 import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.app.dto.request.ConfigScopeRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotBatchRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotRequest;
+import com.kds.config.server.app.proto.Environment;
 import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigUsage;
 import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigUsageRepository;
+import com.kds.config.server.service.usage.ConfigUsageRecorder;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,13 +27,17 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -56,6 +71,12 @@ class ConfigControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ConfigUsageRecorder configUsageRecorder;
+
+    @Autowired
+    private ConfigUsageRepository configUsageRepository;
+
     private ConfigRequest testRequest;
     private ConfigListRequest testListRequest;
 
@@ -287,6 +308,260 @@ class ConfigControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Upsert Operations")
+    class UpsertOperationsTests {
+
+        @Test
+        @DisplayName("Should report inserted, updated and unchanged properties in a batch upsert")
+        void shouldReportOutcomePerPropertyInBatchUpsert() throws Exception {
+            configRepository.saveAll(Arrays.asList(
+                    Config.builder()
+                            .application("integration-test-app")
+                            .profile("test")
+                            .label("v1.0.0")
+                            .propKey("test.property")
+                            .propValue("test-value")
+                            .build(),
+                    Config.builder()
+                            .application("integration-test-app")
+                            .profile("test")
+                            .label("v1.0.0")
+                            .propKey("test.property2")
+                            .propValue("original-value2")
+                            .build()));
+
+            ConfigRequest newRequest = ConfigRequest.builder()
+                    .application("integration-test-app")
+                    .profile("test")
+                    .label("v1.0.0")
+                    .key("test.property3")
+                    .value("test-value3")
+                    .build();
+            List<ConfigRequest> requests = Arrays.asList(testListRequest.getConfigs().get(0),
+                    testListRequest.getConfigs().get(1), newRequest);
+
+            mockMvc.perform(put("/api/v1/configs/upsert/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new ConfigListRequest(requests))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("SUCCESS"))
+                    .andExpect(jsonPath("$.inserted").value(1))
+                    .andExpect(jsonPath("$.updated").value(1))
+                    .andExpect(jsonPath("$.unchanged").value(1))
+                    .andExpect(jsonPath("$.results[0].outcome").value("UNCHANGED"))
+                    .andExpect(jsonPath("$.results[1].outcome").value("UPDATED"))
+                    .andExpect(jsonPath("$.results[2].outcome").value("INSERTED"));
+
+            List<Config> configs = configRepository.findByApplicationAndProfileAndLabel(
+                    "integration-test-app", "test", "v1.0.0");
+            assertThat(configs).extracting(Config::getPropKey, Config::getPropValue)
+                    .containsExactlyInAnyOrder(
+                            tuple("test.property", "test-value"),
+                            tuple("test.property2", "test-value2"),
+                            tuple("test.property3", "test-value3"));
+            assertThat(configs).allSatisfy(config -> {
+                assertThat(config.getCreatedBy()).isEqualTo("SYSTEM");
+                assertThat(config.getUpdatedAt()).isNotNull();
+            });
+        }
+
+        @Test
+        @DisplayName("Should insert and then leave unchanged a single upserted property")
+        void shouldUpsertSingleProperty() throws Exception {
+            mockMvc.perform(put("/api/v1/configs/upsert")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].outcome").value("INSERTED"));
+
+            mockMvc.perform(put("/api/v1/configs/upsert")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results[0].outcome").value("UNCHANGED"));
+
+            assertThat(configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                    "integration-test-app", "test", "v1.0.0", "test.property")).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should reject upserts without a label")
+        void shouldRejectUpsertWithoutLabel() throws Exception {
+            testRequest.setLabel(null);
+
+            mockMvc.perform(put("/api/v1/configs/upsert")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(testRequest)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value("BAD_REQUEST"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Operations")
+    class BulkOperationsTests {
+
+        @BeforeEach
+        void setUpBulkData() {
+            configRepository.saveAll(Arrays.asList(
+                    bulkConfig("test", "v1.0.0", "db.url"),
+                    bulkConfig("test", "v1.0.0", "db.user"),
+                    bulkConfig("test", "v2.0.0", "db.url"),
+                    bulkConfig("prod", "v1.0.0", "db.url"),
+                    bulkConfig("test", "v1.0.0", "cache.ttl")));
+        }
+
+        @Test
+        @DisplayName("Should delete keys by prefix within the scope only")
+        void shouldDeleteByScope() throws Exception {
+            ConfigScopeRequest scope = ConfigScopeRequest.builder()
+                    .application("integration-test-app")
+                    .profile("test")
+                    .keyPrefix("db.")
+                    .build();
+
+            mockMvc.perform(post("/api/v1/configs/bulk/delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(scope)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("SUCCESS"))
+                    .andExpect(jsonPath("$.affected").value(3));
+
+            assertThat(configRepository.findByApplication("integration-test-app"))
+                    .extracting(Config::getProfile, Config::getPropKey)
+                    .containsExactlyInAnyOrder(tuple("prod", "db.url"), tuple("test", "cache.ttl"));
+        }
+
+        @Test
+        @DisplayName("Should rename keys by prefix within the scope only")
+        void shouldRenameKeysByScope() throws Exception {
+            ConfigRenameRequest rename = ConfigRenameRequest.builder()
+                    .application("integration-test-app")
+                    .profile("test")
+                    .label("v1.0.0")
+                    .keyPrefix("db.")
+                    .newKeyPrefix("datasource.")
+                    .build();
+
+            mockMvc.perform(post("/api/v1/configs/bulk/rename")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(rename)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(2));
+
+            assertThat(configRepository.findByApplicationAndProfileAndLabel("integration-test-app", "test", "v1.0.0"))
+                    .extracting(Config::getPropKey)
+                    .containsExactlyInAnyOrder("datasource.url", "datasource.user", "cache.ttl");
+            assertThat(configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                    "integration-test-app", "test", "v2.0.0", "db.url")).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should return 409 and rename nothing when a renamed key exists")
+        void shouldReturn409ForConflictingRename() throws Exception {
+            ConfigRenameRequest rename = ConfigRenameRequest.builder()
+                    .application("integration-test-app")
+                    .keyPrefix("db.u")
+                    .newKeyPrefix("cache.t")
+                    .build();
+            configRepository.save(bulkConfig("test", "v1.0.0", "cache.tser"));
+
+            mockMvc.perform(post("/api/v1/configs/bulk/rename")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(rename)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.status").value("CONFLICT"));
+
+            assertThat(configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                    "integration-test-app", "test", "v1.0.0", "db.user")).isPresent();
+        }
+
+        @Test
+        @DisplayName("Should clone a label and apply overrides")
+        void shouldCloneLabelWithOverrides() throws Exception {
+            ConfigCloneRequest clone = ConfigCloneRequest.builder()
+                    .application("integration-test-app")
+                    .profile("test")
+                    .sourceLabel("v1.0.0")
+                    .targetLabel("v1.1.0")
+                    .overrides(Map.of("db.url", "jdbc:mysql://new", "feature.flag", "on"))
+                    .build();
+
+            mockMvc.perform(post("/api/v1/configs/labels/clone")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(clone)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.message").value("Label Cloned"))
+                    .andExpect(jsonPath("$.affected").value(4));
+
+            assertThat(configRepository.findByApplicationAndProfileAndLabel("integration-test-app", "test", "v1.1.0"))
+                    .extracting(Config::getPropKey, Config::getPropValue)
+                    .containsExactlyInAnyOrder(tuple("db.url", "jdbc:mysql://new"), tuple("db.user", "value"),
+                            tuple("cache.ttl", "value"), tuple("feature.flag", "on"));
+            assertThat(configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                    "integration-test-app", "test", "v1.0.0", "db.url"))
+                    .hasValueSatisfying(config -> assertThat(config.getPropValue()).isEqualTo("value"));
+        }
+
+        @Test
+        @DisplayName("Should return 409 for an existing target label unless replacing it")
+        void shouldReplaceExistingLabelOnlyWhenRequested() throws Exception {
+            ConfigCloneRequest clone = ConfigCloneRequest.builder()
+                    .application("integration-test-app")
+                    .profile("test")
+                    .sourceLabel("v1.0.0")
+                    .targetLabel("v2.0.0")
+                    .build();
+
+            mockMvc.perform(post("/api/v1/configs/labels/clone")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(clone)))
+                    .andExpect(status().isConflict());
+
+            clone.setReplace(true);
+            mockMvc.perform(post("/api/v1/configs/labels/clone")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(clone)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.affected").value(3));
+
+            assertThat(configRepository.findByApplicationAndProfileAndLabel("integration-test-app", "test", "v2.0.0"))
+                    .extracting(Config::getPropKey)
+                    .containsExactlyInAnyOrder("db.url", "db.user", "cache.ttl");
+        }
+
+        @Test
+        @DisplayName("Should return 404 and leave the target label intact for a missing source label")
+        void shouldReturn404ForMissingSourceLabel() throws Exception {
+            ConfigCloneRequest clone = ConfigCloneRequest.builder()
+                    .application("integration-test-app")
+                    .profile("test")
+                    .sourceLabel("v9.0.0")
+                    .targetLabel("v2.0.0")
+                    .replace(true)
+                    .build();
+
+            mockMvc.perform(post("/api/v1/configs/labels/clone")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(clone)))
+                    .andExpect(status().isNotFound());
+
+            assertThat(configRepository.findByApplicationAndProfileAndLabel("integration-test-app", "test", "v2.0.0"))
+                    .hasSize(1);
+        }
+
+        private Config bulkConfig(String profile, String label, String key) {
+            return Config.builder()
+                    .application("integration-test-app")
+                    .profile(profile)
+                    .label(label)
+                    .propKey(key)
+                    .propValue("value")
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("Spring Cloud Config Format")
     class SpringCloudConfigFormatTests {
@@ -349,6 +624,259 @@ class ConfigControllerIntegrationTest {
                     .andExpect(jsonPath("$.label").doesNotExist())
                     .andExpect(jsonPath("$.propertySources[0].source['debug.enabled']").value("true"));
         }
+
+        @Test
+        @DisplayName("Should resolve placeholders against the snapshot and follow changes to referenced keys")
+        void shouldResolvePlaceholders() throws Exception {
+            Config host = Config.builder()
+                    .application("spring-app").profile("prod").label("v3.0.0")
+                    .propKey("db.host").propValue("db-1")
+                    .build();
+            configRepository.saveAll(Arrays.asList(host,
+                    Config.builder().application("spring-app").profile("prod").label("v3.0.0")
+                            .propKey("db.url").propValue("jdbc:mysql://${db.host}:${db.port:3306}/app").build()));
+
+            mockMvc.perform(get("/api/v1/configs/spring-app/prod/v3.0.0"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.propertySources[0].source['db.url']").value("jdbc:mysql://db-1:3306/app"));
+
+            host.setPropValue("db-2");
+            configRepository.save(host);
+
+            mockMvc.perform(get("/api/v1/configs/spring-app/prod/v3.0.0"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.propertySources[0].source['db.url']").value("jdbc:mysql://db-2:3306/app"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Configuration Files")
+    class ConfigFileTests {
+
+        @BeforeEach
+        void seed() {
+            configRepository.saveAll(Arrays.asList(
+                    Config.builder().application("file-app").profile("prod").label("v1.0.0")
+                            .propKey("db.pool.max").propValue("10").build(),
+                    Config.builder().application("file-app").profile("prod").label("v1.0.0")
+                            .propKey("db.url").propValue("jdbc:mysql://db/app").build()));
+        }
+
+        @Test
+        @DisplayName("Should render a label as nested YAML with an ETag")
+        void shouldRenderYaml() throws Exception {
+            mockMvc.perform(get("/v1.0.0/file-app-prod.yml"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/yaml"))
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(content().string("""
+                            db:
+                              pool:
+                                max: "10"
+                              url: "jdbc:mysql://db/app"
+                            """));
+        }
+
+        @Test
+        @DisplayName("Should render all labels as properties and flat JSON")
+        void shouldRenderPropertiesAndJson() throws Exception {
+            mockMvc.perform(get("/file-app-prod.properties"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                    .andExpect(content().string("db.pool.max=10\ndb.url=jdbc\\:mysql\\://db/app\n"));
+
+            mockMvc.perform(get("/file-app-prod.json"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$['db.url']").value("jdbc:mysql://db/app"));
+        }
+
+        @Test
+        @DisplayName("Should answer 304 while the snapshot is unchanged and a new ETag once it changes")
+        void shouldRevalidateWithETag() throws Exception {
+            String etag = mockMvc.perform(get("/v1.0.0/file-app-prod.properties"))
+                    .andReturn().getResponse().getHeader("ETag");
+
+            mockMvc.perform(get("/v1.0.0/file-app-prod.properties").header("If-None-Match", etag))
+                    .andExpect(status().isNotModified());
+
+            Config pool = configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                    "file-app", "prod", "v1.0.0", "db.pool.max").orElseThrow();
+            pool.setPropValue("20");
+            configRepository.save(pool);
+
+            mockMvc.perform(get("/v1.0.0/file-app-prod.properties").header("If-None-Match", etag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", not(etag)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Binary Encoding Tests")
+    class BinaryEncodingTests {
+
+        @BeforeEach
+        void seed() {
+            configRepository.saveAll(Arrays.asList(
+                    Config.builder().application("binary-app").profile("prod").label("v1.0.0")
+                            .propKey("db.pool.max").propValue("10").build(),
+                    Config.builder().application("binary-app").profile("prod").label("v1.0.0")
+                            .propKey("db.url").propValue("jdbc:mysql://db/app").build()));
+        }
+
+        @Test
+        @DisplayName("Should serve the environment as Protobuf when preferred in Accept")
+        void shouldServeProtobuf() throws Exception {
+            byte[] body = mockMvc.perform(get("/api/v1/configs/binary-app/prod/v1.0.0")
+                            .header("Accept", "application/x-protobuf, application/json;q=0.9"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-protobuf"))
+                    .andExpect(header().exists("ETag"))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            Environment environment = Environment.parseFrom(body);
+            assertThat(environment.getName()).isEqualTo("binary-app");
+            assertThat(environment.getLabel()).isEqualTo("v1.0.0");
+            assertThat(environment.getPropertySources(0).getName()).isEqualTo("binary-app-prod-v1.0.0");
+            assertThat(environment.getPropertySources(0).getSourceMap())
+                    .containsExactlyInAnyOrderEntriesOf(Map.of("db.pool.max", "10", "db.url", "jdbc:mysql://db/app"));
+        }
+
+        @Test
+        @DisplayName("Should serve the same document as CBOR and Smile as JSON")
+        void shouldServeCborAndSmileMatchingJson() throws Exception {
+            String json = mockMvc.perform(get("/api/v1/configs/binary-app/prod"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andReturn().getResponse().getContentAsString();
+            byte[] cbor = mockMvc.perform(get("/api/v1/configs/binary-app/prod").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn().getResponse().getContentAsByteArray();
+            byte[] smile = mockMvc.perform(get("/api/v1/configs/binary-app/prod").header("Accept", "application/x-jackson-smile"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            assertThat(new CBORMapper().readTree(cbor)).isEqualTo(objectMapper.readTree(json));
+            assertThat(new SmileMapper().readTree(smile)).isEqualTo(objectMapper.readTree(json));
+        }
+
+        @Test
+        @DisplayName("Should keep JSON when preferred in Accept")
+        void shouldPreferJson() throws Exception {
+            mockMvc.perform(get("/api/v1/configs/binary-app/prod/v1.0.0")
+                            .header("Accept", "application/json, application/cbor;q=0.5"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.propertySources[0].source['db.pool.max']").value("10"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Multi-key Lookup Tests")
+    class MultiKeyLookupTests {
+
+        @Test
+        @DisplayName("Should return the requested keys found and missing separately")
+        void shouldGetFoundAndMissingKeys() throws Exception {
+            configRepository.saveAll(Arrays.asList(
+                    Config.builder().application("keys-app").profile("prod").label("v1")
+                            .propKey("db.url").propValue("jdbc:mysql://db").build(),
+                    Config.builder().application("keys-app").profile("prod").label("v1")
+                            .propKey("db.pool.max").propValue("10").build(),
+                    Config.builder().application("keys-app").profile("prod").label("v1")
+                            .propKey("cache.ttl").propValue("60").build()));
+
+            mockMvc.perform(get("/api/v1/configs/keys-app/prod/v1")
+                            .param("keys", "db.pool.max,feature.beta")
+                            .param("keys", "db.url"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("SUCCESS"))
+                    .andExpect(jsonPath("$.configs.length()").value(2))
+                    .andExpect(jsonPath("$.configs[0].propKey").value("db.pool.max"))
+                    .andExpect(jsonPath("$.configs[0].propValue").value("10"))
+                    .andExpect(jsonPath("$.configs[1].propKey").value("db.url"))
+                    .andExpect(jsonPath("$.missing[0]").value("feature.beta"))
+                    .andExpect(jsonPath("$.missing.length()").value(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Snapshot Tests")
+    class BatchSnapshotTests {
+
+        @BeforeEach
+        void seed() {
+            configRepository.saveAll(Arrays.asList(
+                    Config.builder().application("sidecar-a").profile("prod").label("v1")
+                            .propKey("db.url").propValue("jdbc:mysql://a").build(),
+                    Config.builder().application("sidecar-b").profile("prod").label("v2")
+                            .propKey("cache.ttl").propValue("60").build()));
+        }
+
+        @Test
+        @DisplayName("Should stream every snapshot in request order with a status per snapshot")
+        void shouldGetSnapshotsInRequestOrder() throws Exception {
+            ConfigSnapshotBatchRequest batch = ConfigSnapshotBatchRequest.builder()
+                    .snapshots(List.of(
+                            ConfigSnapshotRequest.builder().application("sidecar-b").profile("prod").label("v2").build(),
+                            ConfigSnapshotRequest.builder().application("sidecar-a").profile("prod").build(),
+                            ConfigSnapshotRequest.builder().application("sidecar-c").profile("prod").label("v1").build()))
+                    .build();
+
+            MvcResult result = mockMvc.perform(post("/api/v1/configs/snapshots")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batch)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.status").value("SUCCESS"))
+                    .andExpect(jsonPath("$.snapshots.length()").value(3))
+                    .andExpect(jsonPath("$.snapshots[0].application").value("sidecar-b"))
+                    .andExpect(jsonPath("$.snapshots[0].status").value("SUCCESS"))
+                    .andExpect(jsonPath("$.snapshots[0].environment.propertySources[0].name").value("sidecar-b-prod-v2"))
+                    .andExpect(jsonPath("$.snapshots[0].environment.propertySources[0].source['cache.ttl']").value("60"))
+                    .andExpect(jsonPath("$.snapshots[1].label").doesNotExist())
+                    .andExpect(jsonPath("$.snapshots[1].environment.propertySources[0].source['db.url']").value("jdbc:mysql://a"))
+                    .andExpect(jsonPath("$.snapshots[2].application").value("sidecar-c"))
+                    .andExpect(jsonPath("$.snapshots[2].environment.propertySources[0].source").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should count usage of the snapshots served with configurations only")
+        void shouldCountUsageOfNonEmptySnapshotsOnly() throws Exception {
+            ConfigSnapshotBatchRequest batch = ConfigSnapshotBatchRequest.builder()
+                    .snapshots(List.of(
+                            ConfigSnapshotRequest.builder().application("sidecar-b").profile("prod").label("v2").build(),
+                            ConfigSnapshotRequest.builder().application("sidecar-d").profile("prod").label("v1").build()))
+                    .build();
+
+            MvcResult result = mockMvc.perform(post("/api/v1/configs/snapshots")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(batch)))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+            mockMvc.perform(get("/api/v1/configs/sidecar-d/prod/v2")).andExpect(status().isOk());
+            configUsageRecorder.flush();
+
+            assertThat(configUsageRepository.findAll())
+                    .extracting(ConfigUsage::getApplication)
+                    .contains("sidecar-b")
+                    .doesNotContain("sidecar-d");
+        }
+
+        @Test
+        @DisplayName("Should reject an empty batch")
+        void shouldRejectEmptyBatch() throws Exception {
+            mockMvc.perform(post("/api/v1/configs/snapshots")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"snapshots\":[]}"))
+                    .andExpect(status().isBadRequest());
+        }
     }
 
     @Nested
@@ -0,0 +1,98 @@
+package com.kds.config.server.app.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kds.config.server.app.dto.request.ConfigSnapshotBatchRequest;
+import com.kds.config.server.app.dto.request.ConfigSnapshotRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that each application spends its own read and write budget.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ratelimitdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "config.rate-limit.enabled=true",
+        "config.rate-limit.read.requests-per-second=0.1",
+        "config.rate-limit.read.burst=2",
+        "config.rate-limit.write.requests-per-second=0.1",
+        "config.rate-limit.write.burst=1"
+})
+@DisplayName("Rate Limit Integration Tests")
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should reject reads over an application's budget with 429 and Retry-After")
+    void shouldRejectReadsOverBudget() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/configs/hot-app/dev/v1"))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(get("/api/v1/configs/hot-app/dev/v1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "10"))
+                .andExpect(jsonPath("$.status").value("TOO_MANY_REQUESTS"));
+        mockMvc.perform(get("/hot-app-dev.properties"))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/api/v1/configs/quiet-app/dev/v1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/configs/hot-app/dev/v1/db.url"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/v1/configs/hot-app/dev/v1/db.url"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    @DisplayName("Should charge a streamed batch snapshot read once")
+    void shouldChargeBatchSnapshotReadOnce() throws Exception {
+        String batch = objectMapper.writeValueAsString(ConfigSnapshotBatchRequest.builder()
+                .snapshots(List.of(ConfigSnapshotRequest.builder().application("sidecar").profile("dev").build()))
+                .build());
+
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(post("/api/v1/configs/snapshots")
+                            .header("X-Client-Id", "batch-client")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(batch))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("SUCCESS"));
+        }
+
+        mockMvc.perform(post("/api/v1/configs/snapshots")
+                        .header("X-Client-Id", "batch-client")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -0,0 +1,151 @@
+package com.kds.config.server.app.integration;
+
+import com.kds.config.server.app.proto.BatchGetSnapshotsRequest;
+import com.kds.config.server.app.proto.BatchGetSnapshotsResponse;
+import com.kds.config.server.app.proto.GetSnapshotRequest;
+import com.kds.config.server.app.proto.SnapshotId;
+import com.kds.config.server.app.proto.SnapshotResponse;
+import com.kds.config.server.app.proto.SnapshotResult;
+import com.kds.config.server.app.proto.SnapshotServiceGrpc;
+import com.kds.config.server.app.proto.WatchRequest;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.service.ConfigService;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * Verifies the gRPC SnapshotService end to end over an in-process channel.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:grpcdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "config.grpc.enabled=true",
+        "config.grpc.in-process-name=snapshot-grpc-test"
+})
+@DisplayName("Snapshot gRPC Integration Tests")
+class SnapshotGrpcIntegrationTest {
+
+    private static final SnapshotId SNAPSHOT = SnapshotId.newBuilder()
+            .setApplication("grpc-app").setProfile("prod").setLabel("v1").build();
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private ConfigService configService;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        configRepository.deleteAll();
+        configRepository.saveAll(List.of(
+                Config.builder().application("grpc-app").profile("prod").label("v1")
+                        .propKey("db.url").propValue("jdbc:mysql://db").build(),
+                Config.builder().application("grpc-app").profile("prod").label("v1")
+                        .propKey("db.pool.max").propValue("10").build()));
+        channel = InProcessChannelBuilder.forName("snapshot-grpc-test").build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should return the snapshot, then not_modified for its ETag")
+    void shouldGetSnapshotAndRevalidate() {
+        SnapshotServiceGrpc.SnapshotServiceBlockingStub stub = SnapshotServiceGrpc.newBlockingStub(channel);
+
+        SnapshotResponse snapshot = stub.getSnapshot(GetSnapshotRequest.newBuilder().setId(SNAPSHOT).build());
+        SnapshotResponse revalidated = stub.getSnapshot(GetSnapshotRequest.newBuilder()
+                .setId(SNAPSHOT).setIfNoneMatch(snapshot.getEtag()).build());
+
+        assertThat(snapshot.getEnvironment().getPropertySources(0).getSourceMap())
+                .containsEntry("db.url", "jdbc:mysql://db")
+                .containsEntry("db.pool.max", "10");
+        assertThat(snapshot.getEtag()).isNotEmpty();
+        assertThat(revalidated.getNotModified()).isTrue();
+        assertThat(revalidated.hasEnvironment()).isFalse();
+
+        StatusRuntimeException invalid = catchThrowableOfType(StatusRuntimeException.class, () -> stub.getSnapshot(
+                GetSnapshotRequest.newBuilder().setId(SnapshotId.newBuilder().setApplication("grpc-app")).build()));
+        assertThat(invalid.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    @DisplayName("Should return batch results in request order and report invalid requests per snapshot")
+    void shouldBatchGetSnapshots() {
+        BatchGetSnapshotsResponse response = SnapshotServiceGrpc.newBlockingStub(channel)
+                .batchGetSnapshots(BatchGetSnapshotsRequest.newBuilder()
+                        .addRequests(GetSnapshotRequest.newBuilder().setId(SNAPSHOT))
+                        .addRequests(GetSnapshotRequest.newBuilder().setId(SnapshotId.newBuilder().setProfile("prod")))
+                        .addRequests(GetSnapshotRequest.newBuilder().setId(SNAPSHOT.toBuilder().clearLabel()))
+                        .build());
+
+        assertThat(response.getResultsList()).extracting(SnapshotResult::getResultCase).containsExactly(
+                SnapshotResult.ResultCase.SNAPSHOT, SnapshotResult.ResultCase.ERROR, SnapshotResult.ResultCase.SNAPSHOT);
+        assertThat(response.getResults(1).getError().getCode()).isEqualTo("INVALID_ARGUMENT");
+        assertThat(response.getResults(2).getSnapshot().getEnvironment().getPropertySources(0).getName())
+                .isEqualTo("grpc-app-prod");
+    }
+
+    @Test
+    @DisplayName("Should stream the snapshot and push it again after a write")
+    void shouldWatchSnapshot() throws Exception {
+        BlockingQueue<SnapshotResponse> received = new LinkedBlockingQueue<>();
+        SnapshotServiceGrpc.newStub(channel).watch(
+                WatchRequest.newBuilder().addSnapshots(GetSnapshotRequest.newBuilder().setId(SNAPSHOT)).build(),
+                new StreamObserver<>() {
+                    @Override
+                    public void onNext(SnapshotResponse value) {
+                        received.add(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+
+        SnapshotResponse initial = received.poll(5, TimeUnit.SECONDS);
+        assertThat(initial).isNotNull();
+        assertThat(initial.getEnvironment().getPropertySources(0).getSourceMap()).containsEntry("db.pool.max", "10");
+
+        Config pool = configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                "grpc-app", "prod", "v1", "db.pool.max").orElseThrow();
+        pool.setPropValue("20");
+        configService.updateConfig(pool);
+
+        SnapshotResponse changed = received.poll(5, TimeUnit.SECONDS);
+        assertThat(changed).isNotNull();
+        assertThat(changed.getEtag()).isNotEqualTo(initial.getEtag());
+        assertThat(changed.getEnvironment().getPropertySources(0).getSourceMap()).containsEntry("db.pool.max", "20");
+        assertThat(received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+}
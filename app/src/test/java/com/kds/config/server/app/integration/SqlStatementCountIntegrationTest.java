@@ -0,0 +1,213 @@
+package com.kds.config.server.app.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kds.config.server.app.dto.request.ConfigCloneRequest;
+import com.kds.config.server.app.dto.request.ConfigListRequest;
+import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.app.dto.request.ConfigScopeRequest;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.jdbc.StatementTracker;
+import com.kds.config.server.core.repository.ConfigRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.kds.config.server.app.support.SqlStatementAssertions.assertStatementCount;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each API call issues, so N+1 regressions fail the build. Change history is
+ * on, as by default, and must not add statements to writes: its rows are written by a background thread and
+ * not counted here, and writes read nothing for it beyond what their chunked queries read anyway.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sqlcountdb",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "management.endpoints.web.exposure.include=sqlstats",
+        "config.history.enabled=true"
+})
+@DisplayName("SQL Statement Count Integration Tests")
+class SqlStatementCountIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private StatementTracker statementTracker;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        configRepository.saveAll(List.of(config("db.url"), config("db.user")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        configRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Snapshot read should issue a single query")
+    void snapshotReadShouldIssueSingleQuery() throws Exception {
+        assertStatementCount(statementTracker, 1, () ->
+                mockMvc.perform(get("/api/v1/configs/sql-app/dev/v1"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Key read should issue a single query")
+    void keyReadShouldIssueSingleQuery() throws Exception {
+        assertStatementCount(statementTracker, 1, () ->
+                mockMvc.perform(get("/api/v1/configs/sql-app/dev/v1/db.url"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Batch create should issue a lookup and an insert per item")
+    void batchCreateShouldIssueTwoStatementsPerItem() throws Exception {
+        List<ConfigRequest> requests = IntStream.range(0, 5)
+                .mapToObj(i -> request("batch.key." + i))
+                .toList();
+
+        assertStatementCount(statementTracker, 10, () ->
+                mockMvc.perform(post("/api/v1/configs/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new ConfigListRequest(requests))))
+                        .andExpect(status().isCreated()));
+    }
+
+    @Test
+    @DisplayName("Batch update should issue a lookup and an update per item")
+    void batchUpdateShouldIssueTwoStatementsPerItem() throws Exception {
+        List<ConfigRequest> requests = List.of(request("db.url"), request("db.user"));
+
+        assertStatementCount(statementTracker, 4, () ->
+                mockMvc.perform(put("/api/v1/configs/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new ConfigListRequest(requests))))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Batch upsert should issue one lookup and one batched write")
+    void batchUpsertShouldIssueTwoStatements() throws Exception {
+        List<ConfigRequest> requests = IntStream.range(0, 5)
+                .mapToObj(i -> request("upsert.key." + i))
+                .toList();
+
+        assertStatementCount(statementTracker, 2, () ->
+                mockMvc.perform(put("/api/v1/configs/upsert/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new ConfigListRequest(requests))))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Key delete should issue a single delete")
+    void keyDeleteShouldIssueSingleStatement() throws Exception {
+        assertStatementCount(statementTracker, 1, () ->
+                mockMvc.perform(delete("/api/v1/configs/sql-app/dev/v1/db.url"))
+                        .andExpect(status().isNoContent()));
+    }
+
+    @Test
+    @DisplayName("Scoped delete should issue one select and one delete per chunk")
+    void scopedDeleteShouldIssueTwoStatementsPerChunk() throws Exception {
+        ConfigScopeRequest scope = ConfigScopeRequest.builder().application("sql-app").keyPrefix("db.").build();
+
+        assertStatementCount(statementTracker, 2, () ->
+                mockMvc.perform(post("/api/v1/configs/bulk/delete")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(scope)))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.affected").value(2)));
+    }
+
+    @Test
+    @DisplayName("Label clone should check the target and insert-select the source")
+    void labelCloneShouldIssueTwoStatements() throws Exception {
+        ConfigCloneRequest clone = ConfigCloneRequest.builder()
+                .application("sql-app").profile("dev").sourceLabel("v1").targetLabel("v2")
+                .build();
+
+        assertStatementCount(statementTracker, 2, () ->
+                mockMvc.perform(post("/api/v1/configs/labels/clone")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(clone)))
+                        .andExpect(status().isCreated())
+                        .andExpect(jsonPath("$.affected").value(2)));
+    }
+
+    @Test
+    @DisplayName("Label clone over an existing label should delete the target's keys in chunks, then insert-select")
+    void labelCloneReplacingTargetShouldIssueFourStatements() throws Exception {
+        configRepository.save(Config.builder()
+                .application("sql-app").profile("dev").label("v2").propKey("old.key").propValue("value")
+                .build());
+        ConfigCloneRequest clone = ConfigCloneRequest.builder()
+                .application("sql-app").profile("dev").sourceLabel("v1").targetLabel("v2").replace(true)
+                .build();
+
+        assertStatementCount(statementTracker, 4, () ->
+                mockMvc.perform(post("/api/v1/configs/labels/clone")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(clone)))
+                        .andExpect(status().isCreated())
+                        .andExpect(jsonPath("$.affected").value(2)));
+    }
+
+    @Test
+    @DisplayName("Statistics endpoint should report totals per repository method and request")
+    void statisticsEndpointShouldReportTotals() throws Exception {
+        mockMvc.perform(delete("/actuator/sqlstats")).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(get("/api/v1/configs/sql-app/dev/v1")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/sqlstats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.statements").value(1))
+                .andExpect(jsonPath("$.total.rows").value(2))
+                .andExpect(jsonPath("$.repositoryMethods['ConfigRepository.findByApplicationAndProfileAndLabel'].invocations").value(1))
+                .andExpect(jsonPath("$.requests['GET /api/v1/configs/{application}/{profile}/{label}'].statements").value(1));
+    }
+
+    private static Config config(String key) {
+        return Config.builder()
+                .application("sql-app")
+                .profile("dev")
+                .label("v1")
+                .propKey(key)
+                .propValue("value")
+                .build();
+    }
+
+    private static ConfigRequest request(String key) {
+        return ConfigRequest.builder()
+                .application("sql-app")
+                .profile("dev")
+                .label("v1")
+                .key(key)
+                .value("new-value")
+                .build();
+    }
+}
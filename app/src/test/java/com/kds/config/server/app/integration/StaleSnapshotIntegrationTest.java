@@ -0,0 +1,62 @@
+package com.kds.config.server.app.integration;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Verifies that snapshot reads fall back to the last known good snapshot while the database fails.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:staledb",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@DisplayName("Stale Snapshot Integration Tests")
+class StaleSnapshotIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoSpyBean
+    private ConfigRepository configRepository;
+
+    @Test
+    @DisplayName("Should serve the last known good snapshot with staleness headers when the database fails")
+    void shouldServeStaleSnapshotWhenDatabaseFails() throws Exception {
+        configRepository.saveAll(List.of(Config.builder()
+                .application("stale-app").profile("prod").label("v1").propKey("db.url").propValue("jdbc:mysql://db")
+                .build()));
+        mockMvc.perform(get("/api/v1/configs/stale-app/prod/v1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Config-Stale"));
+
+        doThrow(new DataAccessResourceFailureException("Communications link failure"))
+                .when(configRepository).findByApplicationAndProfileAndLabel("stale-app", "prod", "v1");
+
+        mockMvc.perform(get("/api/v1/configs/stale-app/prod/v1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Config-Stale", "true"))
+                .andExpect(header().exists("X-Config-Loaded-At"))
+                .andExpect(header().exists(HttpHeaders.AGE))
+                .andExpect(jsonPath("$.propertySources[0].source['db.url']").value("jdbc:mysql://db"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.kds.config.server.app.jfr;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.jdbc.StatementTracker;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConfigEvents Tests")
+class ConfigEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Recording recording;
+    private ConfigEvents configEvents;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(
+                Map.of("statementTracker", new StatementTracker(50, 10)));
+        configEvents = new ConfigEvents(beanFactory.getBeanProvider(StatementTracker.class));
+        recording = new Recording();
+        recording.enable(ConfigFetchEvent.class);
+        recording.enable(ConfigBatchWriteEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    @DisplayName("Should record fetch coordinates, key count and payload size")
+    void shouldRecordFetch() throws Exception {
+        try (ConfigEvents.Fetch fetch = configEvents.beginFetch("app", "dev", "main")) {
+            fetch.served(List.of(
+                    Config.builder().propKey("a.key").propValue("12345").build(),
+                    Config.builder().propKey("b.key").propValue("1").build()));
+        }
+
+        RecordedEvent event = single(ConfigFetchEvent.NAME);
+        assertThat(event.getString("application")).isEqualTo("app");
+        assertThat(event.getString("profile")).isEqualTo("dev");
+        assertThat(event.getString("label")).isEqualTo("main");
+        assertThat(event.getInt("keyCount")).isEqualTo(2);
+        assertThat(event.getLong("bytes")).isEqualTo(16);
+        assertThat(event.getBoolean("success")).isTrue();
+        assertThat(event.getLong("statements")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should record whether the fetch was served from cache")
+    void shouldRecordCacheHit() throws Exception {
+        try (ConfigEvents.Fetch fetch = configEvents.beginFetch("app", "dev", "main")) {
+            fetch.served(List.of(Config.builder().propKey("a.key").propValue("1").build()), true);
+        }
+
+        RecordedEvent event = single(ConfigFetchEvent.NAME);
+        assertThat(event.getBoolean("cacheHit")).isTrue();
+        assertThat(event.getBoolean("success")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should record failed batch writes as unsuccessful")
+    void shouldRecordFailedBatchWrite() throws Exception {
+        try (ConfigEvents.BatchWrite ignored = configEvents.beginBatchWrite("create", 25)) {
+            // handler failed before committing
+        }
+
+        RecordedEvent event = single(ConfigBatchWriteEvent.NAME);
+        assertThat(event.getString("operation")).isEqualTo("create");
+        assertThat(event.getInt("itemCount")).isEqualTo(25);
+        assertThat(event.getBoolean("success")).isFalse();
+    }
+
+    private RecordedEvent single(String name) throws Exception {
+        recording.stop();
+        Path file = tempDir.resolve("events.jfr");
+        recording.dump(file);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertThat(events).hasSize(1);
+        return events.get(0);
+    }
+}
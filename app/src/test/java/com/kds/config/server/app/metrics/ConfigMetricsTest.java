@@ -0,0 +1,73 @@
+package com.kds.config.server.app.metrics;
+
+import com.kds.config.server.core.entity.Config;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConfigMetrics Tests")
+class ConfigMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConfigMetrics configMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        configMetrics = new ConfigMetrics(meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("Should record snapshot key count and payload size per application")
+    void shouldRecordSnapshotSizes() {
+        List<Config> configs = List.of(
+                Config.builder().propKey("a.key").propValue("12345").build(),
+                Config.builder().propKey("b.key").propValue("1").build());
+
+        configMetrics.recordSnapshot("user-service", configs);
+
+        DistributionSummary keys = meterRegistry.get("config.snapshot.keys")
+                .tag("application", "user-service").summary();
+        DistributionSummary payload = meterRegistry.get("config.snapshot.payload")
+                .tag("application", "user-service").summary();
+        assertThat(keys.count()).isEqualTo(1);
+        assertThat(keys.totalAmount()).isEqualTo(2);
+        assertThat(payload.totalAmount()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Should bound the number of distinct application tags")
+    void shouldBoundApplicationTags() {
+        configMetrics.recordSnapshot("app-1", List.of());
+        configMetrics.recordSnapshot("app-2", List.of());
+        configMetrics.recordSnapshot("app-3", List.of());
+        configMetrics.recordSnapshot("app-4", List.of());
+        configMetrics.recordSnapshot("app-1", List.of());
+
+        assertThat(meterRegistry.get("config.snapshot.keys").summaries()).hasSize(3);
+        assertThat(meterRegistry.get("config.snapshot.keys").tag("application", "app-1").summary().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("config.snapshot.keys").tag("application", ConfigMetrics.OTHER_APPLICATION)
+                .summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should record batch sizes per operation")
+    void shouldRecordBatchSizes() {
+        configMetrics.recordBatch("create", 10);
+        configMetrics.recordBatch("create", 30);
+        configMetrics.recordBatch("update", 5);
+
+        DistributionSummary created = meterRegistry.get("config.batch.size").tag("operation", "create").summary();
+        assertThat(created.count()).isEqualTo(2);
+        assertThat(created.max()).isEqualTo(30);
+        assertThat(meterRegistry.get("config.batch.size").tag("operation", "update").summary().count())
+                .isEqualTo(1);
+    }
+}
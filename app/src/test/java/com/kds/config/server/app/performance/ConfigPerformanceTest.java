@@ -2,46 +2,62 @@ package com.kds.config.server.app.performance;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kds.config.server.app.dto.request.ConfigRequest;
+import com.kds.config.server.core.entity.Config;
 import com.kds.config.server.core.repository.ConfigRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.MediaType;
+import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
-import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
- * Performance tests for ConfigController to validate concurrent request handling.
- * These tests ensure the application can handle multiple simultaneous requests.
+ * Open-model load tests that boot the application on a random port and drive it over real HTTP.
+ * <p>
+ * Each test issues requests at a constant arrival rate, records HdrHistogram response-time
+ * percentiles and writes a JSON report to {@code target/performance} (override with
+ * {@code -Dperf.reportDir}). The defaults keep the regular build fast; see {@link WorkloadSpec}
+ * for the {@code perf.*} properties used to run longer or heavier workloads.
  */
-@SpringBootTest
-@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
 @TestPropertySource(properties = {
-        "spring.datasource.url=jdbc:h2:mem:perfdb",
-        "spring.jpa.hibernate.ddl-auto=create-drop"
+        "spring.datasource.url=jdbc:h2:mem:perfdb;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.kds.config.server=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.springframework.jdbc=WARN"
 })
 @DisplayName("Config Performance Tests")
 class ConfigPerformanceTest {
 
-    @Autowired
-    private MockMvc mockMvc;
+    private static final String APPLICATION = "perf-app";
+    private static final String PROFILE = "load";
+
+    private static final WorkloadSpec DEFAULT_WORKLOAD = new WorkloadSpec(
+            50, Duration.ofSeconds(5), Duration.ofSeconds(2), 1.0,
+            Map.of(10, 0.6, 100, 0.3, 1000, 0.1));
+
+    @LocalServerPort
+    private int port;
 
     @Autowired
     private ConfigRepository configRepository;
@@ -49,205 +65,111 @@ class ConfigPerformanceTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    private HttpClient httpClient;
+    private LoadGenerator loadGenerator;
+
     @BeforeEach
     void setUp() {
-        // Clean database before each test
         configRepository.deleteAll();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        loadGenerator = new LoadGenerator(httpClient);
     }
 
     @AfterEach
     void tearDown() {
-        // Clean up after each test
+        httpClient.close();
         configRepository.deleteAll();
     }
 
     @Test
-    @DisplayName("Should handle concurrent config creation requests")
-    void shouldHandleConcurrentConfigCreationRequests() throws Exception {
-        int numberOfThreads = 10;
-        int requestsPerThread = 5;
-        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    @DisplayName("Should sustain snapshot reads at the configured arrival rate")
+    void shouldSustainSnapshotReads() throws Exception {
+        WorkloadSpec spec = WorkloadSpec.fromSystemProperties(DEFAULT_WORKLOAD);
+        seedSnapshots(spec);
 
-        try {
-            // Create concurrent requests
-            CompletableFuture<Void>[] futures = IntStream.range(0, numberOfThreads)
-                    .mapToObj(threadId -> CompletableFuture.runAsync(() -> {
-                        try {
-                            for (int i = 0; i < requestsPerThread; i++) {
-                                ConfigRequest request = ConfigRequest.builder()
-                                        .application("perf-app")
-                                        .profile("test")
-                                        .label("v1.0.0")
-                                        .key("config.key." + threadId + "." + i)
-                                        .value("value-" + threadId + "-" + i)
-                                        .build();
-
-                                mockMvc.perform(post("/api/v1/configs")
-                                                .contentType(MediaType.APPLICATION_JSON)
-                                                .content(objectMapper.writeValueAsString(request)))
-                                        .andExpect(status().isCreated());
-                            }
-                        } catch (Exception e) {
-                            throw new RuntimeException("Request failed", e);
-                        }
-                    }, executor))
-                    .toArray(CompletableFuture[]::new);
-
-            // Wait for all requests to complete
-            CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
-
-            // Verify all configs were created
-            long configCount = configRepository.count();
-            assertThat(configCount).isEqualTo(numberOfThreads * requestsPerThread);
-
-        } finally {
-            executor.shutdown();
-            executor.awaitTermination(5, TimeUnit.SECONDS);
-        }
+        LoadReport report = loadGenerator.run("snapshot-reads", spec, () -> snapshotRead(spec));
+
+        assertReport(report, spec);
     }
 
     @Test
-    @DisplayName("Should handle concurrent config retrieval requests")
-    void shouldHandleConcurrentConfigRetrievalRequests() throws Exception {
-        // First, create some test data
-        for (int i = 0; i < 10; i++) {
-            ConfigRequest request = ConfigRequest.builder()
-                    .application("read-app")
-                    .profile("test")
-                    .label("v1.0.0")
-                    .key("config.key." + i)
-                    .value("value-" + i)
-                    .build();
+    @DisplayName("Should sustain a mixed read/write workload at the configured arrival rate")
+    void shouldSustainMixedReadWriteWorkload() throws Exception {
+        WorkloadSpec defaults = new WorkloadSpec(DEFAULT_WORKLOAD.arrivalRate(), DEFAULT_WORKLOAD.duration(),
+                DEFAULT_WORKLOAD.warmup(), 0.8, DEFAULT_WORKLOAD.snapshotSizes());
+        WorkloadSpec spec = WorkloadSpec.fromSystemProperties(defaults);
+        seedSnapshots(spec);
 
-            mockMvc.perform(post("/api/v1/configs")
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isCreated());
-        }
+        LoadReport report = loadGenerator.run("mixed-read-write", spec,
+                () -> spec.nextIsRead() ? snapshotRead(spec) : keyUpdate(spec));
+
+        assertReport(report, spec);
+    }
 
-        int numberOfThreads = 20;
-        int requestsPerThread = 10;
-        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    private void assertReport(LoadReport report, WorkloadSpec spec) throws Exception {
+        Path file = report.writeTo(Path.of(System.getProperty("perf.reportDir", "target/performance")));
 
-        try {
-            // Create concurrent read requests
-            CompletableFuture<Void>[] futures = IntStream.range(0, numberOfThreads)
-                    .mapToObj(threadId -> CompletableFuture.runAsync(() -> {
-                        try {
-                            for (int i = 0; i < requestsPerThread; i++) {
-                                int configIndex = i % 10; // Cycle through available configs
-                                mockMvc.perform(get("/api/v1/configs/read-app/test/v1.0.0/config.key." + configIndex))
-                                        .andExpect(status().isOk());
-                            }
-                        } catch (Exception e) {
-                            throw new RuntimeException("Request failed", e);
-                        }
-                    }, executor))
-                    .toArray(CompletableFuture[]::new);
-
-            // Wait for all requests to complete
-            CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
-
-            // All requests should have completed successfully (no exceptions thrown)
-            assertThat(true).isTrue(); // If we reach here, all requests succeeded
-
-        } finally {
-            executor.shutdown();
-            executor.awaitTermination(5, TimeUnit.SECONDS);
+        long scheduled = spec.duration().toNanos() / spec.intervalNanos();
+        assertThat(report.totalRequests()).isBetween(scheduled - 1, scheduled + 1);
+        assertThat(report.totalErrors()).isZero();
+        assertThat(report.responseTime(null).getValueAtPercentile(99)).isPositive();
+        assertThat(Files.readString(file)).contains("\"p99\"", "\"throughput\"");
+    }
+
+    private void seedSnapshots(WorkloadSpec spec) {
+        for (int size : spec.snapshotSizes().keySet()) {
+            List<Config> configs = IntStream.range(0, size)
+                    .mapToObj(i -> Config.builder()
+                            .application(APPLICATION)
+                            .profile(PROFILE)
+                            .label(label(size))
+                            .propKey("key." + i)
+                            .propValue("value-" + i)
+                            .build())
+                    .toList();
+            configRepository.saveAll(configs);
         }
     }
 
-    @Test
-    @DisplayName("Should handle mixed concurrent operations")
-    void shouldHandleMixedConcurrentOperations() throws Exception {
-        int numberOfThreads = 15;
-        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+    private LoadGenerator.LoadRequest snapshotRead(WorkloadSpec spec) {
+        int size = spec.nextSnapshotSize();
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/configs/%s/%s/%s".formatted(APPLICATION, PROFILE, label(size))))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        return new LoadGenerator.LoadRequest("read-snapshot-" + size, request, 200);
+    }
 
+    private LoadGenerator.LoadRequest keyUpdate(WorkloadSpec spec) {
+        int size = spec.nextSnapshotSize();
+        ConfigRequest body = ConfigRequest.builder()
+                .application(APPLICATION)
+                .profile(PROFILE)
+                .label(label(size))
+                .key("key." + ThreadLocalRandom.current().nextInt(size))
+                .value("value-" + System.nanoTime())
+                .build();
         try {
-            // Create mixed concurrent operations (create, read, update)
-            CompletableFuture<Void>[] futures = IntStream.range(0, numberOfThreads)
-                    .mapToObj(threadId -> CompletableFuture.runAsync(() -> {
-                        try {
-                            if (threadId % 3 == 0) {
-                                // Create operations
-                                ConfigRequest request = ConfigRequest.builder()
-                                        .application("mixed-app")
-                                        .profile("test")
-                                        .label("v1.0.0")
-                                        .key("mixed.key." + threadId)
-                                        .value("value-" + threadId)
-                                        .build();
-
-                                mockMvc.perform(post("/api/v1/configs")
-                                                .contentType(MediaType.APPLICATION_JSON)
-                                                .content(objectMapper.writeValueAsString(request)))
-                                        .andExpect(status().isCreated());
-
-                            } else if (threadId % 3 == 1) {
-                                // Read operations (may return 404 initially, which is fine)
-                                mockMvc.perform(get("/api/v1/configs/mixed-app/test/v1.0.0/mixed.key.0"));
-
-                            } else {
-                                // List operations
-                                mockMvc.perform(get("/api/v1/configs/mixed-app/test"));
-                            }
-                        } catch (Exception e) {
-                            throw new RuntimeException("Request failed", e);
-                        }
-                    }, executor))
-                    .toArray(CompletableFuture[]::new);
-
-            // Wait for all requests to complete
-            CompletableFuture.allOf(futures).get(30, TimeUnit.SECONDS);
-
-            // Verify some configs were created
-            long configCount = configRepository.count();
-            assertThat(configCount).isGreaterThan(0);
-
-        } finally {
-            executor.shutdown();
-            executor.awaitTermination(5, TimeUnit.SECONDS);
+            HttpRequest request = HttpRequest.newBuilder(uri("/api/v1/configs"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+            return new LoadGenerator.LoadRequest("update-key", request, 200);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize update request", e);
         }
     }
 
-    @Test
-    @DisplayName("Should handle high volume batch operations")
-    void shouldHandleHighVolumeBatchOperations() throws Exception {
-        // This test validates that batch operations can handle larger datasets
-        // without timing out or causing memory issues
-
-        long startTime = System.currentTimeMillis();
-
-        // Create a large batch request (within reasonable limits)
-        ConfigRequest[] requests = IntStream.range(0, 50)
-                .mapToObj(i -> ConfigRequest.builder()
-                        .application("batch-app")
-                        .profile("test")
-                        .label("v1.0.0")
-                        .key("batch.key." + i)
-                        .value("batch-value-" + i)
-                        .build())
-                .toArray(ConfigRequest[]::new);
-
-        String batchRequestJson = objectMapper.writeValueAsString(
-                new com.kds.config.server.app.dto.request.ConfigListRequest(
-                        java.util.Arrays.asList(requests)
-                )
-        );
-
-        mockMvc.perform(post("/api/v1/configs/batch")
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .content(batchRequestJson))
-                .andExpect(status().isCreated());
-
-        long endTime = System.currentTimeMillis();
-        long duration = endTime - startTime;
-
-        // Verify all configs were created
-        long configCount = configRepository.count();
-        assertThat(configCount).isEqualTo(50);
-
-        // Verify reasonable performance (should complete within 5 seconds)
-        assertThat(duration).isLessThan(5000);
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String label(int size) {
+        return "size_" + size;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.kds.config.server.app.performance;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model HTTP load generator.
+ * <p>
+ * A single dispatcher thread computes the intended start time of every request from the
+ * arrival rate and hands the request to a virtual thread at that instant, whether or not
+ * earlier requests have completed. Latency is measured from the intended start time, so
+ * a server stall shows up as a burst of slow responses instead of silently lowering the
+ * offered load (coordinated omission).
+ */
+public class LoadGenerator {
+
+    private final HttpClient httpClient;
+
+    public LoadGenerator(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * A single request to issue, tagged with the operation it is recorded under.
+     *
+     * @param operation      operation name used in the report
+     * @param request        the HTTP request to send
+     * @param expectedStatus status code that counts as a success
+     */
+    public record LoadRequest(String operation, HttpRequest request, int expectedStatus) {
+    }
+
+    /**
+     * Runs the warm-up phase followed by the measured phase and returns the measured results.
+     */
+    public LoadReport run(String name, WorkloadSpec spec, Supplier<LoadRequest> requests) throws InterruptedException {
+        drive(spec, spec.warmup(), requests, null);
+
+        LoadReport report = new LoadReport(name, spec);
+        report.start();
+        long started = System.nanoTime();
+        drive(spec, spec.duration(), requests, report);
+        report.finish(Duration.ofNanos(System.nanoTime() - started));
+        return report;
+    }
+
+    private void drive(WorkloadSpec spec, Duration duration, Supplier<LoadRequest> requests, LoadReport report)
+            throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        long interval = spec.intervalNanos();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intendedStart = start + i * interval;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                LoadRequest request = requests.get();
+                executor.execute(() -> send(request, intendedStart, report));
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private void send(LoadRequest request, long intendedStart, LoadReport report) {
+        long actualStart = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = httpClient.send(request.request(), HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() == request.expectedStatus();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            success = false;
+        } catch (Exception e) {
+            success = false;
+        }
+        long finished = System.nanoTime();
+        if (report != null) {
+            report.record(request.operation(), finished - intendedStart, finished - actualStart, success);
+        }
+    }
+}
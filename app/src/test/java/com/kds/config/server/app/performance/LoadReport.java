@@ -0,0 +1,163 @@
+package com.kds.config.server.app.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and throughput results of a load run, recorded per operation.
+ * <p>
+ * Two histograms are kept for every operation: the response time measured from the
+ * moment the request was <em>scheduled</em> to be sent, which is what a caller
+ * experiences and is free of coordinated omission, and the service time measured from
+ * the moment it was actually sent. A wide gap between the two means requests were
+ * queueing inside the client or the server. All latencies are recorded in microseconds.
+ */
+public class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = Duration.ofMinutes(1).toNanos() / 1_000;
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final WorkloadSpec spec;
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+    private Instant startedAt;
+    private Duration elapsed;
+
+    public LoadReport(String name, WorkloadSpec spec) {
+        this.name = name;
+        this.spec = spec;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    void record(String operation, long responseNanos, long serviceNanos, boolean success) {
+        OperationStats stats = operations.computeIfAbsent(operation, op -> new OperationStats());
+        stats.responseTime.recordValue(Math.min(responseNanos / 1_000, HIGHEST_TRACKABLE_MICROS));
+        stats.serviceTime.recordValue(Math.min(serviceNanos / 1_000, HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    public long totalRequests() {
+        return operations.values().stream().mapToLong(stats -> stats.responseTime.getTotalCount()).sum();
+    }
+
+    public long totalErrors() {
+        return operations.values().stream().mapToLong(stats -> stats.errors.sum()).sum();
+    }
+
+    /**
+     * Achieved throughput over the measured phase, in requests per second.
+     */
+    public double throughput() {
+        return elapsed == null || elapsed.isZero() ? 0 : totalRequests() / (elapsed.toNanos() / 1e9);
+    }
+
+    /**
+     * Response-time histogram of a single operation, or of all operations when {@code operation} is null.
+     */
+    public Histogram responseTime(String operation) {
+        Histogram merged = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        operations.forEach((op, stats) -> {
+            if (operation == null || operation.equals(op)) {
+                merged.add(stats.responseTime);
+            }
+        });
+        return merged;
+    }
+
+    /**
+     * Writes the report as JSON to {@code <directory>/<name>.json} and returns the file.
+     * The encoded histograms can be decoded with {@link Histogram#decodeFromCompressedByteBuffer}.
+     */
+    public Path writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(name + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), toMap());
+        return file;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> workload = new LinkedHashMap<>();
+        workload.put("arrivalRate", spec.arrivalRate());
+        workload.put("durationSeconds", spec.duration().toSeconds());
+        workload.put("warmupSeconds", spec.warmup().toSeconds());
+        workload.put("readRatio", spec.readRatio());
+        workload.put("snapshotSizes", spec.snapshotSizes());
+
+        Map<String, Object> ops = new LinkedHashMap<>();
+        operations.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> ops.put(entry.getKey(), entry.getValue().toMap()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("name", name);
+        report.put("startedAt", startedAt == null ? null : startedAt.toString());
+        report.put("elapsedMillis", elapsed == null ? 0 : elapsed.toMillis());
+        report.put("workload", workload);
+        report.put("totalRequests", totalRequests());
+        report.put("totalErrors", totalErrors());
+        report.put("throughput", throughput());
+        report.put("responseTimeMicros", percentiles(responseTime(null)));
+        report.put("operations", ops);
+        return report;
+    }
+
+    private static Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", histogram.getTotalCount());
+        values.put("mean", histogram.getMean());
+        values.put("p50", histogram.getValueAtPercentile(50));
+        values.put("p90", histogram.getValueAtPercentile(90));
+        values.put("p99", histogram.getValueAtPercentile(99));
+        values.put("p99.9", histogram.getValueAtPercentile(99.9));
+        values.put("max", histogram.getMaxValue());
+        return values;
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static final class OperationStats {
+        private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", responseTime.getTotalCount());
+            values.put("errors", errors.sum());
+            values.put("responseTimeMicros", percentiles(responseTime));
+            values.put("serviceTimeMicros", percentiles(serviceTime));
+            values.put("responseTimeHistogram", encode(responseTime.copy()));
+            return values;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.kds.config.server.app.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.service.ConfigService;
+import com.kds.config.server.service.crypto.SnapshotDecryptor;
+import com.kds.config.server.service.crypto.ValueCipher;
+import com.kds.config.server.service.placeholder.PlaceholderResolver;
+import com.kds.config.server.service.snapshot.LastKnownGoodStore;
+import com.kds.config.server.service.snapshot.MissingKeyFilter;
+import com.kds.config.server.service.snapshot.SnapshotLoader;
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import com.kds.config.server.service.write.GroupCommitWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.KeyGenerator;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Closed-loop benchmark of snapshot fetch throughput through {@link ConfigService} with plain values,
+ * with {@code {cipher}} values served from the decryption cache, and with the cache disabled.
+ * <p>
+ * The repository is mocked, so the numbers isolate the service-side cost of decryption. Each variant runs
+ * {@code perf.threads} threads (default 4) for the workload duration after a warmup and the results are
+ * written to {@code target/performance/snapshot-decryption.json}. Only deterministic facts are asserted:
+ * throughput depends on the machine.
+ */
+@DisplayName("Snapshot Decryption Benchmark")
+class SnapshotDecryptionBenchmarkTest {
+
+    private static final int SNAPSHOT_SIZE = 100;
+    private static final double ENCRYPTED_RATIO = 0.2;
+
+    private static final WorkloadSpec DEFAULT_WORKLOAD = new WorkloadSpec(
+            1, Duration.ofSeconds(2), Duration.ofSeconds(1), 1.0, Map.of(SNAPSHOT_SIZE, 1.0));
+
+    @Test
+    @DisplayName("Should fetch encrypted snapshots from cache without decrypting")
+    void shouldMeasureFetchThroughputWithAndWithoutEncryption() throws Exception {
+        WorkloadSpec spec = WorkloadSpec.fromSystemProperties(DEFAULT_WORKLOAD);
+        int threads = Integer.getInteger("perf.threads", 4);
+        KeyGenerator generator = KeyGenerator.getInstance("AES");
+        generator.init(256);
+        ValueCipher valueCipher = new ValueCipher(Map.of("config", generator.generateKey()), "config");
+        int encrypted = (int) (SNAPSHOT_SIZE * ENCRYPTED_RATIO);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("plain", run(service(valueCipher, 16 << 20, snapshot(valueCipher, 0)), spec, threads));
+        long before = valueCipher.decryptions();
+        results.put("encrypted-cached", run(service(valueCipher, 16 << 20, snapshot(valueCipher, encrypted)), spec, threads));
+        long cachedDecryptions = valueCipher.decryptions() - before;
+        before = valueCipher.decryptions();
+        Map<String, Object> uncached = run(service(valueCipher, 0, snapshot(valueCipher, encrypted)), spec, threads);
+        long uncachedDecryptions = valueCipher.decryptions() - before;
+        results.put("encrypted-uncached", uncached);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("snapshotSize", SNAPSHOT_SIZE);
+        report.put("encryptedValues", encrypted);
+        report.put("threads", threads);
+        report.put("durationSeconds", spec.duration().toSeconds());
+        report.put("results", results);
+        Path directory = Path.of(System.getProperty("perf.reportDir", "target/performance"));
+        Files.createDirectories(directory);
+        Path file = directory.resolve("snapshot-decryption.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+
+        assertThat(cachedDecryptions).isEqualTo(encrypted);
+        assertThat(uncachedDecryptions)
+                .isEqualTo((long) uncached.get("fetches") * encrypted + (long) uncached.get("warmupFetches") * encrypted);
+        assertThat(Files.readString(file)).contains("\"encrypted-cached\"", "\"fetchesPerSecond\"");
+    }
+
+    private static Map<String, Object> run(ConfigService configService, WorkloadSpec spec, int threads)
+            throws Exception {
+        long warmupFetches = fetchFor(configService, spec.warmup(), threads);
+        long start = System.nanoTime();
+        long fetches = fetchFor(configService, spec.duration(), threads);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("warmupFetches", warmupFetches);
+        result.put("fetches", fetches);
+        result.put("fetchesPerSecond", Math.round(fetches / seconds));
+        return result;
+    }
+
+    private static long fetchFor(ConfigService configService, Duration duration, int threads) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    long fetches = 0;
+                    while (System.nanoTime() < deadline) {
+                        configService.getSnapshot("bench-app", "prod", "main");
+                        fetches++;
+                    }
+                    return fetches;
+                }));
+            }
+            long total = 0;
+            for (Future<Long> worker : workers) {
+                total += worker.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ConfigService service(ValueCipher valueCipher, long cacheBytes, List<Config> snapshot) {
+        ConfigRepository configRepository = mock(ConfigRepository.class, withSettings().stubOnly());
+        when(configRepository.findByApplicationAndProfileAndLabel("bench-app", "prod", "main")).thenReturn(snapshot);
+        return new ConfigService(configRepository, new SnapshotLoader(), new LastKnownGoodStore("", 10_000),
+                valueCipher, new SnapshotDecryptor(valueCipher, cacheBytes), new PlaceholderResolver(true, 100),
+                mock(GroupCommitWriter.class),
+                mock(ConfigHistoryRecorder.class), mock(MissingKeyFilter.class));
+    }
+
+    private static List<Config> snapshot(ValueCipher valueCipher, int encrypted) {
+        return IntStream.range(0, SNAPSHOT_SIZE)
+                .mapToObj(i -> Config.builder()
+                        .application("bench-app").profile("prod").label("main").propKey("key." + i)
+                        .propValue(i < encrypted ? valueCipher.encrypt("secret-" + i) : "value-" + i)
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,149 @@
+package com.kds.config.server.app.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.kds.config.server.app.proto.Environment;
+import com.kds.config.server.app.render.RenderedSnapshotCache;
+import com.kds.config.server.app.render.SnapshotFormat;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.snapshot.Snapshot;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the payload size and the encode and decode cost of a large snapshot in the JSON
+ * {@code propertySources} document against its CBOR, Smile and Protobuf encodings.
+ * <p>
+ * Encoding goes through {@link RenderedSnapshotCache} with caching disabled, so every iteration pays the
+ * full cost; JSON is built and written the way {@code ConfigController} does. Decoding reads each payload
+ * back into a generic map, or the generated message for Protobuf, as a client would. Each format runs
+ * {@code perf.iterations} iterations (default 20) after as many warmup iterations and the results are
+ * written to {@code target/performance/snapshot-encoding.json}. Only sizes are asserted: timings depend on
+ * the machine.
+ */
+@DisplayName("Snapshot Encoding Benchmark")
+class SnapshotEncodingBenchmarkTest {
+
+    private static final int SNAPSHOT_SIZE = 20_000;
+    private static final SnapshotKey KEY = new SnapshotKey("bench-app", "prod", "main");
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper();
+    private static final ObjectMapper SMILE_MAPPER = new SmileMapper();
+
+    @Test
+    @DisplayName("Should encode large snapshots no larger than JSON in every binary format")
+    void shouldCompareEncodingsAgainstJson() throws Exception {
+        int iterations = Integer.getInteger("perf.iterations", 20);
+        List<Config> snapshot = snapshot();
+        Snapshot served = new Snapshot(snapshot, Instant.now(), false);
+        RenderedSnapshotCache uncached = new RenderedSnapshotCache(0);
+
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        results.put("json", measure(iterations,
+                () -> JSON_MAPPER.writeValueAsBytes(jsonEnvironment(snapshot)),
+                body -> JSON_MAPPER.readValue(body, Map.class)));
+        results.put("cbor", measure(iterations,
+                () -> uncached.render(KEY, SnapshotFormat.CBOR, served).body(),
+                body -> CBOR_MAPPER.readValue(body, Map.class)));
+        results.put("smile", measure(iterations,
+                () -> uncached.render(KEY, SnapshotFormat.SMILE, served).body(),
+                body -> SMILE_MAPPER.readValue(body, Map.class)));
+        results.put("protobuf", measure(iterations,
+                () -> uncached.render(KEY, SnapshotFormat.PROTOBUF, served).body(),
+                Environment::parseFrom));
+
+        long jsonBytes = (long) results.get("json").get("bytes");
+        results.values().forEach(result ->
+                result.put("sizeVsJson", Math.round(100.0 * (long) result.get("bytes") / jsonBytes) / 100.0));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("snapshotSize", SNAPSHOT_SIZE);
+        report.put("iterations", iterations);
+        report.put("results", results);
+        Path directory = Path.of(System.getProperty("perf.reportDir", "target/performance"));
+        Files.createDirectories(directory);
+        Path file = directory.resolve("snapshot-encoding.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+
+        for (String format : List.of("cbor", "smile", "protobuf")) {
+            assertThat((long) results.get(format).get("bytes")).as(format).isLessThanOrEqualTo(jsonBytes);
+        }
+        assertThat(Environment.parseFrom(uncached.render(KEY, SnapshotFormat.PROTOBUF, served).body())
+                .getPropertySources(0).getSourceCount()).isEqualTo(SNAPSHOT_SIZE);
+        assertThat(Files.readString(file)).contains("\"protobuf\"", "\"decodeMicros\"");
+    }
+
+    private static Map<String, Object> measure(int iterations, Encoder encoder, Decoder decoder) throws Exception {
+        byte[] body = null;
+        for (int i = 0; i < iterations; i++) {
+            body = encoder.encode();
+            decoder.decode(body);
+        }
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            body = encoder.encode();
+            encodeNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            decoder.decode(body);
+            decodeNanos += System.nanoTime() - start;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("bytes", (long) body.length);
+        result.put("encodeMicros", encodeNanos / iterations / 1_000);
+        result.put("decodeMicros", decodeNanos / iterations / 1_000);
+        return result;
+    }
+
+    /**
+     * The document {@code ConfigController} returns for {@code GET /api/v1/configs/{application}/{profile}/{label}}.
+     */
+    private static Map<String, Object> jsonEnvironment(List<Config> snapshot) {
+        Map<String, Object> source = new HashMap<>();
+        for (Config config : snapshot) {
+            source.put(config.getPropKey(), config.getPropValue());
+        }
+        Map<String, Object> environment = new LinkedHashMap<>();
+        environment.put("name", KEY.application());
+        environment.put("profiles", new String[]{KEY.profile()});
+        environment.put("label", KEY.label());
+        environment.put("propertySources", List.of(Map.of("name", "bench-app-prod-main", "source", source)));
+        return environment;
+    }
+
+    private static List<Config> snapshot() {
+        return IntStream.range(0, SNAPSHOT_SIZE)
+                .mapToObj(i -> Config.builder()
+                        .application(KEY.application()).profile(KEY.profile()).label(KEY.label())
+                        .propKey("service.module" + (i % 50) + ".setting" + i)
+                        .propValue(i % 3 == 0 ? String.valueOf(i * 17) : "https://host-" + (i % 20) + ".example.com/path/" + i)
+                        .build())
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        byte[] encode() throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        Object decode(byte[] body) throws Exception;
+    }
+}
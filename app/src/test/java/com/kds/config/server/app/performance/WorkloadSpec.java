@@ -0,0 +1,106 @@
+package com.kds.config.server.app.performance;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Open-model workload description for the load generator.
+ * <p>
+ * Requests are issued at a constant arrival rate regardless of how quickly the
+ * server answers, so a slow response never delays the requests scheduled after it.
+ * Every value can be overridden with a {@code perf.*} system property, for example
+ * {@code mvn test -Dtest=ConfigPerformanceTest -Dperf.rate=500 -Dperf.duration=60s}.
+ *
+ * @param arrivalRate   requests issued per second
+ * @param duration      length of the measured phase
+ * @param warmup        length of the unrecorded warm-up phase
+ * @param readRatio     fraction of requests that are reads, between 0 and 1
+ * @param snapshotSizes snapshot size (number of keys) mapped to its relative weight
+ */
+public record WorkloadSpec(double arrivalRate,
+                           Duration duration,
+                           Duration warmup,
+                           double readRatio,
+                           Map<Integer, Double> snapshotSizes) {
+
+    public WorkloadSpec {
+        if (arrivalRate <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        if (readRatio < 0 || readRatio > 1) {
+            throw new IllegalArgumentException("Read ratio must be between 0 and 1");
+        }
+        if (snapshotSizes.isEmpty()) {
+            throw new IllegalArgumentException("At least one snapshot size is required");
+        }
+        snapshotSizes = Map.copyOf(snapshotSizes);
+    }
+
+    /**
+     * Builds a workload from {@code perf.*} system properties, falling back to the given defaults.
+     */
+    public static WorkloadSpec fromSystemProperties(WorkloadSpec defaults) {
+        return new WorkloadSpec(
+                Double.parseDouble(System.getProperty("perf.rate", String.valueOf(defaults.arrivalRate()))),
+                parseDuration(System.getProperty("perf.duration"), defaults.duration()),
+                parseDuration(System.getProperty("perf.warmup"), defaults.warmup()),
+                Double.parseDouble(System.getProperty("perf.readRatio", String.valueOf(defaults.readRatio()))),
+                parseSizes(System.getProperty("perf.snapshotSizes"), defaults.snapshotSizes()));
+    }
+
+    /**
+     * Interval between two consecutive request start times.
+     */
+    public long intervalNanos() {
+        return (long) (1_000_000_000L / arrivalRate);
+    }
+
+    /**
+     * Picks a snapshot size according to the configured weights.
+     */
+    public int nextSnapshotSize() {
+        double total = snapshotSizes.values().stream().mapToDouble(Double::doubleValue).sum();
+        double pick = ThreadLocalRandom.current().nextDouble(total);
+        int size = 0;
+        for (Map.Entry<Integer, Double> entry : snapshotSizes.entrySet()) {
+            size = entry.getKey();
+            pick -= entry.getValue();
+            if (pick < 0) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Decides whether the next request should be a read.
+     */
+    public boolean nextIsRead() {
+        return ThreadLocalRandom.current().nextDouble() < readRatio;
+    }
+
+    private static Duration parseDuration(String value, Duration fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        return Duration.parse("PT" + value.trim().toUpperCase());
+    }
+
+    /**
+     * Parses {@code "10:0.6,100:0.3,1000:0.1"} into a size-to-weight map.
+     */
+    private static Map<Integer, Double> parseSizes(String value, Map<Integer, Double> fallback) {
+        if (value == null || value.isBlank()) {
+            return fallback;
+        }
+        Map<Integer, Double> sizes = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] sizeAndWeight = part.trim().split(":");
+            sizes.put(Integer.parseInt(sizeAndWeight[0]),
+                    sizeAndWeight.length > 1 ? Double.parseDouble(sizeAndWeight[1]) : 1.0);
+        }
+        return sizes;
+    }
+}
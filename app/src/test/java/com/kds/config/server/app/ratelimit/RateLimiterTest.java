@@ -0,0 +1,31 @@
+package com.kds.config.server.app.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Rate Limiter Tests")
+class RateLimiterTest {
+
+    @Test
+    @DisplayName("Should keep made up application names within max-buckets")
+    void shouldBoundBuckets() {
+        AtomicLong now = new AtomicLong();
+        RateLimiter rateLimiter = new RateLimiter(10, 1, 10, 1, false, 3, now::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            rateLimiter.tryAcquire(RateLimiter.Lane.READ, "made-up-" + i, null);
+        }
+        assertThat(rateLimiter.buckets()).isLessThanOrEqualTo(4);
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Lane.READ, "made-up-1000", null)).isPositive();
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Lane.READ, "real-app", null)).isZero();
+        assertThat(rateLimiter.tryAcquire(RateLimiter.Lane.READ, "real-app", null)).isPositive();
+        assertThat(rateLimiter.buckets()).isLessThanOrEqualTo(4);
+    }
+}
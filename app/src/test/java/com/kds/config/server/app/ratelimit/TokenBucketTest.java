@@ -0,0 +1,51 @@
+package com.kds.config.server.app.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Token Bucket Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Should allow a burst, then refill at the configured rate")
+    void shouldAllowBurstThenRefill() {
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        assertThat(IntStream.range(0, 3).mapToLong(i -> bucket.tryAcquire(0))).containsOnly(0L);
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 10);
+        assertThat(bucket.tryAcquire(SECOND / 20)).isEqualTo(SECOND / 20);
+        assertThat(bucket.tryAcquire(SECOND / 10)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 10)).isPositive();
+
+        assertThat(IntStream.range(0, 5).mapToLong(i -> bucket.tryAcquire(10 * SECOND)))
+                .containsExactly(0L, 0L, 0L, SECOND / 10, SECOND / 10);
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly the burst to concurrent callers")
+    void shouldNotOverGrantUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket(1, 1000, 0);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Long>> granted = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> IntStream.range(0, 500)
+                            .filter(j -> bucket.tryAcquire(0) == 0).count()))
+                    .toList();
+            long total = 0;
+            for (Future<Long> future : granted) {
+                total += future.get();
+            }
+            assertThat(total).isEqualTo(1000);
+        }
+    }
+}
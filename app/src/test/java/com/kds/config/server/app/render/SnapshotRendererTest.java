@@ -0,0 +1,164 @@
+package com.kds.config.server.app.render;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.kds.config.server.app.proto.Environment;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.snapshot.Snapshot;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SnapshotRenderer Tests")
+class SnapshotRendererTest {
+
+    private static final Map<String, String> VALUES = Map.of(
+            "server.port", "8080",
+            "db.url", "jdbc:mysql://db:3306/app?useSSL=true",
+            "db.pool.max", "10",
+            "db.pool.min", "2",
+            "feature", "on",
+            "feature.beta", "true",
+            "greeting", "héllo: world # not a comment",
+            "path", "C:\\temp\\new");
+
+    @Test
+    @DisplayName("Should render properties that load back to the same values")
+    void shouldRenderProperties() throws Exception {
+        byte[] rendered = SnapshotRenderer.properties(new TreeMap<>(VALUES));
+
+        Properties properties = new Properties();
+        properties.load(new StringReader(new String(rendered, StandardCharsets.ISO_8859_1)));
+
+        assertThat(properties).containsExactlyInAnyOrderEntriesOf(VALUES);
+        assertThat(new String(rendered, StandardCharsets.ISO_8859_1)).startsWith("db.pool.max=10\n");
+    }
+
+    @Test
+    @DisplayName("Should render nested YAML that flattens back to the same values")
+    void shouldRenderNestedYaml() {
+        String rendered = new String(SnapshotRenderer.yaml(new TreeMap<>(VALUES)), StandardCharsets.UTF_8);
+
+        assertThat(rendered).startsWith("""
+                db:
+                  pool:
+                    max: "10"
+                    min: "2"
+                  url: "jdbc:mysql://db:3306/app?useSSL=true"
+                feature: "on"
+                feature.beta: "true"
+                """);
+        assertThat(flatten("", new Yaml().load(rendered))).containsExactlyInAnyOrderEntriesOf(VALUES);
+    }
+
+    @Test
+    @DisplayName("Should render flat JSON sorted by key")
+    void shouldRenderFlatJson() {
+        String rendered = new String(SnapshotRenderer.json(new TreeMap<>(Map.of("b.key", "2", "a.key", "1"))),
+                StandardCharsets.UTF_8);
+
+        assertThat(rendered).isEqualTo("{\"a.key\":\"1\",\"b.key\":\"2\"}");
+    }
+
+    @Test
+    @DisplayName("Should encode the environment as CBOR, Smile and Protobuf")
+    void shouldEncodeEnvironment() throws Exception {
+        SnapshotKey key = new SnapshotKey("app", "prod", "main");
+        TreeMap<String, String> values = new TreeMap<>(VALUES);
+
+        Map<String, Object> environment = SnapshotRenderer.environment(key, values);
+        TypeReference<Map<String, Object>> type = new TypeReference<>() {
+        };
+        assertThat(new CBORMapper().readValue(SnapshotRenderer.render(key, SnapshotFormat.CBOR, values), type))
+                .isEqualTo(environment);
+        assertThat(new SmileMapper().readValue(SnapshotRenderer.render(key, SnapshotFormat.SMILE, values), type))
+                .isEqualTo(environment);
+
+        Environment decoded = Environment.parseFrom(SnapshotRenderer.render(key, SnapshotFormat.PROTOBUF, values));
+        assertThat(decoded.getName()).isEqualTo("app");
+        assertThat(decoded.getProfilesList()).containsExactly("prod");
+        assertThat(decoded.getLabel()).isEqualTo("main");
+        assertThat(decoded.getPropertySources(0).getName()).isEqualTo("app-prod-main");
+        assertThat(decoded.getPropertySources(0).getSourceMap()).containsExactlyInAnyOrderEntriesOf(VALUES);
+    }
+
+    @Test
+    @DisplayName("Should pick a binary encoding only when Accept prefers it over JSON")
+    void shouldNegotiateBinaryEncoding() {
+        assertThat(SnapshotFormat.fromAccept("application/x-protobuf")).contains(SnapshotFormat.PROTOBUF);
+        assertThat(SnapshotFormat.fromAccept("application/json;q=0.5, application/cbor")).contains(SnapshotFormat.CBOR);
+        assertThat(SnapshotFormat.fromAccept("application/x-jackson-smile, */*;q=0.1")).contains(SnapshotFormat.SMILE);
+        assertThat(SnapshotFormat.fromAccept("application/json, application/cbor")).isEmpty();
+        assertThat(SnapshotFormat.fromAccept("*/*")).isEmpty();
+        assertThat(SnapshotFormat.fromAccept("application/yaml")).isEmpty();
+        assertThat(SnapshotFormat.fromAccept(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should render once while the snapshot rows are unchanged")
+    void shouldServeCachedRenderingWhileRowsUnchanged() {
+        RenderedSnapshotCache cache = new RenderedSnapshotCache(1 << 20);
+        SnapshotKey key = new SnapshotKey("app", "prod", null);
+
+        RenderedSnapshotCache.RenderedSnapshot first = cache.render(key, SnapshotFormat.YAML, snapshot("1", false));
+        RenderedSnapshotCache.RenderedSnapshot second = cache.render(key, SnapshotFormat.YAML, snapshot("1", false));
+        RenderedSnapshotCache.RenderedSnapshot changed = cache.render(key, SnapshotFormat.YAML, snapshot("2", false));
+
+        assertThat(second.body()).isSameAs(first.body());
+        assertThat(first.cacheHit()).isFalse();
+        assertThat(second.cacheHit()).isTrue();
+        assertThat(changed.cacheHit()).isFalse();
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+        assertThat(cache.renders()).isEqualTo(2);
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should render snapshots with decrypted values on every read")
+    void shouldNotCacheDecryptedSnapshots() {
+        RenderedSnapshotCache cache = new RenderedSnapshotCache(1 << 20);
+        SnapshotKey key = new SnapshotKey("app", "prod", null);
+
+        RenderedSnapshotCache.RenderedSnapshot first = cache.render(key, SnapshotFormat.YAML, snapshot("secret", true));
+        RenderedSnapshotCache.RenderedSnapshot second = cache.render(key, SnapshotFormat.YAML, snapshot("secret", true));
+
+        assertThat(second.body()).isNotSameAs(first.body());
+        assertThat(second.cacheHit()).isFalse();
+        assertThat(second.etag()).isEqualTo(first.etag());
+        assertThat(cache.renders()).isEqualTo(2);
+        assertThat(cache.hits()).isZero();
+    }
+
+    private static Snapshot snapshot(String value, boolean decrypted) {
+        return new Snapshot(List.of(config("a.b", value)), Instant.now(), false, decrypted);
+    }
+
+    private static Config config(String key, String value) {
+        return Config.builder().application("app").profile("prod").label("main").propKey(key).propValue(value).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> flatten(String prefix, Map<String, Object> yaml) {
+        Map<String, String> flat = new TreeMap<>();
+        yaml.forEach((key, value) -> {
+            if (value instanceof Map<?, ?> nested) {
+                flat.putAll(flatten(prefix + key + ".", (Map<String, Object>) nested));
+            } else {
+                flat.put(prefix + key, String.valueOf(value));
+            }
+        });
+        return flat;
+    }
+}
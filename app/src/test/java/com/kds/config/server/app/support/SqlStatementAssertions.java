@@ -0,0 +1,48 @@
+package com.kds.config.server.app.support;
+
+import com.kds.config.server.core.jdbc.StatementScope;
+import com.kds.config.server.core.jdbc.StatementTracker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test helper for asserting how many SQL statements a piece of code issues.
+ * <p>
+ * The call must run on the calling thread, which holds for MockMvc requests and direct
+ * service or repository calls:
+ * <pre>{@code
+ * assertStatementCount(statementTracker, 1, () -> mockMvc.perform(get("/api/v1/configs/app/dev/v1")));
+ * }</pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * Runs the call and returns the statements, rows and time it caused.
+     */
+    public static StatementScope countStatements(StatementTracker tracker, ThrowingRunnable call) throws Exception {
+        try (StatementScope scope = tracker.openScope()) {
+            call.run();
+            return scope;
+        }
+    }
+
+    /**
+     * Runs the call and asserts it executed exactly {@code expected} statements.
+     */
+    public static StatementScope assertStatementCount(StatementTracker tracker, long expected, ThrowingRunnable call)
+            throws Exception {
+        StatementScope scope = countStatements(tracker, call);
+        assertThat(scope.getStatements())
+                .as("SQL statements executed (%s)", scope)
+                .isEqualTo(expected);
+        return scope;
+    }
+}
@@ -0,0 +1,90 @@
+package com.kds.config.server.app.tracing;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.service.ConfigService;
+import com.kds.config.server.service.crypto.SnapshotDecryptor;
+import com.kds.config.server.service.crypto.ValueCipher;
+import com.kds.config.server.service.placeholder.PlaceholderResolver;
+import com.kds.config.server.service.exception.ConfigServiceException;
+import com.kds.config.server.service.snapshot.LastKnownGoodStore;
+import com.kds.config.server.service.snapshot.MissingKeyFilter;
+import com.kds.config.server.service.snapshot.SnapshotLoader;
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import com.kds.config.server.service.write.GroupCommitWriter;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConfigObservationAspect Tests")
+class ConfigObservationAspectTest {
+
+    private TestObservationRegistry observationRegistry;
+    private ConfigRepository configRepository;
+    private ConfigService configService;
+
+    @BeforeEach
+    void setUp() {
+        observationRegistry = TestObservationRegistry.create();
+        configRepository = mock(ConfigRepository.class);
+        ValueCipher valueCipher = new ValueCipher(Map.of(), "config");
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new ConfigService(configRepository, new SnapshotLoader(),
+                new LastKnownGoodStore("", 10_000), valueCipher, new SnapshotDecryptor(valueCipher, 0),
+                new PlaceholderResolver(true, 100), mock(GroupCommitWriter.class),
+                mock(ConfigHistoryRecorder.class), mock(MissingKeyFilter.class)));
+        proxyFactory.addAspect(new ConfigObservationAspect(observationRegistry));
+        configService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should observe service reads with coordinates and row count")
+    void shouldObserveServiceReads() {
+        when(configRepository.findByApplicationAndProfileAndLabel("app", "dev", "main"))
+                .thenReturn(List.of(new Config(), new Config(), new Config()));
+
+        configService.getConfigsByApplicationAndProfileAndLabel("app", "dev", "main");
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+                .hasSingleObservationThat()
+                .hasNameEqualTo("config.service")
+                .hasContextualNameEqualTo("ConfigService#getConfigsByApplicationAndProfileAndLabel")
+                .hasLowCardinalityKeyValue("class", "ConfigService")
+                .hasLowCardinalityKeyValue("method", "getConfigsByApplicationAndProfileAndLabel")
+                .hasHighCardinalityKeyValue(ConfigObservationAspect.APPLICATION, "app")
+                .hasHighCardinalityKeyValue(ConfigObservationAspect.PROFILE, "dev")
+                .hasHighCardinalityKeyValue(ConfigObservationAspect.LABEL, "main")
+                .hasHighCardinalityKeyValue(ConfigObservationAspect.ROWS, "3")
+                .hasBeenStopped();
+    }
+
+    @Test
+    @DisplayName("Should take coordinates from entity arguments and record errors")
+    void shouldRecordErrors() {
+        Config config = Config.builder()
+                .application("app").profile("dev").label("main").propKey("db.url").propValue("x")
+                .build();
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey("app", "dev", "main", "db.url"))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> configService.updateConfig(config)).isInstanceOf(ConfigServiceException.class);
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+                .hasSingleObservationThat()
+                .hasNameEqualTo("config.service")
+                .hasHighCardinalityKeyValue(ConfigObservationAspect.APPLICATION, "app")
+                .hasHighCardinalityKeyValue(ConfigObservationAspect.KEY, "db.url")
+                .doesNotHaveHighCardinalityKeyValueWithKey(ConfigObservationAspect.ROWS)
+                .hasError();
+    }
+}
@@ -0,0 +1,41 @@
+package com.kds.config.server.core.bulkhead;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Serves each {@link Lane} from its own connection pool, so that batch operations holding connections
+ * cannot take the ones reads need.
+ * <p>
+ * Enabled with {@code config.bulkhead.enabled=true}, unless the store is sharded: shards keep one pool
+ * each, and the lanes are then only kept apart by their concurrency limits.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnExpression("${config.bulkhead.enabled:false} && !${config.sharding.enabled:false}")
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadDataSourceConfig {
+
+    @Bean
+    public LaneDataSources laneDataSources(DataSourceProperties dataSourceProperties,
+                                           BulkheadProperties bulkheadProperties, Environment environment) {
+        return new LaneDataSources(dataSourceProperties, bulkheadProperties, Binder.get(environment));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(LaneDataSources laneDataSources) {
+        return new LaneRoutingDataSource(laneDataSources);
+    }
+}
@@ -0,0 +1,77 @@
+package com.kds.config.server.core.bulkhead;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Limits of each {@link Lane}, bound from {@code config.bulkhead.*}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "config.bulkhead")
+public class BulkheadProperties {
+
+    /**
+     * Whether requests are limited per lane and served by a connection pool per lane.
+     */
+    private boolean enabled;
+
+    private Limits read = new Limits(64, 64, Duration.ofMillis(100), 16);
+
+    private Limits write = new Limits(16, 32, Duration.ofMillis(500), 8);
+
+    private Limits batch = new Limits(4, 4, Duration.ofSeconds(1), 4);
+
+    /**
+     * @return The limits of a lane
+     */
+    public Limits of(Lane lane) {
+        return switch (lane) {
+            case READ -> read;
+            case WRITE -> write;
+            case BATCH -> batch;
+        };
+    }
+
+    /**
+     * Limits of one lane.
+     */
+    @Data
+    public static class Limits {
+
+        /**
+         * Requests served at once.
+         */
+        private int maxConcurrent;
+
+        /**
+         * Requests waiting for one of the {@link #maxConcurrent} slots; more are rejected right away.
+         */
+        private int maxQueued;
+
+        /**
+         * How long a queued request waits for a slot before it is rejected.
+         */
+        private Duration maxWait;
+
+        /**
+         * Connections in the lane's pool.
+         */
+        private int poolSize;
+
+        public Limits() {
+        }
+
+        public Limits(int maxConcurrent, int maxQueued, Duration maxWait, int poolSize) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.maxWait = maxWait;
+            this.poolSize = poolSize;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.kds.config.server.core.bulkhead;
+
+/**
+ * The kinds of traffic that are kept apart, each with its own concurrency limit and connection pool.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum Lane {
+
+    /**
+     * Snapshot and key reads, which clients wait on at startup and refresh.
+     */
+    READ,
+
+    /**
+     * Single-key writes.
+     */
+    WRITE,
+
+    /**
+     * Batch, bulk, upsert and clone operations, which hold connections for many rows.
+     */
+    BATCH
+}
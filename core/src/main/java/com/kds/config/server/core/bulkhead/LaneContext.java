@@ -0,0 +1,88 @@
+package com.kds.config.server.core.bulkhead;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The lane that statements on the current thread belong to.
+ * <p>
+ * The lane is bound for the whole request, before any transaction takes a connection, so every statement of
+ * the request is served by the lane's pool.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LaneContext {
+
+    private static final ThreadLocal<Lane> CURRENT = new ThreadLocal<>();
+
+    private LaneContext() {
+    }
+
+    /**
+     * @return The lane bound to the current thread, or {@code null} if none is
+     */
+    public static Lane current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a lane to the current thread until {@link #clear()}.
+     */
+    public static void bind(Lane lane) {
+        CURRENT.set(lane);
+    }
+
+    /**
+     * Unbinds the lane of the current thread.
+     */
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps a task to run with the lane of the submitting thread, for work a request hands to another thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        Lane lane = CURRENT.get();
+        if (lane == null) {
+            return task;
+        }
+        return () -> {
+            Lane previous = CURRENT.get();
+            CURRENT.set(lane);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps a task to run with the lane of the submitting thread, for work a request hands to another thread.
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Lane lane = CURRENT.get();
+        if (lane == null) {
+            return task;
+        }
+        return () -> {
+            Lane previous = CURRENT.get();
+            CURRENT.set(lane);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Lane previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
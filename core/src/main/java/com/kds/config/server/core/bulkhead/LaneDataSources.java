@@ -0,0 +1,58 @@
+package com.kds.config.server.core.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One Hikari pool per {@link Lane}, all connecting to {@code spring.datasource} with the
+ * {@code spring.datasource.hikari} settings except for the pool size. Pools connect on first use and are
+ * closed with the application context.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class LaneDataSources implements AutoCloseable {
+
+    private final Map<Lane, HikariDataSource> dataSources = new EnumMap<>(Lane.class);
+
+    public LaneDataSources(DataSourceProperties dataSourceProperties, BulkheadProperties bulkheadProperties,
+                           Binder binder) {
+        for (Lane lane : Lane.values()) {
+            HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+            dataSource.setPoolName("config-" + lane.name().toLowerCase(Locale.ROOT) + "-pool");
+            dataSource.setMaximumPoolSize(bulkheadProperties.of(lane).getPoolSize());
+            dataSources.put(lane, dataSource);
+        }
+    }
+
+    /**
+     * @return The pool of a lane
+     */
+    public HikariDataSource get(Lane lane) {
+        return dataSources.get(lane);
+    }
+
+    /**
+     * @return The pools by lane
+     */
+    public Map<Lane, DataSource> all() {
+        return Collections.unmodifiableMap(dataSources);
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,25 @@
+package com.kds.config.server.core.bulkhead;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections of the pool of the lane bound by {@link LaneContext}. Work outside any request,
+ * such as background writers and schema migration at startup, uses the {@link Lane#WRITE} pool.
+ */
+class LaneRoutingDataSource extends AbstractRoutingDataSource {
+
+    LaneRoutingDataSource(LaneDataSources lanes) {
+        Map<Object, Object> targets = new LinkedHashMap<>(lanes.all());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(lanes.get(Lane.WRITE));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return LaneContext.current();
+    }
+}
@@ -46,4 +46,21 @@ public class Config extends BaseEntity {
     @Column(name = "prop_value", length = 500, nullable = false, columnDefinition = "TEXT")
     @Schema(description = "Configuration property value", example = "jdbc:postgresql://prod-db:5432/userdb", required = true, maxLength = 500)
     private String propValue;
-} 
\ No newline at end of file
+
+    /**
+     * Returns a detached copy of this configuration, audit fields included, with another value. Used to serve
+     * derived values without modifying the loaded entity.
+     *
+     * @param value The value of the copy
+     * @return The copy
+     */
+    public Config withPropValue(String value) {
+        Config copy = new Config(application, profile, label, propKey, value);
+        copy.setId(getId());
+        copy.setCreatedAt(getCreatedAt());
+        copy.setUpdatedAt(getUpdatedAt());
+        copy.setCreatedBy(getCreatedBy());
+        copy.setUpdatedBy(getUpdatedBy());
+        return copy;
+    }
+}
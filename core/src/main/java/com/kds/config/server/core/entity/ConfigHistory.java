@@ -0,0 +1,114 @@
+package com.kds.config.server.core.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * One change of a configuration property, with its value before and after.
+ * <p>
+ * Rows are only ever appended; values are kept as stored, so {@code {cipher}} values stay encrypted.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "config_history", indexes = {
+        @Index(name = "idx_config_history_key", columnList = "application, prop_key, changed_at"),
+        @Index(name = "idx_config_history_application", columnList = "application, changed_at"),
+        @Index(name = "idx_config_history_changed_at", columnList = "changed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Change of a configuration property")
+public class ConfigHistory {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application", length = 50, nullable = false)
+    @Schema(description = "Application name", example = "user-service")
+    private String application;
+
+    @Column(name = "profile", length = 20, nullable = false)
+    @Schema(description = "Environment profile", example = "prod")
+    private String profile;
+
+    @Column(name = "label", length = 100)
+    @Schema(description = "Version label or branch", example = "v1.0.0")
+    private String label;
+
+    @Column(name = "prop_key", length = 100, nullable = false)
+    @Schema(description = "Configuration property key", example = "database.url")
+    private String propKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", length = 10, nullable = false)
+    @Schema(description = "What happened to the property", example = "UPDATED")
+    private ChangeType changeType;
+
+    @Column(name = "old_value", columnDefinition = "TEXT")
+    @Schema(description = "Value before the change; absent when created", example = "jdbc:mysql://old-db:3306/users")
+    private String oldValue;
+
+    @Column(name = "new_value", columnDefinition = "TEXT")
+    @Schema(description = "Value after the change; absent when deleted", example = "jdbc:mysql://new-db:3306/users")
+    private String newValue;
+
+    @Column(name = "changed_at", nullable = false)
+    @Schema(description = "When the change was made")
+    private Timestamp changedAt;
+
+    @Column(name = "changed_by", length = 50, nullable = false)
+    @Schema(description = "Who made the change", example = "SYSTEM")
+    private String changedBy;
+
+    public static ConfigHistory created(Config config) {
+        return of(config, ChangeType.CREATED, null, config.getPropValue());
+    }
+
+    public static ConfigHistory updated(Config config, String oldValue) {
+        return of(config, ChangeType.UPDATED, oldValue, config.getPropValue());
+    }
+
+    public static ConfigHistory deleted(Config config) {
+        return of(config, ChangeType.DELETED, config.getPropValue(), null);
+    }
+
+    private static ConfigHistory of(Config config, ChangeType changeType, String oldValue, String newValue) {
+        return ConfigHistory.builder()
+                .application(config.getApplication())
+                .profile(config.getProfile())
+                .label(config.getLabel())
+                .propKey(config.getPropKey())
+                .changeType(changeType)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .changedAt(new Timestamp(System.currentTimeMillis()))
+                .changedBy("SYSTEM")
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.kds.config.server.core.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+
+/**
+ * How often a snapshot or a property has been read.
+ * <p>
+ * A row with an empty {@code propKey} counts reads of the whole snapshot, and one with an empty
+ * {@code label} reads made without a label, which cover every label of the profile.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "config_usage", uniqueConstraints = @UniqueConstraint(name = "uk_config_usage",
+        columnNames = {"application", "profile", "label", "prop_key"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Read count of a snapshot or configuration property")
+public class ConfigUsage {
+
+    /**
+     * The label of reads made without one, and the key of snapshot reads.
+     */
+    public static final String NONE = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application", length = 100, nullable = false)
+    @Schema(description = "Application name", example = "user-service")
+    private String application;
+
+    @Column(name = "profile", length = 100, nullable = false)
+    @Schema(description = "Environment profile", example = "prod")
+    private String profile;
+
+    @Column(name = "label", length = 100, nullable = false)
+    @Schema(description = "Version label or branch; empty for reads without a label", example = "v1.0.0")
+    private String label;
+
+    @Column(name = "prop_key", length = 150, nullable = false)
+    @Schema(description = "Configuration property key; empty for snapshot reads", example = "database.url")
+    private String propKey;
+
+    @Column(name = "read_count", nullable = false)
+    @Schema(description = "Number of reads", example = "1200")
+    private long readCount;
+
+    @Column(name = "first_read_at", nullable = false)
+    @Schema(description = "When the first read was recorded")
+    private Timestamp firstReadAt;
+
+    @Column(name = "last_read_at", nullable = false)
+    @Schema(description = "When the latest read was recorded")
+    private Timestamp lastReadAt;
+}
@@ -0,0 +1,35 @@
+package com.kds.config.server.core.hash;
+
+/**
+ * A fast 64-bit hash of strings for in-memory sketches and filters: FNV-1a over the low and high byte of
+ * each character, finished with the MurmurHash3 mixer so that both 32-bit halves are usable on their own.
+ * Not stable across versions; never persist it.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class KeyHash {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private KeyHash() {
+    }
+
+    /**
+     * @param value The string to hash
+     * @return Its mixed 64-bit FNV-1a hash
+     */
+    public static long of(String value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+            hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
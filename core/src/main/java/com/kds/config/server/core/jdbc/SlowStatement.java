@@ -0,0 +1,24 @@
+package com.kds.config.server.core.jdbc;
+
+import java.time.Instant;
+
+/**
+ * A statement that took longer than the slow-statement threshold.
+ *
+ * @param timestamp When the statement finished
+ * @param sql The SQL text as sent to the driver
+ * @param bindShape JDBC types of the bound parameters, e.g. {@code (String, String) x 50} for a batch;
+ *                  values are never captured
+ * @param elapsedMillis Execution time
+ * @param rows Rows reported as updated (result set rows are not known at this point)
+ * @param repositoryMethod Repository method that issued the statement, if any
+ * @param thread Name of the executing thread
+ */
+public record SlowStatement(Instant timestamp,
+                            String sql,
+                            String bindShape,
+                            double elapsedMillis,
+                            long rows,
+                            String repositoryMethod,
+                            String thread) {
+}
@@ -0,0 +1,72 @@
+package com.kds.config.server.core.jdbc;
+
+/**
+ * Counts the JDBC statements, rows and statement time of one unit of work on one thread,
+ * such as an HTTP request or a block of test code.
+ * <p>
+ * Scopes nest: a statement is counted in the innermost open scope and in every scope
+ * enclosing it. Scopes are opened with {@link StatementTracker#openScope()} and must be
+ * closed on the thread that opened them, preferably with try-with-resources.
+ */
+public final class StatementScope implements AutoCloseable {
+
+    private final StatementTracker tracker;
+    private final StatementScope parent;
+    private long statements;
+    private long rows;
+    private long nanos;
+    private boolean closed;
+
+    StatementScope(StatementTracker tracker, StatementScope parent) {
+        this.tracker = tracker;
+        this.parent = parent;
+    }
+
+    StatementScope parent() {
+        return parent;
+    }
+
+    void addStatement(long elapsedNanos, long affectedRows) {
+        statements++;
+        rows += affectedRows;
+        nanos += elapsedNanos;
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    /**
+     * Number of statements executed; a JDBC batch counts as one statement.
+     */
+    public long getStatements() {
+        return statements;
+    }
+
+    /**
+     * Rows read from result sets plus rows reported as updated.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Time spent executing statements, excluding result set iteration.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            tracker.closeScope(this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StatementScope[statements=" + statements + ", rows=" + rows + ", nanos=" + nanos + "]";
+    }
+}
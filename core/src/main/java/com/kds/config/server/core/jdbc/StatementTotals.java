@@ -0,0 +1,48 @@
+package com.kds.config.server.core.jdbc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe running totals of statement activity for one repository method or request mapping.
+ */
+public final class StatementTotals {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder nanos = new LongAdder();
+
+    void addInvocation(long statementCount, long rowCount, long elapsedNanos) {
+        invocations.increment();
+        statements.add(statementCount);
+        rows.add(rowCount);
+        nanos.add(elapsedNanos);
+    }
+
+    void addStatement(long elapsedNanos, long rowCount) {
+        statements.increment();
+        rows.add(rowCount);
+        nanos.add(elapsedNanos);
+    }
+
+    void addRows(long rowCount) {
+        rows.add(rowCount);
+    }
+
+    /**
+     * Point-in-time view of these totals.
+     *
+     * @param invocations Number of times the method or request ran (0 when not tracked)
+     * @param statements Statements executed
+     * @param rows Rows read or updated
+     * @param timeMillis Time spent executing statements
+     */
+    public record Snapshot(long invocations, long statements, long rows, double timeMillis) {
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(invocations.sum(), statements.sum(), rows.sum(),
+                nanos.sum() / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
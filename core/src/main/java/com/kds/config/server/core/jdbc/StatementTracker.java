@@ -0,0 +1,171 @@
+package com.kds.config.server.core.jdbc;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Collects JDBC statement counts, row counts and statement time.
+ * <p>
+ * Statements are attributed to the repository method running on the current thread
+ * and to every open {@link StatementScope}. Statements issued outside a repository
+ * method, such as Hibernate flushing dirty entities at commit, are reported under
+ * {@code (none)}.
+ * <p>
+ * Statements slower than the configured threshold are kept in a fixed-size ring buffer
+ * together with the shape of their bind parameters, so the slowest recent statements
+ * can be inspected without logging every query.
+ */
+public class StatementTracker {
+
+    static final String NO_REPOSITORY_METHOD = "(none)";
+
+    private final ThreadLocal<StatementScope> currentScope = new ThreadLocal<>();
+    private final ThreadLocal<String> currentRepositoryMethod = new ThreadLocal<>();
+
+    private volatile StatementTotals total = new StatementTotals();
+    private final Map<String, StatementTotals> byRepositoryMethod = new ConcurrentHashMap<>();
+    private final Map<String, StatementTotals> byRequest = new ConcurrentHashMap<>();
+
+    private final long slowThresholdNanos;
+    private final AtomicReferenceArray<SlowStatement> slowStatements;
+    private final AtomicLong slowStatementCount = new AtomicLong();
+
+    public StatementTracker(long slowThresholdMillis, int slowStatementCapacity) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.slowStatements = new AtomicReferenceArray<>(Math.max(1, slowStatementCapacity));
+    }
+
+    /**
+     * Opens a scope on the current thread. The caller must close it on the same thread.
+     */
+    public StatementScope openScope() {
+        StatementScope scope = new StatementScope(this, currentScope.get());
+        currentScope.set(scope);
+        return scope;
+    }
+
+    void closeScope(StatementScope scope) {
+        if (currentScope.get() == scope) {
+            if (scope.parent() == null) {
+                currentScope.remove();
+            } else {
+                currentScope.set(scope.parent());
+            }
+        }
+    }
+
+    /**
+     * Adds a finished scope to the per-request totals under the given name,
+     * typically the HTTP method and the matched URI pattern.
+     */
+    public void recordRequest(String name, StatementScope scope) {
+        byRequest.computeIfAbsent(name, key -> new StatementTotals())
+                .addInvocation(scope.getStatements(), scope.getRows(), scope.getNanos());
+    }
+
+    /**
+     * Runs a repository method with its statements attributed to {@code name}.
+     * Nested repository calls keep the outermost name.
+     */
+    public <T> T inRepositoryMethod(String name, Supplier<T> invocation) {
+        if (currentRepositoryMethod.get() != null) {
+            return invocation.get();
+        }
+        StatementScope scope = openScope();
+        currentRepositoryMethod.set(name);
+        try {
+            return invocation.get();
+        } finally {
+            currentRepositoryMethod.remove();
+            scope.close();
+            byRepositoryMethod.computeIfAbsent(name, key -> new StatementTotals())
+                    .addInvocation(scope.getStatements(), scope.getRows(), scope.getNanos());
+        }
+    }
+
+    void onStatement(String sql, String bindShape, long elapsedNanos, long rows) {
+        for (StatementScope scope = currentScope.get(); scope != null; scope = scope.parent()) {
+            scope.addStatement(elapsedNanos, rows);
+        }
+        total.addStatement(elapsedNanos, rows);
+        if (currentRepositoryMethod.get() == null) {
+            byRepositoryMethod.computeIfAbsent(NO_REPOSITORY_METHOD, key -> new StatementTotals())
+                    .addStatement(elapsedNanos, rows);
+        }
+        if (elapsedNanos >= slowThresholdNanos) {
+            long slot = slowStatementCount.getAndIncrement() % slowStatements.length();
+            slowStatements.set((int) slot, new SlowStatement(
+                    Instant.now(),
+                    sql,
+                    bindShape,
+                    elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                    rows,
+                    currentRepositoryMethod.get(),
+                    Thread.currentThread().getName()));
+        }
+    }
+
+    void onRowsRead(long rows) {
+        for (StatementScope scope = currentScope.get(); scope != null; scope = scope.parent()) {
+            scope.addRows(rows);
+        }
+        total.addRows(rows);
+        if (currentRepositoryMethod.get() == null) {
+            byRepositoryMethod.computeIfAbsent(NO_REPOSITORY_METHOD, key -> new StatementTotals()).addRows(rows);
+        }
+    }
+
+    /**
+     * Point-in-time view of everything collected since startup or the last {@link #reset()}.
+     *
+     * @param total Totals across all statements
+     * @param repositoryMethods Totals per repository method
+     * @param requests Totals per request mapping
+     * @param slowStatements Recent slow statements, slowest first
+     */
+    public record Statistics(StatementTotals.Snapshot total,
+                             Map<String, StatementTotals.Snapshot> repositoryMethods,
+                             Map<String, StatementTotals.Snapshot> requests,
+                             List<SlowStatement> slowStatements) {
+    }
+
+    public Statistics statistics() {
+        List<SlowStatement> slow = new ArrayList<>();
+        for (int i = 0; i < slowStatements.length(); i++) {
+            SlowStatement statement = slowStatements.get(i);
+            if (statement != null) {
+                slow.add(statement);
+            }
+        }
+        slow.sort(Comparator.comparingDouble(SlowStatement::elapsedMillis).reversed());
+        return new Statistics(total.snapshot(), snapshots(byRepositoryMethod), snapshots(byRequest), slow);
+    }
+
+    /**
+     * Clears all totals and the slow-statement buffer. Open scopes are unaffected.
+     */
+    public void reset() {
+        total = new StatementTotals();
+        byRepositoryMethod.clear();
+        byRequest.clear();
+        for (int i = 0; i < slowStatements.length(); i++) {
+            slowStatements.set(i, null);
+        }
+        slowStatementCount.set(0);
+    }
+
+    private static Map<String, StatementTotals.Snapshot> snapshots(Map<String, StatementTotals> totals) {
+        Map<String, StatementTotals.Snapshot> result = new TreeMap<>();
+        totals.forEach((name, value) -> result.put(name, value.snapshot()));
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+package com.kds.config.server.core.jdbc;
+
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every {@link DataSource} with a datasource-proxy that reports to the {@link StatementTracker},
+ * and marks each Spring Data repository call so its statements are attributed to the repository method.
+ * Statements are also observed through the {@link ObservationRegistry}, when one is present.
+ * Disable with {@code config.jdbc.statistics.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "config.jdbc.statistics.enabled", havingValue = "true", matchIfMissing = true)
+public class StatementTrackingConfig {
+
+    @Bean
+    public StatementTracker statementTracker(
+            @Value("${config.jdbc.statistics.slow-statement-threshold-ms:50}") long slowThresholdMillis,
+            @Value("${config.jdbc.statistics.slow-statement-capacity:100}") int slowStatementCapacity) {
+        return new StatementTracker(slowThresholdMillis, slowStatementCapacity);
+    }
+
+    @Bean
+    public static BeanPostProcessor statementTrackingDataSourcePostProcessor(ObjectProvider<StatementTracker> tracker,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    StatementTrackingListener listener = new StatementTrackingListener(tracker.getObject(),
+                            observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(listener)
+                            .methodListener(listener)
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor statementTrackingRepositoryPostProcessor(ObjectProvider<StatementTracker> tracker) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> {
+                                String repository = information.getRepositoryInterface().getSimpleName();
+                                proxyFactory.addAdvice((MethodInterceptor) invocation -> tracker.getObject()
+                                        .inRepositoryMethod(repository + "." + invocation.getMethod().getName(),
+                                                () -> proceed(invocation)));
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.kds.config.server.core.jdbc;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * datasource-proxy listener that feeds executed statements and result set rows into a {@link StatementTracker}
+ * and wraps each statement in a {@code config.jdbc.statement} observation, so statements show up as
+ * child spans of the service call that issued them.
+ */
+class StatementTrackingListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = StatementTrackingListener.class.getName() + ".start";
+    private static final String OBSERVATION = StatementTrackingListener.class.getName() + ".observation";
+
+    private final StatementTracker tracker;
+    private final ObservationRegistry observationRegistry;
+
+    StatementTrackingListener(StatementTracker tracker) {
+        this(tracker, ObservationRegistry.NOOP);
+    }
+
+    StatementTrackingListener(StatementTracker tracker, ObservationRegistry observationRegistry) {
+        this.tracker = tracker;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!observationRegistry.isNoop()) {
+            String sql = sql(queryInfoList);
+            String operation = operation(sql);
+            Observation observation = Observation.createNotStarted("config.jdbc.statement", observationRegistry)
+                    .contextualName("jdbc " + operation)
+                    .lowCardinalityKeyValue("db.operation", operation)
+                    .highCardinalityKeyValue("db.statement", sql)
+                    .start();
+            execInfo.addCustomValue(OBSERVATION, observation);
+        }
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsed = start == null ? 0 : System.nanoTime() - start;
+        long rows = updatedRows(execInfo.getResult());
+        tracker.onStatement(sql(queryInfoList), bindShape(execInfo, queryInfoList), elapsed, rows);
+
+        Observation observation = execInfo.getCustomValue(OBSERVATION, Observation.class);
+        if (observation != null) {
+            if (execInfo.isBatch()) {
+                observation.highCardinalityKeyValue("db.batch.size", String.valueOf(execInfo.getBatchSize()));
+            }
+            if (!(execInfo.getResult() instanceof ResultSet)) {
+                observation.highCardinalityKeyValue("db.rows", String.valueOf(rows));
+            }
+            if (execInfo.getThrowable() != null) {
+                observation.error(execInfo.getThrowable());
+            }
+            observation.stop();
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && "next".equals(executionContext.getMethod().getName())
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            tracker.onRowsRead(1);
+        }
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        return queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+    }
+
+    /**
+     * The leading SQL keyword in lower case, e.g. {@code select}, used as a low-cardinality tag.
+     */
+    static String operation(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "other" : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+
+    private static long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        long rows = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                rows += Math.max(count, 0);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                rows += Math.max(count, 0);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Describes the bound parameters by type only, e.g. {@code (String, Long)}, never by value.
+     */
+    static String bindShape(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty() || queryInfoList.get(0).getParametersList().isEmpty()) {
+            return "()";
+        }
+        List<ParameterSetOperation> parameters = queryInfoList.get(0).getParametersList().get(0);
+        StringJoiner shape = new StringJoiner(", ", "(", ")");
+        for (ParameterSetOperation parameter : parameters) {
+            String setter = parameter.getMethod().getName();
+            shape.add(setter.startsWith("set") ? setter.substring(3) : setter);
+        }
+        int batchSize = execInfo.isBatch() ? execInfo.getBatchSize() : 1;
+        return batchSize > 1 ? shape + " x " + batchSize : shape.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.kds.config.server.core.repository;
+
+import java.sql.Timestamp;
+
+/**
+ * Selects changes from the configuration history.
+ * <p>
+ * The application is required; every other part narrows the selection when present and matches
+ * anything when {@code null}.
+ *
+ * @param application Application name
+ * @param profile Environment profile, or {@code null} for all profiles
+ * @param label Version label, or {@code null} for all labels
+ * @param propKey Property key, or {@code null} for all keys
+ * @param from Earliest change time, inclusive, or {@code null}
+ * @param to Latest change time, exclusive, or {@code null}
+ * @param limit Maximum number of changes returned, newest first
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ConfigHistoryQuery(String application, String profile, String label, String propKey,
+                                 Timestamp from, Timestamp to, int limit) {
+
+    public ConfigHistoryQuery {
+        if (application == null || application.isEmpty()) {
+            throw new IllegalArgumentException("A history query requires an application");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("A history query requires a positive limit");
+        }
+    }
+}
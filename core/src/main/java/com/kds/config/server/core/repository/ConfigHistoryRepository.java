@@ -0,0 +1,9 @@
+package com.kds.config.server.core.repository;
+
+import com.kds.config.server.core.entity.ConfigHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ConfigHistoryRepository extends JpaRepository<ConfigHistory, Long>, ConfigHistoryRepositoryCustom {
+}
@@ -0,0 +1,59 @@
+package com.kds.config.server.core.repository;
+
+import com.kds.config.server.core.entity.ConfigHistory;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Set-based access to the configuration history that Spring Data cannot derive.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ConfigHistoryRepositoryCustom {
+
+    /**
+     * Appends changes with one JDBC batch.
+     *
+     * @param changes The changes to append
+     */
+    void insertAll(List<ConfigHistory> changes);
+
+    /**
+     * Appends a {@link ConfigHistory.ChangeType#CREATED} change for every configuration of one label, with a
+     * single {@code INSERT ... SELECT} from {@code config}; no rows pass through the application.
+     *
+     * @param application Application name
+     * @param profile Profile name
+     * @param label Label name
+     * @param changedAt When the label was created
+     * @param changedBy Who created it
+     * @return The number of changes appended
+     */
+    int insertCreatedFromLabel(String application, String profile, String label, Timestamp changedAt,
+                               String changedBy);
+
+    /**
+     * Finds changes, newest first.
+     * <p>
+     * Writers record updates and deletions without reading the value they replace; a change stored without
+     * an old value gets the new value of the key's previous change. It stays empty when that change has
+     * been dropped or deleted by retention, or predates the history.
+     *
+     * @param query What to select
+     * @return Up to {@code query.limit()} changes
+     */
+    List<ConfigHistory> search(ConfigHistoryQuery query);
+
+    /**
+     * Deletes up to {@code limit} of the oldest changes made before {@code cutoff}. The delete commits on its
+     * own unless a transaction is active; call repeatedly until it returns {@code 0}.
+     *
+     * @param cutoff Changes before this time are deleted
+     * @param limit Maximum number of changes deleted
+     * @return The number of changes deleted
+     */
+    int deleteChangedBefore(Timestamp cutoff, int limit);
+}
@@ -0,0 +1,108 @@
+package com.kds.config.server.core.repository;
+
+import com.kds.config.server.core.entity.ConfigHistory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link ConfigHistoryRepositoryCustom}, picked up by Spring Data as a repository fragment.
+ */
+class ConfigHistoryRepositoryCustomImpl implements ConfigHistoryRepositoryCustom {
+
+    private static final String COLUMNS =
+            "application, profile, label, prop_key, change_type, old_value, new_value, changed_at, changed_by";
+
+    // The old value of an update or deletion recorded without one is the new value of the key's previous change
+    private static final String OLD_VALUE = "COALESCE(h.old_value, CASE WHEN h.change_type <> 'CREATED' THEN "
+            + "(SELECT p.new_value FROM config_history p WHERE p.application = h.application "
+            + "AND p.prop_key = h.prop_key AND p.profile = h.profile "
+            + "AND (p.label = h.label OR (p.label IS NULL AND h.label IS NULL)) AND p.id < h.id "
+            + "ORDER BY p.id DESC LIMIT 1) END)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ConfigHistoryRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertAll(List<ConfigHistory> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (ConfigHistory change : changes) {
+            rows.add(new Object[]{change.getApplication(), change.getProfile(), change.getLabel(),
+                    change.getPropKey(), change.getChangeType().name(), change.getOldValue(), change.getNewValue(),
+                    change.getChangedAt(), change.getChangedBy()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO config_history (" + COLUMNS + ") "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Override
+    public int insertCreatedFromLabel(String application, String profile, String label, Timestamp changedAt,
+                                      String changedBy) {
+        return jdbcTemplate.update("INSERT INTO config_history (" + COLUMNS + ") "
+                        + "SELECT application, profile, label, prop_key, ?, NULL, prop_value, ?, ? FROM config "
+                        + "WHERE application = ? AND profile = ? AND label = ?",
+                ConfigHistory.ChangeType.CREATED.name(), changedAt, changedBy, application, profile, label);
+    }
+
+    @Override
+    public List<ConfigHistory> search(ConfigHistoryQuery query) {
+        StringBuilder where = new StringBuilder("h.application = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(query.application());
+        if (query.propKey() != null) {
+            where.append(" AND h.prop_key = ?");
+            args.add(query.propKey());
+        }
+        if (query.profile() != null) {
+            where.append(" AND h.profile = ?");
+            args.add(query.profile());
+        }
+        if (query.label() != null) {
+            where.append(" AND h.label = ?");
+            args.add(query.label());
+        }
+        if (query.from() != null) {
+            where.append(" AND h.changed_at >= ?");
+            args.add(query.from());
+        }
+        if (query.to() != null) {
+            where.append(" AND h.changed_at < ?");
+            args.add(query.to());
+        }
+        args.add(query.limit());
+        return jdbcTemplate.query("SELECT h.id, h.application, h.profile, h.label, h.prop_key, h.change_type, "
+                + OLD_VALUE + " old_value, h.new_value, h.changed_at, h.changed_by FROM config_history h WHERE "
+                + where + " ORDER BY h.changed_at DESC, h.id DESC LIMIT ?", (rs, row) -> ConfigHistory.builder()
+                .id(rs.getLong("id"))
+                .application(rs.getString("application"))
+                .profile(rs.getString("profile"))
+                .label(rs.getString("label"))
+                .propKey(rs.getString("prop_key"))
+                .changeType(ConfigHistory.ChangeType.valueOf(rs.getString("change_type")))
+                .oldValue(rs.getString("old_value"))
+                .newValue(rs.getString("new_value"))
+                .changedAt(rs.getTimestamp("changed_at"))
+                .changedBy(rs.getString("changed_by"))
+                .build(), args.toArray());
+    }
+
+    @Override
+    public int deleteChangedBefore(Timestamp cutoff, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM config_history WHERE changed_at < ? "
+                + "ORDER BY changed_at LIMIT ?", Long.class, cutoff, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM config_history WHERE id IN ("
+                + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")", ids.toArray());
+    }
+}
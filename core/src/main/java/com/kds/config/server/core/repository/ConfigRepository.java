@@ -1,6 +1,9 @@
 package com.kds.config.server.core.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.kds.config.server.core.entity.Config;
@@ -9,7 +12,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ConfigRepository extends JpaRepository<Config, Long> {
+public interface ConfigRepository extends JpaRepository<Config, Long>, ConfigRepositoryCustom {
     Optional<Config> findByApplicationAndProfileAndLabelAndPropKey(
             String application, String profile, String label, String propKey);
     
@@ -21,8 +24,19 @@ public interface ConfigRepository extends JpaRepository<Config, Long> {
 
     List<Config> findByApplication(String application);
 
-    void deleteByApplicationAndProfileAndLabelAndPropKey(String application, String profile, String label,
-            String propKey);
+    @Modifying
+    @Query("DELETE FROM Config c WHERE c.application = :application AND c.profile = :profile "
+            + "AND c.label = :label AND c.propKey = :propKey")
+    int deleteByApplicationAndProfileAndLabelAndPropKey(@Param("application") String application,
+            @Param("profile") String profile, @Param("label") String label, @Param("propKey") String propKey);
+
+    @Modifying
+    @Query("DELETE FROM Config c WHERE c.application = :application AND c.profile = :profile "
+            + "AND c.label = :label")
+    int deleteByApplicationAndProfileAndLabel(@Param("application") String application,
+            @Param("profile") String profile, @Param("label") String label);
+
+    boolean existsByApplicationAndProfileAndLabel(String application, String profile, String label);
 
     boolean existsByApplicationAndProfileAndLabelAndPropKey(String application, String profile, String label,
             String propKey);
@@ -0,0 +1,107 @@
+package com.kds.config.server.core.repository;
+
+import com.kds.config.server.core.entity.Config;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Set-based operations on {@code config} that bypass the JPA persistence context.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ConfigRepositoryCustom {
+
+    /**
+     * Inserts or updates the given configurations by (application, profile, label, key).
+     * <p>
+     * On MySQL the rows are written in a single JDBC batch of {@code INSERT ... ON DUPLICATE KEY UPDATE}
+     * without reading them first; each outcome comes from the row's affected-row count, which requires the
+     * connection to be opened with {@code useAffectedRows=true}. A row whose value is unchanged is left
+     * untouched. H2's {@code MERGE} reports no such difference, so there existing values are read first with
+     * one query per (application, profile, label) group and only new or changed rows are written.
+     *
+     * @param configs Configurations with a non-null label
+     * @return The outcome for each configuration, in input order
+     */
+    List<UpsertOutcome> upsert(List<Config> configs);
+
+    /**
+     * Reads the given keys of one label with one {@code IN} list query per 500 distinct keys.
+     * Keys that do not exist are absent from the result; the result is in no particular order.
+     *
+     * @param application Application name
+     * @param profile Profile name
+     * @param label Label name
+     * @param keys The keys to read; duplicates are read once
+     * @return The stored configurations of the keys
+     */
+    List<Config> findByKeys(String application, String profile, String label, Collection<String> keys);
+
+    /**
+     * Deletes every configuration in the scope.
+     * <p>
+     * Rows are deleted in chunks of ids, each chunk one {@code SELECT} and one {@code DELETE}.
+     * Outside a transaction every chunk commits on its own, so row locks are held for one chunk only;
+     * inside a transaction the whole operation joins it.
+     *
+     * @param scope The configurations to delete
+     * @return The number of rows deleted
+     */
+    long deleteByScope(ConfigScope scope);
+
+    /**
+     * Like {@link #deleteByScope(ConfigScope)}, also reporting the coordinates of the rows deleted, without
+     * their values. The chunk queries read them instead of the ids alone, so this costs no extra statement.
+     *
+     * @param scope The configurations to delete
+     * @param deleted Receives the rows of each chunk once the chunk is deleted
+     * @return The number of rows deleted
+     */
+    long deleteByScope(ConfigScope scope, Consumer<List<Config>> deleted);
+
+    /**
+     * Replaces the {@code keyPrefix} of every key in the scope with {@code newKeyPrefix}, in chunks
+     * like {@link #deleteByScope(ConfigScope)}.
+     *
+     * @param scope The configurations to rename; its key prefix must be set
+     * @param newKeyPrefix The prefix to put in place of the scope's key prefix
+     * @return The number of rows renamed
+     */
+    long renameKeys(ConfigScope scope, String newKeyPrefix);
+
+    /**
+     * Like {@link #renameKeys(ConfigScope, String)}, also reporting the rows renamed, values included. The
+     * chunk queries read them instead of the ids alone, so this costs no extra statement.
+     *
+     * @param scope The configurations to rename; its key prefix must be set
+     * @param newKeyPrefix The prefix to put in place of the scope's key prefix
+     * @param renamed Receives the rows of each chunk, with their old keys, once the chunk is renamed
+     * @return The number of rows renamed
+     */
+    long renameKeys(ConfigScope scope, String newKeyPrefix, Consumer<List<Config>> renamed);
+
+    /**
+     * Counts the keys in the scope whose renamed key already exists in the same snapshot.
+     *
+     * @param scope The configurations to rename; its key prefix must be set
+     * @param newKeyPrefix The prefix to put in place of the scope's key prefix
+     * @return The number of keys the rename would collide with
+     */
+    long countRenameConflicts(ConfigScope scope, String newKeyPrefix);
+
+    /**
+     * Copies every configuration of one label to another label of the same application and profile
+     * with a single {@code INSERT ... SELECT}; no rows pass through the application.
+     *
+     * @param application Application name
+     * @param profile Profile name
+     * @param sourceLabel The label to copy from
+     * @param targetLabel The label to create; it must not already hold any of the source keys
+     * @return The number of rows copied
+     */
+    long copySnapshot(String application, String profile, String sourceLabel, String targetLabel);
+}
@@ -0,0 +1,322 @@
+package com.kds.config.server.core.repository;
+
+import com.kds.config.server.core.entity.Config;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * JDBC implementation of {@link ConfigRepositoryCustom}, picked up by Spring Data as a repository fragment.
+ * Statements run on the connection of the current JPA transaction.
+ */
+class ConfigRepositoryCustomImpl implements ConfigRepositoryCustom {
+
+    static final int IN_LIST_CHUNK_SIZE = 500;
+    static final int MUTATION_CHUNK_SIZE = 1000;
+    static final String SYSTEM_USER = "SYSTEM";
+
+    private static final String COLUMNS =
+            "application, profile, label, prop_key, prop_value, created_at, updated_at, created_by, updated_by";
+
+    private static final String KEY_COLUMNS = "c.id, c.application, c.profile, c.label, c.prop_key";
+
+    private static final String ROW_COLUMNS = KEY_COLUMNS + ", c.prop_value";
+
+    // Assignments run left to right, so prop_value is compared before it is set; an equal value changes no
+    // column and the row counts as not affected.
+    private static final String MYSQL_UPSERT = "INSERT INTO config (" + COLUMNS + ") "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE "
+            + "updated_at = IF(prop_value <=> VALUES(prop_value), updated_at, VALUES(updated_at)), "
+            + "updated_by = IF(prop_value <=> VALUES(prop_value), updated_by, VALUES(updated_by)), "
+            + "prop_value = VALUES(prop_value)";
+
+    private static final String H2_UPSERT = "MERGE INTO config c USING (SELECT "
+            + "CAST(? AS VARCHAR) application, CAST(? AS VARCHAR) profile, CAST(? AS VARCHAR) label, "
+            + "CAST(? AS VARCHAR) prop_key, CAST(? AS VARCHAR) prop_value, CAST(? AS TIMESTAMP) created_at, "
+            + "CAST(? AS TIMESTAMP) updated_at, CAST(? AS VARCHAR) created_by, CAST(? AS VARCHAR) updated_by) s "
+            + "ON c.application = s.application AND c.profile = s.profile AND c.label = s.label "
+            + "AND c.prop_key = s.prop_key "
+            + "WHEN MATCHED THEN UPDATE SET prop_value = s.prop_value, updated_at = s.updated_at, "
+            + "updated_by = s.updated_by "
+            + "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (s.application, s.profile, s.label, "
+            + "s.prop_key, s.prop_value, s.created_at, s.updated_at, s.created_by, s.updated_by)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean h2;
+
+    ConfigRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UpsertOutcome> upsert(List<Config> configs) {
+        if (configs.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        if (!isH2()) {
+            List<Object[]> writes = configs.stream()
+                    .map(config -> write(config, now))
+                    .toList();
+            int[] counts = jdbcTemplate.batchUpdate(MYSQL_UPSERT, writes);
+            return Arrays.stream(counts).mapToObj(UpsertOutcome::ofAffectedRows).toList();
+        }
+        Map<Snapshot, Map<String, String>> current = currentValues(configs);
+        List<UpsertOutcome> outcomes = new ArrayList<>(configs.size());
+        List<Object[]> writes = new ArrayList<>();
+        for (Config config : configs) {
+            Map<String, String> values = current.get(Snapshot.of(config));
+            boolean exists = values.containsKey(config.getPropKey());
+            String previous = values.put(config.getPropKey(), config.getPropValue());
+            if (exists && Objects.equals(previous, config.getPropValue())) {
+                outcomes.add(UpsertOutcome.UNCHANGED);
+                continue;
+            }
+            outcomes.add(exists ? UpsertOutcome.UPDATED : UpsertOutcome.INSERTED);
+            writes.add(write(config, now));
+        }
+        if (!writes.isEmpty()) {
+            jdbcTemplate.batchUpdate(H2_UPSERT, writes);
+        }
+        return outcomes;
+    }
+
+    @Override
+    public List<Config> findByKeys(String application, String profile, String label, Collection<String> keys) {
+        List<Config> configs = new ArrayList<>();
+        queryKeys(application, profile, label, keys, "id, " + COLUMNS, rs -> {
+            Config config = Config.builder()
+                    .application(rs.getString("application"))
+                    .profile(rs.getString("profile"))
+                    .label(rs.getString("label"))
+                    .propKey(rs.getString("prop_key"))
+                    .propValue(rs.getString("prop_value"))
+                    .build();
+            config.setId(rs.getLong("id"));
+            config.setCreatedAt(rs.getTimestamp("created_at"));
+            config.setUpdatedAt(rs.getTimestamp("updated_at"));
+            config.setCreatedBy(rs.getString("created_by"));
+            config.setUpdatedBy(rs.getString("updated_by"));
+            configs.add(config);
+        });
+        return configs;
+    }
+
+    /**
+     * Reads the stored value of every key in {@code configs}, one query per snapshot and
+     * {@value #IN_LIST_CHUNK_SIZE} keys.
+     */
+    private Map<Snapshot, Map<String, String>> currentValues(List<Config> configs) {
+        Map<Snapshot, List<String>> keysBySnapshot = new LinkedHashMap<>();
+        for (Config config : configs) {
+            keysBySnapshot.computeIfAbsent(Snapshot.of(config), snapshot -> new ArrayList<>()).add(config.getPropKey());
+        }
+        Map<Snapshot, Map<String, String>> current = new HashMap<>();
+        keysBySnapshot.forEach((snapshot, keys) -> {
+            Map<String, String> values = new HashMap<>();
+            queryKeys(snapshot.application(), snapshot.profile(), snapshot.label(), keys, "prop_key, prop_value",
+                    rs -> values.put(rs.getString(1), rs.getString(2)));
+            current.put(snapshot, values);
+        });
+        return current;
+    }
+
+    /**
+     * Selects {@code columns} of the given keys of one label, one {@code IN} list query per
+     * {@value #IN_LIST_CHUNK_SIZE} distinct keys.
+     */
+    private void queryKeys(String application, String profile, String label, Collection<String> keys,
+                           String columns, RowCallbackHandler handler) {
+        List<String> distinctKeys = keys.stream().distinct().toList();
+        for (int from = 0; from < distinctKeys.size(); from += IN_LIST_CHUNK_SIZE) {
+            List<String> chunk = distinctKeys.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, distinctKeys.size()));
+            List<Object> args = new ArrayList<>(chunk.size() + 3);
+            args.add(application);
+            args.add(profile);
+            args.add(label);
+            args.addAll(chunk);
+            jdbcTemplate.query("SELECT " + columns + " FROM config "
+                    + "WHERE application = ? AND profile = ? AND label = ? AND prop_key IN ("
+                    + placeholders(chunk.size()) + ")", handler, args.toArray());
+        }
+    }
+
+    @Override
+    public long deleteByScope(ConfigScope scope) {
+        return deleteByScope(scope, null);
+    }
+
+    @Override
+    public long deleteByScope(ConfigScope scope, Consumer<List<Config>> deleted) {
+        return forEachIdChunk(scope, KEY_COLUMNS, ConfigRepositoryCustomImpl::mapKey, deleted, ids ->
+                jdbcTemplate.update("DELETE FROM config WHERE id IN (" + placeholders(ids.size()) + ")", ids.toArray()));
+    }
+
+    @Override
+    public long renameKeys(ConfigScope scope, String newKeyPrefix) {
+        return renameKeys(scope, newKeyPrefix, null);
+    }
+
+    @Override
+    public long renameKeys(ConfigScope scope, String newKeyPrefix, Consumer<List<Config>> renamed) {
+        requireKeyPrefix(scope);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return forEachIdChunk(scope, ROW_COLUMNS, ConfigRepositoryCustomImpl::mapRow, renamed, ids -> {
+            List<Object> args = new ArrayList<>(ids.size() + 4);
+            args.add(newKeyPrefix);
+            args.add(scope.keyPrefix().length() + 1);
+            args.add(now);
+            args.add(SYSTEM_USER);
+            args.addAll(ids);
+            return jdbcTemplate.update("UPDATE config SET prop_key = CONCAT(?, SUBSTRING(prop_key, ?)), "
+                    + "updated_at = ?, updated_by = ? WHERE id IN (" + placeholders(ids.size()) + ")", args.toArray());
+        });
+    }
+
+    @Override
+    public long countRenameConflicts(ConfigScope scope, String newKeyPrefix) {
+        requireKeyPrefix(scope);
+        List<Object> args = new ArrayList<>();
+        args.add(newKeyPrefix);
+        args.add(scope.keyPrefix().length() + 1);
+        String where = scopeCondition(scope, "c", args);
+        Long conflicts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM config c JOIN config t "
+                + "ON t.application = c.application AND t.profile = c.profile AND t.label = c.label "
+                + "AND t.prop_key = CONCAT(?, SUBSTRING(c.prop_key, ?)) AND t.id <> c.id WHERE " + where,
+                Long.class, args.toArray());
+        return conflicts == null ? 0 : conflicts;
+    }
+
+    @Override
+    public long copySnapshot(String application, String profile, String sourceLabel, String targetLabel) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return jdbcTemplate.update("INSERT INTO config (" + COLUMNS + ") "
+                        + "SELECT application, profile, ?, prop_key, prop_value, ?, ?, ?, ? FROM config "
+                        + "WHERE application = ? AND profile = ? AND label = ?",
+                targetLabel, now, now, SYSTEM_USER, SYSTEM_USER, application, profile, sourceLabel);
+    }
+
+    /**
+     * Applies {@code mutation} to the ids in the scope, {@value #MUTATION_CHUNK_SIZE} at a time in id order.
+     * Paging by id rather than re-running the scope query keeps rows that a mutation moves back into the
+     * scope, such as keys renamed to a longer form of the same prefix, from being visited twice.
+     * With {@code rows}, the chunk query reads {@code columns} instead of the ids alone and each chunk is handed
+     * to it after the mutation, so reporting the rows costs no extra statement.
+     */
+    private long forEachIdChunk(ConfigScope scope, String columns, RowMapper<Config> mapper,
+                                Consumer<List<Config>> rows, ToIntFunction<List<Long>> mutation) {
+        long affected = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object> args = new ArrayList<>();
+            String where = scopeCondition(scope, "c", args);
+            args.add(lastId);
+            String sql = " FROM config c WHERE " + where + " AND c.id > ? ORDER BY c.id LIMIT " + MUTATION_CHUNK_SIZE;
+            List<Config> chunk = rows == null ? null
+                    : jdbcTemplate.query("SELECT " + columns + sql, mapper, args.toArray());
+            List<Long> ids = chunk == null
+                    ? jdbcTemplate.queryForList("SELECT c.id" + sql, Long.class, args.toArray())
+                    : chunk.stream().map(Config::getId).toList();
+            if (ids.isEmpty()) {
+                return affected;
+            }
+            affected += mutation.applyAsInt(ids);
+            if (chunk != null) {
+                rows.accept(chunk);
+            }
+            if (ids.size() < MUTATION_CHUNK_SIZE) {
+                return affected;
+            }
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    private static Config mapRow(ResultSet rs, int row) throws SQLException {
+        Config config = mapKey(rs, row);
+        config.setPropValue(rs.getString("prop_value"));
+        return config;
+    }
+
+    private static Config mapKey(ResultSet rs, int row) throws SQLException {
+        Config config = Config.builder()
+                .application(rs.getString("application"))
+                .profile(rs.getString("profile"))
+                .label(rs.getString("label"))
+                .propKey(rs.getString("prop_key"))
+                .build();
+        config.setId(rs.getLong("id"));
+        return config;
+    }
+
+    private static String scopeCondition(ConfigScope scope, String alias, List<Object> args) {
+        StringBuilder where = new StringBuilder(alias).append(".application = ?");
+        args.add(scope.application());
+        if (scope.profile() != null) {
+            where.append(" AND ").append(alias).append(".profile = ?");
+            args.add(scope.profile());
+        }
+        if (scope.label() != null) {
+            where.append(" AND ").append(alias).append(".label = ?");
+            args.add(scope.label());
+        }
+        if (scope.keyPrefix() != null) {
+            where.append(" AND ").append(alias).append(".prop_key LIKE ? ESCAPE '!'");
+            args.add(escapeLike(scope.keyPrefix()) + "%");
+        }
+        return where.toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static void requireKeyPrefix(ConfigScope scope) {
+        if (scope.keyPrefix() == null || scope.keyPrefix().isEmpty()) {
+            throw new IllegalArgumentException("Renaming keys requires a key prefix");
+        }
+    }
+
+    private static Object[] write(Config config, Timestamp now) {
+        return new Object[]{config.getApplication(), config.getProfile(), config.getLabel(),
+                config.getPropKey(), config.getPropValue(), now, now, SYSTEM_USER, SYSTEM_USER};
+    }
+
+    private boolean isH2() {
+        Boolean result = h2;
+        if (result == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            result = "H2".equalsIgnoreCase(product);
+            h2 = result;
+        }
+        return result;
+    }
+
+    private record Snapshot(String application, String profile, String label) {
+
+        static Snapshot of(Config config) {
+            return new Snapshot(config.getApplication(), config.getProfile(), config.getLabel());
+        }
+    }
+}
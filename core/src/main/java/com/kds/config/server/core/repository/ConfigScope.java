@@ -0,0 +1,25 @@
+package com.kds.config.server.core.repository;
+
+/**
+ * Selects the configurations affected by a bulk operation.
+ * <p>
+ * The application is required; every other part narrows the scope when present and matches
+ * anything when {@code null}. A {@code null} label therefore means "all labels", not "no label".
+ *
+ * @param application Application name
+ * @param profile Environment profile, or {@code null} for all profiles
+ * @param label Version label, or {@code null} for all labels
+ * @param keyPrefix Leading part of the property key, or {@code null} for all keys
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ConfigScope(String application, String profile, String label, String keyPrefix) {
+
+    public ConfigScope {
+        if (application == null || application.isEmpty()) {
+            throw new IllegalArgumentException("A scope requires an application");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.kds.config.server.core.repository;
+
+import com.kds.config.server.core.entity.ConfigUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ConfigUsageRepository extends JpaRepository<ConfigUsage, Long>, ConfigUsageRepositoryCustom {
+}
@@ -0,0 +1,45 @@
+package com.kds.config.server.core.repository;
+
+import com.kds.config.server.core.entity.ConfigUsage;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Set-based access to read counts that Spring Data cannot derive.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ConfigUsageRepositoryCustom {
+
+    /**
+     * Adds read counts with one JDBC batch: each count is added to the stored one, and the stored
+     * {@code lastReadAt} moves forward to the given one. Rows are written in key order, so that concurrent
+     * batches from several nodes lock them in the same order.
+     *
+     * @param usages The reads to add, each key at most once
+     */
+    void addAll(List<ConfigUsage> usages);
+
+    /**
+     * Finds the labels none of whose properties was read since {@code cutoff}, neither one by one nor in a
+     * snapshot. Labels created after {@code cutoff} are left out.
+     *
+     * @param cutoff Reads before this time do not count
+     * @param limit Maximum number of labels
+     * @return The labels, by application, profile and label
+     */
+    List<UnreadConfig> findUnreadLabels(Timestamp cutoff, int limit);
+
+    /**
+     * Finds the properties not read since {@code cutoff}, neither on their own nor in a snapshot of their
+     * label. Properties created after {@code cutoff} are left out.
+     *
+     * @param cutoff Reads before this time do not count
+     * @param limit Maximum number of properties
+     * @return The properties, by application, profile, label and key
+     */
+    List<UnreadConfig> findUnreadKeys(Timestamp cutoff, int limit);
+}
@@ -0,0 +1,112 @@
+package com.kds.config.server.core.repository;
+
+import com.kds.config.server.core.entity.ConfigUsage;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link ConfigUsageRepositoryCustom}, picked up by Spring Data as a repository fragment.
+ */
+class ConfigUsageRepositoryCustomImpl implements ConfigUsageRepositoryCustom {
+
+    private static final String COLUMNS =
+            "application, profile, label, prop_key, read_count, first_read_at, last_read_at";
+
+    private static final String MYSQL_ADD = "INSERT INTO config_usage (" + COLUMNS + ") "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE read_count = read_count + VALUES(read_count), "
+            + "last_read_at = GREATEST(last_read_at, VALUES(last_read_at))";
+
+    private static final String H2_ADD = "MERGE INTO config_usage u USING (SELECT "
+            + "CAST(? AS VARCHAR) application, CAST(? AS VARCHAR) profile, CAST(? AS VARCHAR) label, "
+            + "CAST(? AS VARCHAR) prop_key, CAST(? AS BIGINT) read_count, CAST(? AS TIMESTAMP) first_read_at, "
+            + "CAST(? AS TIMESTAMP) last_read_at) s "
+            + "ON u.application = s.application AND u.profile = s.profile AND u.label = s.label "
+            + "AND u.prop_key = s.prop_key "
+            + "WHEN MATCHED THEN UPDATE SET read_count = u.read_count + s.read_count, "
+            + "last_read_at = GREATEST(u.last_read_at, s.last_read_at) "
+            + "WHEN NOT MATCHED THEN INSERT (" + COLUMNS + ") VALUES (s.application, s.profile, s.label, "
+            + "s.prop_key, s.read_count, s.first_read_at, s.last_read_at)";
+
+    /**
+     * Reads of a label count the label's own rows and the rows of reads made without a label.
+     */
+    private static final String UNREAD_LABELS = "SELECT c.application, c.profile, c.label, "
+            + "COUNT(DISTINCT c.id) AS key_count, MAX(u.last_read_at) AS last_read_at FROM config c "
+            + "LEFT JOIN (SELECT application, profile, label, MAX(last_read_at) AS last_read_at "
+            + "FROM config_usage GROUP BY application, profile, label) u "
+            + "ON u.application = c.application AND u.profile = c.profile "
+            + "AND u.label IN (COALESCE(c.label, ''), '') "
+            + "GROUP BY c.application, c.profile, c.label "
+            + "HAVING MIN(c.created_at) < ? AND (MAX(u.last_read_at) IS NULL OR MAX(u.last_read_at) < ?) "
+            + "ORDER BY c.application, c.profile, c.label LIMIT ?";
+
+    /**
+     * Reads of a key count its own row and the snapshot rows of its label and of reads made without a label.
+     */
+    private static final String UNREAD_KEYS = "SELECT c.application, c.profile, c.label, c.prop_key, "
+            + "MAX(u.last_read_at) AS last_read_at FROM config c "
+            + "LEFT JOIN config_usage u ON u.application = c.application AND u.profile = c.profile "
+            + "AND u.label IN (COALESCE(c.label, ''), '') AND u.prop_key IN (c.prop_key, '') "
+            + "WHERE c.created_at < ? "
+            + "GROUP BY c.id, c.application, c.profile, c.label, c.prop_key "
+            + "HAVING MAX(u.last_read_at) IS NULL OR MAX(u.last_read_at) < ? "
+            + "ORDER BY c.application, c.profile, c.label, c.prop_key LIMIT ?";
+
+    private static final Comparator<ConfigUsage> KEY_ORDER = Comparator.comparing(ConfigUsage::getApplication)
+            .thenComparing(ConfigUsage::getProfile)
+            .thenComparing(ConfigUsage::getLabel)
+            .thenComparing(ConfigUsage::getPropKey);
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String addSql;
+
+    ConfigUsageRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(List<ConfigUsage> usages) {
+        if (usages.isEmpty()) {
+            return;
+        }
+        List<ConfigUsage> sorted = new ArrayList<>(usages);
+        sorted.sort(KEY_ORDER);
+        List<Object[]> rows = new ArrayList<>(sorted.size());
+        for (ConfigUsage usage : sorted) {
+            rows.add(new Object[]{usage.getApplication(), usage.getProfile(), usage.getLabel(), usage.getPropKey(),
+                    usage.getReadCount(), usage.getFirstReadAt(), usage.getLastReadAt()});
+        }
+        jdbcTemplate.batchUpdate(addSql(), rows);
+    }
+
+    @Override
+    public List<UnreadConfig> findUnreadLabels(Timestamp cutoff, int limit) {
+        return jdbcTemplate.query(UNREAD_LABELS, (rs, row) -> new UnreadConfig(rs.getString("application"),
+                rs.getString("profile"), rs.getString("label"), null, rs.getInt("key_count"),
+                rs.getTimestamp("last_read_at")), cutoff, cutoff, limit);
+    }
+
+    @Override
+    public List<UnreadConfig> findUnreadKeys(Timestamp cutoff, int limit) {
+        return jdbcTemplate.query(UNREAD_KEYS, (rs, row) -> new UnreadConfig(rs.getString("application"),
+                rs.getString("profile"), rs.getString("label"), rs.getString("prop_key"), 1,
+                rs.getTimestamp("last_read_at")), cutoff, cutoff, limit);
+    }
+
+    private String addSql() {
+        String sql = addSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equalsIgnoreCase(product) ? H2_ADD : MYSQL_ADD;
+            addSql = sql;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,21 @@
+package com.kds.config.server.core.repository;
+
+import java.sql.Timestamp;
+
+/**
+ * A label, or a property of one, that has not been read since a cutoff.
+ *
+ * @param application Application name
+ * @param profile Environment profile
+ * @param label Version label
+ * @param propKey Property key, or {@code null} for the whole label
+ * @param keys Number of properties concerned
+ * @param lastReadAt When it was last read, or {@code null} if it was never read
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record UnreadConfig(String application, String profile, String label, String propKey, int keys,
+                           Timestamp lastReadAt) {
+}
@@ -0,0 +1,34 @@
+package com.kds.config.server.core.repository;
+
+/**
+ * What an upsert did to a single configuration row.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum UpsertOutcome {
+    /** No row existed for the coordinates; one was inserted. */
+    INSERTED,
+    /** A row existed with a different value; its value was replaced. */
+    UPDATED,
+    /** A row existed with the same value; nothing was written. */
+    UNCHANGED;
+
+    /**
+     * Reads the outcome from the update count of a MySQL {@code INSERT ... ON DUPLICATE KEY UPDATE} run on a
+     * connection with {@code useAffectedRows=true}: 1 for an insert, 2 for an update, 0 when no column changed.
+     *
+     * @param affectedRows The update count of the statement
+     * @return The outcome
+     * @throws IllegalStateException If the count is anything else, such as {@code SUCCESS_NO_INFO}
+     */
+    public static UpsertOutcome ofAffectedRows(int affectedRows) {
+        return switch (affectedRows) {
+            case 1 -> INSERTED;
+            case 2 -> UPDATED;
+            case 0 -> UNCHANGED;
+            default -> throw new IllegalStateException("Unexpected upsert update count " + affectedRows);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.kds.config.server.core.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+
+/**
+ * The shard that statements on the current thread go to.
+ * <p>
+ * A shard is pinned to the thread for the duration of a repository call, and to the transaction once the
+ * transaction has touched a shard, so that statements Hibernate issues at commit go to the same shard.
+ */
+final class ShardContext {
+
+    /**
+     * Transaction resource holding the shard the current transaction is bound to.
+     */
+    static final Object TRANSACTION_SHARD = new Object();
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return The shard pinned to the current thread or transaction, or {@code null} if none is
+     */
+    static String current() {
+        String shard = CURRENT.get();
+        if (shard == null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            shard = (String) TransactionSynchronizationManager.getResource(TRANSACTION_SHARD);
+        }
+        return shard;
+    }
+
+    /**
+     * @return The shard pinned to the current thread, or {@code null} if none is
+     */
+    static String pinned() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs {@code call} with {@code shard} pinned to the current thread.
+     */
+    static <T> T call(String shard, Callable<T> call) throws Exception {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return call.call();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.kds.config.server.core.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One Hikari pool per shard. Pools connect on first use and are closed with the application context.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> dataSources = new LinkedHashMap<>();
+
+    public ShardDataSources(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalArgumentException("config.sharding.shards must name at least one shard");
+        }
+        properties.getShards().forEach((name, shard) -> {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("config-shard-" + name);
+            dataSource.setJdbcUrl(shard.getUrl());
+            dataSource.setUsername(shard.getUsername());
+            dataSource.setPassword(shard.getPassword());
+            if (shard.getDriverClassName() != null) {
+                dataSource.setDriverClassName(shard.getDriverClassName());
+            }
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            dataSource.setConnectionTimeout(shard.getConnectionTimeout().toMillis());
+            dataSources.put(name, dataSource);
+        });
+    }
+
+    /**
+     * @param shard Shard name
+     * @return The pool of the shard
+     * @throws IllegalArgumentException If there is no such shard
+     */
+    public DataSource get(String shard) {
+        DataSource dataSource = dataSources.get(shard);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard " + shard);
+        }
+        return dataSource;
+    }
+
+    /**
+     * @return The pools by shard name, in configuration order
+     */
+    public Map<String, DataSource> all() {
+        return Collections.unmodifiableMap(dataSources);
+    }
+
+    @Override
+    public void close() {
+        dataSources.values().forEach(HikariDataSource::close);
+    }
+}
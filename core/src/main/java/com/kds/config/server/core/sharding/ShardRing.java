@@ -0,0 +1,77 @@
+package com.kds.config.server.core.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring mapping applications to shards.
+ * <p>
+ * Every shard is placed on the ring at {@code virtualNodes} points derived from its name, and an
+ * application belongs to the first shard point at or after the hash of its name. With enough virtual
+ * nodes applications spread evenly, and adding a shard only moves the applications that land on its new
+ * points, about {@code 1 / (N + 1)} of them, all to the new shard. The mapping depends only on the shard
+ * names, so every node computes the same one.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ShardRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final List<String> shards;
+
+    /**
+     * @param shards The shard names; at least one
+     * @param virtualNodes Points per shard on the ring
+     */
+    public ShardRing(List<String> shards, int virtualNodes) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("At least one virtual node per shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        for (String shard : this.shards) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash(shard + "#" + node), shard);
+            }
+        }
+    }
+
+    /**
+     * @param application Application name
+     * @return The shard holding the application's configurations
+     */
+    public String shardFor(String application) {
+        Map.Entry<Long, String> point = ring.ceilingEntry(hash(application));
+        return point != null ? point.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * @return The shard names, in configuration order
+     */
+    public List<String> shards() {
+        return shards;
+    }
+
+    private static long hash(String value) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is not available", e);
+        }
+        long hash = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash = (hash << 8) | (digest[i] & 0xFF);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,25 @@
+package com.kds.config.server.core.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections of the shard pinned by {@link ShardContext}, or of the first shard when none is.
+ */
+class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    ShardRoutingDataSource(ShardDataSources shards) {
+        Map<Object, Object> targets = new LinkedHashMap<>(shards.all());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(targets.values().iterator().next());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,202 @@
+package com.kds.config.server.core.sharding;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigHistory;
+import com.kds.config.server.core.entity.ConfigUsage;
+import com.kds.config.server.core.repository.ConfigHistoryQuery;
+import com.kds.config.server.core.repository.ConfigScope;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Routes each {@code ConfigRepository}, {@code ConfigHistoryRepository} and {@code ConfigUsageRepository} call
+ * to the shard of the application it concerns, so that an application's history and read counts live next
+ * to its configurations.
+ * <p>
+ * The application is taken from the first argument: an application name, a {@link Config}, a
+ * {@link ConfigScope}, a {@link ConfigHistoryQuery}, or configurations, history entries or read counts that
+ * must all live on one shard. Calls without one, such as
+ * {@code findAll()}, {@code count()} or {@code findById(id)}, run on every shard in parallel and their
+ * results are merged: lists are concatenated, counts summed, the first present {@code Optional}
+ * wins; calls returning anything else, such as a {@code Page}, are rejected. Ids are only unique within
+ * a shard. Each shard's call runs in its own transaction, outside any transaction of the caller.
+ * <p>
+ * A transaction stays on the first shard it touches; a later call for another shard fails, since
+ * there are no transactions spanning shards.
+ */
+class ShardRoutingInterceptor implements MethodInterceptor {
+
+    private final ShardRing ring;
+
+    ShardRoutingInterceptor(ShardRing ring) {
+        this.ring = ring;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String pinned = ShardContext.pinned();
+        if (pinned != null) {
+            bindTransaction(pinned);
+            return invocation.proceed();
+        }
+        Set<String> shards = shardsOf(invocation.getArguments());
+        if (shards.isEmpty()) {
+            return fanOut(invocation);
+        }
+        if (shards.size() > 1) {
+            throw new InvalidDataAccessApiUsageException("Configurations of shards " + shards
+                    + " cannot be written in one call; split the batch by application");
+        }
+        String shard = shards.iterator().next();
+        bindTransaction(shard);
+        return ShardContext.call(shard, () -> proceed(invocation));
+    }
+
+    private Set<String> shardsOf(Object[] arguments) {
+        Set<String> shards = new LinkedHashSet<>();
+        if (arguments.length == 0) {
+            return shards;
+        }
+        Object first = arguments[0];
+        if (first instanceof String application) {
+            shards.add(ring.shardFor(application));
+        } else if (first instanceof Config config) {
+            shards.add(ring.shardFor(config.getApplication()));
+        } else if (first instanceof ConfigScope scope) {
+            shards.add(ring.shardFor(scope.application()));
+        } else if (first instanceof ConfigHistoryQuery query) {
+            shards.add(ring.shardFor(query.application()));
+        } else if (first instanceof Iterable<?> items) {
+            for (Object item : items) {
+                if (item instanceof Config config) {
+                    shards.add(ring.shardFor(config.getApplication()));
+                } else if (item instanceof ConfigHistory change) {
+                    shards.add(ring.shardFor(change.getApplication()));
+                } else if (item instanceof ConfigUsage usage) {
+                    shards.add(ring.shardFor(usage.getApplication()));
+                }
+            }
+        }
+        return shards;
+    }
+
+    private static void bindTransaction(String shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String bound = (String) TransactionSynchronizationManager.getResource(ShardContext.TRANSACTION_SHARD);
+        if (bound == null) {
+            TransactionSynchronizationManager.bindResource(ShardContext.TRANSACTION_SHARD, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ShardContext.TRANSACTION_SHARD);
+                }
+            });
+        } else if (!bound.equals(shard)) {
+            throw new InvalidDataAccessApiUsageException("Transaction on shard " + bound
+                    + " cannot use shard " + shard + "; transactions cannot span shards");
+        }
+    }
+
+    /**
+     * Calls the repository again on every shard, each on its own virtual thread with the shard pinned,
+     * so that each call runs its own transaction on its shard. Calls whose results cannot be merged, such
+     * as pages, streams, arrays or single entities, are rejected before any shard is called.
+     */
+    private Object fanOut(MethodInvocation invocation) throws Throwable {
+        Object repository = ((ProxyMethodInvocation) invocation).getProxy();
+        Method method = invocation.getMethod();
+        Object[] arguments = invocation.getArguments();
+        if (!mergeable(method.getReturnType())) {
+            throw new InvalidDataAccessApiUsageException("Results of " + method.getName() + " ("
+                    + method.getReturnType().getSimpleName() + ") cannot be merged across shards; "
+                    + "pass the application as the first argument");
+        }
+        List<Object> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Object>> calls = new ArrayList<>();
+            for (String shard : ring.shards()) {
+                calls.add(executor.submit(() -> ShardContext.call(shard, () -> invoke(repository, method, arguments))));
+            }
+            for (Future<Object> call : calls) {
+                try {
+                    results.add(call.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+        return merge(method.getReturnType(), results);
+    }
+
+    private static boolean mergeable(Class<?> type) {
+        return type == void.class || type == List.class || type == Collection.class || type == Iterable.class
+                || type == long.class || type == Long.class
+                || type == int.class || type == Integer.class
+                || type == boolean.class || type == Boolean.class
+                || type == Optional.class;
+    }
+
+    private static Object merge(Class<?> type, List<Object> results) {
+        if (type == void.class) {
+            return null;
+        }
+        if (type == long.class || type == Long.class) {
+            return results.stream().mapToLong(result -> (Long) result).sum();
+        }
+        if (type == int.class || type == Integer.class) {
+            return results.stream().mapToInt(result -> (Integer) result).sum();
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return results.stream().anyMatch(Boolean.TRUE::equals);
+        }
+        if (type == Optional.class) {
+            return results.stream().map(result -> (Optional<?>) result).filter(Optional::isPresent)
+                    .findFirst().orElse(Optional.empty());
+        }
+        List<Object> merged = new ArrayList<>();
+        for (Object result : results) {
+            ((Iterable<?>) result).forEach(merged::add);
+        }
+        return merged;
+    }
+
+    private static Object invoke(Object repository, Method method, Object[] arguments) throws Exception {
+        try {
+            return method.invoke(repository, arguments);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw (Error) e.getCause();
+        }
+    }
+
+    private static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
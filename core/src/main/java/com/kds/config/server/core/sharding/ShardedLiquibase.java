@@ -0,0 +1,30 @@
+package com.kds.config.server.core.sharding;
+
+import liquibase.exception.LiquibaseException;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Runs the changelog against every shard, in configuration order, before JPA starts.
+ */
+@Slf4j
+class ShardedLiquibase extends SpringLiquibase {
+
+    private final ShardDataSources shards;
+
+    ShardedLiquibase(ShardDataSources shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws LiquibaseException {
+        for (Map.Entry<String, DataSource> shard : shards.all().entrySet()) {
+            log.info("Updating schema of shard {}", shard.getKey());
+            setDataSource(shard.getValue());
+            super.afterPropertiesSet();
+        }
+    }
+}
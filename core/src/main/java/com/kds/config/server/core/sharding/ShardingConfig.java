@@ -0,0 +1,76 @@
+package com.kds.config.server.core.sharding;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Spreads the configuration store over several databases by application.
+ * <p>
+ * Each shard gets its own Hikari pool and its own Liquibase run. The {@link DataSource} bean routes every
+ * connection to the shard chosen for the current {@code ConfigRepository} call by a consistent-hash ring
+ * over the applications; connections are only taken once the first statement runs, after the shard is
+ * known. Enable with {@code config.sharding.enabled=true} and one {@code config.sharding.shards.<name>}
+ * entry per database; {@code spring.datasource} is then not used.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "config.sharding.enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRing shardRing(ShardingProperties properties) {
+        return new ShardRing(List.copyOf(properties.getShards().keySet()), properties.getVirtualNodes());
+    }
+
+    @Bean
+    public ShardDataSources shardDataSources(ShardingProperties properties) {
+        return new ShardDataSources(properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        return new LazyConnectionDataSourceProxy(new ShardRoutingDataSource(shardDataSources));
+    }
+
+    @Bean
+    public SpringLiquibase liquibase(ShardDataSources shardDataSources,
+            @Value("${spring.liquibase.change-log:classpath:/db/changelog/db.changelog-master.yaml}") String changeLog,
+            @Value("${spring.liquibase.enabled:true}") boolean enabled) {
+        ShardedLiquibase liquibase = new ShardedLiquibase(shardDataSources);
+        liquibase.setChangeLog(changeLog);
+        liquibase.setShouldRun(enabled);
+        return liquibase;
+    }
+
+    @Bean
+    public static BeanPostProcessor shardRoutingRepositoryPostProcessor(ObjectProvider<ShardRing> shardRing) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(
+                                    new ShardRoutingInterceptor(shardRing.getObject()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.kds.config.server.core.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shards of the configuration store, bound from {@code config.sharding.*}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "config.sharding")
+public class ShardingProperties {
+
+    /**
+     * Whether configurations are spread over {@link #shards} instead of {@code spring.datasource}.
+     */
+    private boolean enabled;
+
+    /**
+     * Points per shard on the hash ring; more points spread applications more evenly.
+     */
+    private int virtualNodes = 160;
+
+    /**
+     * The shards by name. Shard names, not their order, decide where an application lives, so renaming a
+     * shard moves its applications; the first shard also serves statements issued outside any repository
+     * call, such as schema validation at startup.
+     */
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    /**
+     * Connection settings of one shard.
+     */
+    @Data
+    public static class Shard {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private String driverClassName;
+
+        private int maximumPoolSize = 10;
+
+        private Duration connectionTimeout = Duration.ofSeconds(30);
+    }
+}
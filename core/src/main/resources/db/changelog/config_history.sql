@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS config_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    application VARCHAR(100) NOT NULL,
+    profile VARCHAR(100) NOT NULL,
+    label VARCHAR(100),
+    prop_key VARCHAR(150) NOT NULL,
+    change_type VARCHAR(10) NOT NULL,
+    old_value TEXT,
+    new_value TEXT,
+    changed_at TIMESTAMP(3) NOT NULL,
+    changed_by VARCHAR(50) NOT NULL DEFAULT 'SYSTEM'
+);
+
+CREATE INDEX idx_config_history_key ON config_history (application, prop_key, changed_at);
+CREATE INDEX idx_config_history_application ON config_history (application, changed_at);
+CREATE INDEX idx_config_history_changed_at ON config_history (changed_at);
@@ -0,0 +1,11 @@
+CREATE TABLE IF NOT EXISTS config_usage (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    application VARCHAR(100) NOT NULL,
+    profile VARCHAR(100) NOT NULL,
+    label VARCHAR(100) NOT NULL DEFAULT '',
+    prop_key VARCHAR(150) NOT NULL DEFAULT '',
+    read_count BIGINT NOT NULL,
+    first_read_at TIMESTAMP(3) NOT NULL,
+    last_read_at TIMESTAMP(3) NOT NULL,
+    CONSTRAINT uk_config_usage UNIQUE (application, profile, label, prop_key)
+);
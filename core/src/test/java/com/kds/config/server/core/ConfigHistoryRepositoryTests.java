@@ -0,0 +1,122 @@
+package com.kds.config.server.core;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigHistory;
+import com.kds.config.server.core.repository.ConfigHistoryQuery;
+import com.kds.config.server.core.repository.ConfigHistoryRepository;
+import com.kds.config.server.core.repository.ConfigRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+public class ConfigHistoryRepositoryTests {
+
+    @Autowired
+    private ConfigHistoryRepository configHistoryRepository;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Test
+    void whenSearch_thenFilterByKeyAndTimeRangeNewestFirst() {
+        configHistoryRepository.insertAll(List.of(
+                change("test-app", "db.url", ConfigHistory.ChangeType.CREATED, null, "v1", 1_000),
+                change("test-app", "db.url", ConfigHistory.ChangeType.UPDATED, "v1", "v2", 2_000),
+                change("test-app", "db.url", ConfigHistory.ChangeType.UPDATED, "v2", "v3", 3_000),
+                change("test-app", "db.pool", ConfigHistory.ChangeType.CREATED, null, "10", 2_500),
+                change("other-app", "db.url", ConfigHistory.ChangeType.CREATED, null, "x", 2_000)));
+
+        List<ConfigHistory> key = configHistoryRepository.search(
+                new ConfigHistoryQuery("test-app", null, null, "db.url", null, null, 10));
+        List<ConfigHistory> range = configHistoryRepository.search(
+                new ConfigHistoryQuery("test-app", "dev", "main", null, new Timestamp(2_000), new Timestamp(3_000), 10));
+        List<ConfigHistory> limited = configHistoryRepository.search(
+                new ConfigHistoryQuery("test-app", null, null, null, null, null, 2));
+
+        assertThat(key).extracting(ConfigHistory::getNewValue).containsExactly("v3", "v2", "v1");
+        assertThat(key.get(1).getOldValue()).isEqualTo("v1");
+        assertThat(key.get(1).getChangeType()).isEqualTo(ConfigHistory.ChangeType.UPDATED);
+        assertThat(range).extracting(ConfigHistory::getNewValue).containsExactly("10", "v2");
+        assertThat(limited).extracting(ConfigHistory::getNewValue).containsExactly("v3", "10");
+    }
+
+    @Test
+    void whenChangeRecordedWithoutOldValue_thenTakeItFromThePreviousChange() {
+        configHistoryRepository.insertAll(List.of(
+                change("test-app", "db.url", ConfigHistory.ChangeType.CREATED, null, "v1", 1_000),
+                change("test-app", "db.url", ConfigHistory.ChangeType.UPDATED, null, "v2", 2_000),
+                change("test-app", "db.url", ConfigHistory.ChangeType.DELETED, null, null, 3_000),
+                change("test-app", "db.url", ConfigHistory.ChangeType.CREATED, null, "v3", 4_000),
+                change("test-app", "db.pool", ConfigHistory.ChangeType.UPDATED, null, "20", 5_000)));
+
+        List<ConfigHistory> history = configHistoryRepository.search(
+                new ConfigHistoryQuery("test-app", null, null, null, new Timestamp(2_000), null, 10));
+
+        assertThat(history).extracting(ConfigHistory::getPropKey, ConfigHistory::getOldValue)
+                .containsExactly(tuple("db.pool", null), tuple("db.url", null), tuple("db.url", "v2"),
+                        tuple("db.url", "v1"));
+    }
+
+    @Test
+    void whenLabelCreated_thenRecordEveryKeyWithOneStatement() {
+        configRepository.saveAll(List.of(config("v2", "db.url", "a"), config("v2", "db.pool", "10"),
+                config("v1", "db.url", "old")));
+        configRepository.flush();
+
+        int recorded = configHistoryRepository.insertCreatedFromLabel("test-app", "dev", "v2", new Timestamp(1_000),
+                "SYSTEM");
+
+        assertThat(recorded).isEqualTo(2);
+        assertThat(configHistoryRepository.search(new ConfigHistoryQuery("test-app", null, null, null, null, null, 10)))
+                .extracting(ConfigHistory::getLabel, ConfigHistory::getPropKey, ConfigHistory::getChangeType,
+                        ConfigHistory::getNewValue)
+                .containsExactlyInAnyOrder(tuple("v2", "db.url", ConfigHistory.ChangeType.CREATED, "a"),
+                        tuple("v2", "db.pool", ConfigHistory.ChangeType.CREATED, "10"));
+    }
+
+    @Test
+    void whenDeleteChangedBefore_thenDeleteOldestInChunks() {
+        configHistoryRepository.insertAll(IntStream.range(0, 5)
+                .mapToObj(i -> change("test-app", "key" + i, ConfigHistory.ChangeType.CREATED, null, "v", i * 1_000L))
+                .toList());
+
+        assertThat(configHistoryRepository.deleteChangedBefore(new Timestamp(3_000), 2)).isEqualTo(2);
+        assertThat(configHistoryRepository.deleteChangedBefore(new Timestamp(3_000), 2)).isEqualTo(1);
+        assertThat(configHistoryRepository.deleteChangedBefore(new Timestamp(3_000), 2)).isZero();
+        assertThat(configHistoryRepository.search(new ConfigHistoryQuery("test-app", null, null, null, null, null, 10)))
+                .extracting(ConfigHistory::getPropKey).containsExactly("key4", "key3");
+    }
+
+    private static Config config(String label, String key, String value) {
+        return Config.builder()
+                .application("test-app")
+                .profile("dev")
+                .label(label)
+                .propKey(key)
+                .propValue(value)
+                .build();
+    }
+
+    private static ConfigHistory change(String application, String key, ConfigHistory.ChangeType type,
+                                        String oldValue, String newValue, long changedAt) {
+        return ConfigHistory.builder()
+                .application(application)
+                .profile("dev")
+                .label("main")
+                .propKey(key)
+                .changeType(type)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .changedAt(new Timestamp(changedAt))
+                .changedBy("test-user")
+                .build();
+    }
+}
@@ -2,17 +2,24 @@ package com.kds.config.server.core;
 
 import com.kds.config.server.core.entity.Config;
 import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigScope;
+import com.kds.config.server.core.repository.UpsertOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 public class ConfigRepositoryTests {
@@ -100,4 +107,112 @@ public class ConfigRepositoryTests {
 
         assertThat(found).isEmpty();
     }
+
+    @Test
+    void whenDeleteByScope_thenDeleteMatchingKeysAcrossChunks() {
+        configRepository.saveAll(IntStream.range(0, 2500)
+                .mapToObj(i -> config("bulk-app", "bulk.key." + i))
+                .toList());
+        configRepository.save(config("bulk-app", "kept.key"));
+        configRepository.flush();
+
+        long deleted = configRepository.deleteByScope(new ConfigScope("bulk-app", "dev", null, "bulk."));
+
+        assertThat(deleted).isEqualTo(2500);
+        assertThat(configRepository.findByApplication("bulk-app"))
+                .extracting(Config::getPropKey)
+                .containsExactly("kept.key");
+        assertThat(configRepository.findByApplication(testConfig.getApplication())).hasSize(1);
+    }
+
+    @Test
+    void whenFindByKeys_thenReturnExistingKeysAcrossChunks() {
+        configRepository.saveAll(IntStream.range(0, 700)
+                .mapToObj(i -> config("lookup-app", "lookup.key." + i))
+                .toList());
+        configRepository.flush();
+
+        List<String> keys = IntStream.range(0, 1200).mapToObj(i -> "lookup.key." + (i % 600)).toList();
+        List<Config> found = configRepository.findByKeys("lookup-app", "dev", "main",
+                Stream.concat(keys.stream(), Stream.of("missing.key")).toList());
+
+        assertThat(found).hasSize(600);
+        assertThat(found).allSatisfy(config -> {
+            assertThat(config.getId()).isNotNull();
+            assertThat(config.getPropValue()).isEqualTo("value");
+        });
+        assertThat(found).extracting(Config::getPropKey).doesNotContain("lookup.key.650", "missing.key");
+    }
+
+    @Test
+    void whenRenameKeysToLongerPrefix_thenRenameEachKeyOnce() {
+        configRepository.saveAll(List.of(config("rename-app", "db.url"), config("rename-app", "db.user"),
+                config("rename-app", "dbx.other")));
+        configRepository.flush();
+
+        long renamed = configRepository.renameKeys(new ConfigScope("rename-app", null, null, "db."), "db.primary.");
+
+        assertThat(renamed).isEqualTo(2);
+        entityManager.clear();
+        assertThat(configRepository.findByApplication("rename-app"))
+                .extracting(Config::getPropKey)
+                .containsExactlyInAnyOrder("db.primary.url", "db.primary.user", "dbx.other");
+    }
+
+    @Test
+    void whenRenamedKeyExists_thenReportConflict() {
+        configRepository.saveAll(List.of(config("rename-app", "old.url"), config("rename-app", "new.url"),
+                config("rename-app", "old.user")));
+        configRepository.flush();
+
+        assertThat(configRepository.countRenameConflicts(new ConfigScope("rename-app", null, null, "old."), "new."))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void whenDeleteByScopeWithCallback_thenReportKeysAcrossChunks() {
+        configRepository.saveAll(IntStream.range(0, 1500)
+                .mapToObj(i -> config("purge-app", "purge.key." + i))
+                .toList());
+        configRepository.flush();
+        List<Config> deleted = new ArrayList<>();
+
+        long affected = configRepository.deleteByScope(new ConfigScope("purge-app", null, null, null), deleted::addAll);
+
+        assertThat(affected).isEqualTo(1500);
+        assertThat(deleted).hasSize(1500).allSatisfy(config -> {
+            assertThat(config.getPropKey()).startsWith("purge.key.");
+            assertThat(config.getLabel()).isEqualTo("main");
+            assertThat(config.getPropValue()).isNull();
+        });
+    }
+
+    @Test
+    void whenUpsertAffectedRowsCounted_thenMapToOutcome() {
+        assertThat(UpsertOutcome.ofAffectedRows(1)).isEqualTo(UpsertOutcome.INSERTED);
+        assertThat(UpsertOutcome.ofAffectedRows(2)).isEqualTo(UpsertOutcome.UPDATED);
+        assertThat(UpsertOutcome.ofAffectedRows(0)).isEqualTo(UpsertOutcome.UNCHANGED);
+        assertThatThrownBy(() -> UpsertOutcome.ofAffectedRows(Statement.SUCCESS_NO_INFO))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void whenUpsertOnH2_thenReadOutcomesFromStoredValues() {
+        Config changed = config(testConfig.getApplication(), testConfig.getPropKey());
+        Config same = config(testConfig.getApplication(), testConfig.getPropKey());
+        Config added = config(testConfig.getApplication(), "added.key");
+
+        assertThat(configRepository.upsert(List.of(changed, same, added)))
+                .containsExactly(UpsertOutcome.UPDATED, UpsertOutcome.UNCHANGED, UpsertOutcome.INSERTED);
+    }
+
+    private static Config config(String application, String key) {
+        return Config.builder()
+                .application(application)
+                .profile("dev")
+                .label("main")
+                .propKey(key)
+                .propValue("value")
+                .build();
+    }
 }
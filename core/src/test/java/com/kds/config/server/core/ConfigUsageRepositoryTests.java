@@ -0,0 +1,89 @@
+package com.kds.config.server.core;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigUsage;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigUsageRepository;
+import com.kds.config.server.core.repository.UnreadConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class ConfigUsageRepositoryTests {
+
+    @Autowired
+    private ConfigUsageRepository configUsageRepository;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Test
+    void whenAddAll_thenAddCountsAndMoveLastReadForward() {
+        configUsageRepository.addAll(List.of(usage("test-app", "main", "db.url", 3, 1_000),
+                usage("test-app", "main", ConfigUsage.NONE, 1, 1_000)));
+        configUsageRepository.addAll(List.of(usage("test-app", "main", "db.url", 2, 5_000)));
+        configUsageRepository.addAll(List.of(usage("test-app", "main", "db.url", 1, 4_000)));
+
+        List<ConfigUsage> usages = configUsageRepository.findAll();
+
+        assertThat(usages).hasSize(2);
+        ConfigUsage key = usages.stream().filter(usage -> usage.getPropKey().equals("db.url")).findFirst().orElseThrow();
+        assertThat(key.getReadCount()).isEqualTo(6);
+        assertThat(key.getFirstReadAt()).isEqualTo(new Timestamp(1_000));
+        assertThat(key.getLastReadAt()).isEqualTo(new Timestamp(5_000));
+    }
+
+    @Test
+    void whenFindUnread_thenCountSnapshotReadsAndSkipNewConfigs() {
+        configRepository.saveAllAndFlush(List.of(
+                config("test-app", "main", "db.url", 1_000),
+                config("test-app", "main", "db.pool", 1_000),
+                config("test-app", "v2", "db.url", 1_000),
+                config("test-app", "v3", "db.url", 9_000),
+                config("other-app", "main", "db.url", 1_000)));
+        configUsageRepository.addAll(List.of(
+                usage("test-app", "main", "db.url", 5, 10_000),
+                usage("test-app", "v2", ConfigUsage.NONE, 1, 2_000),
+                usage("other-app", ConfigUsage.NONE, ConfigUsage.NONE, 1, 10_000)));
+        Timestamp cutoff = new Timestamp(5_000);
+
+        List<UnreadConfig> labels = configUsageRepository.findUnreadLabels(cutoff, 10);
+        List<UnreadConfig> keys = configUsageRepository.findUnreadKeys(cutoff, 10);
+
+        assertThat(labels).containsExactly(new UnreadConfig("test-app", "dev", "v2", null, 1, new Timestamp(2_000)));
+        assertThat(keys).containsExactly(
+                new UnreadConfig("test-app", "dev", "main", "db.pool", 1, null),
+                new UnreadConfig("test-app", "dev", "v2", "db.url", 1, new Timestamp(2_000)));
+        assertThat(configUsageRepository.findUnreadKeys(cutoff, 1)).hasSize(1);
+    }
+
+    private static ConfigUsage usage(String application, String label, String key, long reads, long readAt) {
+        return ConfigUsage.builder()
+                .application(application)
+                .profile("dev")
+                .label(label)
+                .propKey(key)
+                .readCount(reads)
+                .firstReadAt(new Timestamp(readAt))
+                .lastReadAt(new Timestamp(readAt))
+                .build();
+    }
+
+    private static Config config(String application, String label, String key, long createdAt) {
+        Config config = Config.builder()
+                .application(application)
+                .profile("dev")
+                .label(label)
+                .propKey(key)
+                .propValue("value")
+                .build();
+        config.setCreatedAt(new Timestamp(createdAt));
+        return config;
+    }
+}
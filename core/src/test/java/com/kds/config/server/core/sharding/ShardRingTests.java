@@ -0,0 +1,44 @@
+package com.kds.config.server.core.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardRingTests {
+
+    private static final List<String> APPLICATIONS = IntStream.range(0, 3000)
+            .mapToObj(i -> "application-" + i)
+            .toList();
+
+    @Test
+    void whenApplicationsHashed_thenSpreadEvenlyAndStably() {
+        ShardRing ring = new ShardRing(List.of("a", "b", "c"), 160);
+
+        Map<String, Long> perShard = APPLICATIONS.stream()
+                .collect(Collectors.groupingBy(ring::shardFor, Collectors.counting()));
+
+        assertThat(perShard).containsOnlyKeys("a", "b", "c");
+        assertThat(perShard.values()).allSatisfy(count -> assertThat(count).isBetween(700L, 1300L));
+        assertThat(new ShardRing(List.of("c", "a", "b"), 160).shardFor("application-42"))
+                .isEqualTo(ring.shardFor("application-42"));
+    }
+
+    @Test
+    void whenShardAdded_thenOnlyApplicationsMovingToItMove() {
+        ShardRing before = new ShardRing(List.of("a", "b", "c"), 160);
+        ShardRing after = new ShardRing(List.of("a", "b", "c", "d"), 160);
+
+        Map<String, String> moved = APPLICATIONS.stream()
+                .filter(application -> !before.shardFor(application).equals(after.shardFor(application)))
+                .collect(Collectors.toMap(Function.identity(), after::shardFor));
+
+        assertThat(moved.values()).containsOnly("d");
+        assertThat(moved.size()).isBetween(450, 1050);
+    }
+}
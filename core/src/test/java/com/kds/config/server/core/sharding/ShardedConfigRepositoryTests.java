@@ -0,0 +1,116 @@
+package com.kds.config.server.core.sharding;
+
+import com.kds.config.server.core.TestConfig;
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = TestConfig.class, properties = {
+        "config.sharding.enabled=true",
+        "config.sharding.shards.shard-a.url=jdbc:h2:mem:shard-a;DB_CLOSE_DELAY=-1",
+        "config.sharding.shards.shard-a.username=sa",
+        "config.sharding.shards.shard-b.url=jdbc:h2:mem:shard-b;DB_CLOSE_DELAY=-1",
+        "config.sharding.shards.shard-b.username=sa",
+        "config.sharding.shards.shard-c.url=jdbc:h2:mem:shard-c;DB_CLOSE_DELAY=-1",
+        "config.sharding.shards.shard-c.username=sa",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+public class ShardedConfigRepositoryTests {
+
+    private static final List<String> APPLICATIONS = IntStream.range(0, 20).mapToObj(i -> "app-" + i).toList();
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private ShardRing shardRing;
+
+    @Autowired
+    private ShardDataSources shardDataSources;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        configRepository.deleteAll();
+    }
+
+    @Test
+    void whenConfigsSaved_thenEachApplicationIsStoredOnItsShardOnly() {
+        APPLICATIONS.forEach(application -> configRepository.save(config(application, "db.url")));
+
+        for (String shard : shardRing.shards()) {
+            List<String> stored = new JdbcTemplate(shardDataSources.get(shard))
+                    .queryForList("SELECT application FROM config", String.class);
+            assertThat(stored).containsExactlyInAnyOrderElementsOf(APPLICATIONS.stream()
+                    .filter(application -> shardRing.shardFor(application).equals(shard))
+                    .toList());
+        }
+        assertThat(APPLICATIONS.stream().map(shardRing::shardFor).distinct()).hasSize(3);
+        assertThat(configRepository.findByApplicationAndProfileAndLabelAndPropKey("app-7", "dev", "main", "db.url"))
+                .isPresent();
+        assertThat(configRepository.findByKeys("app-11", "dev", "main", List.of("db.url"))).hasSize(1);
+    }
+
+    @Test
+    void whenScanningAllConfigs_thenMergeEveryShard() {
+        APPLICATIONS.forEach(application -> configRepository.save(config(application, "db.url")));
+
+        assertThat(configRepository.findAll()).extracting(Config::getApplication)
+                .containsExactlyInAnyOrderElementsOf(APPLICATIONS);
+        assertThat(configRepository.count()).isEqualTo(APPLICATIONS.size());
+    }
+
+    @Test
+    void whenWriteSpansShards_thenReject() {
+        String first = APPLICATIONS.get(0);
+        String other = APPLICATIONS.stream()
+                .filter(application -> !shardRing.shardFor(application).equals(shardRing.shardFor(first)))
+                .findFirst().orElseThrow();
+
+        assertThatThrownBy(() -> configRepository.upsert(List.of(config(first, "a"), config(other, "a"))))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            configRepository.save(config(first, "b"));
+            configRepository.save(config(other, "b"));
+        })).isInstanceOf(InvalidDataAccessApiUsageException.class);
+        assertThat(configRepository.findByApplication(first)).isEmpty();
+    }
+
+    @Test
+    void whenScanResultCannotBeMerged_thenRejectBeforeCallingShards() {
+        APPLICATIONS.forEach(application -> configRepository.save(config(application, "db.url")));
+        Long id = configRepository.findByApplication(APPLICATIONS.get(0)).get(0).getId();
+
+        assertThatThrownBy(() -> configRepository.findAll(PageRequest.of(0, 5)))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+        assertThatThrownBy(() -> configRepository.getReferenceById(id))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class);
+        assertThat(configRepository.findAll(Sort.by("application"))).hasSize(APPLICATIONS.size());
+    }
+
+    private static Config config(String application, String key) {
+        return Config.builder()
+                .application(application)
+                .profile("dev")
+                .label("main")
+                .propKey(key)
+                .propValue("value")
+                .build();
+    }
+}
@@ -2,10 +2,16 @@ package com.kds.config.server.jobs;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
+@ComponentScan(basePackages = {"com.kds.config.server.jobs", "com.kds.config.server.core"})
+@EntityScan(basePackages = {"com.kds.config.server.core.entity"})
+@EnableJpaRepositories(basePackages = {"com.kds.config.server.core.repository"})
 public class ConfigServerJobsApplication {
     public static void main(String[] args) {
         SpringApplication.run(ConfigServerJobsApplication.class, args);
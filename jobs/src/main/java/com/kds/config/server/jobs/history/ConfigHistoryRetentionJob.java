@@ -0,0 +1,67 @@
+package com.kds.config.server.jobs.history;
+
+import com.kds.config.server.core.repository.ConfigHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Deletes configuration history older than {@code config.history.retention.max-age}.
+ * <p>
+ * Runs on {@code config.history.retention.cron} and deletes {@code chunk-size} changes per statement, each
+ * committed on its own with a {@code pause} in between, so a large backlog never holds locks on many rows
+ * or saturates the database that serves configuration reads.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.history.retention.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ConfigHistoryRetentionJob {
+
+    private final ConfigHistoryRepository configHistoryRepository;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final Duration pause;
+
+    public ConfigHistoryRetentionJob(ConfigHistoryRepository configHistoryRepository,
+                                     @Value("${config.history.retention.max-age:90d}") Duration maxAge,
+                                     @Value("${config.history.retention.chunk-size:1000}") int chunkSize,
+                                     @Value("${config.history.retention.pause:100ms}") Duration pause) {
+        this.configHistoryRepository = configHistoryRepository;
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${config.history.retention.cron:0 30 3 * * *}")
+    public void purge() throws InterruptedException {
+        purge(Instant.now());
+    }
+
+    /**
+     * Deletes the changes made more than {@code max-age} before {@code now}.
+     *
+     * @param now The current time
+     * @return The number of changes deleted
+     */
+    public long purge(Instant now) throws InterruptedException {
+        Timestamp cutoff = Timestamp.from(now.minus(maxAge));
+        long deleted = 0;
+        int chunk;
+        while ((chunk = configHistoryRepository.deleteChangedBefore(cutoff, chunkSize)) > 0) {
+            deleted += chunk;
+            Thread.sleep(pause);
+        }
+        log.info("Deleted {} history changes made before {}", deleted, cutoff);
+        return deleted;
+    }
+}
@@ -0,0 +1,99 @@
+package com.kds.config.server.jobs.usage;
+
+import com.kds.config.server.core.repository.ConfigUsageRepository;
+import com.kds.config.server.core.repository.UnreadConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reports the labels and keys not read for {@code config.usage.report.unread-for}.
+ * <p>
+ * Runs on {@code config.usage.report.cron} against the read counts the config servers add to
+ * {@code config_usage}. A label counts as read when any of its keys or its snapshot was read, a key when it
+ * or its label's snapshot was read; reads without a label count for every label of the profile. Labels and
+ * keys created within the period are left out. Each list is logged, up to {@code max-entries} entries;
+ * unread keys of unread labels are not listed again.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "config.usage.report.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ConfigUsageReportJob {
+
+    private final ConfigUsageRepository configUsageRepository;
+    private final Duration unreadFor;
+    private final int maxEntries;
+
+    public ConfigUsageReportJob(ConfigUsageRepository configUsageRepository,
+                                @Value("${config.usage.report.unread-for:30d}") Duration unreadFor,
+                                @Value("${config.usage.report.max-entries:1000}") int maxEntries) {
+        this.configUsageRepository = configUsageRepository;
+        this.unreadFor = unreadFor;
+        this.maxEntries = maxEntries;
+    }
+
+    @Scheduled(cron = "${config.usage.report.cron:0 0 4 * * *}")
+    public void report() {
+        report(Instant.now());
+    }
+
+    /**
+     * Logs the labels and keys not read during {@code unread-for} before {@code now}.
+     *
+     * @param now The current time
+     * @return The unread labels, then the unread keys of labels that were read
+     */
+    public Report report(Instant now) {
+        Timestamp cutoff = Timestamp.from(now.minus(unreadFor));
+        List<UnreadConfig> labels = first(configUsageRepository.findUnreadLabels(cutoff, maxEntries));
+        List<UnreadConfig> keys = first(configUsageRepository.findUnreadKeys(cutoff, maxEntries + labelKeys(labels))
+                .stream()
+                .filter(key -> labels.stream().noneMatch(label -> sameLabel(label, key)))
+                .toList());
+        log.info("{} labels and {} keys of read labels not read since {}", labels.size(), keys.size(), cutoff);
+        labels.forEach(label -> log.info("Unread label {}/{}/{} ({} keys), last read {}", label.application(),
+                label.profile(), label.label(), label.keys(), lastRead(label)));
+        keys.forEach(key -> log.info("Unread key {}/{}/{}/{}, last read {}", key.application(), key.profile(),
+                key.label(), key.propKey(), lastRead(key)));
+        return new Report(labels, keys);
+    }
+
+    /**
+     * With sharding, each shard returns up to the limit.
+     */
+    private List<UnreadConfig> first(List<UnreadConfig> unread) {
+        return unread.size() > maxEntries ? List.copyOf(unread.subList(0, maxEntries)) : unread;
+    }
+
+    private static int labelKeys(List<UnreadConfig> labels) {
+        return labels.stream().mapToInt(UnreadConfig::keys).sum();
+    }
+
+    private static boolean sameLabel(UnreadConfig label, UnreadConfig key) {
+        return label.application().equals(key.application()) && label.profile().equals(key.profile())
+                && Objects.equals(label.label(), key.label());
+    }
+
+    private static Object lastRead(UnreadConfig unread) {
+        return unread.lastReadAt() == null ? "never" : unread.lastReadAt().toInstant();
+    }
+
+    /**
+     * @param labels Labels not read during the period
+     * @param keys Keys not read during the period, of labels that were
+     */
+    public record Report(List<UnreadConfig> labels, List<UnreadConfig> keys) {
+    }
+}
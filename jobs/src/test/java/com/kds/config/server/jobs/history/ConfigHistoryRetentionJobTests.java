@@ -0,0 +1,83 @@
+package com.kds.config.server.jobs.history;
+
+import com.kds.config.server.core.entity.ConfigHistory;
+import com.kds.config.server.core.repository.ConfigHistoryQuery;
+import com.kds.config.server.core.repository.ConfigHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=true",
+        "config.history.retention.max-age=1h",
+        "config.history.retention.chunk-size=2",
+        "config.history.retention.pause=0ms"
+})
+public class ConfigHistoryRetentionJobTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @MockitoSpyBean
+    private ConfigHistoryRepository configHistoryRepository;
+
+    @Autowired
+    private ConfigHistoryRetentionJob configHistoryRetentionJob;
+
+    @Test
+    void whenPurge_thenDeleteOnlyChangesOlderThanMaxAge() throws InterruptedException {
+        configHistoryRepository.insertAll(List.of(
+                change("three-hours", NOW.minus(Duration.ofHours(3))),
+                change("two-hours", NOW.minus(Duration.ofHours(2))),
+                change("just-over", NOW.minus(Duration.ofMinutes(61))),
+                change("at-cutoff", NOW.minus(Duration.ofHours(1))),
+                change("recent", NOW.minus(Duration.ofMinutes(1)))));
+
+        assertThat(configHistoryRetentionJob.purge(NOW)).isEqualTo(3);
+        assertThat(configHistoryRepository.search(new ConfigHistoryQuery("test-app", null, null, null, null, null, 10)))
+                .extracting(ConfigHistory::getPropKey).containsExactly("recent", "at-cutoff");
+    }
+
+    @Test
+    void whenBacklogExceedsChunkSize_thenDeleteInChunksUntilNoneLeft() throws InterruptedException {
+        configHistoryRepository.insertAll(IntStream.range(0, 5)
+                .mapToObj(i -> change("key" + i, NOW.minus(Duration.ofDays(1)).plusSeconds(i)))
+                .toList());
+        Timestamp cutoff = Timestamp.from(NOW.minus(Duration.ofHours(1)));
+
+        assertThat(configHistoryRetentionJob.purge(NOW)).isEqualTo(5);
+        verify(configHistoryRepository, times(4)).deleteChangedBefore(cutoff, 2);
+        assertThat(configHistoryRepository.count()).isZero();
+    }
+
+    @Test
+    void whenNothingIsOld_thenDeleteNothing() throws InterruptedException {
+        configHistoryRepository.insertAll(List.of(change("recent", NOW.minus(Duration.ofMinutes(1)))));
+
+        assertThat(configHistoryRetentionJob.purge(NOW)).isZero();
+        verify(configHistoryRepository, times(1)).deleteChangedBefore(any(), anyInt());
+        assertThat(configHistoryRepository.count()).isEqualTo(1);
+    }
+
+    private static ConfigHistory change(String key, Instant changedAt) {
+        return ConfigHistory.builder()
+                .application("test-app")
+                .profile("dev")
+                .label("main")
+                .propKey(key)
+                .changeType(ConfigHistory.ChangeType.CREATED)
+                .newValue("v")
+                .changedAt(Timestamp.from(changedAt))
+                .changedBy("test-user")
+                .build();
+    }
+}
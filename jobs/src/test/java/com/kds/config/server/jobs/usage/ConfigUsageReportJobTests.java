@@ -0,0 +1,116 @@
+package com.kds.config.server.jobs.usage;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigUsage;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigUsageRepository;
+import com.kds.config.server.core.repository.UnreadConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.liquibase.enabled=true")
+public class ConfigUsageReportJobTests {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+    private static final Timestamp LONG_AGO = ago(Duration.ofDays(60));
+
+    @Autowired
+    private ConfigUsageRepository configUsageRepository;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @BeforeEach
+    void setUp() {
+        configRepository.saveAllAndFlush(List.of(
+                config("test-app", "beta", "db.url", LONG_AGO),
+                config("test-app", "main", "db.url", LONG_AGO),
+                config("test-app", "main", "db.pool", LONG_AGO),
+                config("test-app", "v2", "db.url", LONG_AGO),
+                config("test-app", "new", "db.url", ago(Duration.ofDays(1))),
+                config("other-app", "main", "db.url", LONG_AGO)));
+        configUsageRepository.addAll(List.of(
+                usage("test-app", "beta", ConfigUsage.NONE, ago(Duration.ofDays(40))),
+                usage("test-app", "main", "db.url", ago(Duration.ofDays(1))),
+                usage("test-app", "v2", ConfigUsage.NONE, ago(Duration.ofDays(1))),
+                usage("other-app", ConfigUsage.NONE, ConfigUsage.NONE, ago(Duration.ofDays(1)))));
+    }
+
+    @Test
+    void whenReport_thenListUnreadLabelsAndOnlyTheUnreadKeysOfReadLabels() {
+        ConfigUsageReportJob.Report report = job(Duration.ofDays(30), 1000).report(NOW);
+
+        assertThat(report.labels()).containsExactly(
+                new UnreadConfig("test-app", "dev", "beta", null, 1, ago(Duration.ofDays(40))));
+        assertThat(report.keys()).containsExactly(new UnreadConfig("test-app", "dev", "main", "db.pool", 1, null));
+    }
+
+    @Test
+    void whenUnreadForIsLonger_thenOlderReadsStillCount() {
+        ConfigUsageReportJob.Report report = job(Duration.ofDays(50), 1000).report(NOW);
+
+        assertThat(report.labels()).isEmpty();
+        assertThat(report.keys()).extracting(UnreadConfig::propKey).containsExactly("db.pool");
+    }
+
+    @Test
+    void whenUnreadForIsShorter_thenEarlierReadsNoLongerCount() {
+        ConfigUsageReportJob.Report report = job(Duration.ofHours(12), 1000).report(NOW);
+
+        assertThat(report.labels()).extracting(UnreadConfig::application, UnreadConfig::label)
+                .containsExactly(tuple("other-app", "main"), tuple("test-app", "beta"), tuple("test-app", "main"),
+                        tuple("test-app", "new"), tuple("test-app", "v2"));
+        assertThat(report.keys()).isEmpty();
+    }
+
+    @Test
+    void whenMaxEntriesReached_thenSkipKeysOfUnreadLabelsBeforeCutting() {
+        ConfigUsageReportJob.Report report = job(Duration.ofDays(30), 1).report(NOW);
+
+        assertThat(report.labels()).extracting(UnreadConfig::label).containsExactly("beta");
+        assertThat(report.keys()).extracting(UnreadConfig::label, UnreadConfig::propKey)
+                .containsExactly(tuple("main", "db.pool"));
+    }
+
+    private ConfigUsageReportJob job(Duration unreadFor, int maxEntries) {
+        return new ConfigUsageReportJob(configUsageRepository, unreadFor, maxEntries);
+    }
+
+    private static Timestamp ago(Duration age) {
+        return Timestamp.from(NOW.minus(age));
+    }
+
+    private static ConfigUsage usage(String application, String label, String key, Timestamp readAt) {
+        return ConfigUsage.builder()
+                .application(application)
+                .profile("dev")
+                .label(label)
+                .propKey(key)
+                .readCount(1)
+                .firstReadAt(readAt)
+                .lastReadAt(readAt)
+                .build();
+    }
+
+    private static Config config(String application, String label, String key, Timestamp createdAt) {
+        Config config = Config.builder()
+                .application(application)
+                .profile("dev")
+                .label(label)
+                .propKey(key)
+                .propValue("value")
+                .build();
+        config.setCreatedAt(createdAt);
+        return config;
+    }
+}
@@ -1,45 +1,191 @@
 package com.kds.config.server.service;
 
 import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigHistory;
 import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigScope;
+import com.kds.config.server.core.repository.UpsertOutcome;
+import com.kds.config.server.service.crypto.SnapshotDecryptor;
+import com.kds.config.server.service.crypto.ValueCipher;
 import com.kds.config.server.service.exception.ConfigServiceException;
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import com.kds.config.server.service.placeholder.PlaceholderResolver;
+import com.kds.config.server.service.snapshot.LastKnownGoodStore;
+import com.kds.config.server.service.snapshot.MissingKeyFilter;
+import com.kds.config.server.service.snapshot.Snapshot;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import com.kds.config.server.service.snapshot.SnapshotLoader;
+import com.kds.config.server.service.write.ConfigWrite;
+import com.kds.config.server.service.write.GroupCommitWriter;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class ConfigService {
     private final ConfigRepository configRepository;
+    private final SnapshotLoader snapshotLoader;
+    private final LastKnownGoodStore lastKnownGoodStore;
+    private final ValueCipher valueCipher;
+    private final SnapshotDecryptor snapshotDecryptor;
+    private final PlaceholderResolver placeholderResolver;
+    private final GroupCommitWriter groupCommitWriter;
+    private final ConfigHistoryRecorder configHistoryRecorder;
+    private final MissingKeyFilter missingKeyFilter;
 
-    public ConfigService(ConfigRepository configRepository) {
+    public ConfigService(ConfigRepository configRepository, SnapshotLoader snapshotLoader,
+                         LastKnownGoodStore lastKnownGoodStore, ValueCipher valueCipher,
+                         SnapshotDecryptor snapshotDecryptor, PlaceholderResolver placeholderResolver,
+                         GroupCommitWriter groupCommitWriter, ConfigHistoryRecorder configHistoryRecorder,
+                         MissingKeyFilter missingKeyFilter) {
         this.configRepository = configRepository;
+        this.snapshotLoader = snapshotLoader;
+        this.lastKnownGoodStore = lastKnownGoodStore;
+        this.valueCipher = valueCipher;
+        this.snapshotDecryptor = snapshotDecryptor;
+        this.placeholderResolver = placeholderResolver;
+        this.groupCommitWriter = groupCommitWriter;
+        this.configHistoryRecorder = configHistoryRecorder;
+        this.missingKeyFilter = missingKeyFilter;
     }
 
     @Transactional(readOnly = true)
     public List<Config> getAllConfigs() {
-        return configRepository.findAll();
+        return snapshotDecryptor.decrypt(configRepository.findAll());
     }
 
     @Transactional(readOnly = true)
     public List<Config> getConfigsByApplication(String application) {
-        return configRepository.findByApplication(application);
+        return snapshotDecryptor.decrypt(configRepository.findByApplication(application));
     }
 
-    @Transactional(readOnly = true)
     public List<Config> getConfigsByApplicationAndProfile(String application, String profile) {
-        return configRepository.findByApplicationAndProfile(application, profile);
+        return getSnapshot(application, profile, null).configs();
     }
 
-    @Transactional(readOnly = true)
     public List<Config> getConfigsByApplicationAndProfileAndLabel(String application, String profile, String label) {
-        return configRepository.findByApplicationAndProfileAndLabel(application, profile, label);
+        return getSnapshot(application, profile, label).configs();
+    }
+
+    /**
+     * Returns the snapshot of one label, or of all labels of the profile when {@code label} is {@code null}.
+     * <p>
+     * Concurrent calls for the same snapshot share one query; see {@link SnapshotLoader}. If the database
+     * cannot be read, the last snapshot that could be is returned marked stale; see {@link LastKnownGoodStore}.
+     * Encrypted values are decrypted, from cache when the snapshot was decrypted before; see
+     * {@link SnapshotDecryptor}. The last known good snapshot keeps them encrypted. Placeholders are then
+     * resolved against the snapshot; see {@link PlaceholderResolver}.
+     *
+     * @param application Application name
+     * @param profile Profile name
+     * @param label Label name, or {@code null} for all labels
+     * @return The snapshot
+     * @throws DataAccessException If the database cannot be read and the snapshot was never read before
+     */
+    public Snapshot getSnapshot(String application, String profile, String label) {
+        SnapshotKey key = new SnapshotKey(application, profile, label);
+        long revision = snapshotLoader.revision(key);
+        Snapshot snapshot;
+        try {
+            List<Config> configs = snapshotLoader.load(key, () -> label == null
+                    ? configRepository.findByApplicationAndProfile(application, profile)
+                    : configRepository.findByApplicationAndProfileAndLabel(application, profile, label));
+            snapshot = lastKnownGoodStore.save(key, configs);
+            missingKeyFilter.update(key, revision, configs);
+        } catch (DataAccessException e) {
+            snapshot = lastKnownGoodStore.stale(key).orElseThrow(() -> e);
+        }
+        List<Config> decrypted = snapshotDecryptor.decrypt(key, revision, snapshot.configs());
+        return new Snapshot(placeholderResolver.resolve(key, decrypted), snapshot.loadedAt(), snapshot.stale(),
+                decrypted != snapshot.configs());
     }
 
+    /**
+     * Returns one configuration. Keys the snapshot's {@link MissingKeyFilter} rules out are reported absent
+     * without a query; a key that is not found builds that filter. A value holding placeholders is served as
+     * {@link #getSnapshot} serves it, resolved against the label's snapshot.
+     *
+     * @param application Application name
+     * @param profile Profile name
+     * @param label Label name
+     * @param key Property key
+     * @return The configuration, decrypted and resolved, or empty if there is none
+     */
     @Transactional(readOnly = true)
     public Optional<Config> getConfigByKey(String application, String profile, String label, String key) {
-        return configRepository.findByApplicationAndProfileAndLabelAndPropKey(application, profile, label, key);
+        SnapshotKey snapshot = new SnapshotKey(application, profile, label);
+        if (missingKeyFilter.isAbsent(snapshot, key)) {
+            return Optional.empty();
+        }
+        Optional<Config> config = configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                application, profile, label, key);
+        if (config.isEmpty()) {
+            buildMissingKeyFilter(snapshot);
+        }
+        return config.map(found -> resolvePlaceholders(snapshot, snapshotDecryptor.decrypt(List.of(found))).get(0));
+    }
+
+    /**
+     * Returns the configurations of several keys of one label, read like {@link #getConfigByKey} but with
+     * one query per 500 keys instead of one per key. Keys that do not exist are absent from the result.
+     *
+     * @param application Application name
+     * @param profile Profile name
+     * @param label Label name
+     * @param keys The keys to read
+     * @return The configurations found, decrypted and resolved, in no particular order
+     */
+    @Transactional(readOnly = true)
+    public List<Config> getConfigsByKeys(String application, String profile, String label, Collection<String> keys) {
+        SnapshotKey snapshot = new SnapshotKey(application, profile, label);
+        List<String> candidates = keys.stream()
+                .filter(key -> !missingKeyFilter.isAbsent(snapshot, key))
+                .distinct()
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<Config> found = configRepository.findByKeys(application, profile, label, candidates);
+        if (found.size() < candidates.size()) {
+            buildMissingKeyFilter(snapshot);
+        }
+        return resolvePlaceholders(snapshot, snapshotDecryptor.decrypt(found));
+    }
+
+    /**
+     * Resolves the placeholders of configurations read by key. Their values only resolve against the whole
+     * snapshot, so if any holds a placeholder the configurations are served from {@link #getSnapshot}, which
+     * keeps the snapshot's resolved values; otherwise the snapshot is not read.
+     */
+    private List<Config> resolvePlaceholders(SnapshotKey snapshot, List<Config> configs) {
+        if (!placeholderResolver.hasPlaceholders(configs)) {
+            return configs;
+        }
+        Map<String, Config> served = new HashMap<>();
+        getSnapshot(snapshot.application(), snapshot.profile(), snapshot.label()).configs()
+                .forEach(config -> served.put(config.getPropKey(), config));
+        return configs.stream().map(config -> served.getOrDefault(config.getPropKey(), config)).toList();
+    }
+
+    /**
+     * Builds the filter of a snapshot a key was missing from. The lookup itself succeeded, so a failing
+     * snapshot load only leaves the filter unbuilt.
+     */
+    private void buildMissingKeyFilter(SnapshotKey snapshot) {
+        try {
+            missingKeyFilter.missed(snapshot, () -> configRepository.findByApplicationAndProfileAndLabel(
+                    snapshot.application(), snapshot.profile(), snapshot.label()));
+        } catch (DataAccessException e) {
+            // Built on a later miss
+        }
     }
 
     @Transactional
@@ -48,7 +194,11 @@ public class ConfigService {
                 config.getApplication(), config.getProfile(), config.getLabel(), config.getPropKey()).isPresent()) {
             throw new ConfigServiceException("CONFLICT", "Configuration already exists");
         }
-        return configRepository.save(config);
+        config.setPropValue(encrypt(config.getPropValue()));
+        snapshotLoader.invalidateAfterCommit(scopeOf(config));
+        Config saved = configRepository.save(config);
+        configHistoryRecorder.record(ConfigHistory.created(saved));
+        return saved;
     }
 
     @Transactional
@@ -56,17 +206,241 @@ public class ConfigService {
         return configRepository.findByApplicationAndProfileAndLabelAndPropKey(
                 config.getApplication(), config.getProfile(), config.getLabel(), config.getPropKey())
                 .map(existingConfig -> {
-                    existingConfig.setPropValue(config.getPropValue());
-                    return configRepository.save(existingConfig);
+                    snapshotLoader.invalidateAfterCommit(scopeOf(config));
+                    String oldValue = existingConfig.getPropValue();
+                    existingConfig.setPropValue(encrypt(config.getPropValue()));
+                    Config saved = configRepository.save(existingConfig);
+                    configHistoryRecorder.record(ConfigHistory.updated(saved, oldValue));
+                    return saved;
                 })
                 .orElseThrow(() -> new ConfigServiceException("NOT_FOUND", "Configuration not found"));
     }
 
     @Transactional
     public void deleteConfig(String application, String profile, String label, String key) {
-        if (!configRepository.existsByApplicationAndProfileAndLabelAndPropKey(application, profile, label, key)) {
+        int deleted = configRepository.deleteByApplicationAndProfileAndLabelAndPropKey(
+                application, profile, label, key);
+        if (deleted == 0) {
             throw new ConfigServiceException("NOT_FOUND", "Configuration not found");
         }
-        configRepository.deleteByApplicationAndProfileAndLabelAndPropKey(application, profile, label, key);
+        configHistoryRecorder.record(ConfigHistory.deleted(Config.builder()
+                .application(application).profile(profile).label(label).propKey(key)
+                .build()));
+        snapshotLoader.invalidateAfterCommit(new ConfigScope(application, profile, label, null));
+    }
+
+    /**
+     * @return Whether single-key writes should go through {@link #submitCreate(Config)},
+     *         {@link #submitUpdate(Config)} and {@link #submitDelete(String, String, String, String)}
+     */
+    public boolean isGroupCommitEnabled() {
+        return groupCommitWriter.isEnabled();
+    }
+
+    /**
+     * Queues {@link #createConfig(Config)} for a group commit; see {@link GroupCommitWriter}.
+     *
+     * @param config The configuration to create
+     * @return Completes with the created configuration once its group has committed
+     */
+    public CompletableFuture<Config> submitCreate(Config config) {
+        config.setPropValue(encrypt(config.getPropValue()));
+        return groupCommitWriter.submit(ConfigWrite.create(config));
+    }
+
+    /**
+     * Queues {@link #updateConfig(Config)} for a group commit; see {@link GroupCommitWriter}.
+     *
+     * @param config The configuration to update
+     * @return Completes with the updated configuration once its group has committed
+     */
+    public CompletableFuture<Config> submitUpdate(Config config) {
+        config.setPropValue(encrypt(config.getPropValue()));
+        return groupCommitWriter.submit(ConfigWrite.update(config));
+    }
+
+    /**
+     * Queues {@link #deleteConfig(String, String, String, String)} for a group commit; see
+     * {@link GroupCommitWriter}.
+     *
+     * @return Completes once the deletion's group has committed
+     */
+    public CompletableFuture<Void> submitDelete(String application, String profile, String label, String key) {
+        return groupCommitWriter.submit(ConfigWrite.delete(application, profile, label, key))
+                .thenApply(deleted -> null);
+    }
+
+    /**
+     * Deletes every configuration in the scope.
+     * <p>
+     * Deliberately not transactional: the repository deletes in chunks and each chunk commits on its
+     * own, so removing a whole application never holds locks on all of its rows at once. If a chunk
+     * fails, the chunks before it stay deleted.
+     *
+     * @param scope The configurations to delete
+     * @return The number of configurations deleted
+     */
+    public long deleteConfigs(ConfigScope scope) {
+        try {
+            return configHistoryRecorder.isEnabled()
+                    ? configRepository.deleteByScope(scope, deleted -> configHistoryRecorder.record(
+                            deleted.stream().map(ConfigHistory::deleted).toList()))
+                    : configRepository.deleteByScope(scope);
+        } finally {
+            snapshotLoader.invalidateAfterCommit(scope);
+        }
+    }
+
+    /**
+     * Replaces the key prefix of every configuration in the scope, chunked and committed like
+     * {@link #deleteConfigs(ConfigScope)}.
+     *
+     * @param scope The configurations to rename; the key prefix is required
+     * @param newKeyPrefix The prefix to put in place of the scope's key prefix
+     * @return The number of configurations renamed
+     */
+    public long renameKeys(ConfigScope scope, String newKeyPrefix) {
+        if (scope.keyPrefix() == null || scope.keyPrefix().isEmpty()) {
+            throw new ConfigServiceException("BAD_REQUEST", "Key prefix is required to rename keys");
+        }
+        if (scope.keyPrefix().equals(newKeyPrefix)) {
+            return 0;
+        }
+        long conflicts = configRepository.countRenameConflicts(scope, newKeyPrefix);
+        if (conflicts > 0) {
+            throw new ConfigServiceException("CONFLICT", conflicts + " renamed keys already exist");
+        }
+        try {
+            return configHistoryRecorder.isEnabled()
+                    ? configRepository.renameKeys(scope, newKeyPrefix, renamed -> configHistoryRecorder.record(
+                            renamedHistory(renamed, scope.keyPrefix(), newKeyPrefix)))
+                    : configRepository.renameKeys(scope, newKeyPrefix);
+        } finally {
+            snapshotLoader.invalidateAfterCommit(scope);
+        }
+    }
+
+    /**
+     * Inserts or updates configurations without a prior lookup per item.
+     *
+     * @param configs Configurations to write; every item needs a label
+     * @return The outcome for each configuration, in input order
+     */
+    @Transactional
+    public List<UpsertOutcome> upsertConfigs(List<Config> configs) {
+        for (Config config : configs) {
+            if (config.getLabel() == null || config.getLabel().isEmpty()) {
+                throw new ConfigServiceException("BAD_REQUEST", "Label is required for upsert");
+            }
+            config.setPropValue(encrypt(config.getPropValue()));
+        }
+        List<UpsertOutcome> outcomes = upsert(configs);
+        configs.stream().map(ConfigService::scopeOf).distinct().forEach(snapshotLoader::invalidateAfterCommit);
+        return outcomes;
+    }
+
+    /**
+     * Creates {@code targetLabel} as a copy of {@code sourceLabel} for one application and profile.
+     * <p>
+     * The copy is a single {@code INSERT ... SELECT}; {@code overrides} are then upserted into the new
+     * label, so they may both change copied keys and add new ones. History records the new label's keys with
+     * their final values as created, read by the history writer after the commit; the keys of a replaced label
+     * are read with the chunked delete's own queries. With {@code replace} an existing
+     * target label is deleted first, which promotes the source over it; without it an existing target
+     * label is a conflict. Everything happens in one transaction, so readers see either the old target
+     * label or the complete new one.
+     *
+     * @param application Application name
+     * @param profile Profile name
+     * @param sourceLabel The label to copy
+     * @param targetLabel The label to create or replace
+     * @param overrides Values to set in the target label, by key; may be empty
+     * @param replace Whether an existing target label is replaced
+     * @return The number of configurations in the target label
+     */
+    @Transactional
+    public long cloneLabel(String application, String profile, String sourceLabel, String targetLabel,
+                           Map<String, String> overrides, boolean replace) {
+        if (sourceLabel.equals(targetLabel)) {
+            throw new ConfigServiceException("BAD_REQUEST", "Source and target label must differ");
+        }
+        if (configRepository.existsByApplicationAndProfileAndLabel(application, profile, targetLabel)) {
+            if (!replace) {
+                throw new ConfigServiceException("CONFLICT", "Label " + targetLabel + " already exists");
+            }
+            if (configHistoryRecorder.isEnabled()) {
+                configRepository.deleteByScope(new ConfigScope(application, profile, targetLabel, null),
+                        deleted -> configHistoryRecorder.record(deleted.stream().map(ConfigHistory::deleted).toList()));
+            } else {
+                configRepository.deleteByApplicationAndProfileAndLabel(application, profile, targetLabel);
+            }
+        }
+        long copied = configRepository.copySnapshot(application, profile, sourceLabel, targetLabel);
+        if (copied == 0) {
+            throw new ConfigServiceException("NOT_FOUND", "Label " + sourceLabel + " not found");
+        }
+        snapshotLoader.invalidateAfterCommit(new ConfigScope(application, profile, targetLabel, null));
+        configHistoryRecorder.recordCreatedLabel(application, profile, targetLabel);
+        if (overrides.isEmpty()) {
+            return copied;
+        }
+        List<Config> configs = overrides.entrySet().stream()
+                .map(override -> Config.builder()
+                        .application(application).profile(profile).label(targetLabel)
+                        .propKey(override.getKey()).propValue(encrypt(override.getValue()))
+                        .build())
+                .toList();
+        return copied + configRepository.upsert(configs).stream()
+                .filter(outcome -> outcome == UpsertOutcome.INSERTED)
+                .count();
+    }
+
+    /**
+     * Upserts, recording the rows written from their outcomes; updates are recorded without their old value.
+     */
+    private List<UpsertOutcome> upsert(List<Config> configs) {
+        List<UpsertOutcome> outcomes = configRepository.upsert(configs);
+        if (configHistoryRecorder.isEnabled()) {
+            List<ConfigHistory> changes = new ArrayList<>();
+            for (int i = 0; i < configs.size(); i++) {
+                switch (outcomes.get(i)) {
+                    case INSERTED -> changes.add(ConfigHistory.created(configs.get(i)));
+                    case UPDATED -> changes.add(ConfigHistory.updated(configs.get(i), null));
+                    case UNCHANGED -> {
+                    }
+                }
+            }
+            configHistoryRecorder.record(changes);
+        }
+        return outcomes;
+    }
+
+    /**
+     * A rename is recorded as the deletion of each old key and the creation of its new key.
+     */
+    private static List<ConfigHistory> renamedHistory(List<Config> renamed, String keyPrefix, String newKeyPrefix) {
+        List<ConfigHistory> changes = new ArrayList<>(renamed.size() * 2);
+        for (Config config : renamed) {
+            ConfigHistory created = ConfigHistory.created(config);
+            created.setPropKey(newKeyPrefix + config.getPropKey().substring(keyPrefix.length()));
+            changes.add(ConfigHistory.deleted(config));
+            changes.add(created);
+        }
+        return changes;
+    }
+
+    /**
+     * Encrypts a {@code {cipher}} value for storage; see {@link ValueCipher#prepareForWrite(String)}.
+     */
+    private String encrypt(String value) {
+        try {
+            return valueCipher.prepareForWrite(value);
+        } catch (IllegalStateException e) {
+            throw new ConfigServiceException("BAD_REQUEST", "Cannot store {cipher} value: " + e.getMessage());
+        }
+    }
+
+    private static ConfigScope scopeOf(Config config) {
+        return new ConfigScope(config.getApplication(), config.getProfile(), config.getLabel(), null);
     }
 }
@@ -0,0 +1,246 @@
+package com.kds.config.server.service.crypto;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decrypts the {@code {cipher}} values of snapshots, caching plaintexts per snapshot so that repeated reads
+ * do no cryptography.
+ * <p>
+ * The cache holds one entry per snapshot key, tagged with the snapshot revision it was built for, mapping each
+ * ciphertext of the snapshot to its plaintext. A read is a hit when every ciphertext it holds is in the entry;
+ * since every encryption uses a fresh IV, a ciphertext always maps to the same plaintext, so a load that raced
+ * with a write can never be served a wrong value. When the revision changes the entry is rebuilt, keeping the
+ * plaintexts of unchanged values and decrypting only new ciphertexts, in one batch. Concurrent misses of one
+ * snapshot decrypt once; the others wait and read the result from the cache.
+ * <p>
+ * Plaintexts are held as {@code char[]} and zeroed when their entry is evicted or replaced. Entries are
+ * evicted least recently used first once the cache exceeds {@code config.encryption.cache.max-bytes}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class SnapshotDecryptor {
+
+    /**
+     * Rough per-value overhead of the map entry, the {@code String} key and the {@code char[]}.
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ValueCipher valueCipher;
+    private final long maxBytes;
+    private final LinkedHashMap<SnapshotKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<SnapshotKey, Object> missLocks = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long bytes;
+
+    public SnapshotDecryptor(ValueCipher valueCipher,
+                             @Value("${config.encryption.cache.max-bytes:16777216}") long maxBytes) {
+        this.valueCipher = valueCipher;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the snapshot with its {@code {cipher}} values decrypted. Decrypted configurations are copies;
+     * the loaded entities are never modified. Values no key can open are returned as stored.
+     *
+     * @param key The snapshot key
+     * @param revision The revision of the snapshot; see {@code SnapshotLoader#revision}
+     * @param configs The snapshot as stored
+     * @return The decrypted snapshot, or {@code configs} itself if it holds no encrypted values
+     */
+    public List<Config> decrypt(SnapshotKey key, long revision, List<Config> configs) {
+        List<String> ciphertexts = ciphertexts(configs);
+        if (ciphertexts.isEmpty()) {
+            return configs;
+        }
+        List<Config> cached = cached(key, revision, configs, ciphertexts);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (missLocks.computeIfAbsent(key, k -> new Object())) {
+            cached = cached(key, revision, configs, ciphertexts);
+            return cached != null ? cached : load(key, revision, configs, ciphertexts);
+        }
+    }
+
+    private List<Config> load(SnapshotKey key, long revision, List<Config> configs, List<String> ciphertexts) {
+        misses.increment();
+        Map<String, char[]> plaintexts = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        synchronized (this) {
+            Entry current = entries.get(key);
+            for (String ciphertext : ciphertexts) {
+                if (current != null && current.plaintexts.containsKey(ciphertext)) {
+                    char[] plaintext = current.plaintexts.get(ciphertext);
+                    plaintexts.put(ciphertext, plaintext == null ? null : plaintext.clone());
+                } else {
+                    missing.add(ciphertext);
+                }
+            }
+        }
+        ValueCipher.Batch batch = valueCipher.newBatch();
+        for (String ciphertext : missing) {
+            plaintexts.put(ciphertext, batch.tryDecrypt(ciphertext));
+        }
+
+        Entry entry = new Entry(revision, plaintexts);
+        synchronized (this) {
+            List<Config> decrypted = copy(configs, plaintexts);
+            Entry current = entries.get(key);
+            if (entry.bytes > maxBytes || (current != null && current.revision > revision)) {
+                entry.wipe();
+                return decrypted;
+            }
+            if (current != null) {
+                remove(key);
+            }
+            entries.put(key, entry);
+            bytes += entry.bytes;
+            evict();
+            return decrypted;
+        }
+    }
+
+    private synchronized List<Config> cached(SnapshotKey key, long revision, List<Config> configs,
+                                             List<String> ciphertexts) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.revision != revision || !entry.plaintexts.keySet().containsAll(ciphertexts)) {
+            return null;
+        }
+        hits.increment();
+        return copy(configs, entry.plaintexts);
+    }
+
+    /**
+     * Decrypts configurations without caching, for reads outside snapshots.
+     *
+     * @param configs The configurations as stored
+     * @return The configurations with their {@code {cipher}} values decrypted
+     */
+    public List<Config> decrypt(List<Config> configs) {
+        List<String> ciphertexts = ciphertexts(configs);
+        if (ciphertexts.isEmpty()) {
+            return configs;
+        }
+        ValueCipher.Batch batch = valueCipher.newBatch();
+        Map<String, char[]> plaintexts = new HashMap<>();
+        for (String ciphertext : ciphertexts) {
+            plaintexts.put(ciphertext, batch.tryDecrypt(ciphertext));
+        }
+        Entry entry = new Entry(0, plaintexts);
+        List<Config> decrypted = copy(configs, plaintexts);
+        entry.wipe();
+        return decrypted;
+    }
+
+    /**
+     * @return The number of encrypted snapshot reads served from the cache without decrypting
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of encrypted snapshot reads that had to decrypt values
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The estimated size of the cached plaintexts and ciphertexts
+     */
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Zeroes and drops every cached plaintext.
+     */
+    @PreDestroy
+    public synchronized void clear() {
+        entries.values().forEach(Entry::wipe);
+        entries.clear();
+        bytes = 0;
+    }
+
+    private List<String> ciphertexts(List<Config> configs) {
+        if (!valueCipher.isEnabled()) {
+            return List.of();
+        }
+        List<String> ciphertexts = new ArrayList<>();
+        for (Config config : configs) {
+            if (ValueCipher.isEncrypted(config.getPropValue())) {
+                ciphertexts.add(config.getPropValue());
+            }
+        }
+        return ciphertexts;
+    }
+
+    private void evict() {
+        var eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            Entry entry = eldest.next().getValue();
+            eldest.remove();
+            bytes -= entry.bytes;
+            entry.wipe();
+        }
+    }
+
+    private void remove(SnapshotKey key) {
+        Entry entry = entries.remove(key);
+        bytes -= entry.bytes;
+        entry.wipe();
+    }
+
+    private static List<Config> copy(List<Config> configs, Map<String, char[]> plaintexts) {
+        List<Config> decrypted = new ArrayList<>(configs.size());
+        for (Config config : configs) {
+            char[] plaintext = plaintexts.get(config.getPropValue());
+            decrypted.add(plaintext == null ? config : config.withPropValue(new String(plaintext)));
+        }
+        return List.copyOf(decrypted);
+    }
+
+    private static final class Entry {
+
+        private final long revision;
+        private final Map<String, char[]> plaintexts;
+        private final long bytes;
+
+        private Entry(long revision, Map<String, char[]> plaintexts) {
+            this.revision = revision;
+            this.plaintexts = plaintexts;
+            long size = 0;
+            for (Map.Entry<String, char[]> value : plaintexts.entrySet()) {
+                size += ENTRY_OVERHEAD_BYTES + 2L * value.getKey().length()
+                        + (value.getValue() == null ? 0 : 2L * value.getValue().length);
+            }
+            this.bytes = size;
+        }
+
+        private void wipe() {
+            plaintexts.values().forEach(plaintext -> {
+                if (plaintext != null) {
+                    Arrays.fill(plaintext, '\0');
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.kds.config.server.service.crypto;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Encrypts and decrypts {@code {cipher}} configuration values with AES-GCM.
+ * <p>
+ * Keys are the AES secret key entries of a PKCS12 keystore at {@code config.encryption.key-store.location}.
+ * New values are encrypted with the entry named by {@code config.encryption.key-store.alias}; any entry can
+ * decrypt, so keys can be rotated by adding an entry and switching the alias. Without a keystore, encryption
+ * is disabled.
+ * <p>
+ * An encrypted value is {@code {cipher}} followed by the Base64 encoding of
+ * {@code version (1) | alias length (1) | alias | IV (12) | ciphertext and tag}. The coordinates of the value
+ * are not bound into the ciphertext, so values stay readable when labels are cloned or keys renamed.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class ValueCipher {
+
+    public static final String PREFIX = "{cipher}";
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final byte VERSION = 1;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final Map<String, SecretKey> keys;
+    private final String alias;
+    private final SecureRandom random = new SecureRandom();
+    private final LongAdder decryptions = new LongAdder();
+    private final LongAdder encryptions = new LongAdder();
+
+    @Autowired
+    public ValueCipher(@Value("${config.encryption.key-store.location:}") String location,
+                       @Value("${config.encryption.key-store.password:}") String password,
+                       @Value("${config.encryption.key-store.alias:config}") String alias) {
+        this(location.isBlank() ? Map.of() : loadKeys(Path.of(location), password.toCharArray()), alias);
+        if (!keys.isEmpty()) {
+            log.info("Loaded {} encryption keys from {}, encrypting with '{}'", keys.size(), location, alias);
+        }
+    }
+
+    public ValueCipher(Map<String, SecretKey> keys, String alias) {
+        if (!keys.isEmpty() && !keys.containsKey(alias)) {
+            throw new IllegalStateException("No encryption key with alias " + alias);
+        }
+        this.keys = Map.copyOf(keys);
+        this.alias = alias;
+    }
+
+    /**
+     * @return Whether a keystore is configured
+     */
+    public boolean isEnabled() {
+        return !keys.isEmpty();
+    }
+
+    public static boolean isEncrypted(String value) {
+        return value != null && value.startsWith(PREFIX);
+    }
+
+    /**
+     * Prepares a value for storage: {@code {cipher}plaintext} is encrypted, an encrypted value this cipher can
+     * decrypt is kept as is, and any other value is returned unchanged.
+     *
+     * @param value The value as written by a client
+     * @return The value to store
+     * @throws IllegalStateException If the value asks for encryption and no keystore is configured
+     */
+    public String prepareForWrite(String value) {
+        if (!isEncrypted(value)) {
+            return value;
+        }
+        if (!isEnabled()) {
+            throw new IllegalStateException("Encryption is not configured");
+        }
+        if (newBatch().tryDecrypt(value) != null) {
+            return value;
+        }
+        return encrypt(value.substring(PREFIX.length()));
+    }
+
+    /**
+     * Encrypts a plaintext with the current key.
+     *
+     * @param plaintext The value to encrypt
+     * @return {@code {cipher}} followed by the envelope
+     */
+    public String encrypt(String plaintext) {
+        byte[] aliasBytes = alias.getBytes(StandardCharsets.UTF_8);
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, keys.get(alias), new GCMParameterSpec(TAG_BITS, iv));
+            byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer envelope = ByteBuffer.allocate(2 + aliasBytes.length + IV_LENGTH + ciphertext.length)
+                    .put(VERSION)
+                    .put((byte) aliasBytes.length)
+                    .put(aliasBytes)
+                    .put(iv)
+                    .put(ciphertext);
+            encryptions.increment();
+            return PREFIX + Base64.getEncoder().encodeToString(envelope.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not encrypt value", e);
+        }
+    }
+
+    /**
+     * Starts a batch of decryptions sharing one {@link Cipher} instance. A batch is not thread safe.
+     */
+    public Batch newBatch() {
+        try {
+            return new Batch(Cipher.getInstance(TRANSFORMATION));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM is not available", e);
+        }
+    }
+
+    /**
+     * @return The number of values decrypted
+     */
+    public long decryptions() {
+        return decryptions.sum();
+    }
+
+    /**
+     * @return The number of values encrypted
+     */
+    public long encryptions() {
+        return encryptions.sum();
+    }
+
+    public final class Batch {
+
+        private final Cipher cipher;
+
+        private Batch(Cipher cipher) {
+            this.cipher = cipher;
+        }
+
+        /**
+         * Decrypts a {@code {cipher}} value.
+         *
+         * @param value The stored value
+         * @return The plaintext characters, or {@code null} if the value is not an envelope this cipher's
+         * keys can open
+         */
+        public char[] tryDecrypt(String value) {
+            if (!isEncrypted(value) || keys.isEmpty()) {
+                return null;
+            }
+            try {
+                ByteBuffer envelope = ByteBuffer.wrap(Base64.getDecoder().decode(value.substring(PREFIX.length())));
+                if (envelope.get() != VERSION) {
+                    return null;
+                }
+                byte[] aliasBytes = new byte[Byte.toUnsignedInt(envelope.get())];
+                envelope.get(aliasBytes);
+                SecretKey key = keys.get(new String(aliasBytes, StandardCharsets.UTF_8));
+                if (key == null) {
+                    return null;
+                }
+                byte[] iv = new byte[IV_LENGTH];
+                envelope.get(iv);
+                cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+                byte[] plaintext = cipher.doFinal(envelope.array(), envelope.position(), envelope.remaining());
+                decryptions.increment();
+                CharBuffer decoded = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(plaintext));
+                // The decoder sizes its buffer for the worst case, so the backing array can be longer
+                char[] chars = Arrays.copyOf(decoded.array(), decoded.remaining());
+                Arrays.fill(decoded.array(), '\0');
+                Arrays.fill(plaintext, (byte) 0);
+                return chars;
+            } catch (IllegalArgumentException | BufferUnderflowException | GeneralSecurityException e) {
+                return null;
+            }
+        }
+    }
+
+    private static Map<String, SecretKey> loadKeys(Path location, char[] password) {
+        try (InputStream in = Files.newInputStream(location)) {
+            KeyStore keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, password);
+            Map<String, SecretKey> keys = new HashMap<>();
+            for (String entry : Collections.list(keyStore.aliases())) {
+                Key key = keyStore.getKey(entry, password);
+                if (key instanceof SecretKey secretKey && "AES".equalsIgnoreCase(secretKey.getAlgorithm())) {
+                    keys.put(entry, secretKey);
+                }
+            }
+            return keys;
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not load encryption keys from " + location, e);
+        }
+    }
+}
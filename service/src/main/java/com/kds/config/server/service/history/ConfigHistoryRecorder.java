@@ -0,0 +1,262 @@
+package com.kds.config.server.service.history;
+
+import com.kds.config.server.core.entity.ConfigHistory;
+import com.kds.config.server.core.repository.ConfigHistoryRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Appends configuration changes to {@code config_history} off the request path.
+ * <p>
+ * Changes made in a transaction are queued once it commits, so rolled back changes are never recorded;
+ * queueing never blocks. One writer thread inserts queued changes in JDBC batches of up to
+ * {@code config.history.batch-size}, written once full or {@code config.history.flush-interval} after their
+ * first change, one batch per application so that each stays on one shard. History is best effort: when the queue of
+ * {@code config.history.queue-capacity} is full or a batch fails, the changes are dropped and counted
+ * rather than slowing down writes.
+ * <p>
+ * Writers never read a row just to record it: updates and deletions may be recorded without the value they
+ * replace, which history reads take from the key's previous change.
+ * <p>
+ * Enabled unless {@code config.history.enabled} is {@code false}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class ConfigHistoryRecorder {
+
+    private static final String SYSTEM_USER = "SYSTEM";
+
+    private final ConfigHistoryRepository configHistoryRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final BlockingQueue<Entry> queue;
+    private final Thread writer;
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+
+    public ConfigHistoryRecorder(ConfigHistoryRepository configHistoryRepository,
+                                 @Value("${config.history.enabled:true}") boolean enabled,
+                                 @Value("${config.history.queue-capacity:100000}") int queueCapacity,
+                                 @Value("${config.history.batch-size:500}") int batchSize,
+                                 @Value("${config.history.flush-interval:1s}") Duration flushInterval) {
+        this.configHistoryRepository = configHistoryRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = enabled
+                ? Thread.ofPlatform().name("config-history-writer").daemon().start(this::run)
+                : null;
+    }
+
+    /**
+     * @return Whether changes are recorded; callers can skip reading old values when they are not
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a change, after the current transaction commits if there is one.
+     */
+    public void record(ConfigHistory change) {
+        record(List.of(change));
+    }
+
+    /**
+     * Queues changes, after the current transaction commits if there is one.
+     */
+    public void record(List<ConfigHistory> changes) {
+        if (!enabled || changes.isEmpty()) {
+            return;
+        }
+        List<Entry> entries = changes.stream().<Entry>map(Change::new).toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entries);
+                }
+            });
+        } else {
+            enqueue(entries);
+        }
+    }
+
+    /**
+     * Queues the creation of every key of a label, after the current transaction commits if there is one. The
+     * writer records the keys and values the label holds when it gets to it with one {@code INSERT ... SELECT},
+     * so creating a label, such as by a clone, reads nothing on the request path. A change to the label
+     * committed before then shows up in both its own change and the recorded creation.
+     */
+    public void recordCreatedLabel(String application, String profile, String label) {
+        if (!enabled) {
+            return;
+        }
+        List<Entry> entries = List.of(new CreatedLabel(application, profile, label,
+                new Timestamp(System.currentTimeMillis())));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(entries);
+                }
+            });
+        } else {
+            enqueue(entries);
+        }
+    }
+
+    /**
+     * @return The number of changes waiting to be written
+     */
+    public int queued() {
+        return queue.size();
+    }
+
+    /**
+     * @return The number of changes written
+     */
+    public long recorded() {
+        return recorded.sum();
+    }
+
+    /**
+     * @return The number of changes dropped because the queue was full or their batch failed
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes the queued changes and stops the writer.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        closed = true;
+        if (writer != null) {
+            writer.join(Duration.ofSeconds(30));
+        }
+    }
+
+    private void enqueue(List<Entry> entries) {
+        int rejected = 0;
+        for (Entry entry : entries) {
+            if (closed || !queue.offer(entry)) {
+                rejected++;
+            }
+        }
+        if (rejected > 0) {
+            dropped.add(rejected);
+            log.warn("History queue full; dropped {} changes", rejected);
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (!closed) {
+            try {
+                Entry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    fill(batch, System.currentTimeMillis() + flushIntervalMillis);
+                    write(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        while (!batch.isEmpty() || queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void fill(List<Entry> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize && !closed) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            Entry next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Writes the entries in queue order: changes are batched per application up to the next created label.
+     */
+    private void write(List<Entry> batch) {
+        Map<String, List<ConfigHistory>> byApplication = new LinkedHashMap<>();
+        for (Entry entry : batch) {
+            if (entry instanceof Change change) {
+                byApplication.computeIfAbsent(change.change().getApplication(), application -> new ArrayList<>())
+                        .add(change.change());
+            } else if (entry instanceof CreatedLabel label) {
+                insertAll(byApplication);
+                byApplication.clear();
+                insertCreated(label);
+            }
+        }
+        insertAll(byApplication);
+    }
+
+    private void insertAll(Map<String, List<ConfigHistory>> byApplication) {
+        byApplication.forEach((application, changes) -> {
+            try {
+                configHistoryRepository.insertAll(changes);
+                recorded.add(changes.size());
+            } catch (RuntimeException e) {
+                dropped.add(changes.size());
+                log.error("Failed to write {} history changes of {}", changes.size(), application, e);
+            }
+        });
+    }
+
+    private void insertCreated(CreatedLabel label) {
+        try {
+            recorded.add(configHistoryRepository.insertCreatedFromLabel(label.application(), label.profile(),
+                    label.label(), label.changedAt(), SYSTEM_USER));
+        } catch (RuntimeException e) {
+            dropped.increment();
+            log.error("Failed to record the creation of label {} of {}/{}", label.label(), label.application(),
+                    label.profile(), e);
+        }
+    }
+
+    private sealed interface Entry permits Change, CreatedLabel {
+    }
+
+    private record Change(ConfigHistory change) implements Entry {
+    }
+
+    private record CreatedLabel(String application, String profile, String label, Timestamp changedAt)
+            implements Entry {
+    }
+}
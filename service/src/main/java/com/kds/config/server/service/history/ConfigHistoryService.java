@@ -0,0 +1,57 @@
+package com.kds.config.server.service.history;
+
+import com.kds.config.server.core.entity.ConfigHistory;
+import com.kds.config.server.core.repository.ConfigHistoryQuery;
+import com.kds.config.server.core.repository.ConfigHistoryRepository;
+import com.kds.config.server.service.exception.ConfigServiceException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reads the change history recorded by {@link ConfigHistoryRecorder}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+public class ConfigHistoryService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final ConfigHistoryRepository configHistoryRepository;
+
+    public ConfigHistoryService(ConfigHistoryRepository configHistoryRepository) {
+        this.configHistoryRepository = configHistoryRepository;
+    }
+
+    /**
+     * Finds the changes of an application, newest first. Values are returned as stored, so
+     * {@code {cipher}} values stay encrypted.
+     *
+     * @param application Application name
+     * @param profile Profile name, or {@code null} for all profiles
+     * @param label Label name, or {@code null} for all labels
+     * @param key Property key, or {@code null} for all keys
+     * @param from Earliest change time, inclusive, or {@code null}
+     * @param to Latest change time, exclusive, or {@code null}
+     * @param limit Maximum number of changes, at most {@value #MAX_LIMIT}
+     * @return The matching changes
+     */
+    @Transactional(readOnly = true)
+    public List<ConfigHistory> getHistory(String application, String profile, String label, String key,
+                                          Instant from, Instant to, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ConfigServiceException("BAD_REQUEST", "Limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new ConfigServiceException("BAD_REQUEST", "from must be before to");
+        }
+        return configHistoryRepository.search(new ConfigHistoryQuery(application, profile, label, key,
+                from == null ? null : Timestamp.from(from), to == null ? null : Timestamp.from(to), limit));
+    }
+}
@@ -0,0 +1,133 @@
+package com.kds.config.server.service.placeholder;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resolves {@code ${key}} and {@code ${key:default}} placeholders in snapshot values against the other values
+ * of the same snapshot.
+ * <p>
+ * Placeholders resolve against the snapshot as it is served: one value per key, later rows winning. For a
+ * snapshot of all labels of a profile, values therefore resolve across labels. A {@link ResolutionGraph} is
+ * kept per snapshot key, for the {@code config.placeholders.cache.max-snapshots} most recently read
+ * snapshots, so a read of an unchanged snapshot resolves nothing and a read after a write re-resolves only
+ * the written keys and the keys depending on them.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class PlaceholderResolver {
+
+    private final boolean enabled;
+    private final Map<SnapshotKey, ResolutionGraph> graphs;
+    private final LongAdder resolutions = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    public PlaceholderResolver(@Value("${config.placeholders.enabled:true}") boolean enabled,
+                               @Value("${config.placeholders.cache.max-snapshots:1000}") int maxSnapshots) {
+        this.enabled = enabled;
+        this.graphs = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SnapshotKey, ResolutionGraph> eldest) {
+                return size() > maxSnapshots;
+            }
+        };
+    }
+
+    /**
+     * Returns the snapshot with its placeholders resolved. Resolved configurations are copies; the loaded
+     * entities are never modified.
+     *
+     * @param key The snapshot key
+     * @param configs The snapshot, with values decrypted
+     * @return The resolved snapshot, or {@code configs} itself if it holds no placeholders
+     */
+    public List<Config> resolve(SnapshotKey key, List<Config> configs) {
+        if (!enabled) {
+            return configs;
+        }
+        Map<String, String> values = new HashMap<>();
+        Map<String, Config> served = new HashMap<>();
+        boolean placeholders = false;
+        for (Config config : configs) {
+            values.put(config.getPropKey(), config.getPropValue());
+            served.put(config.getPropKey(), config);
+            placeholders |= ResolutionGraph.hasPlaceholder(config.getPropValue());
+        }
+        if (!placeholders) {
+            synchronized (graphs) {
+                graphs.remove(key);
+            }
+            return configs;
+        }
+
+        ResolutionGraph graph;
+        synchronized (graphs) {
+            graph = graphs.computeIfAbsent(key, k -> new ResolutionGraph());
+        }
+        synchronized (graph) {
+            Set<String> cyclic = graph.cyclic();
+            int resolved = graph.update(values);
+            if (resolved == 0) {
+                hits.increment();
+            } else {
+                resolutions.add(resolved);
+                if (!graph.cyclic().isEmpty() && !graph.cyclic().equals(cyclic)) {
+                    log.warn("Placeholder cycle in {}/{}/{}: {} keep their raw values", key.application(),
+                            key.profile(), key.label(), graph.cyclic());
+                }
+            }
+            List<Config> result = new ArrayList<>(configs.size());
+            for (Config config : configs) {
+                String value = config.getPropValue();
+                if (ResolutionGraph.hasPlaceholder(value)) {
+                    value = served.get(config.getPropKey()) == config
+                            ? Objects.requireNonNullElse(graph.resolved(config.getPropKey()), value)
+                            : graph.resolveValue(value);
+                }
+                result.add(Objects.equals(value, config.getPropValue()) ? config : config.withPropValue(value));
+            }
+            return List.copyOf(result);
+        }
+    }
+
+    /**
+     * Whether resolving could change any of the values, so that a caller holding only part of a snapshot
+     * knows whether it needs the rest.
+     *
+     * @param configs Configurations, with values decrypted
+     * @return Whether resolving is enabled and any value holds a placeholder
+     */
+    public boolean hasPlaceholders(List<Config> configs) {
+        return enabled && configs.stream().anyMatch(config -> ResolutionGraph.hasPlaceholder(config.getPropValue()));
+    }
+
+    /**
+     * @return The number of values resolved
+     */
+    public long resolutions() {
+        return resolutions.sum();
+    }
+
+    /**
+     * @return The number of snapshot reads with placeholders that resolved nothing, as nothing changed
+     */
+    public long hits() {
+        return hits.sum();
+    }
+}
@@ -0,0 +1,248 @@
+package com.kds.config.server.service.placeholder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The placeholder dependency graph of one snapshot, with the resolved value of every key that holds a
+ * placeholder.
+ * <p>
+ * A placeholder is {@code ${key}} or {@code ${key:default}}; placeholders do not nest. A placeholder whose key is
+ * missing and has no default is kept as written. Keys whose resolution runs into a cycle keep their raw value.
+ * <p>
+ * The graph keeps the raw values of the keys it tracks: keys holding placeholders and keys they reference.
+ * {@link #update(Map)} compares those with the snapshot's current values and re-resolves only the changed
+ * keys and the keys depending on them, transitively. Not thread safe.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class ResolutionGraph {
+
+    private static final String PREFIX = "${";
+    private static final String SUFFIX = "}";
+
+    private final Map<String, String> raw = new HashMap<>();
+    private final Map<String, List<Segment>> templates = new HashMap<>();
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+    private final Map<String, String> resolved = new HashMap<>();
+    private final Set<String> cyclic = new HashSet<>();
+
+    static boolean hasPlaceholder(String value) {
+        return value != null && value.contains(PREFIX);
+    }
+
+    /**
+     * Brings the graph up to date with the snapshot's values.
+     *
+     * @param values The snapshot's values by key
+     * @return The number of keys re-resolved
+     */
+    int update(Map<String, String> values) {
+        Set<String> changed = new HashSet<>();
+        for (String key : tracked()) {
+            if (!Objects.equals(values.get(key), raw.get(key))) {
+                changed.add(key);
+            }
+        }
+        for (Map.Entry<String, String> value : values.entrySet()) {
+            if (!templates.containsKey(value.getKey()) && hasPlaceholder(value.getValue())) {
+                changed.add(value.getKey());
+            }
+        }
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        for (String key : changed) {
+            relink(key, values);
+        }
+        Set<String> affected = dependentsOf(changed);
+        for (String key : affected) {
+            resolved.remove(key);
+            cyclic.remove(key);
+        }
+        int resolutions = 0;
+        for (String key : affected) {
+            if (templates.containsKey(key)) {
+                resolve(key, new LinkedHashSet<>());
+                resolutions++;
+            }
+        }
+        return resolutions;
+    }
+
+    /**
+     * @return The resolved value of a key holding a placeholder, or {@code null} for any other key
+     */
+    String resolved(String key) {
+        return resolved.get(key);
+    }
+
+    /**
+     * Resolves a value that is not part of the graph, such as a row shadowed by another label.
+     */
+    String resolveValue(String value) {
+        return substitute(parse(value), new LinkedHashSet<>());
+    }
+
+    /**
+     * @return The keys that currently keep their raw value because of a cycle
+     */
+    Set<String> cyclic() {
+        return Set.copyOf(cyclic);
+    }
+
+    private Set<String> tracked() {
+        Set<String> tracked = new HashSet<>(templates.keySet());
+        tracked.addAll(dependents.keySet());
+        return tracked;
+    }
+
+    private void relink(String key, Map<String, String> values) {
+        List<Segment> previous = templates.remove(key);
+        if (previous != null) {
+            for (Segment segment : previous) {
+                if (segment.reference() != null) {
+                    Set<String> referencing = dependents.get(segment.reference());
+                    referencing.remove(key);
+                    if (referencing.isEmpty()) {
+                        dependents.remove(segment.reference());
+                        if (!templates.containsKey(segment.reference())) {
+                            raw.remove(segment.reference());
+                        }
+                    }
+                }
+            }
+        }
+        String value = values.get(key);
+        if (hasPlaceholder(value)) {
+            List<Segment> template = parse(value);
+            templates.put(key, template);
+            for (Segment segment : template) {
+                if (segment.reference() != null) {
+                    String reference = segment.reference();
+                    if (!dependents.containsKey(reference) && !templates.containsKey(reference)
+                            && values.get(reference) != null) {
+                        raw.put(reference, values.get(reference));
+                    }
+                    dependents.computeIfAbsent(reference, k -> new HashSet<>()).add(key);
+                }
+            }
+        }
+        if (value != null && (templates.containsKey(key) || dependents.containsKey(key))) {
+            raw.put(key, value);
+        } else {
+            raw.remove(key);
+        }
+    }
+
+    private Set<String> dependentsOf(Set<String> keys) {
+        Set<String> affected = new HashSet<>(keys);
+        Deque<String> pending = new ArrayDeque<>(keys);
+        while (!pending.isEmpty()) {
+            for (String dependent : dependents.getOrDefault(pending.pop(), Set.of())) {
+                if (affected.add(dependent)) {
+                    pending.push(dependent);
+                }
+            }
+        }
+        return affected;
+    }
+
+    private String resolve(String key, Set<String> stack) {
+        if (resolved.containsKey(key)) {
+            return resolved.get(key);
+        }
+        List<Segment> template = templates.get(key);
+        if (template == null) {
+            return raw.get(key);
+        }
+        if (!stack.add(key)) {
+            throw new CycleException(key);
+        }
+        String value;
+        try {
+            value = substitute(template, stack);
+        } catch (CycleException e) {
+            cyclic.add(key);
+            value = raw.get(key);
+            if (!e.start.equals(key)) {
+                resolved.put(key, value);
+                throw e;
+            }
+        } finally {
+            stack.remove(key);
+        }
+        resolved.put(key, value);
+        return value;
+    }
+
+    private String substitute(List<Segment> template, Set<String> stack) {
+        StringBuilder value = new StringBuilder();
+        for (Segment segment : template) {
+            if (segment.reference() == null) {
+                value.append(segment.text());
+                continue;
+            }
+            String replacement = resolve(segment.reference(), stack);
+            if (replacement == null) {
+                replacement = segment.defaultValue() != null ? segment.defaultValue() : segment.text();
+            }
+            value.append(replacement);
+        }
+        return value.toString();
+    }
+
+    static List<Segment> parse(String value) {
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < value.length()) {
+            int start = value.indexOf(PREFIX, position);
+            int end = start < 0 ? -1 : value.indexOf(SUFFIX, start + PREFIX.length());
+            if (end < 0) {
+                segments.add(Segment.literal(value.substring(position)));
+                break;
+            }
+            if (start > position) {
+                segments.add(Segment.literal(value.substring(position, start)));
+            }
+            String placeholder = value.substring(start + PREFIX.length(), end);
+            int separator = placeholder.indexOf(':');
+            segments.add(new Segment(value.substring(start, end + SUFFIX.length()),
+                    separator < 0 ? placeholder : placeholder.substring(0, separator),
+                    separator < 0 ? null : placeholder.substring(separator + 1)));
+            position = end + SUFFIX.length();
+        }
+        return segments;
+    }
+
+    /**
+     * A literal part of a value, or a placeholder with the key it references.
+     */
+    record Segment(String text, String reference, String defaultValue) {
+
+        static Segment literal(String text) {
+            return new Segment(text, null, null);
+        }
+    }
+
+    private static final class CycleException extends RuntimeException {
+
+        private final String start;
+
+        private CycleException(String start) {
+            super(null, null, false, false);
+            this.start = start;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.hash.KeyHash;
+
+import java.util.Collection;
+
+/**
+ * An immutable Bloom filter over the property keys of a snapshot.
+ * <p>
+ * {@link #mightContain(String)} never answers {@code false} for a key the filter was built with, and answers
+ * {@code true} for other keys with about the false positive rate it was sized for. Bit positions come from
+ * the two halves of the key's {@link KeyHash}, combined by double hashing.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class KeyBloomFilter {
+
+    private final long[] bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    private KeyBloomFilter(long[] bits, int hashCount) {
+        this.bits = bits;
+        this.bitCount = (long) bits.length * Long.SIZE;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param keys The keys to hold
+     * @param falsePositiveRate The share of other keys {@link #mightContain(String)} should accept, above 0 and
+     *                          below 1
+     * @return A filter sized for the keys and rate
+     */
+    public static KeyBloomFilter of(Collection<String> keys, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        int expected = Math.max(1, keys.size());
+        long optimalBits = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+        int hashCount = Math.max(1, (int) Math.round((double) words * Long.SIZE / expected * Math.log(2)));
+        KeyBloomFilter filter = new KeyBloomFilter(new long[words], hashCount);
+        keys.forEach(filter::put);
+        return filter;
+    }
+
+    /**
+     * @param key A property key
+     * @return {@code false} if the key is definitely not in the filter
+     */
+    public boolean mightContain(String key) {
+        long hash = KeyHash.of(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The memory the filter's bits take, in bytes
+     */
+    public long sizeInBytes() {
+        return (long) bits.length * Long.BYTES;
+    }
+
+    private void put(String key) {
+        long hash = KeyHash.of(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+}
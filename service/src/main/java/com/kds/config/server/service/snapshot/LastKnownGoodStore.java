@@ -0,0 +1,227 @@
+package com.kds.config.server.service.snapshot;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kds.config.server.core.entity.Config;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the last snapshot successfully read from the database for every snapshot key, so reads can be
+ * served while the database is unavailable.
+ * <p>
+ * Snapshots are held in memory and, when {@code config.snapshot.last-known-good.directory} is set, written
+ * to one JSON file per snapshot in that directory. Files are written by a background thread, only when a
+ * snapshot's content changed, and replaced atomically. They are read back at startup, so a restarted node
+ * can serve reads before the database is reachable; their load time is then the time the content was
+ * last written.
+ * <p>
+ * Empty snapshots are not kept: a read that finds nothing, such as a probe of an unknown application, drops
+ * the snapshot and its file instead, so a deleted snapshot is not served again. At most
+ * {@code config.snapshot.last-known-good.max-entries} snapshots are kept; once full, snapshots not kept yet
+ * are skipped until others are dropped.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class LastKnownGoodStore {
+
+    private final Path directory;
+    private final int maxEntries;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<SnapshotKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<SnapshotKey, Snapshot> pendingWrites = new ConcurrentHashMap<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("last-known-good-writer").daemon().factory());
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+
+    public LastKnownGoodStore(@Value("${config.snapshot.last-known-good.directory:}") String directory,
+                              @Value("${config.snapshot.last-known-good.max-entries:10000}") int maxEntries) {
+        this.directory = directory.isBlank() ? null : Path.of(directory);
+        this.maxEntries = maxEntries;
+        if (this.directory != null) {
+            readAll();
+        }
+    }
+
+    /**
+     * Records a snapshot just read from the database.
+     *
+     * @param key The snapshot key
+     * @param configs The configurations read
+     * @return The fresh snapshot
+     */
+    public Snapshot save(SnapshotKey key, List<Config> configs) {
+        Snapshot snapshot = new Snapshot(configs, Instant.now(), false);
+        Snapshot previous;
+        if (configs.isEmpty()) {
+            previous = snapshots.remove(key);
+            if (previous == null) {
+                return snapshot;
+            }
+        } else if (snapshots.size() >= maxEntries && !snapshots.containsKey(key)) {
+            skipped.increment();
+            return snapshot;
+        } else {
+            previous = snapshots.put(key, snapshot);
+        }
+        if (directory != null && (previous == null || !sameContent(previous.configs(), configs))
+                && pendingWrites.put(key, snapshot) == null) {
+            writer.execute(() -> write(key));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the last snapshot read for the key, marked stale.
+     *
+     * @param key The snapshot key
+     * @return The last known good snapshot, or empty if it was never read
+     */
+    public Optional<Snapshot> stale(SnapshotKey key) {
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        staleServed.increment();
+        return Optional.of(new Snapshot(snapshot.configs(), snapshot.loadedAt(), true));
+    }
+
+    /**
+     * @return The number of reads served from this store because the database failed
+     */
+    public long staleServed() {
+        return staleServed.sum();
+    }
+
+    /**
+     * @return The number of snapshot reads not kept because the store was full
+     */
+    public long skipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * Finishes pending file writes.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void write(SnapshotKey key) {
+        Snapshot snapshot = pendingWrites.remove(key);
+        if (snapshot == null) {
+            return;
+        }
+        String fileName = fileName(key);
+        try {
+            if (snapshot.configs().isEmpty()) {
+                Files.deleteIfExists(directory.resolve(fileName));
+                return;
+            }
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, fileName, ".tmp");
+            objectMapper.writeValue(temp.toFile(), new StoredSnapshot(key.application(), key.profile(), key.label(),
+                    snapshot.loadedAt().toEpochMilli(), snapshot.configs()));
+            Files.move(temp, directory.resolve(fileName), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not persist last known good snapshot {}: {}", key, e.getMessage());
+        }
+    }
+
+    private void readAll() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                if (snapshots.size() >= maxEntries) {
+                    log.warn("Keeping the first {} last known good snapshots from {}", maxEntries, directory);
+                    break;
+                }
+                try {
+                    StoredSnapshot stored = objectMapper.readValue(file.toFile(), StoredSnapshot.class);
+                    if (stored.configs() == null || stored.configs().isEmpty()) {
+                        continue;
+                    }
+                    snapshots.put(new SnapshotKey(stored.application(), stored.profile(), stored.label()),
+                            new Snapshot(List.copyOf(stored.configs()), Instant.ofEpochMilli(stored.loadedAt()), false));
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable last known good snapshot {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read last known good snapshots from {}: {}", directory, e.getMessage());
+        }
+        log.info("Loaded {} last known good snapshots from {}", snapshots.size(), directory);
+    }
+
+    /**
+     * Whether two snapshots hold the same rows. {@link Config#equals} cannot tell, as it compares entity identity.
+     */
+    static boolean sameContent(List<Config> left, List<Config> right) {
+        if (left == right) {
+            return true;
+        }
+        if (left.size() != right.size()) {
+            return false;
+        }
+        for (int i = 0; i < left.size(); i++) {
+            Config a = left.get(i);
+            Config b = right.get(i);
+            if (!Objects.equals(a.getId(), b.getId())
+                    || !Objects.equals(a.getLabel(), b.getLabel())
+                    || !Objects.equals(a.getPropKey(), b.getPropKey())
+                    || !Objects.equals(a.getPropValue(), b.getPropValue())
+                    || !Objects.equals(a.getUpdatedAt(), b.getUpdatedAt())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@code application~profile[~label].json} with each part URL-encoded, which also encodes {@code ~}.
+     */
+    static String fileName(SnapshotKey key) {
+        StringBuilder name = new StringBuilder(encode(key.application())).append('~').append(encode(key.profile()));
+        if (key.label() != null) {
+            name.append('~').append(encode(key.label()));
+        }
+        return name.append(".json").toString();
+    }
+
+    private static String encode(String part) {
+        return URLEncoder.encode(part, StandardCharsets.UTF_8);
+    }
+
+    private record StoredSnapshot(String application, String profile, String label, long loadedAt,
+                                  List<Config> configs) {
+    }
+}
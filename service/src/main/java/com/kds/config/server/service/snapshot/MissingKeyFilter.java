@@ -0,0 +1,155 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.entity.Config;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Answers key lookups of keys that do not exist without querying the database.
+ * <p>
+ * Each label snapshot gets a {@link KeyBloomFilter} of its keys, built from the snapshot whenever it is read
+ * and from a snapshot load on the first miss. A filter belongs to the {@link SnapshotLoader} revision read
+ * before its keys were, and is only used while that is still the snapshot's revision: every committed write
+ * to the snapshot through this node bumps the revision, so a key created here after the filter was built is
+ * never reported absent. Writes made through other nodes or straight to the database do not bump it, so a
+ * filter is also replaced by every snapshot read, and ignored once older than {@code config.missing-keys.max-age};
+ * a key created elsewhere is found after at most that long.
+ * A key the filter rejects is definitely absent; keys it accepts, including its false positives at
+ * {@code config.missing-keys.false-positive-rate}, are looked up as before.
+ * <p>
+ * At most {@code config.missing-keys.max-snapshots} filters are kept; past that an arbitrary one is dropped
+ * for each new one. Disabled when {@code config.missing-keys.enabled} is {@code false}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class MissingKeyFilter {
+
+    private final SnapshotLoader snapshotLoader;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final int maxSnapshots;
+    private final long maxAgeNanos;
+    private final LongSupplier nanoClock;
+    private final Map<SnapshotKey, Filter> filters = new ConcurrentHashMap<>();
+    private final LongAdder absent = new LongAdder();
+    private final LongAdder builds = new LongAdder();
+
+    @Autowired
+    public MissingKeyFilter(SnapshotLoader snapshotLoader,
+                            @Value("${config.missing-keys.enabled:true}") boolean enabled,
+                            @Value("${config.missing-keys.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${config.missing-keys.max-snapshots:10000}") int maxSnapshots,
+                            @Value("${config.missing-keys.max-age:30s}") Duration maxAge) {
+        this(snapshotLoader, enabled, falsePositiveRate, maxSnapshots, maxAge, System::nanoTime);
+    }
+
+    MissingKeyFilter(SnapshotLoader snapshotLoader, boolean enabled, double falsePositiveRate, int maxSnapshots,
+                     Duration maxAge, LongSupplier nanoClock) {
+        this.snapshotLoader = snapshotLoader;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxSnapshots = maxSnapshots;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param snapshot A label snapshot
+     * @param propKey A property key
+     * @return {@code true} if the key is definitely not in the snapshot as last committed
+     */
+    public boolean isAbsent(SnapshotKey snapshot, String propKey) {
+        if (!enabled || snapshot.label() == null) {
+            return false;
+        }
+        Filter filter = filters.get(snapshot);
+        if (filter == null || filter.revision != snapshotLoader.revision(snapshot) || isExpired(filter)
+                || filter.keys.mightContain(propKey)) {
+            return false;
+        }
+        absent.increment();
+        return true;
+    }
+
+    /**
+     * Builds the snapshot's filter after a key was not found, unless a current one that has not expired
+     * exists; a miss is what makes the filter worth a snapshot load.
+     *
+     * @param snapshot The label snapshot the key was looked up in
+     * @param loader Reads the snapshot from the database
+     */
+    public void missed(SnapshotKey snapshot, Supplier<List<Config>> loader) {
+        if (!enabled || snapshot.label() == null) {
+            return;
+        }
+        long revision = snapshotLoader.revision(snapshot);
+        Filter filter = filters.get(snapshot);
+        if (filter != null && filter.revision >= revision && !isExpired(filter)) {
+            return;
+        }
+        update(snapshot, revision, snapshotLoader.load(snapshot, loader));
+    }
+
+    /**
+     * Builds the snapshot's filter from configurations read after {@code revision} was. The configurations
+     * were just read, so they replace a filter of the same revision, which may miss keys written elsewhere.
+     *
+     * @param snapshot A label snapshot
+     * @param revision The snapshot's revision read before the configurations were
+     * @param configs Every configuration of the snapshot
+     */
+    public void update(SnapshotKey snapshot, long revision, Collection<Config> configs) {
+        if (!enabled || snapshot.label() == null) {
+            return;
+        }
+        if (filters.size() >= maxSnapshots && !filters.containsKey(snapshot)) {
+            filters.keySet().stream().findAny().ifPresent(filters::remove);
+        }
+        Filter built = new Filter(revision,
+                KeyBloomFilter.of(configs.stream().map(Config::getPropKey).toList(), falsePositiveRate),
+                nanoClock.getAsLong());
+        filters.merge(snapshot, built, (current, candidate) -> current.revision > candidate.revision ? current : candidate);
+        builds.increment();
+    }
+
+    /**
+     * @return The number of lookups answered absent without querying the database
+     */
+    public long absent() {
+        return absent.sum();
+    }
+
+    /**
+     * @return The number of filters built
+     */
+    public long builds() {
+        return builds.sum();
+    }
+
+    /**
+     * @return The number of filters kept
+     */
+    public int filters() {
+        return filters.size();
+    }
+
+    private boolean isExpired(Filter filter) {
+        return nanoClock.getAsLong() - filter.builtAtNanos >= maxAgeNanos;
+    }
+
+    private record Filter(long revision, KeyBloomFilter keys, long builtAtNanos) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.entity.Config;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The configurations of a snapshot together with when they were read from the database.
+ *
+ * @param configs The configurations; unmodifiable
+ * @param loadedAt When the configurations were read from the database
+ * @param stale Whether the database could not be read and the configurations are the last ones that could
+ * @param decrypted Whether some values were decrypted from {@code {cipher}} values, so they must not be kept
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record Snapshot(List<Config> configs, Instant loadedAt, boolean stale, boolean decrypted) {
+
+    public Snapshot(List<Config> configs, Instant loadedAt, boolean stale) {
+        this(configs, loadedAt, stale, false);
+    }
+}
@@ -0,0 +1,89 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.bulkhead.LaneContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reads several snapshots concurrently for a batch request.
+ * <p>
+ * Each read runs on its own virtual thread, so a batch takes about as long as its slowest snapshot instead
+ * of the sum of all of them. Snapshots are not cached: every read queries the database, except that reads of
+ * a snapshot already being loaded, by this batch or any other request, wait for that load through
+ * {@link SnapshotLoader} instead of running their own query. At most
+ * {@code config.snapshot.batch.max-concurrency} reads run at a time across all batches, so a batch cannot
+ * take every connection of the pool. Results are handed over in request order as soon as they and all
+ * earlier ones are read, so callers can stream them. Reads run in the caller's bulkhead lane, so they use
+ * its connection pool.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class SnapshotFanOut {
+
+    private final Semaphore permits;
+
+    public SnapshotFanOut(@Value("${config.snapshot.batch.max-concurrency:8}") int maxConcurrency) {
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Reads every request and passes the results to the consumer, on the calling thread, in request order.
+     * If the consumer throws, the reads still running are cancelled and the exception is rethrown.
+     *
+     * @param requests The snapshots to read
+     * @param read Reads one snapshot; it should return failures as results rather than throw them
+     * @param consumer Receives each result
+     */
+    public <R, T> void forEach(List<R> requests, Function<R, T> read, Consumer<? super T> consumer) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> results = new ArrayList<>(requests.size());
+            for (R request : requests) {
+                results.add(executor.submit(LaneContext.propagate(() -> {
+                    permits.acquire();
+                    try {
+                        return read.apply(request);
+                    } finally {
+                        permits.release();
+                    }
+                })));
+            }
+            try {
+                for (Future<T> result : results) {
+                    consumer.accept(join(result));
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static <T> T join(Future<T> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading snapshots", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
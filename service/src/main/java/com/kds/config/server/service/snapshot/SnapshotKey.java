@@ -0,0 +1,26 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.repository.ConfigScope;
+
+/**
+ * Identifies a snapshot: the configurations served for one application, profile and label.
+ *
+ * @param application Application name
+ * @param profile Environment profile
+ * @param label Version label, or {@code null} for the snapshot spanning all labels of the profile
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record SnapshotKey(String application, String profile, String label) {
+
+    /**
+     * Whether a write to the scope can change this snapshot.
+     */
+    boolean isAffectedBy(ConfigScope scope) {
+        return application.equals(scope.application())
+                && (scope.profile() == null || scope.profile().equals(profile))
+                && (scope.label() == null || label == null || scope.label().equals(label));
+    }
+}
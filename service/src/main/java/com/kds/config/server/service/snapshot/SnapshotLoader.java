@@ -0,0 +1,219 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigScope;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same snapshot into a single database query.
+ * <p>
+ * The first caller for a {@link SnapshotKey} runs the loader; callers arriving while it is in flight
+ * wait for it and share its result, or its exception. Each snapshot has a revision that is bumped after
+ * every committed write affecting it. A load only serves callers that arrived at the revision it started
+ * at, so a caller never receives data read before a write it could already observe.
+ * <p>
+ * Revisions are only kept for snapshots that were read with configurations, are being read, or were
+ * written, indexed by application so that a write finds the snapshots it affects without visiting any
+ * other. Reads of snapshots that do not exist leave nothing behind. A snapshot without a kept revision is at
+ * revision 0, and a revision above 0 is never dropped, so a revision never goes back.
+ * <p>
+ * Waiting callers do not hold a database connection: snapshot reads run outside a transaction.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class SnapshotLoader {
+
+    private final Map<SnapshotKey, Load> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Map<SnapshotKey, Long>> revisions = new ConcurrentHashMap<>();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final List<Consumer<SnapshotKey>> invalidationListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Returns the snapshot, running {@code loader} unless a load started at the current revision is
+     * already in flight.
+     *
+     * @param key The snapshot to load
+     * @param loader Reads the snapshot from the database
+     * @return The snapshot; shared between callers and therefore unmodifiable
+     */
+    public List<Config> load(SnapshotKey key, Supplier<List<Config>> loader) {
+        Load mine = new Load(revision(key));
+        Load load = inFlight.compute(key, (k, current) ->
+                current != null && current.revision >= mine.revision ? current : mine);
+        if (load != mine) {
+            coalesced.increment();
+            return load.await();
+        }
+        loads.increment();
+        // Tracked while in flight so that writes during the load bump its revision
+        track(key);
+        boolean found = false;
+        try {
+            List<Config> configs = List.copyOf(loader.get());
+            found = !configs.isEmpty();
+            mine.result.complete(configs);
+            return configs;
+        } catch (RuntimeException | Error e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+            if (!found) {
+                untrackUnwritten(key);
+            }
+        }
+    }
+
+    /**
+     * The current revision of a snapshot. It starts at 0 and only grows.
+     *
+     * @param key The snapshot
+     * @return The number of committed writes that affected the snapshot since startup
+     */
+    public long revision(SnapshotKey key) {
+        Map<SnapshotKey, Long> snapshots = revisions.get(key.application());
+        Long revision = snapshots == null ? null : snapshots.get(key);
+        return revision == null ? 0 : revision;
+    }
+
+    /**
+     * @return The number of snapshots whose revision is kept
+     */
+    public int tracked() {
+        return revisions.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Bumps the revision of every snapshot the scope can affect once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * @param scope The configurations written
+     */
+    public void invalidateAfterCommit(ConfigScope scope) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(scope);
+                }
+            });
+        } else {
+            invalidate(scope);
+        }
+    }
+
+    /**
+     * Bumps the revision of every snapshot the scope can affect. A scope naming a profile and label bumps that
+     * label's snapshot and the profile's all-labels snapshot, which are kept from then on; a wider scope only
+     * bumps the kept snapshots of its application, as a snapshot that is not kept holds no configurations a
+     * delete or rename could change.
+     *
+     * @param scope The configurations written
+     */
+    public void invalidate(ConfigScope scope) {
+        List<SnapshotKey> changed = new ArrayList<>();
+        revisions.compute(scope.application(), (application, snapshots) -> {
+            Map<SnapshotKey, Long> kept = snapshots == null ? new ConcurrentHashMap<>() : snapshots;
+            if (scope.profile() != null && scope.label() != null) {
+                changed.add(new SnapshotKey(application, scope.profile(), scope.label()));
+                changed.add(new SnapshotKey(application, scope.profile(), null));
+                changed.forEach(key -> kept.merge(key, 1L, Long::sum));
+            } else {
+                kept.replaceAll((key, revision) -> {
+                    if (!key.isAffectedBy(scope)) {
+                        return revision;
+                    }
+                    changed.add(key);
+                    return revision + 1;
+                });
+            }
+            return kept.isEmpty() ? null : kept;
+        });
+        changed.forEach(key -> invalidationListeners.forEach(listener -> listener.accept(key)));
+    }
+
+    /**
+     * Registers a listener told about every snapshot whose revision is bumped. It runs on the writing
+     * thread after commit, so it must return quickly and not throw.
+     *
+     * @param listener Called with the key of each invalidated snapshot
+     */
+    public void addInvalidationListener(Consumer<SnapshotKey> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    /**
+     * @return The number of loads that queried the database
+     */
+    public long loads() {
+        return loads.sum();
+    }
+
+    /**
+     * @return The number of callers served by another caller's load, i.e. database queries saved
+     */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    private void track(SnapshotKey key) {
+        revisions.compute(key.application(), (application, snapshots) -> {
+            Map<SnapshotKey, Long> kept = snapshots == null ? new ConcurrentHashMap<>() : snapshots;
+            kept.putIfAbsent(key, 0L);
+            return kept;
+        });
+    }
+
+    /**
+     * Drops the revision of a snapshot found empty, or that failed to load, unless a write bumped it.
+     */
+    private void untrackUnwritten(SnapshotKey key) {
+        revisions.computeIfPresent(key.application(), (application, snapshots) -> {
+            if (!inFlight.containsKey(key)) {
+                snapshots.remove(key, 0L);
+            }
+            return snapshots.isEmpty() ? null : snapshots;
+        });
+    }
+
+    private static final class Load {
+
+        final long revision;
+        final CompletableFuture<List<Config>> result = new CompletableFuture<>();
+
+        Load(long revision) {
+            this.revision = revision;
+        }
+
+        List<Config> await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (e.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.kds.config.server.service.usage;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigUsage;
+import com.kds.config.server.core.repository.ConfigUsageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts snapshot and key reads in memory and adds them to {@code config_usage} off the request path.
+ * <p>
+ * A read only increments a counter. Every {@code config.usage.flush-interval} one writer thread swaps in
+ * fresh counters and adds the previous ones to the stored counts with batched upserts of up to
+ * {@code config.usage.batch-size} rows, one batch per application so that each stays on one shard; read
+ * times are therefore accurate to one interval. Usage is best effort: reads of keys beyond
+ * {@code config.usage.max-keys} per interval are not counted, and the counts of a failed batch are
+ * dropped, rather than slowing down reads.
+ * <p>
+ * Enabled unless {@code config.usage.enabled} is {@code false}.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class ConfigUsageRecorder {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ConfigUsageRepository configUsageRepository;
+    private final boolean enabled;
+    private final int maxKeys;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final AtomicReference<Map<UsageKey, LongAdder>> counts = new AtomicReference<>(new ConcurrentHashMap<>());
+    private final Thread writer;
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean closed;
+
+    public ConfigUsageRecorder(ConfigUsageRepository configUsageRepository,
+                               @Value("${config.usage.enabled:true}") boolean enabled,
+                               @Value("${config.usage.max-keys:100000}") int maxKeys,
+                               @Value("${config.usage.batch-size:500}") int batchSize,
+                               @Value("${config.usage.flush-interval:1m}") Duration flushInterval) {
+        this.configUsageRepository = configUsageRepository;
+        this.enabled = enabled;
+        this.maxKeys = maxKeys;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.writer = enabled
+                ? Thread.ofPlatform().name("config-usage-writer").daemon().start(this::run)
+                : null;
+    }
+
+    /**
+     * Counts a snapshot read once it has been served. Reads that found no configurations are not counted, so
+     * probes of unknown snapshots neither show up as used nor take room from real reads.
+     *
+     * @param label Label name, or {@code null} for all labels of the profile
+     * @param configs The configurations served
+     */
+    public void recordSnapshot(String application, String profile, String label, List<Config> configs) {
+        if (enabled && !configs.isEmpty()) {
+            count(new UsageKey(application, profile, label == null ? ConfigUsage.NONE : label, ConfigUsage.NONE));
+        }
+    }
+
+    /**
+     * Counts key reads.
+     */
+    public void recordKeys(String application, String profile, String label, Collection<String> propKeys) {
+        if (enabled) {
+            String stored = label == null ? ConfigUsage.NONE : label;
+            propKeys.forEach(propKey -> count(new UsageKey(application, profile, stored, propKey)));
+        }
+    }
+
+    /**
+     * @return The number of snapshots and keys read since the last flush
+     */
+    public int pending() {
+        return counts.get().size();
+    }
+
+    /**
+     * @return The number of rows upserted
+     */
+    public long flushed() {
+        return flushed.sum();
+    }
+
+    /**
+     * @return The number of reads not counted because there were too many keys or their batch failed
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Adds the reads counted since the last flush to the stored counts. Called by the writer thread; reads
+     * counted while a flush swaps the counters may end up in either flush.
+     */
+    public void flush() {
+        Map<UsageKey, LongAdder> previous = counts.getAndSet(new ConcurrentHashMap<>());
+        if (previous.isEmpty()) {
+            return;
+        }
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Map<String, List<ConfigUsage>> byApplication = new LinkedHashMap<>();
+        previous.forEach((key, reads) -> byApplication.computeIfAbsent(key.application(),
+                application -> new ArrayList<>()).add(ConfigUsage.builder()
+                .application(key.application())
+                .profile(key.profile())
+                .label(key.label())
+                .propKey(key.propKey())
+                .readCount(reads.sum())
+                .firstReadAt(now)
+                .lastReadAt(now)
+                .build()));
+        byApplication.forEach((application, usages) -> {
+            for (int from = 0; from < usages.size(); from += batchSize) {
+                List<ConfigUsage> batch = usages.subList(from, Math.min(from + batchSize, usages.size()));
+                try {
+                    configUsageRepository.addAll(batch);
+                    flushed.add(batch.size());
+                } catch (RuntimeException e) {
+                    dropped.add(batch.stream().mapToLong(ConfigUsage::getReadCount).sum());
+                    log.error("Failed to add {} read counts of {}", batch.size(), application, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes the counted reads and stops the writer.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        closed = true;
+        if (writer != null) {
+            writer.join(Duration.ofSeconds(30));
+        }
+    }
+
+    private void count(UsageKey key) {
+        Map<UsageKey, LongAdder> current = counts.get();
+        LongAdder reads = current.get(key);
+        if (reads == null) {
+            if (current.size() >= maxKeys) {
+                dropped.increment();
+                return;
+            }
+            reads = current.computeIfAbsent(key, k -> new LongAdder());
+        }
+        reads.increment();
+    }
+
+    private void run() {
+        long next = System.currentTimeMillis() + flushIntervalMillis;
+        while (!closed) {
+            try {
+                Thread.sleep(Math.max(0, Math.min(IDLE_POLL_MILLIS, next - System.currentTimeMillis())));
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (System.currentTimeMillis() >= next) {
+                flush();
+                next = System.currentTimeMillis() + flushIntervalMillis;
+            }
+        }
+        flush();
+    }
+
+    private record UsageKey(String application, String profile, String label, String propKey) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.kds.config.server.service.write;
+
+import com.kds.config.server.core.entity.Config;
+
+/**
+ * A single-key write queued for a group commit.
+ *
+ * @param type What the write does
+ * @param config The configuration written; for a delete only its application, profile, label and key are used
+ */
+public record ConfigWrite(Type type, Config config) {
+
+    public enum Type {
+        /**
+         * Inserts the key; fails with {@code CONFLICT} if it exists.
+         */
+        CREATE,
+        /**
+         * Sets the value of the key; fails with {@code NOT_FOUND} if it does not exist.
+         */
+        UPDATE,
+        /**
+         * Deletes the key; fails with {@code NOT_FOUND} if it does not exist.
+         */
+        DELETE
+    }
+
+    public static ConfigWrite create(Config config) {
+        return new ConfigWrite(Type.CREATE, config);
+    }
+
+    public static ConfigWrite update(Config config) {
+        return new ConfigWrite(Type.UPDATE, config);
+    }
+
+    public static ConfigWrite delete(String application, String profile, String label, String key) {
+        return new ConfigWrite(Type.DELETE, Config.builder()
+                .application(application).profile(profile).label(label).propKey(key)
+                .build());
+    }
+}
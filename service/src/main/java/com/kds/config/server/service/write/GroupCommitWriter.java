@@ -0,0 +1,342 @@
+package com.kds.config.server.service.write;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigHistory;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigScope;
+import com.kds.config.server.core.sharding.ShardRing;
+import com.kds.config.server.service.exception.ConfigServiceException;
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import com.kds.config.server.service.snapshot.SnapshotLoader;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Commits single-key writes in groups instead of one transaction each.
+ * <p>
+ * Writes wait in a queue of {@code config.write.group-commit.queue-capacity}; a full queue rejects them with
+ * {@code UNAVAILABLE}. One writer thread takes up to {@code max-group-size} queued writes, waiting at most
+ * {@code max-delay} after the first for more to arrive, and commits them in one transaction, or one per shard
+ * when the store is sharded, so the commit rate grows with the group size rather than with per-request
+ * latency.
+ * <p>
+ * Within a group the writes to one key are applied in queue order against the stored row and only the
+ * outcome is written, so a burst of updates to a key costs a single row write. Each write still gets its own
+ * result: a create of an existing key fails with {@code CONFLICT} and an update or delete of a missing one
+ * with {@code NOT_FOUND}, without affecting the rest of the group. A successful create or update completes
+ * with the row as committed, which includes later writes to the same key in the group. If the transaction
+ * fails, every write of that shard in the group fails with it.
+ * <p>
+ * Once closed, writes are refused with {@code UNAVAILABLE}; a write queued while closing is either committed
+ * or refused, never left waiting.
+ * <p>
+ * Disabled unless {@code config.write.group-commit.enabled} is set.
+ *
+ * @author KDS Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class GroupCommitWriter {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ConfigRepository configRepository;
+    private final SnapshotLoader snapshotLoader;
+    private final ConfigHistoryRecorder configHistoryRecorder;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRing shardRing;
+    private final boolean enabled;
+    private final int maxGroupSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Thread writer;
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder groups = new LongAdder();
+    private volatile boolean closed;
+
+    public GroupCommitWriter(ConfigRepository configRepository, SnapshotLoader snapshotLoader,
+                             ConfigHistoryRecorder configHistoryRecorder, PlatformTransactionManager transactionManager,
+                             ObjectProvider<ShardRing> shardRing,
+                             @Value("${config.write.group-commit.enabled:false}") boolean enabled,
+                             @Value("${config.write.group-commit.queue-capacity:10000}") int queueCapacity,
+                             @Value("${config.write.group-commit.max-group-size:500}") int maxGroupSize,
+                             @Value("${config.write.group-commit.max-delay:5ms}") Duration maxDelay) {
+        this.configRepository = configRepository;
+        this.snapshotLoader = snapshotLoader;
+        this.configHistoryRecorder = configHistoryRecorder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRing = shardRing.getIfAvailable();
+        this.enabled = enabled;
+        this.maxGroupSize = maxGroupSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = enabled
+                ? Thread.ofPlatform().name("config-group-commit").daemon().start(this::run)
+                : null;
+    }
+
+    /**
+     * @return Whether single-key writes should be submitted here
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a write. Values must already be encrypted.
+     *
+     * @param write The write
+     * @return Completes once the write's group has committed: with the committed row, or {@code null} for a
+     *         delete; or exceptionally with a {@link ConfigServiceException} if the write was refused
+     */
+    public CompletableFuture<Config> submit(ConfigWrite write) {
+        if (!enabled) {
+            throw new IllegalStateException("Group commit is disabled");
+        }
+        if (closed) {
+            throw new ConfigServiceException("UNAVAILABLE", "Write queue is closed");
+        }
+        PendingWrite pending = new PendingWrite(write);
+        if (!queue.offer(pending)) {
+            throw new ConfigServiceException("UNAVAILABLE", "Write queue is full");
+        }
+        // Closed after the check above: whoever takes the write off the queue completes it, and once
+        // closed the writer may already have stopped and close() drained the queue
+        if (closed && queue.remove(pending)) {
+            throw new ConfigServiceException("UNAVAILABLE", "Write queue is closed");
+        }
+        return pending.future;
+    }
+
+    /**
+     * @return The number of writes waiting to be committed
+     */
+    public int queued() {
+        return queue.size();
+    }
+
+    /**
+     * @return The number of writes committed or refused
+     */
+    public long writes() {
+        return writes.sum();
+    }
+
+    /**
+     * @return The number of transactions committed or rolled back
+     */
+    public long groups() {
+        return groups.sum();
+    }
+
+    /**
+     * Stops taking writes, commits the queued ones and stops the writer.
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        closed = true;
+        if (writer != null) {
+            writer.join(Duration.ofSeconds(30));
+        }
+        List<PendingWrite> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.future.completeExceptionally(
+                new ConfigServiceException("UNAVAILABLE", "Write queue is closed")));
+    }
+
+    private void run() {
+        while (!closed || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    commit(takeGroup(first));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Group commit writer failed", e);
+            }
+        }
+    }
+
+    private List<PendingWrite> takeGroup(PendingWrite first) throws InterruptedException {
+        List<PendingWrite> group = new ArrayList<>();
+        group.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (group.size() < maxGroupSize) {
+            queue.drainTo(group, maxGroupSize - group.size());
+            long remaining = deadline - System.nanoTime();
+            if (group.size() >= maxGroupSize || remaining <= 0) {
+                break;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            group.add(next);
+        }
+        return group;
+    }
+
+    /**
+     * Commits a group with one transaction per shard, as a transaction cannot span shards.
+     */
+    private void commit(List<PendingWrite> group) {
+        Map<String, List<PendingWrite>> byShard = new LinkedHashMap<>();
+        for (PendingWrite pending : group) {
+            byShard.computeIfAbsent(shardOf(pending.write.config()), shard -> new ArrayList<>()).add(pending);
+        }
+        for (List<PendingWrite> pendings : byShard.values()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(pendings));
+            } catch (RuntimeException e) {
+                pendings.forEach(pending -> pending.failure = e);
+            } finally {
+                groups.increment();
+                writes.add(pendings.size());
+            }
+            pendings.forEach(PendingWrite::complete);
+        }
+    }
+
+    private String shardOf(Config config) {
+        return shardRing == null ? "" : shardRing.shardFor(config.getApplication());
+    }
+
+    private void apply(List<PendingWrite> pendings) {
+        Map<Key, KeyState> keys = new LinkedHashMap<>();
+        List<ConfigHistory> changes = new ArrayList<>();
+        for (PendingWrite pending : pendings) {
+            Config config = pending.write.config();
+            KeyState state = keys.computeIfAbsent(Key.of(config), key -> new KeyState(
+                    configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                            key.application(), key.profile(), key.label(), key.propKey()).orElse(null)));
+            state.apply(pending, changes);
+        }
+        Set<ConfigScope> written = new LinkedHashSet<>();
+        keys.forEach((key, state) -> {
+            if (state.changed) {
+                state.flush(configRepository);
+                written.add(new ConfigScope(key.application(), key.profile(), key.label(), null));
+            }
+        });
+        written.forEach(snapshotLoader::invalidateAfterCommit);
+        configHistoryRecorder.record(changes);
+    }
+
+    private record Key(String application, String profile, String label, String propKey) {
+
+        static Key of(Config config) {
+            return new Key(config.getApplication(), config.getProfile(), config.getLabel(), config.getPropKey());
+        }
+    }
+
+    /**
+     * A key's row as the writes of a group leave it.
+     */
+    private static final class KeyState {
+        private Config entity;
+        private boolean exists;
+        private boolean changed;
+        private final List<PendingWrite> succeeded = new ArrayList<>();
+
+        KeyState(Config stored) {
+            this.entity = stored;
+            this.exists = stored != null;
+        }
+
+        void apply(PendingWrite pending, List<ConfigHistory> changes) {
+            Config config = pending.write.config();
+            switch (pending.write.type()) {
+                case CREATE -> {
+                    if (exists) {
+                        pending.failure = new ConfigServiceException("CONFLICT", "Configuration already exists");
+                        return;
+                    }
+                    if (entity == null) {
+                        entity = Config.builder()
+                                .application(config.getApplication()).profile(config.getProfile())
+                                .label(config.getLabel()).propKey(config.getPropKey())
+                                .build();
+                    }
+                    entity.setPropValue(config.getPropValue());
+                    exists = true;
+                    changes.add(ConfigHistory.created(config));
+                }
+                case UPDATE -> {
+                    if (!exists) {
+                        pending.failure = new ConfigServiceException("NOT_FOUND", "Configuration not found");
+                        return;
+                    }
+                    changes.add(ConfigHistory.updated(config, entity.getPropValue()));
+                    entity.setPropValue(config.getPropValue());
+                }
+                case DELETE -> {
+                    if (!exists) {
+                        pending.failure = new ConfigServiceException("NOT_FOUND", "Configuration not found");
+                        return;
+                    }
+                    changes.add(ConfigHistory.deleted(entity));
+                    exists = false;
+                }
+            }
+            changed = true;
+            succeeded.add(pending);
+        }
+
+        /**
+         * Writes the outcome. A key deleted and created again in the group keeps its row, so the write is an
+         * update rather than a delete followed by an insert of the same unique key.
+         */
+        void flush(ConfigRepository configRepository) {
+            if (exists) {
+                entity = configRepository.save(entity);
+            } else if (entity.getId() != null) {
+                configRepository.delete(entity);
+            }
+            Config committed = exists ? entity : null;
+            succeeded.forEach(pending -> pending.result =
+                    pending.write.type() == ConfigWrite.Type.DELETE ? null : committed);
+        }
+    }
+
+    private static final class PendingWrite {
+        private final ConfigWrite write;
+        private final CompletableFuture<Config> future = new CompletableFuture<>();
+        private Config result;
+        private RuntimeException failure;
+
+        PendingWrite(ConfigWrite write) {
+            this.write = write;
+        }
+
+        void complete() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+}
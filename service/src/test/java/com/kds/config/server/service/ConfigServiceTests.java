@@ -2,16 +2,31 @@ package com.kds.config.server.service;
 
 import com.kds.config.server.core.entity.Config;
 import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigScope;
+import com.kds.config.server.core.repository.UpsertOutcome;
+import com.kds.config.server.service.crypto.SnapshotDecryptor;
+import com.kds.config.server.service.crypto.ValueCipher;
+import com.kds.config.server.service.crypto.ValueCipherTests;
 import com.kds.config.server.service.exception.ConfigServiceException;
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import com.kds.config.server.service.placeholder.PlaceholderResolver;
+import com.kds.config.server.service.snapshot.LastKnownGoodStore;
+import com.kds.config.server.service.snapshot.MissingKeyFilter;
+import com.kds.config.server.service.snapshot.Snapshot;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import com.kds.config.server.service.snapshot.SnapshotLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +40,27 @@ public class ConfigServiceTests {
     @Mock
     private ConfigRepository configRepository;
 
+    @Spy
+    private SnapshotLoader snapshotLoader = new SnapshotLoader();
+
+    @Spy
+    private LastKnownGoodStore lastKnownGoodStore = new LastKnownGoodStore("", 10_000);
+
+    @Spy
+    private ValueCipher valueCipher = ValueCipherTests.cipher();
+
+    @Spy
+    private SnapshotDecryptor snapshotDecryptor = new SnapshotDecryptor(valueCipher, 1 << 20);
+
+    @Spy
+    private PlaceholderResolver placeholderResolver = new PlaceholderResolver(true, 100);
+
+    @Mock
+    private ConfigHistoryRecorder configHistoryRecorder;
+
+    @Mock
+    private MissingKeyFilter missingKeyFilter;
+
     @InjectMocks
     private ConfigService configService;
 
@@ -66,6 +102,20 @@ public class ConfigServiceTests {
                 testConfig.getPropKey());
     }
 
+    @Test
+    void whenGetConfigsByRepeatedKeys_thenReadEachKeyOnceAndKeepFilterUnbuilt() {
+        List<String> keys = List.of(testConfig.getPropKey(), testConfig.getPropKey());
+        when(configRepository.findByKeys(testConfig.getApplication(), testConfig.getProfile(),
+                testConfig.getLabel(), List.of(testConfig.getPropKey())))
+                .thenReturn(List.of(testConfig));
+
+        List<Config> results = configService.getConfigsByKeys(testConfig.getApplication(),
+                testConfig.getProfile(), testConfig.getLabel(), keys);
+
+        assertThat(results).hasSize(1);
+        verify(missingKeyFilter, never()).missed(any(), any());
+    }
+
     @Test
     void whenGetConfigsByApplicationAndProfile_thenReturnConfigs() {
         when(configRepository.findByApplicationAndProfile(
@@ -117,33 +167,221 @@ public class ConfigServiceTests {
 
     @Test
     void whenDeleteConfig_thenVerifyDeletion() {
-        when(configRepository.existsByApplicationAndProfileAndLabelAndPropKey(
+        when(configRepository.deleteByApplicationAndProfileAndLabelAndPropKey(
                 testConfig.getApplication(),
                 testConfig.getProfile(),
                 testConfig.getLabel(),
                 testConfig.getPropKey()))
-                .thenReturn(true);
-        doNothing().when(configRepository).deleteByApplicationAndProfileAndLabelAndPropKey(
+                .thenReturn(1);
+
+        configService.deleteConfig(
                 testConfig.getApplication(),
                 testConfig.getProfile(),
                 testConfig.getLabel(),
                 testConfig.getPropKey());
 
-        configService.deleteConfig(
+        verify(configRepository).deleteByApplicationAndProfileAndLabelAndPropKey(
                 testConfig.getApplication(),
                 testConfig.getProfile(),
                 testConfig.getLabel(),
                 testConfig.getPropKey());
+        verify(configRepository, never()).existsByApplicationAndProfileAndLabelAndPropKey(
+                any(), any(), any(), any());
+    }
 
-        verify(configRepository).existsByApplicationAndProfileAndLabelAndPropKey(
+    @Test
+    void whenDeleteMissingConfig_thenThrowException() {
+        when(configRepository.deleteByApplicationAndProfileAndLabelAndPropKey(
                 testConfig.getApplication(),
                 testConfig.getProfile(),
                 testConfig.getLabel(),
-                testConfig.getPropKey());
-        verify(configRepository).deleteByApplicationAndProfileAndLabelAndPropKey(
+                testConfig.getPropKey()))
+                .thenReturn(0);
+
+        Throwable thrown = catchThrowable(() -> configService.deleteConfig(
                 testConfig.getApplication(),
                 testConfig.getProfile(),
                 testConfig.getLabel(),
-                testConfig.getPropKey());
+                testConfig.getPropKey()));
+
+        assertThat(thrown).isInstanceOf(ConfigServiceException.class);
+        assertThat(((ConfigServiceException) thrown).getStatus()).isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    void whenRenameKeysWithConflicts_thenThrowException() {
+        ConfigScope scope = new ConfigScope("test-app", "dev", "main", "old.");
+        when(configRepository.countRenameConflicts(scope, "new.")).thenReturn(2L);
+
+        Throwable thrown = catchThrowable(() -> configService.renameKeys(scope, "new."));
+
+        assertThat(thrown).isInstanceOf(ConfigServiceException.class);
+        assertThat(((ConfigServiceException) thrown).getStatus()).isEqualTo("CONFLICT");
+        verify(configRepository, never()).renameKeys(any(), any());
+    }
+
+    @Test
+    void whenRenameKeys_thenReturnRenamedCount() {
+        ConfigScope scope = new ConfigScope("test-app", null, null, "old.");
+        when(configRepository.countRenameConflicts(scope, "new.")).thenReturn(0L);
+        when(configRepository.renameKeys(scope, "new.")).thenReturn(3L);
+
+        assertThat(configService.renameKeys(scope, "new.")).isEqualTo(3);
+    }
+
+    @Test
+    void whenUpsertConfigs_thenDelegateToRepository() {
+        when(configRepository.upsert(List.of(testConfig))).thenReturn(List.of(UpsertOutcome.INSERTED));
+
+        List<UpsertOutcome> outcomes = configService.upsertConfigs(List.of(testConfig));
+
+        assertThat(outcomes).containsExactly(UpsertOutcome.INSERTED);
+        verify(configRepository).upsert(List.of(testConfig));
+    }
+
+    @Test
+    void whenUpsertConfigWithoutLabel_thenThrowException() {
+        testConfig.setLabel(null);
+
+        Throwable thrown = catchThrowable(() -> configService.upsertConfigs(List.of(testConfig)));
+
+        assertThat(thrown).isInstanceOf(ConfigServiceException.class);
+        assertThat(((ConfigServiceException) thrown).getStatus()).isEqualTo("BAD_REQUEST");
+        verify(configRepository, never()).upsert(any());
+    }
+
+    @Test
+    void whenCloneLabelToExistingLabel_thenThrowException() {
+        when(configRepository.existsByApplicationAndProfileAndLabel("test-app", "dev", "v2")).thenReturn(true);
+
+        Throwable thrown = catchThrowable(() -> configService.cloneLabel("test-app", "dev", "v1", "v2", Map.of(), false));
+
+        assertThat(thrown).isInstanceOf(ConfigServiceException.class);
+        assertThat(((ConfigServiceException) thrown).getStatus()).isEqualTo("CONFLICT");
+        verify(configRepository, never()).copySnapshot(any(), any(), any(), any());
+    }
+
+    @Test
+    void whenCloneLabelWithOverrides_thenCountInsertedOverrides() {
+        when(configRepository.copySnapshot("test-app", "dev", "v1", "v2")).thenReturn(3L);
+        when(configRepository.upsert(any())).thenReturn(List.of(UpsertOutcome.INSERTED));
+
+        long cloned = configService.cloneLabel("test-app", "dev", "v1", "v2", Map.of("new.key", "value"), false);
+
+        assertThat(cloned).isEqualTo(4);
+        verify(configRepository, never()).deleteByApplicationAndProfileAndLabel(any(), any(), any());
+    }
+
+    @Test
+    void whenUpsertConfigs_thenBumpSnapshotRevisions() {
+        SnapshotKey label = new SnapshotKey("test-app", "dev", "main");
+        SnapshotKey allLabels = new SnapshotKey("test-app", "dev", null);
+        SnapshotKey otherLabel = new SnapshotKey("test-app", "dev", "other");
+        snapshotLoader.revision(label);
+        snapshotLoader.revision(allLabels);
+        snapshotLoader.revision(otherLabel);
+
+        configService.upsertConfigs(List.of(testConfig));
+
+        assertThat(snapshotLoader.revision(label)).isEqualTo(1);
+        assertThat(snapshotLoader.revision(allLabels)).isEqualTo(1);
+        assertThat(snapshotLoader.revision(otherLabel)).isZero();
+    }
+
+    @Test
+    void whenDatabaseFails_thenServeLastKnownGoodSnapshot() {
+        when(configRepository.findByApplicationAndProfileAndLabel("test-app", "dev", "main"))
+                .thenReturn(List.of(testConfig))
+                .thenThrow(new DataAccessResourceFailureException("Communications link failure"));
+        Snapshot fresh = configService.getSnapshot("test-app", "dev", "main");
+
+        Snapshot stale = configService.getSnapshot("test-app", "dev", "main");
+
+        assertThat(fresh.stale()).isFalse();
+        assertThat(stale.stale()).isTrue();
+        assertThat(stale.configs()).containsExactly(testConfig);
+        assertThat(stale.loadedAt()).isEqualTo(fresh.loadedAt());
+    }
+
+    @Test
+    void whenDatabaseFailsBeforeFirstLoad_thenThrowException() {
+        DataAccessResourceFailureException failure = new DataAccessResourceFailureException("Communications link failure");
+        when(configRepository.findByApplicationAndProfile("test-app", "dev")).thenThrow(failure);
+
+        Throwable thrown = catchThrowable(() -> configService.getSnapshot("test-app", "dev", null));
+
+        assertThat(thrown).isSameAs(failure);
+    }
+
+    @Test
+    void whenCreateCipherConfig_thenStoreCiphertext() {
+        testConfig.setPropValue("{cipher}s3cret");
+        when(configRepository.save(any(Config.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Config created = configService.createConfig(testConfig);
+
+        assertThat(created.getPropValue()).startsWith(ValueCipher.PREFIX).doesNotContain("s3cret");
+        assertThat(valueCipher.newBatch().tryDecrypt(created.getPropValue())).isEqualTo("s3cret".toCharArray());
+    }
+
+    @Test
+    void whenGetEncryptedSnapshotTwice_thenDecryptOnce() {
+        testConfig.setPropValue(valueCipher.encrypt("s3cret"));
+        when(configRepository.findByApplicationAndProfileAndLabel("test-app", "dev", "main"))
+                .thenReturn(List.of(testConfig));
+
+        Snapshot first = configService.getSnapshot("test-app", "dev", "main");
+        Snapshot second = configService.getSnapshot("test-app", "dev", "main");
+
+        assertThat(first.configs().get(0).getPropValue()).isEqualTo("s3cret");
+        assertThat(second.configs().get(0).getPropValue()).isEqualTo("s3cret");
+        assertThat(testConfig.getPropValue()).startsWith(ValueCipher.PREFIX);
+        assertThat(valueCipher.decryptions()).isEqualTo(1);
+        assertThat(snapshotDecryptor.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void whenSnapshotHasPlaceholders_thenResolveDecryptedValues() {
+        Config password = Config.builder().application("test-app").profile("dev").label("main")
+                .propKey("db.password").propValue(valueCipher.encrypt("s3cret")).build();
+        testConfig.setPropValue("${db.user:admin}:${db.password}");
+        when(configRepository.findByApplicationAndProfileAndLabel("test-app", "dev", "main"))
+                .thenReturn(List.of(password, testConfig));
+
+        Snapshot snapshot = configService.getSnapshot("test-app", "dev", "main");
+
+        assertThat(snapshot.configs()).extracting(Config::getPropValue).containsExactly("s3cret", "admin:s3cret");
+        assertThat(testConfig.getPropValue()).isEqualTo("${db.user:admin}:${db.password}");
+    }
+
+    @Test
+    void whenKeysHavePlaceholders_thenResolveThemLikeTheSnapshot() {
+        Config host = Config.builder().application("test-app").profile("dev").label("main")
+                .propKey("db.host").propValue("db1").build();
+        testConfig.setPropValue("jdbc:mysql://${db.host}:${db.port:3306}/app");
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey("test-app", "dev", "main", "test.key"))
+                .thenReturn(Optional.of(testConfig));
+        when(configRepository.findByKeys("test-app", "dev", "main", List.of("test.key", "db.host")))
+                .thenReturn(List.of(testConfig, host));
+        when(configRepository.findByApplicationAndProfileAndLabel("test-app", "dev", "main"))
+                .thenReturn(List.of(host, testConfig));
+
+        Optional<Config> single = configService.getConfigByKey("test-app", "dev", "main", "test.key");
+        List<Config> several = configService.getConfigsByKeys("test-app", "dev", "main",
+                List.of("test.key", "db.host"));
+
+        assertThat(single).map(Config::getPropValue).hasValue("jdbc:mysql://db1:3306/app");
+        assertThat(several).extracting(Config::getPropValue).containsExactly("jdbc:mysql://db1:3306/app", "db1");
+        assertThat(testConfig.getPropValue()).isEqualTo("jdbc:mysql://${db.host}:${db.port:3306}/app");
+    }
+
+    @Test
+    void whenKeysHaveNoPlaceholders_thenDoNotReadTheSnapshot() {
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey("test-app", "dev", "main", "test.key"))
+                .thenReturn(Optional.of(testConfig));
+
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "test.key"))
+                .map(Config::getPropValue).hasValue("test-value");
+        verify(configRepository, never()).findByApplicationAndProfileAndLabel(any(), any(), any());
     }
 }
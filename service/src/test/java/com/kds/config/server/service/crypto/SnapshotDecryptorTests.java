@@ -0,0 +1,80 @@
+package com.kds.config.server.service.crypto;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SnapshotDecryptorTests {
+
+    private static final SnapshotKey KEY = new SnapshotKey("test-app", "dev", "main");
+
+    private ValueCipher valueCipher;
+    private SnapshotDecryptor snapshotDecryptor;
+
+    @BeforeEach
+    void setUp() {
+        valueCipher = ValueCipherTests.cipher();
+        snapshotDecryptor = new SnapshotDecryptor(valueCipher, 1 << 20);
+    }
+
+    @Test
+    void whenSnapshotReadAgain_thenServeFromCacheWithoutCrypto() {
+        List<Config> snapshot = List.of(config("db.password", valueCipher.encrypt("s3cret")), config("db.pool", "10"));
+
+        snapshotDecryptor.decrypt(KEY, 0, snapshot);
+        List<Config> cached = snapshotDecryptor.decrypt(KEY, 0, snapshot);
+
+        assertThat(cached).extracting(Config::getPropValue).containsExactly("s3cret", "10");
+        assertThat(cached.get(1)).isSameAs(snapshot.get(1));
+        assertThat(valueCipher.decryptions()).isEqualTo(1);
+        assertThat(snapshotDecryptor.hits()).isEqualTo(1);
+        assertThat(snapshotDecryptor.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void whenRevisionChanges_thenDecryptOnlyNewCiphertexts() {
+        Config unchanged = config("db.password", valueCipher.encrypt("s3cret"));
+        snapshotDecryptor.decrypt(KEY, 0, List.of(unchanged, config("api.key", valueCipher.encrypt("old"))));
+
+        List<Config> decrypted = snapshotDecryptor.decrypt(KEY, 1,
+                List.of(unchanged, config("api.key", valueCipher.encrypt("new"))));
+
+        assertThat(decrypted).extracting(Config::getPropValue).containsExactly("s3cret", "new");
+        assertThat(valueCipher.decryptions()).isEqualTo(3);
+        assertThat(snapshotDecryptor.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void whenCacheFull_thenEvictLeastRecentlyUsedSnapshot() {
+        SnapshotDecryptor small = new SnapshotDecryptor(valueCipher, 400);
+        SnapshotKey other = new SnapshotKey("test-app", "prod", "main");
+        List<Config> first = List.of(config("db.password", valueCipher.encrypt("first")));
+        List<Config> second = List.of(config("db.password", valueCipher.encrypt("second")));
+
+        small.decrypt(KEY, 0, first);
+        small.decrypt(other, 0, second);
+        small.decrypt(KEY, 0, first);
+
+        assertThat(small.bytes()).isLessThanOrEqualTo(400);
+        assertThat(small.hits()).isZero();
+        assertThat(valueCipher.decryptions()).isEqualTo(3);
+    }
+
+    @Test
+    void whenSnapshotHasNoCipherValues_thenReturnItAsIs() {
+        List<Config> snapshot = List.of(config("db.pool", "10"));
+
+        assertThat(snapshotDecryptor.decrypt(KEY, 0, snapshot)).isSameAs(snapshot);
+        assertThat(snapshotDecryptor.misses()).isZero();
+    }
+
+    private static Config config(String key, String value) {
+        return Config.builder().application("test-app").profile("dev").label("main").propKey(key).propValue(value)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.kds.config.server.service.crypto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ValueCipherTests {
+
+    /**
+     * A cipher with one random key under the default alias.
+     */
+    public static ValueCipher cipher() {
+        return new ValueCipher(Map.of("config", newKey()), "config");
+    }
+
+    @Test
+    void whenCipherValueWritten_thenStoreDecryptableCiphertext() {
+        ValueCipher cipher = cipher();
+
+        String stored = cipher.prepareForWrite("{cipher}jdbc:mysql://user:pass@db");
+
+        assertThat(stored).startsWith(ValueCipher.PREFIX).doesNotContain("pass@db");
+        assertThat(new String(cipher.newBatch().tryDecrypt(stored))).isEqualTo("jdbc:mysql://user:pass@db");
+        assertThat(cipher.prepareForWrite(stored)).isEqualTo(stored);
+        assertThat(cipher.prepareForWrite("plain")).isEqualTo("plain");
+    }
+
+    @Test
+    void whenKeyRotated_thenOldValuesStillDecrypt() {
+        SecretKey oldKey = newKey();
+        String stored = new ValueCipher(Map.of("v1", oldKey), "v1").encrypt("s3cret");
+
+        ValueCipher rotated = new ValueCipher(Map.of("v1", oldKey, "v2", newKey()), "v2");
+
+        assertThat(rotated.newBatch().tryDecrypt(stored)).isEqualTo("s3cret".toCharArray());
+        assertThat(cipher().newBatch().tryDecrypt(stored)).isNull();
+    }
+
+    @Test
+    void whenNonAsciiValueEncrypted_thenDecryptExactCharacters() {
+        ValueCipher cipher = cipher();
+        ValueCipher.Batch batch = cipher.newBatch();
+        List<String> plaintexts = List.of("h\u00e9llo\u20ac", "p\u00e4ssw\u00f6rd-\u5bc6\u7801",
+                "key-\uD83D\uDD11-\uD83D\uDE80");
+
+        for (String plaintext : plaintexts) {
+            char[] decrypted = batch.tryDecrypt(cipher.encrypt(plaintext));
+
+            assertThat(decrypted).hasSize(plaintext.length());
+            assertThat(new String(decrypted)).isEqualTo(plaintext);
+        }
+    }
+
+    @Test
+    void whenEncryptionNotConfigured_thenRejectCipherValues() {
+        ValueCipher disabled = new ValueCipher("", "", "config");
+
+        Throwable thrown = catchThrowable(() -> disabled.prepareForWrite("{cipher}s3cret"));
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(disabled.prepareForWrite("plain")).isEqualTo("plain");
+    }
+
+    @Test
+    void whenKeyStoreConfigured_thenLoadItsAesKeys(@TempDir Path directory) throws Exception {
+        Path location = directory.resolve("config.p12");
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        keyStore.load(null, null);
+        keyStore.setEntry("config", new KeyStore.SecretKeyEntry(newKey()),
+                new KeyStore.PasswordProtection("changeit".toCharArray()));
+        try (OutputStream out = Files.newOutputStream(location)) {
+            keyStore.store(out, "changeit".toCharArray());
+        }
+
+        ValueCipher cipher = new ValueCipher(location.toString(), "changeit", "config");
+
+        assertThat(cipher.isEnabled()).isTrue();
+        assertThat(cipher.newBatch().tryDecrypt(cipher.encrypt("s3cret"))).isEqualTo("s3cret".toCharArray());
+    }
+
+    static SecretKey newKey() {
+        try {
+            KeyGenerator generator = KeyGenerator.getInstance("AES");
+            generator.init(256);
+            return generator.generateKey();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
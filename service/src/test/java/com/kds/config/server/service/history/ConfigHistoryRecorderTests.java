@@ -0,0 +1,134 @@
+package com.kds.config.server.service.history;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigHistory;
+import com.kds.config.server.core.repository.ConfigHistoryRepository;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigScope;
+import com.kds.config.server.service.ConfigService;
+import com.kds.config.server.service.TestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(classes = TestConfig.class, properties = "config.history.flush-interval=50ms")
+public class ConfigHistoryRecorderTests {
+
+    @Autowired
+    private ConfigService configService;
+
+    @Autowired
+    private ConfigHistoryRecorder configHistoryRecorder;
+
+    @Autowired
+    private ConfigHistoryService configHistoryService;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @Autowired
+    private ConfigHistoryRepository configHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        configRepository.deleteAll();
+        configHistoryRepository.deleteAll();
+    }
+
+    @Test
+    void whenConfigsChange_thenRecordEveryChangeOffTheRequestPath() throws InterruptedException {
+        long recorded = configHistoryRecorder.recorded();
+        configService.createConfig(config("db.url", "v1"));
+        configService.updateConfig(config("db.url", "v2"));
+        configService.createConfig(config("db.pool", "10"));
+        configService.renameKeys(new ConfigScope("test-app", "dev", "main", "db."), "database.");
+        configService.deleteConfig("test-app", "dev", "main", "database.url");
+
+        awaitRecorded(recorded + 8);
+
+        List<ConfigHistory> history = configHistoryService.getHistory("test-app", null, null, null, null, null, 100);
+        assertThat(history).extracting(ConfigHistory::getPropKey, ConfigHistory::getChangeType)
+                .containsExactlyInAnyOrder(
+                        tuple("db.url", ConfigHistory.ChangeType.CREATED),
+                        tuple("db.url", ConfigHistory.ChangeType.UPDATED),
+                        tuple("db.pool", ConfigHistory.ChangeType.CREATED),
+                        tuple("db.url", ConfigHistory.ChangeType.DELETED),
+                        tuple("db.pool", ConfigHistory.ChangeType.DELETED),
+                        tuple("database.url", ConfigHistory.ChangeType.CREATED),
+                        tuple("database.pool", ConfigHistory.ChangeType.CREATED),
+                        tuple("database.url", ConfigHistory.ChangeType.DELETED));
+        assertThat(configHistoryService.getHistory("test-app", "dev", "main", "db.url", null, null, 100))
+                .filteredOn(change -> change.getChangeType() == ConfigHistory.ChangeType.UPDATED)
+                .singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getOldValue()).isEqualTo("v1");
+                    assertThat(change.getNewValue()).isEqualTo("v2");
+                });
+    }
+
+    @Test
+    void whenLabelClonedAndUpserted_thenRecordWithoutReadingOldValues() throws InterruptedException {
+        long recorded = configHistoryRecorder.recorded();
+        configService.createConfig(config("db.url", "v1"));
+        configService.cloneLabel("test-app", "dev", "main", "next", Map.of("db.pool", "10"), false);
+        configService.upsertConfigs(new ArrayList<>(List.of(config("db.url", "v2"))));
+
+        awaitRecorded(recorded + 4);
+
+        assertThat(configHistoryService.getHistory("test-app", null, null, null, null, null, 100))
+                .extracting(ConfigHistory::getLabel, ConfigHistory::getPropKey, ConfigHistory::getChangeType,
+                        ConfigHistory::getOldValue, ConfigHistory::getNewValue)
+                .containsExactlyInAnyOrder(
+                        tuple("main", "db.url", ConfigHistory.ChangeType.CREATED, null, "v1"),
+                        tuple("next", "db.url", ConfigHistory.ChangeType.CREATED, null, "v1"),
+                        tuple("next", "db.pool", ConfigHistory.ChangeType.CREATED, null, "10"),
+                        tuple("main", "db.url", ConfigHistory.ChangeType.UPDATED, "v1", "v2"));
+    }
+
+    @Test
+    void whenTransactionRollsBack_thenRecordNothing() throws InterruptedException {
+        long recorded = configHistoryRecorder.recorded();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            configService.createConfig(config("rolled.back", "x"));
+            status.setRollbackOnly();
+        });
+        configService.createConfig(config("committed", "y"));
+
+        awaitRecorded(recorded + 1);
+
+        assertThat(configHistoryService.getHistory("test-app", null, null, null, null, null, 100))
+                .extracting(ConfigHistory::getPropKey)
+                .containsExactly("committed");
+    }
+
+    private void awaitRecorded(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (configHistoryRecorder.recorded() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(configHistoryRecorder.recorded()).isGreaterThanOrEqualTo(count);
+    }
+
+    private static Config config(String key, String value) {
+        return Config.builder()
+                .application("test-app")
+                .profile("dev")
+                .label("main")
+                .propKey(key)
+                .propValue(value)
+                .build();
+    }
+}
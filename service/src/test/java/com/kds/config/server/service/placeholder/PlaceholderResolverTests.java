@@ -0,0 +1,113 @@
+package com.kds.config.server.service.placeholder;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.service.snapshot.SnapshotKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PlaceholderResolverTests {
+
+    private static final SnapshotKey KEY = new SnapshotKey("test-app", "dev", null);
+
+    private PlaceholderResolver placeholderResolver;
+
+    @BeforeEach
+    void setUp() {
+        placeholderResolver = new PlaceholderResolver(true, 100);
+    }
+
+    @Test
+    void whenValuesReferenceOtherKeys_thenResolveTransitively() {
+        List<Config> resolved = placeholderResolver.resolve(KEY, List.of(
+                config("main", "db.url", "jdbc:mysql://${db.address}/app"),
+                config("main", "db.address", "${db.host}:${db.port:3306}"),
+                config("main", "db.host", "db.internal"),
+                config("main", "api.url", "${api.host}/v1")));
+
+        assertThat(resolved).extracting(Config::getPropValue).containsExactly(
+                "jdbc:mysql://db.internal:3306/app", "db.internal:3306", "db.internal", "${api.host}/v1");
+    }
+
+    @Test
+    void whenKeyDefinedInAnotherLabel_thenResolveAcrossLabels() {
+        Config shadowed = config("v1", "db.url", "${db.host}/v1");
+        List<Config> resolved = placeholderResolver.resolve(KEY, List.of(
+                shadowed,
+                config("v1", "db.host", "old-db"),
+                config("v2", "db.host", "new-db"),
+                config("v2", "db.url", "${db.host}/v2")));
+
+        assertThat(resolved).extracting(Config::getPropValue).containsExactly("new-db/v1", "old-db", "new-db", "new-db/v2");
+        assertThat(shadowed.getPropValue()).isEqualTo("${db.host}/v1");
+    }
+
+    @Test
+    void whenValuesFormCycle_thenKeepRawValues() {
+        List<Config> resolved = placeholderResolver.resolve(KEY, List.of(
+                config("main", "a", "${b}"),
+                config("main", "b", "${a}"),
+                config("main", "c", "x-${a}"),
+                config("main", "d", "${d}")));
+
+        assertThat(resolved).extracting(Config::getPropValue).containsExactly("${b}", "${a}", "x-${b}", "${d}");
+    }
+
+    @Test
+    void whenOneKeyChanges_thenReResolveOnlyItsDependents() {
+        ResolutionGraph graph = new ResolutionGraph();
+        Map<String, String> values = new HashMap<>(Map.of(
+                "db.host", "db-1",
+                "db.url", "jdbc:mysql://${db.host}/app",
+                "db.replica", "jdbc:mysql://${db.host}/replica",
+                "cache.url", "redis://${cache.host}",
+                "cache.host", "cache-1",
+                "plain", "value"));
+        assertThat(graph.update(values)).isEqualTo(3);
+        assertThat(graph.update(values)).isZero();
+
+        values.put("db.host", "db-2");
+        values.put("plain", "changed");
+
+        assertThat(graph.update(values)).isEqualTo(2);
+        assertThat(graph.resolved("db.url")).isEqualTo("jdbc:mysql://db-2/app");
+        assertThat(graph.resolved("cache.url")).isEqualTo("redis://cache-1");
+    }
+
+    @Test
+    void whenCycleBroken_thenResolveFormerCycle() {
+        ResolutionGraph graph = new ResolutionGraph();
+        Map<String, String> values = new HashMap<>(Map.of("a", "${b}", "b", "${a}"));
+        graph.update(values);
+        assertThat(graph.cyclic()).containsExactlyInAnyOrder("a", "b");
+
+        values.put("b", "value");
+        graph.update(values);
+
+        assertThat(graph.cyclic()).isEmpty();
+        assertThat(graph.resolved("a")).isEqualTo("value");
+    }
+
+    @Test
+    void whenSnapshotUnchanged_thenResolveNothing() {
+        List<Config> snapshot = List.of(config("main", "db.url", "${db.host}"), config("main", "db.host", "db"));
+        placeholderResolver.resolve(KEY, snapshot);
+
+        placeholderResolver.resolve(KEY, snapshot);
+
+        assertThat(placeholderResolver.resolutions()).isEqualTo(1);
+        assertThat(placeholderResolver.hits()).isEqualTo(1);
+        List<Config> plain = List.of(config("main", "db.host", "db"));
+        assertThat(placeholderResolver.resolve(KEY, plain)).isSameAs(plain);
+    }
+
+    private static Config config(String label, String key, String value) {
+        return Config.builder().application("test-app").profile("dev").label(label).propKey(key).propValue(value)
+                .build();
+    }
+}
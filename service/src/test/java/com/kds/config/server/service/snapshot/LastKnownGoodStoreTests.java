@@ -0,0 +1,100 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.entity.Config;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Timestamp;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LastKnownGoodStoreTests {
+
+    private static final SnapshotKey KEY = new SnapshotKey("test-app", "dev", "v1.0.0");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void whenSnapshotSaved_thenRestartedStoreServesItStale() throws Exception {
+        Config config = Config.builder()
+                .application("test-app").profile("dev").label("v1.0.0").propKey("db.url").propValue("jdbc:mysql://db")
+                .build();
+        config.setId(7L);
+        config.setCreatedAt(new Timestamp(1_700_000_000_000L));
+
+        LastKnownGoodStore store = new LastKnownGoodStore(directory.toString(), 10_000);
+        Snapshot saved = store.save(KEY, List.of(config));
+        store.close();
+
+        assertThat(directory.resolve("test-app~dev~v1.0.0.json")).exists();
+        Snapshot restored = new LastKnownGoodStore(directory.toString(), 10_000).stale(KEY).orElseThrow();
+        assertThat(restored.stale()).isTrue();
+        assertThat(restored.configs()).usingRecursiveFieldByFieldElementComparator().containsExactly(config);
+        assertThat(restored.loadedAt()).isEqualTo(saved.loadedAt().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    void whenSnapshotUnchanged_thenFileIsNotRewritten() throws Exception {
+        Config config = Config.builder().application("test-app").propKey("db.url").propValue("x").build();
+        LastKnownGoodStore store = new LastKnownGoodStore(directory.toString(), 10_000);
+        store.save(KEY, List.of(config));
+        store.close();
+        Path file = directory.resolve(LastKnownGoodStore.fileName(KEY));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+
+        LastKnownGoodStore restarted = new LastKnownGoodStore(directory.toString(), 10_000);
+        restarted.save(KEY, List.of(config));
+        restarted.close();
+
+        assertThat(Files.getLastModifiedTime(file).toMillis()).isZero();
+    }
+
+    @Test
+    void whenSnapshotReadEmpty_thenDropItAndItsFile() throws Exception {
+        Config config = Config.builder().application("test-app").propKey("db.url").propValue("x").build();
+        LastKnownGoodStore store = new LastKnownGoodStore(directory.toString(), 10_000);
+        store.save(KEY, List.of(config));
+        store.save(new SnapshotKey("unknown-app", "dev", null), List.of());
+        store.save(KEY, List.of());
+        store.close();
+
+        assertThat(store.stale(KEY)).isEmpty();
+        assertThat(store.stale(new SnapshotKey("unknown-app", "dev", null))).isEmpty();
+        assertThat(directory).isEmptyDirectory();
+    }
+
+    @Test
+    void whenStoreIsFull_thenSkipNewSnapshotsButKeepUpdatingKeptOnes() {
+        SnapshotKey other = new SnapshotKey("other-app", "dev", null);
+        LastKnownGoodStore store = new LastKnownGoodStore("", 1);
+        store.save(KEY, List.of(Config.builder().application("test-app").propKey("db.url").propValue("x").build()));
+
+        store.save(other, List.of(Config.builder().application("other-app").propKey("db.url").propValue("y").build()));
+        store.save(KEY, List.of(Config.builder().application("test-app").propKey("db.url").propValue("z").build()));
+
+        assertThat(store.stale(other)).isEmpty();
+        assertThat(store.stale(KEY).orElseThrow().configs()).extracting(Config::getPropValue).containsExactly("z");
+        assertThat(store.skipped()).isEqualTo(1);
+    }
+
+    @Test
+    void whenSnapshotNeverLoaded_thenNothingToServe() {
+        LastKnownGoodStore store = new LastKnownGoodStore("", 10_000);
+
+        assertThat(store.stale(KEY)).isEmpty();
+        assertThat(store.staleServed()).isZero();
+    }
+
+    @Test
+    void whenKeyPartsContainSeparators_thenFileNamesStayDistinct() {
+        assertThat(LastKnownGoodStore.fileName(new SnapshotKey("a~b", "c", null)))
+                .isNotEqualTo(LastKnownGoodStore.fileName(new SnapshotKey("a", "b~c", null)));
+        assertThat(LastKnownGoodStore.fileName(new SnapshotKey("app", "dev", null))).isEqualTo("app~dev.json");
+    }
+}
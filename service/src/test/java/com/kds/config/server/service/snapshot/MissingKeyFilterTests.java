@@ -0,0 +1,146 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigScope;
+import com.kds.config.server.service.ConfigService;
+import com.kds.config.server.service.crypto.SnapshotDecryptor;
+import com.kds.config.server.service.crypto.ValueCipher;
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import com.kds.config.server.service.placeholder.PlaceholderResolver;
+import com.kds.config.server.service.write.GroupCommitWriter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class MissingKeyFilterTests {
+
+    @Test
+    void whenBuiltFromKeys_thenNeverRejectThemAndRejectMostOthers() {
+        List<String> keys = IntStream.range(0, 10_000).mapToObj(i -> "key." + i).toList();
+        KeyBloomFilter filter = KeyBloomFilter.of(keys, 0.01);
+
+        assertThat(keys).allMatch(filter::mightContain);
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("missing." + i))
+                .count();
+        assertThat(falsePositives).isLessThan(2_000);
+        assertThat(filter.sizeInBytes()).isLessThan(16_000);
+    }
+
+    @Test
+    void whenKeyIsMissing_thenLaterLookupsSkipTheDatabaseUntilTheLabelIsWritten() {
+        ConfigRepository configRepository = mock(ConfigRepository.class);
+        SnapshotLoader snapshotLoader = new SnapshotLoader();
+        MissingKeyFilter missingKeyFilter = new MissingKeyFilter(snapshotLoader, true, 0.01, 100,
+                Duration.ofMinutes(1), System::nanoTime);
+        ValueCipher valueCipher = new ValueCipher(Map.of(), "config");
+        ConfigService configService = new ConfigService(configRepository, snapshotLoader,
+                new LastKnownGoodStore("", 10_000), valueCipher, new SnapshotDecryptor(valueCipher, 0),
+                new PlaceholderResolver(true, 100),
+                mock(GroupCommitWriter.class), mock(ConfigHistoryRecorder.class), missingKeyFilter);
+        Config existing = config("db.url");
+        Config created = config("db.pool");
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                eq("test-app"), eq("dev"), eq("main"), anyString())).thenReturn(Optional.empty());
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey("test-app", "dev", "main", "db.url"))
+                .thenReturn(Optional.of(existing));
+        when(configRepository.findByApplicationAndProfileAndLabel("test-app", "dev", "main"))
+                .thenReturn(List.of(existing));
+
+        IntStream.range(0, 100).forEach(i ->
+                assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.pool")).isEmpty());
+        assertThat(configService.getConfigsByKeys("test-app", "dev", "main", List.of("db.pool", "db.user")))
+                .isEmpty();
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.url")).isPresent();
+
+        verify(configRepository, times(1))
+                .findByApplicationAndProfileAndLabelAndPropKey("test-app", "dev", "main", "db.pool");
+        verify(configRepository, never()).findByKeys(anyString(), anyString(), anyString(), anyCollection());
+        assertThat(missingKeyFilter.builds()).isEqualTo(1);
+        assertThat(missingKeyFilter.absent()).isGreaterThanOrEqualTo(99);
+
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey("test-app", "dev", "main", "db.pool"))
+                .thenReturn(Optional.of(created));
+        snapshotLoader.invalidate(new ConfigScope("test-app", "dev", "main", null));
+
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.pool")).contains(created);
+    }
+
+    @Test
+    void whenSnapshotIsRead_thenReplaceItsFilterWithTheKeysJustRead() {
+        SnapshotLoader snapshotLoader = new SnapshotLoader();
+        MissingKeyFilter missingKeyFilter = new MissingKeyFilter(snapshotLoader, true, 0.01, 1,
+                Duration.ofMinutes(1), System::nanoTime);
+        SnapshotKey main = new SnapshotKey("test-app", "dev", "main");
+        SnapshotKey release = new SnapshotKey("test-app", "dev", "release");
+
+        missingKeyFilter.update(main, snapshotLoader.revision(main), List.of(config("db.url")));
+        assertThat(missingKeyFilter.isAbsent(main, "db.pool")).isTrue();
+        assertThat(missingKeyFilter.isAbsent(main, "db.url")).isFalse();
+
+        missingKeyFilter.update(main, snapshotLoader.revision(main), List.of(config("db.url"), config("db.pool")));
+        assertThat(missingKeyFilter.isAbsent(main, "db.pool")).isFalse();
+        assertThat(missingKeyFilter.builds()).isEqualTo(2);
+
+        missingKeyFilter.update(release, snapshotLoader.revision(release), List.of());
+        assertThat(missingKeyFilter.filters()).isEqualTo(1);
+        assertThat(missingKeyFilter.isAbsent(new SnapshotKey("test-app", "dev", null), "db.pool")).isFalse();
+    }
+
+    @Test
+    void whenKeyIsCreatedElsewhere_thenFindItAfterASnapshotReadOrOnceTheFilterExpires() {
+        ConfigRepository configRepository = mock(ConfigRepository.class);
+        SnapshotLoader snapshotLoader = new SnapshotLoader();
+        AtomicLong now = new AtomicLong();
+        MissingKeyFilter missingKeyFilter = new MissingKeyFilter(snapshotLoader, true, 0.01, 100,
+                Duration.ofSeconds(30), now::get);
+        ValueCipher valueCipher = new ValueCipher(Map.of(), "config");
+        ConfigService configService = new ConfigService(configRepository, snapshotLoader,
+                new LastKnownGoodStore("", 10_000), valueCipher, new SnapshotDecryptor(valueCipher, 0),
+                new PlaceholderResolver(true, 100),
+                mock(GroupCommitWriter.class), mock(ConfigHistoryRecorder.class), missingKeyFilter);
+        Config existing = config("db.url");
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey(
+                eq("test-app"), eq("dev"), eq("main"), anyString())).thenReturn(Optional.empty());
+        when(configRepository.findByApplicationAndProfileAndLabel("test-app", "dev", "main"))
+                .thenReturn(List.of(existing));
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.pool")).isEmpty();
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.user")).isEmpty();
+
+        // Created through another node: this node's snapshot revision stays the same
+        Config pool = config("db.pool");
+        Config user = config("db.user");
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey("test-app", "dev", "main", "db.pool"))
+                .thenReturn(Optional.of(pool));
+        when(configRepository.findByApplicationAndProfileAndLabelAndPropKey("test-app", "dev", "main", "db.user"))
+                .thenReturn(Optional.of(user));
+        when(configRepository.findByApplicationAndProfileAndLabel("test-app", "dev", "main"))
+                .thenReturn(List.of(existing, pool));
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.user")).isEmpty();
+
+        configService.getSnapshot("test-app", "dev", "main");
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.pool")).contains(pool);
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.user")).isEmpty();
+
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(configService.getConfigByKey("test-app", "dev", "main", "db.user")).contains(user);
+    }
+
+    private static Config config(String key) {
+        return Config.builder()
+                .application("test-app").profile("dev").label("main").propKey(key).propValue("x")
+                .build();
+    }
+}
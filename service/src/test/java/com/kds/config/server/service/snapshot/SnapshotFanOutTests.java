@@ -0,0 +1,46 @@
+package com.kds.config.server.service.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SnapshotFanOutTests {
+
+    @Test
+    void whenReadsFinishOutOfOrder_thenResultsFollowRequestOrderWithinConcurrencyLimit() {
+        SnapshotFanOut fanOut = new SnapshotFanOut(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> requests = IntStream.range(0, 12).boxed().toList();
+        List<String> results = new ArrayList<>();
+
+        fanOut.forEach(requests, request -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(12 - request);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return "snapshot-" + request;
+        }, results::add);
+
+        assertThat(results).containsExactlyElementsOf(requests.stream().map(request -> "snapshot-" + request).toList());
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void whenConsumerFails_thenExceptionIsRethrown() {
+        SnapshotFanOut fanOut = new SnapshotFanOut(2);
+
+        assertThatThrownBy(() -> fanOut.forEach(List.of("a", "b", "c"), request -> request, result -> {
+            throw new IllegalStateException("client gone");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("client gone");
+    }
+}
@@ -0,0 +1,200 @@
+package com.kds.config.server.service.snapshot;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.core.repository.ConfigScope;
+import com.kds.config.server.service.ConfigService;
+import com.kds.config.server.service.crypto.SnapshotDecryptor;
+import com.kds.config.server.service.crypto.ValueCipher;
+import com.kds.config.server.service.placeholder.PlaceholderResolver;
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import com.kds.config.server.service.write.GroupCommitWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.*;
+
+public class SnapshotLoaderTests {
+
+    private static final SnapshotKey KEY = new SnapshotKey("test-app", "dev", "main");
+
+    private SnapshotLoader snapshotLoader;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        snapshotLoader = new SnapshotLoader();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void when500ConcurrentMisses_thenQueryDatabaseOnce() throws Exception {
+        ConfigRepository configRepository = mock(ConfigRepository.class);
+        ValueCipher valueCipher = new ValueCipher(Map.of(), "config");
+        ConfigService configService = new ConfigService(configRepository, snapshotLoader,
+                new LastKnownGoodStore("", 10_000), valueCipher, new SnapshotDecryptor(valueCipher, 0),
+                new PlaceholderResolver(true, 100),
+                mock(GroupCommitWriter.class),
+                mock(ConfigHistoryRecorder.class), mock(MissingKeyFilter.class));
+        List<Config> snapshot = List.of(Config.builder()
+                .application("test-app").profile("dev").label("main").propKey("db.url").propValue("x")
+                .build());
+        CountDownLatch release = new CountDownLatch(1);
+        when(configRepository.findByApplicationAndProfileAndLabel("test-app", "dev", "main")).thenAnswer(invocation -> {
+            release.await();
+            return snapshot;
+        });
+
+        List<Future<List<Config>>> results = IntStream.range(0, 500)
+                .mapToObj(i -> executor.submit(() ->
+                        configService.getConfigsByApplicationAndProfileAndLabel("test-app", "dev", "main")))
+                .toList();
+        awaitCount(snapshotLoader::coalesced, 499);
+        release.countDown();
+
+        for (Future<List<Config>> result : results) {
+            assertThat(result.get()).isEqualTo(snapshot);
+        }
+        verify(configRepository, times(1)).findByApplicationAndProfileAndLabel("test-app", "dev", "main");
+        assertThat(snapshotLoader.loads()).isEqualTo(1);
+        assertThat(snapshotLoader.coalesced()).isEqualTo(499);
+    }
+
+    @Test
+    void whenLoadFails_thenAllWaitersSeeTheFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database down");
+
+        List<Future<List<Config>>> results = IntStream.range(0, 10)
+                .mapToObj(i -> executor.submit(() -> snapshotLoader.load(KEY, () -> {
+                    awaitUninterruptibly(release);
+                    throw failure;
+                })))
+                .toList();
+        awaitCount(snapshotLoader::coalesced, 9);
+        release.countDown();
+
+        for (Future<List<Config>> result : results) {
+            assertThat(catchThrowable(result::get)).hasCause(failure);
+        }
+        assertThat(snapshotLoader.load(KEY, List::of)).isEmpty();
+        assertThat(snapshotLoader.loads()).isEqualTo(2);
+    }
+
+    @Test
+    void whenSnapshotChangesDuringLoad_thenLaterCallersDoNotJoinIt() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<List<Config>> stale = executor.submit(() -> snapshotLoader.load(KEY, () -> {
+            awaitUninterruptibly(release);
+            return List.of();
+        }));
+        awaitCount(snapshotLoader::loads, 1);
+
+        snapshotLoader.invalidate(new ConfigScope("test-app", "dev", null, null));
+        Config written = Config.builder().propKey("db.url").propValue("y").build();
+        List<Config> fresh = snapshotLoader.load(KEY, () -> List.of(written));
+        release.countDown();
+
+        assertThat(fresh).containsExactly(written);
+        assertThat(stale.get()).isEmpty();
+        assertThat(snapshotLoader.revision(KEY)).isEqualTo(1);
+        assertThat(snapshotLoader.coalesced()).isZero();
+    }
+
+    @Test
+    void whenInvalidated_thenOnlyAffectedSnapshotsChangeRevision() {
+        SnapshotKey allLabels = new SnapshotKey("test-app", "dev", null);
+        SnapshotKey otherProfile = new SnapshotKey("test-app", "prod", "main");
+        SnapshotKey otherApplication = new SnapshotKey("other-app", "dev", "main");
+        List.of(KEY, allLabels, otherProfile, otherApplication).forEach(this::loadNonEmpty);
+
+        snapshotLoader.invalidate(new ConfigScope("test-app", "dev", "release", null));
+
+        assertThat(snapshotLoader.revision(KEY)).isZero();
+        assertThat(snapshotLoader.revision(allLabels)).isEqualTo(1);
+        assertThat(snapshotLoader.revision(otherProfile)).isZero();
+        assertThat(snapshotLoader.revision(otherApplication)).isZero();
+    }
+
+    @Test
+    void whenInvalidated_thenListenersHearOfAffectedSnapshots() {
+        SnapshotKey allLabels = new SnapshotKey("test-app", "dev", null);
+        SnapshotKey otherProfile = new SnapshotKey("test-app", "prod", "main");
+        List.of(KEY, allLabels, otherProfile).forEach(this::loadNonEmpty);
+        List<SnapshotKey> invalidated = new CopyOnWriteArrayList<>();
+        snapshotLoader.addInvalidationListener(invalidated::add);
+
+        snapshotLoader.invalidate(new ConfigScope("test-app", "dev", null, null));
+
+        assertThat(invalidated).containsExactlyInAnyOrder(KEY, allLabels);
+    }
+
+    @Test
+    void whenUnknownSnapshotsRead_thenNoRevisionsAreKept() {
+        IntStream.range(0, 1000).forEach(i -> {
+            SnapshotKey unknown = new SnapshotKey("app-" + i, "dev", "main");
+            snapshotLoader.load(unknown, List::of);
+            snapshotLoader.revision(unknown);
+        });
+        catchThrowable(() -> snapshotLoader.load(KEY, () -> {
+            throw new IllegalStateException("database down");
+        }));
+        snapshotLoader.invalidate(new ConfigScope("app-1", null, null, null));
+
+        assertThat(snapshotLoader.tracked()).isZero();
+    }
+
+    @Test
+    void whenSnapshotWritten_thenItsRevisionIsKeptEvenIfEmpty() {
+        SnapshotKey allLabels = new SnapshotKey("test-app", "dev", null);
+        snapshotLoader.invalidate(new ConfigScope("test-app", "dev", "main", null));
+
+        snapshotLoader.load(KEY, List::of);
+
+        assertThat(snapshotLoader.revision(KEY)).isEqualTo(1);
+        assertThat(snapshotLoader.revision(allLabels)).isEqualTo(1);
+        assertThat(snapshotLoader.tracked()).isEqualTo(2);
+    }
+
+    private void loadNonEmpty(SnapshotKey key) {
+        snapshotLoader.load(key, () -> List.of(Config.builder().propKey("db.url").propValue("x").build()));
+    }
+
+    private static void awaitCount(LongSupplier count, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (count.getAsLong() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Expected " + expected + " but was " + count.getAsLong());
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.kds.config.server.service.usage;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.entity.ConfigUsage;
+import com.kds.config.server.core.repository.ConfigUsageRepository;
+import com.kds.config.server.service.TestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(classes = TestConfig.class, properties = "config.usage.flush-interval=1h")
+public class ConfigUsageRecorderTests {
+
+    private static final List<Config> SNAPSHOT = List.of(Config.builder()
+            .application("test-app").profile("dev").label("main").propKey("db.url").propValue("x").build());
+
+    @Autowired
+    private ConfigUsageRecorder configUsageRecorder;
+
+    @Autowired
+    private ConfigUsageRepository configUsageRepository;
+
+    @AfterEach
+    void tearDown() {
+        configUsageRepository.deleteAll();
+    }
+
+    @Test
+    void whenReadsAreCounted_thenAddThemToStoredCountsOnFlushOnly() {
+        configUsageRecorder.recordSnapshot("test-app", "dev", "main", SNAPSHOT);
+        configUsageRecorder.recordSnapshot("test-app", "dev", null, SNAPSHOT);
+        configUsageRecorder.recordSnapshot("unknown-app", "dev", "main", List.of());
+        configUsageRecorder.recordKeys("test-app", "dev", "main", List.of("db.url", "db.pool", "db.url"));
+
+        assertThat(configUsageRepository.count()).isZero();
+        assertThat(configUsageRecorder.pending()).isEqualTo(4);
+
+        configUsageRecorder.flush();
+        configUsageRecorder.recordKeys("test-app", "dev", "main", List.of("db.url"));
+        configUsageRecorder.flush();
+
+        assertThat(configUsageRecorder.pending()).isZero();
+        assertThat(configUsageRepository.findAll())
+                .extracting(ConfigUsage::getLabel, ConfigUsage::getPropKey, ConfigUsage::getReadCount)
+                .containsExactlyInAnyOrder(
+                        tuple("main", ConfigUsage.NONE, 1L),
+                        tuple(ConfigUsage.NONE, ConfigUsage.NONE, 1L),
+                        tuple("main", "db.url", 3L),
+                        tuple("main", "db.pool", 1L));
+    }
+
+    @Test
+    void whenTooManyKeysAreRead_thenDropReadsOfNewKeys() throws InterruptedException {
+        ConfigUsageRecorder recorder = new ConfigUsageRecorder(configUsageRepository, true, 2, 500, Duration.ofHours(1));
+        try {
+            recorder.recordKeys("test-app", "dev", "main", List.of("a", "b", "c", "a", "c"));
+
+            assertThat(recorder.pending()).isEqualTo(2);
+            assertThat(recorder.dropped()).isEqualTo(2);
+        } finally {
+            recorder.close();
+        }
+        assertThat(configUsageRepository.findAll()).extracting(ConfigUsage::getPropKey, ConfigUsage::getReadCount)
+                .containsExactlyInAnyOrder(tuple("a", 2L), tuple("b", 1L));
+    }
+}
@@ -0,0 +1,119 @@
+package com.kds.config.server.service.write;
+
+import com.kds.config.server.core.entity.Config;
+import com.kds.config.server.core.repository.ConfigRepository;
+import com.kds.config.server.service.TestConfig;
+import com.kds.config.server.service.exception.ConfigServiceException;
+import com.kds.config.server.service.history.ConfigHistoryRecorder;
+import com.kds.config.server.service.snapshot.SnapshotLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = TestConfig.class, properties = {
+        "config.write.group-commit.enabled=true",
+        "config.write.group-commit.max-delay=200ms"
+})
+public class GroupCommitWriterTests {
+
+    @Autowired
+    private GroupCommitWriter groupCommitWriter;
+
+    @Autowired
+    private ConfigRepository configRepository;
+
+    @AfterEach
+    void tearDown() {
+        configRepository.deleteAll();
+    }
+
+    @Test
+    void whenBurstOfWritesToOneKey_thenCommitTogetherAndKeepLastValue() {
+        long groups = groupCommitWriter.groups();
+        CompletableFuture<Config> created = groupCommitWriter.submit(ConfigWrite.create(config("db.url", "v0")));
+        List<CompletableFuture<Config>> updates = IntStream.rangeClosed(1, 200)
+                .mapToObj(i -> groupCommitWriter.submit(ConfigWrite.update(config("db.url", "v" + i))))
+                .toList();
+
+        assertThat(created.join().getPropValue()).isEqualTo("v200");
+        assertThat(updates).allSatisfy(update -> assertThat(update.join().getId()).isEqualTo(created.join().getId()));
+        assertThat(groupCommitWriter.groups() - groups).isLessThan(10);
+        assertThat(configRepository.findByApplicationAndProfileAndLabelAndPropKey("test-app", "dev", "main", "db.url"))
+                .hasValueSatisfying(config -> assertThat(config.getPropValue()).isEqualTo("v200"));
+    }
+
+    @Test
+    void whenWriteIsRefused_thenOnlyThatWriteFails() {
+        configRepository.save(config("existing", "old"));
+
+        CompletableFuture<Config> conflict = groupCommitWriter.submit(ConfigWrite.create(config("existing", "x")));
+        CompletableFuture<Config> missing = groupCommitWriter.submit(ConfigWrite.update(config("missing", "x")));
+        CompletableFuture<Config> deleted = groupCommitWriter.submit(
+                ConfigWrite.delete("test-app", "dev", "main", "existing"));
+        CompletableFuture<Config> recreated = groupCommitWriter.submit(ConfigWrite.create(config("existing", "new")));
+
+        assertThat(catchThrowable(conflict::join)).isInstanceOf(CompletionException.class)
+                .cause().isInstanceOf(ConfigServiceException.class).hasMessage("Configuration already exists");
+        assertThat(catchThrowable(missing::join)).cause().isInstanceOf(ConfigServiceException.class)
+                .hasMessage("Configuration not found");
+        assertThat(deleted.join()).isNull();
+        assertThat(recreated.join().getPropValue()).isEqualTo("new");
+        assertThat(configRepository.findByApplication("test-app")).extracting(Config::getPropValue)
+                .containsExactly("new");
+    }
+
+    @Test
+    void whenBurstSpansApplications_thenCommitInOneTransaction() {
+        long groups = groupCommitWriter.groups();
+        List<CompletableFuture<Config>> created = IntStream.range(0, 100)
+                .mapToObj(i -> groupCommitWriter.submit(ConfigWrite.create(
+                        config("app-" + i % 10, "key-" + i, "v" + i))))
+                .toList();
+
+        assertThat(created).allSatisfy(write -> assertThat(write.join().getId()).isNotNull());
+        assertThat(groupCommitWriter.groups() - groups).isLessThan(10);
+        assertThat(configRepository.findByApplication("app-3")).extracting(Config::getPropKey)
+                .containsExactlyInAnyOrder("key-3", "key-13", "key-23", "key-33", "key-43",
+                        "key-53", "key-63", "key-73", "key-83", "key-93");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenClosed_thenWritesAreRefused() throws InterruptedException {
+        GroupCommitWriter writer = new GroupCommitWriter(mock(ConfigRepository.class), new SnapshotLoader(),
+                mock(ConfigHistoryRecorder.class), mock(PlatformTransactionManager.class),
+                mock(ObjectProvider.class), true, 10, 10, Duration.ofMillis(5));
+        writer.close();
+
+        assertThat(catchThrowable(() -> writer.submit(ConfigWrite.create(config("db.url", "x")))))
+                .isInstanceOf(ConfigServiceException.class).hasMessage("Write queue is closed");
+        assertThat(writer.queued()).isZero();
+    }
+
+    private static Config config(String key, String value) {
+        return config("test-app", key, value);
+    }
+
+    private static Config config(String application, String key, String value) {
+        return Config.builder()
+                .application(application)
+                .profile("dev")
+                .label("main")
+                .propKey(key)
+                .propValue(value)
+                .build();
+    }
+}